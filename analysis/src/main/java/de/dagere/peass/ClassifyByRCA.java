@@ -6,8 +6,8 @@ import java.util.concurrent.Callable;
 
 import org.apache.commons.io.filefilter.WildcardFileFilter;
 
+import de.dagere.peass.measurement.rca.CausePersistenceManager;
 import de.dagere.peass.measurement.rca.data.CauseSearchData;
-import de.dagere.peass.utils.Constants;
 import picocli.CommandLine;
 import picocli.CommandLine.Option;
 
@@ -29,7 +29,7 @@ public class ClassifyByRCA implements Callable<Void> {
          for (File commit : commitsFolders.listFiles()) {
             for (File test : commit.listFiles()) {
                for (File json : test.listFiles((FileFilter) new WildcardFileFilter("*.json"))) {
-                  CauseSearchData csd = Constants.OBJECTMAPPER.readValue(json, CauseSearchData.class);
+                  CauseSearchData csd = CausePersistenceManager.readDetails(json);
                   
                }
             }
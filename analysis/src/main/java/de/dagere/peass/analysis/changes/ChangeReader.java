@@ -79,8 +79,9 @@ public class ChangeReader {
       }
       this.config = config;
       
-      changes = new ProjectChanges(config, new CommitComparatorInstance(selectedTests));
-      statistics = new ProjectStatistics(new CommitComparatorInstance(selectedTests));
+      final CommitComparatorInstance comparator = new CommitComparatorInstance(selectedTests);
+      changes = new ProjectChanges(config, comparator);
+      statistics = new ProjectStatistics(comparator);
    }
    
    public ChangeReader(final ResultsFolders resultsFolders, final SelectedTests selectedTests, StatisticsConfig config, ProjectChanges oldChanges, ProjectStatistics oldStatistics) throws FileNotFoundException {
@@ -110,8 +111,9 @@ public class ChangeReader {
       this.selectedTests = selectedTests;
       this.config = config;
       
-      changes = new ProjectChanges(config, new CommitComparatorInstance(selectedTests));
-      statistics = new ProjectStatistics(new CommitComparatorInstance(selectedTests));
+      final CommitComparatorInstance comparator = new CommitComparatorInstance(selectedTests);
+      changes = new ProjectChanges(config, comparator);
+      statistics = new ProjectStatistics(comparator);
    }
 
    public void setTests(final Map<String, TestSet> tests) {
@@ -126,8 +128,9 @@ public class ChangeReader {
       
       this.config = new StatisticsConfig();
       
-      changes = new ProjectChanges(config, new CommitComparatorInstance(selectedTests));
-      statistics = new ProjectStatistics(new CommitComparatorInstance(selectedTests));
+      final CommitComparatorInstance comparator = new CommitComparatorInstance(selectedTests);
+      changes = new ProjectChanges(config, comparator);
+      statistics = new ProjectStatistics(comparator);
    }
 
    public ProjectChanges readFolder(final File measurementFolder) {
@@ -25,9 +25,9 @@ import de.dagere.peass.folders.CauseSearchFolders;
 import de.dagere.peass.measurement.rca.data.CallTreeNode;
 import de.dagere.peass.measurement.rca.data.CallTreeStatistics;
 import de.dagere.peass.measurement.rca.data.OneVMResult;
+import de.dagere.peass.measurement.rca.kieker.BothTreeReader;
 import de.dagere.peass.measurement.rca.kieker.KiekerResultReader;
 import de.dagere.peass.measurement.statistics.data.TestcaseStatistic;
-import de.dagere.peass.utils.Constants;
 import kieker.analysis.exception.AnalysisConfigurationException;
 import net.kieker.sourceinstrumentation.AllowedKiekerRecord;
 
@@ -88,7 +88,7 @@ class FullCallTreeStatistic extends CallTreeStatistics {
    }
 
    @Override
-   public void addMeasurement(final Long duration) {
+   public void addMeasurement(final long duration) {
       results.get(results.size() - 1).add(duration);
    }
 
@@ -217,9 +217,8 @@ public class FindLowestIterationsRCA {
       testcase = new TestMethodCall(testclassFolder.getName(), testmethodFolder.getName());
       mainVersion = mainVersionFolder.getName();
       final File treeCache = folders.getTreeCacheFolder(mainVersion, testcase);
-      final File potentialCacheFileOld = new File(treeCache, mainVersion);
       predecessor = mainVersion + "~1";
-      rootPredecessor = new FullDataCallTreeNode(Constants.OBJECTMAPPER.readValue(potentialCacheFileOld, CallTreeNode.class));
+      rootPredecessor = new FullDataCallTreeNode(BothTreeReader.readCachedTree(treeCache, mainVersion, null));
    }
 
    private void goToNextLevel() {
@@ -4,7 +4,6 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.Callable;
-import java.util.concurrent.LinkedBlockingQueue;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -55,14 +54,8 @@ public class FindLowestPossibleIterations implements Callable<Void> {
             System.exit(1);
          }
 
-         final LinkedBlockingQueue<TestData> measurements = new LinkedBlockingQueue<>();
-         DataReader.startReadVersionDataMap(fullDataFolder, measurements, comparator);
-
-         TestData measurementEntry = measurements.take();
-
-         while (measurementEntry != DataReader.POISON_PILL) {
-            processTestdata(measurementEntry);
-            measurementEntry = measurements.take();
+         try (DataReader reader = new DataReader(fullDataFolder, comparator)) {
+            reader.forEachRemaining(FindLowestPossibleIterations::processTestdata);
          }
       }
 
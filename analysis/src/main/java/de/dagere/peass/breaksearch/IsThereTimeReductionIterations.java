@@ -4,7 +4,6 @@ import java.io.File;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map.Entry;
-import java.util.concurrent.LinkedBlockingQueue;
 
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.apache.commons.math3.stat.inference.TestUtils;
@@ -35,18 +34,16 @@ public class IsThereTimeReductionIterations extends DataAnalyser {
       for (File folder : data) {
          for (final File slaveFolder : folder.listFiles()) {
             final File fullDataFolder = new File(slaveFolder, "measurementsFull/measurements/");
-            final LinkedBlockingQueue<TestData> measurements = new LinkedBlockingQueue<>();
-            DataReader.startReadVersionDataMap(fullDataFolder, measurements, CommitByNameComparator.INSTANCE);
-
-            TestData measurementEntry = measurements.take();
-            while (measurementEntry != DataReader.POISON_PILL) {
-               try {
-                  System.out.println("Analyze: " + measurementEntry.getTestClass());
-                  processTestdata(measurementEntry);
-               } catch (final RuntimeException e) {
-
+            try (DataReader reader = new DataReader(fullDataFolder, CommitByNameComparator.INSTANCE)) {
+               while (reader.hasNext()) {
+                  final TestData measurementEntry = reader.next();
+                  try {
+                     System.out.println("Analyze: " + measurementEntry.getTestClass());
+                     processTestdata(measurementEntry);
+                  } catch (final RuntimeException e) {
+
+                  }
                }
-               measurementEntry = measurements.take();
             }
 
          }
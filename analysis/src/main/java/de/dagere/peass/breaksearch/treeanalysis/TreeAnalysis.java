@@ -11,8 +11,8 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 
 import de.dagere.peass.config.MeasurementConfig;
 import de.dagere.peass.folders.CauseSearchFolders;
+import de.dagere.peass.measurement.rca.CausePersistenceManager;
 import de.dagere.peass.measurement.rca.data.CauseSearchData;
-import de.dagere.peass.utils.Constants;
 
 public class TreeAnalysis {
    public static final MeasurementConfig config = new MeasurementConfig(2);
@@ -50,7 +50,7 @@ public class TreeAnalysis {
                for (final File treeJson : testcaseFolder.listFiles((FileFilter) new WildcardFileFilter("*.json"))) {
                   if (treeJson.getName().contains("testFoldedHeaders")) {
                      System.out.println("Folder: " + treeJson.getAbsolutePath());
-                     final CauseSearchData data = Constants.OBJECTMAPPER.readValue(treeJson, CauseSearchData.class);
+                     final CauseSearchData data = CausePersistenceManager.readDetails(treeJson);
                      manager.addData(data);
                   }
                }
@@ -27,6 +27,7 @@ import de.dagere.peass.dependency.RTSTestTransformerBuilder;
 import de.dagere.peass.dependency.analysis.data.TestSet;
 import de.dagere.peass.dependency.persistence.CommitStaticSelection;
 import de.dagere.peass.dependency.persistence.ExecutionData;
+import de.dagere.peass.dependency.persistence.SelectionJournalUtil;
 import de.dagere.peass.dependency.persistence.StaticTestSelection;
 import de.dagere.peass.dependency.reader.DependencyReader;
 import de.dagere.peass.dependency.reader.CommitKeeper;
@@ -38,7 +39,6 @@ import de.dagere.peass.execution.utils.TestExecutor;
 import de.dagere.peass.folders.PeassFolders;
 import de.dagere.peass.folders.ResultsFolders;
 import de.dagere.peass.testtransformation.TestTransformer;
-import de.dagere.peass.utils.Constants;
 import de.dagere.peass.vcs.CommitIterator;
 import net.kieker.sourceinstrumentation.AllowedKiekerRecord;
 
@@ -101,16 +101,16 @@ public class ContinuousDependencyReader {
          final Set<TestMethodCall> tests;
          if (dependencyConfig.isGenerateCoverageSelection()) {
             LOG.info("Using coverage-based test selection");
-            ExecutionData executionData = Constants.OBJECTMAPPER.readValue(resultsFolders.getCoverageSelectionFile(), ExecutionData.class);
+            ExecutionData executionData = SelectionJournalUtil.readExecutionData(resultsFolders.getCoverageSelectionFile());
             tests = fetchTestset(commit, executionData);
          } else {
             if (dependencyConfig.isGenerateTwiceExecutability()) {
                LOG.info("Using twice executable test selection results");
-               ExecutionData executionData = Constants.OBJECTMAPPER.readValue(resultsFolders.getTwiceExecutableFile(), ExecutionData.class);
+               ExecutionData executionData = SelectionJournalUtil.readExecutionData(resultsFolders.getTwiceExecutableFile());
                tests = fetchTestset(commit, executionData);
             } else {
                LOG.info("Using trace test selection results");
-               ExecutionData executionData = Constants.OBJECTMAPPER.readValue(resultsFolders.getTraceTestSelectionFile(), ExecutionData.class);
+               ExecutionData executionData = SelectionJournalUtil.readExecutionData(resultsFolders.getTraceTestSelectionFile());
                tests = fetchTestset(commit, executionData);
             }
          }
@@ -146,7 +146,7 @@ public class ContinuousDependencyReader {
             dependencies = fullyLoadDependencies(url, iterator, noChanges);
          } else {
             LOG.debug("Partially loading dependencies");
-            dependencies = Constants.OBJECTMAPPER.readValue(resultsFolders.getStaticTestSelectionFile(), StaticTestSelection.class);
+            dependencies = SelectionJournalUtil.readStaticSelection(resultsFolders.getStaticTestSelectionFile());
             CommitComparatorInstance comparator = new CommitComparatorInstance(dependencies);
 
             if (iterator != null) {
@@ -182,15 +182,15 @@ public class ContinuousDependencyReader {
       reader.readCompletedCommits(dependencies, comparator);
 
       try {
-         ExecutionData executions = Constants.OBJECTMAPPER.readValue(resultsFolders.getTraceTestSelectionFile(), ExecutionData.class);
+         ExecutionData executions = SelectionJournalUtil.readExecutionData(resultsFolders.getTraceTestSelectionFile());
          reader.setExecutionData(executions);
 
-         if (resultsFolders.getCoverageSelectionFile().exists()) {
-            ExecutionData coverageExecutions = Constants.OBJECTMAPPER.readValue(resultsFolders.getCoverageSelectionFile(), ExecutionData.class);
+         if (SelectionJournalUtil.exists(resultsFolders.getCoverageSelectionFile())) {
+            ExecutionData coverageExecutions = SelectionJournalUtil.readExecutionData(resultsFolders.getCoverageSelectionFile());
             reader.setCoverageExecutions(coverageExecutions);
 
-            if (resultsFolders.getCoverageInfoFile().exists()) {
-               CoverageSelectionInfo coverageInfo = Constants.OBJECTMAPPER.readValue(resultsFolders.getCoverageInfoFile(), CoverageSelectionInfo.class);
+            if (SelectionJournalUtil.exists(resultsFolders.getCoverageInfoFile())) {
+               CoverageSelectionInfo coverageInfo = SelectionJournalUtil.readCoverageInfo(resultsFolders.getCoverageInfoFile());
                reader.setCoverageInfo(coverageInfo);
             }
          }
@@ -232,7 +232,7 @@ public class ContinuousDependencyReader {
          }
       }
 
-      StaticTestSelection dependencies = Constants.OBJECTMAPPER.readValue(resultsFolders.getStaticTestSelectionFile(), StaticTestSelection.class);
+      StaticTestSelection dependencies = SelectionJournalUtil.readStaticSelection(resultsFolders.getStaticTestSelectionFile());
       return dependencies;
    }
 
@@ -248,6 +248,6 @@ public class ContinuousDependencyReader {
       StaticTestSelection initialVersionFailed = new StaticTestSelection();
       initialVersionFailed.getInitialcommit().setCommit(iterator.getCommitName());
       initialVersionFailed.getInitialcommit().setRunning(false);
-      Constants.OBJECTMAPPER.writeValue(resultsFolders.getStaticTestSelectionFile(), initialVersionFailed);
+      SelectionJournalUtil.writeSnapshot(resultsFolders.getStaticTestSelectionFile(), initialVersionFailed);
    }
 }
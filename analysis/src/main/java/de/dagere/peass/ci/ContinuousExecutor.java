@@ -16,6 +16,7 @@ import de.dagere.peass.analysis.changes.ProjectChanges;
 import de.dagere.peass.analysis.measurement.ProjectStatistics;
 import de.dagere.peass.config.MeasurementConfig;
 import de.dagere.peass.config.TestSelectionConfig;
+import de.dagere.peass.dependency.persistence.SelectionJournalUtil;
 import de.dagere.peass.dependency.persistence.StaticTestSelection;
 import de.dagere.peass.dependency.reader.CommitKeeper;
 import de.dagere.peass.dependency.reader.RunningCommitFinder;
@@ -66,7 +67,7 @@ public class ContinuousExecutor {
 
       StaticTestSelection dependencies = null;
       if (resultsFolders.getStaticTestSelectionFile().exists()) {
-         dependencies = Constants.OBJECTMAPPER.readValue(resultsFolders.getStaticTestSelectionFile(), StaticTestSelection.class);
+         dependencies = SelectionJournalUtil.readStaticSelection(resultsFolders.getStaticTestSelectionFile());
       }
 
       CommitIteratorBuilder iteratorBuiler = new CommitIteratorBuilder(measurementConfig.getFixedCommitConfig(), dependencies, folders);
@@ -150,6 +151,7 @@ public class ContinuousExecutor {
       tests.setCommitOld(commitOld);
 
       if (iterator != null) {
+         iterator.close();
          SourceReader sourceReader = new SourceReader(measurementConfig.getExecutionConfig(), commit, commitOld, resultsFolders, folders);
          sourceReader.readMethodSources(tests.getTests());
       }
@@ -167,7 +169,7 @@ public class ContinuousExecutor {
 
    private void analyzeMeasurements(final File measurementFolder)
          throws IOException {
-      StaticTestSelection selectedTests = Constants.OBJECTMAPPER.readValue(resultsFolders.getStaticTestSelectionFile(), StaticTestSelection.class);
+      StaticTestSelection selectedTests = SelectionJournalUtil.readStaticSelection(resultsFolders.getStaticTestSelectionFile());
 
       ProjectChanges changes = resultsFolders.getChangeFile().exists() ? Constants.OBJECTMAPPER.readValue(resultsFolders.getChangeFile(), ProjectChanges.class)
             : new ProjectChanges(comparator);
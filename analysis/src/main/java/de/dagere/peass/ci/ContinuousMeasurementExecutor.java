@@ -15,6 +15,7 @@ import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
 import de.dagere.peass.execution.utils.EnvironmentVariables;
 import de.dagere.peass.folders.PeassFolders;
 import de.dagere.peass.measurement.dependencyprocessors.AdaptiveTester;
+import de.dagere.peass.measurement.dependencyprocessors.MeasurementSlotScheduler;
 
 public class ContinuousMeasurementExecutor {
 
@@ -54,10 +55,16 @@ public class ContinuousMeasurementExecutor {
    private void doMeasurement(final Set<TestMethodCall> tests, final File fullResultsVersion) throws IOException {
       cleanTemporaryFolders();
 
-      for (final TestMethodCall test : tests) {
-         MeasurementConfig copied = createCopiedConfiguration();
-         final AdaptiveTester tester = new AdaptiveTester(folders, copied, env, comparator);
-         tester.evaluate(test);
+      if (measurementConfig.getMeasurementSlots() > 1) {
+         LOG.info("Measuring {} tests in {} slots", tests.size(), measurementConfig.getMeasurementSlots());
+         MeasurementSlotScheduler scheduler = new MeasurementSlotScheduler(folders, measurementConfig, env);
+         scheduler.measure(tests, slotEnv -> new AdaptiveTester(folders, createCopiedConfiguration(), slotEnv, comparator));
+      } else {
+         for (final TestMethodCall test : tests) {
+            MeasurementConfig copied = createCopiedConfiguration();
+            final AdaptiveTester tester = new AdaptiveTester(folders, copied, env, comparator);
+            tester.evaluate(test);
+         }
       }
 
       final File fullResultsFolder = folders.getFullMeasurementFolder();
@@ -10,14 +10,14 @@ import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 
+import de.dagere.peass.measurement.rca.CausePersistenceManager;
 import de.dagere.peass.measurement.rca.data.CauseSearchData;
 import de.dagere.peass.measurement.rca.serialization.MeasuredValues;
-import de.dagere.peass.utils.Constants;
 
 public class GetGraphs {
    public static void main(final String[] args) throws JsonParseException, JsonMappingException, IOException {
       File file = new File(args[0]);
-      CauseSearchData data = Constants.OBJECTMAPPER.readValue(file, CauseSearchData.class);
+      CauseSearchData data = CausePersistenceManager.readDetails(file);
 
       MeasuredValues values = data.getNodes().getValues();
 
@@ -15,9 +15,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 import de.dagere.peass.folders.CauseSearchFolders;
+import de.dagere.peass.measurement.rca.CausePersistenceManager;
 import de.dagere.peass.measurement.rca.data.CauseSearchData;
 import de.dagere.peass.measurement.rca.serialization.MeasuredNode;
-import de.dagere.peass.utils.Constants;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
@@ -97,11 +97,9 @@ public class GetSteadyStateNodewise implements Callable<Void> {
    }
 
    private void analyzeFile(final File versionResultFolder, final File treeFile) throws JsonParseException, JsonMappingException, IOException, JsonProcessingException, FileNotFoundException {
-      File details = new File(treeFile.getParentFile(), "details" + File.separator + treeFile.getName());
+      System.out.println("Reading details of: " + treeFile);
 
-      System.out.println("Reading: " + details);
-
-      CauseSearchData data = Constants.OBJECTMAPPER.readValue(details, CauseSearchData.class);
+      CauseSearchData data = CausePersistenceManager.readDetails(treeFile);
 
       MeasuredNode node = data.getNodes();
       printInVMDeviations(node);
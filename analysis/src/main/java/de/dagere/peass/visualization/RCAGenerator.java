@@ -9,9 +9,9 @@ import org.apache.logging.log4j.Logger;
 
 import de.dagere.nodeDiffDetector.data.TestMethodCall;
 import de.dagere.peass.folders.CauseSearchFolders;
+import de.dagere.peass.measurement.rca.CausePersistenceManager;
 import de.dagere.peass.measurement.rca.data.CallTreeNode;
 import de.dagere.peass.measurement.rca.data.CauseSearchData;
-import de.dagere.peass.utils.Constants;
 import de.dagere.peass.visualization.html.HTMLWriter;
 import de.dagere.peass.visualization.html.SingleHTMLWriter;
 
@@ -33,8 +33,7 @@ public class RCAGenerator {
 
       destFolder.mkdirs();
 
-      File details = new File(source.getParentFile(), "details" + File.separator + source.getName());
-      data = readData(details);
+      data = CausePersistenceManager.readDetails(source);
    }
 
    public void setPropertyFolder(final File propertyFolder) {
@@ -92,16 +91,6 @@ public class RCAGenerator {
       return rootNode;
    }
 
-   private CauseSearchData readData(final File details) throws IOException {
-      final CauseSearchData data;
-      if (details.exists()) {
-         data = Constants.OBJECTMAPPER.readValue(details, CauseSearchData.class);
-      } else {
-         data = Constants.OBJECTMAPPER.readValue(source, CauseSearchData.class);
-      }
-      return data;
-   }
-
    public CauseSearchData getData() {
       return data;
    }
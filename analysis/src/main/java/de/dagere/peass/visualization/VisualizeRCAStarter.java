@@ -20,7 +20,7 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import de.dagere.peass.folders.CauseSearchFolders;
 import de.dagere.peass.measurement.rca.data.CallTreeNode;
 import de.dagere.peass.measurement.rca.data.CauseSearchData;
-import de.dagere.peass.utils.Constants;
+import de.dagere.peass.measurement.rca.kieker.BothTreeReader;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
@@ -90,11 +90,8 @@ public class VisualizeRCAStarter implements Callable<Void> {
 
    private void getFullTree(final RCAGenerator rcaGenerator, final CauseSearchData data, final File treeFolder) throws IOException, JsonParseException, JsonMappingException {
       if (treeFolder.exists()) {
-         final File potentialCacheFileOld = new File(treeFolder, data.getMeasurementConfig().getFixedCommitConfig().getCommitOld());
-         final File potentialCacheFile = new File(treeFolder, data.getMeasurementConfig().getFixedCommitConfig().getCommit());
-
-         final CallTreeNode rootPredecessor = Constants.OBJECTMAPPER.readValue(potentialCacheFileOld, CallTreeNode.class);
-         final CallTreeNode rootCurrent = Constants.OBJECTMAPPER.readValue(potentialCacheFile, CallTreeNode.class);
+         final CallTreeNode rootPredecessor = BothTreeReader.readCachedTree(treeFolder, data.getMeasurementConfig().getFixedCommitConfig().getCommitOld(), null);
+         final CallTreeNode rootCurrent = BothTreeReader.readCachedTree(treeFolder, data.getMeasurementConfig().getFixedCommitConfig().getCommit(), null);
 
          rcaGenerator.setFullTree(rootPredecessor, rootCurrent);
       }
@@ -118,9 +115,8 @@ public class VisualizeRCAStarter implements Callable<Void> {
    }
 
    private void visualizeSingleTree(final RCAGenerator rcaGenerator, final File treeFolder, String commit) throws IOException, StreamReadException, DatabindException {
-      final File potentialCacheFile = new File(treeFolder, commit);
-      if (potentialCacheFile.exists()) {
-         final CallTreeNode rootPredecessor = Constants.OBJECTMAPPER.readValue(potentialCacheFile, CallTreeNode.class);
+      final CallTreeNode rootPredecessor = BothTreeReader.readCachedTree(treeFolder, commit, null);
+      if (rootPredecessor != null) {
          rcaGenerator.createSingleVisualization(commit, rootPredecessor);
       }
    }
@@ -0,0 +1,43 @@
+package de.dagere.peass;
+
+import java.io.File;
+import java.util.concurrent.Callable;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.dagere.peass.dependency.traces.TraceBlobStore;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+/**
+ * Removes the blobs of the trace store which are not referenced by any trace file, e.g. after views of old commits have been deleted.
+ *
+ * @author reichelt
+ *
+ */
+@Command(description = "Deletes stored traces which are not referenced by any view anymore", name = "gcTraces")
+public class TraceGarbageCollectionStarter implements Callable<Void> {
+
+   private static final Logger LOG = LogManager.getLogger(TraceGarbageCollectionStarter.class);
+
+   @Option(names = { "-viewFolder", "--viewFolder" }, description = "Views folder of the project, i.e. views_$PROJECT in the results folder", required = true)
+   private File viewFolder;
+
+   public static void main(final String[] args) {
+      final CommandLine commandLine = new CommandLine(new TraceGarbageCollectionStarter());
+      System.exit(commandLine.execute(args));
+   }
+
+   @Override
+   public Void call() throws Exception {
+      if (!viewFolder.isDirectory()) {
+         throw new RuntimeException("View folder " + viewFolder.getAbsolutePath() + " does not exist");
+      }
+      TraceBlobStore blobStore = new TraceBlobStore(new File(viewFolder, TraceBlobStore.BLOB_FOLDER_NAME));
+      int deleted = blobStore.collectGarbage(viewFolder);
+      LOG.info("Garbage collection finished, deleted blobs: {}", deleted);
+      return null;
+   }
+}
@@ -24,6 +24,7 @@ import com.github.difflib.patch.Patch;
 import de.dagere.nodeDiffDetector.data.MethodCall;
 import de.dagere.nodeDiffDetector.data.Type;
 import de.dagere.nodeDiffDetector.diffDetection.ClazzChangeData;
+import de.dagere.nodeDiffDetector.typeFinding.TypeFileFinder;
 import de.dagere.peass.analysis.changes.Change;
 import de.dagere.peass.analysis.properties.ChangeProperty.TraceChange;
 import de.dagere.peass.config.ExecutionConfig;
@@ -173,9 +174,9 @@ public class PropertyReadHelper {
          final PeassFolders folders = new PeassFolders(projectFolder);
 
          // Only to read old sources
-         getChanges(folders);
+         final Map<Type, ClazzChangeData> changes = getChanges(folders);
 
-         readMethodSources(new ChangeProperty(), folders, new HashSet<>(traceCurrent));
+         readMethodSources(new ChangeProperty(), folders, new HashSet<>(traceCurrent), changes);
       }
    }
 
@@ -208,7 +209,7 @@ public class PropertyReadHelper {
 
       final Set<String> merged = getMergedCalls(traceCurrent, traceOld);
 
-      readMethodSources(property, folders, merged);
+      readMethodSources(property, folders, merged, changes);
 
       identifyAffectedClasses(property, merged);
 
@@ -219,22 +220,37 @@ public class PropertyReadHelper {
 
    private Map<Type, ClazzChangeData> getChanges(final PeassFolders folders) {
       List<String> commits = Arrays.asList(new String[] { commit, commitOld });
-      final CommitIteratorGit iterator = new CommitIteratorGit(projectFolder, commits, commitOld);
-      final ChangeManager changeManager = new ChangeManager(folders, iterator, config, testExecutor);
-      final Map<Type, ClazzChangeData> changes = changeManager.getChanges(commitOld, commit);
-      return changes;
+      try (final CommitIteratorGit iterator = new CommitIteratorGit(projectFolder, commits, commitOld)) {
+         final ChangeManager changeManager = new ChangeManager(folders, iterator, config, testExecutor);
+         final Map<Type, ClazzChangeData> changes = changeManager.getChanges(commitOld, commit);
+         return changes;
+      }
    }
 
-   private void readMethodSources(final ChangeProperty property, final PeassFolders folders, final Set<String> merged) throws FileNotFoundException, IOException {
+   private void readMethodSources(final ChangeProperty property, final PeassFolders folders, final Set<String> merged, final Map<Type, ClazzChangeData> changes)
+         throws FileNotFoundException, IOException {
       for (final String calledInOneMethod : merged) {
          LOG.debug("Loading: " + calledInOneMethod);
          final MethodCall entity = EntityUtil.determineEntity(calledInOneMethod);
-         final MethodChangeReader reader = new MethodChangeReader(methodSourceFolder, folders.getProjectFolder(), folders.getOldSources(), entity, commit, config);
+         final File oldSourceFolder = getOldSourceFolder(folders, entity, changes);
+         final MethodChangeReader reader = new MethodChangeReader(methodSourceFolder, folders.getProjectFolder(), oldSourceFolder, entity, commit, config);
          reader.readMethodChangeData();
          getKeywordChanges(property, reader, entity);
       }
    }
 
+   /**
+    * Only the old versions of changed files are saved by the {@link ChangeManager}; unchanged files are the same in the old commit, so they are read from the project folder.
+    */
+   private File getOldSourceFolder(final PeassFolders folders, final MethodCall entity, final Map<Type, ClazzChangeData> changes) {
+      final File oldFile = new TypeFileFinder(config).getSourceFile(folders.getOldSources(), entity);
+      if ((oldFile != null && oldFile.exists()) || changes.containsKey(entity.getSourceContainingClazz())) {
+         return folders.getOldSources();
+      } else {
+         return folders.getProjectFolder();
+      }
+   }
+
    private void identifyAffectedClasses(final ChangeProperty property, final Set<String> calls) throws FileNotFoundException, IOException {
       List<File> modules = testExecutor.getModules().getModules();
       final CommitDiff diff = GitUtils.getChangedFiles(projectFolder, modules, commit, config);
@@ -20,7 +20,8 @@ import de.dagere.peass.dependency.analysis.data.TestSet;
 import de.dagere.peass.dependency.persistence.ExecutionData;
 import de.dagere.peass.folders.ResultsFolders;
 import de.dagere.peass.utils.Constants;
-import de.dagere.peass.vcs.GitUtils;
+import de.dagere.peass.vcs.BatchedGitBackend;
+import de.dagere.peass.vcs.GitBackend;
 
 public class PropertyReader {
 
@@ -44,9 +45,11 @@ public class PropertyReader {
          final CommitChangeProperties commitProperties = new CommitChangeProperties();
          final File methodFolder = new File(resultsFolders.getPropertiesFolder(), "methods");
          methodFolder.mkdirs();
-         for (final Map.Entry<String, TestSet> commit : changedTests.getCommits().entrySet()) {
-            readCommit(commitProperties, methodFolder, commit);
-            Constants.OBJECTMAPPER.writeValue(resultsFolders.getPropertiesFile(), commitProperties);
+         try (GitBackend backend = new BatchedGitBackend(projectFolder)) {
+            for (final Map.Entry<String, TestSet> commit : changedTests.getCommits().entrySet()) {
+               readCommit(backend, commitProperties, methodFolder, commit);
+               Constants.OBJECTMAPPER.writeValue(resultsFolders.getPropertiesFile(), commitProperties);
+            }
          }
 
          LOG.info("Analyzed properties: " + count);
@@ -55,11 +58,11 @@ public class PropertyReader {
       }
    }
 
-   private void readCommit(final CommitChangeProperties commitProperties, final File methodFolder, final Map.Entry<String, TestSet> commit) throws IOException {
+   private void readCommit(final GitBackend backend, final CommitChangeProperties commitProperties, final File methodFolder, final Map.Entry<String, TestSet> commit) throws IOException {
       LOG.debug("Reading {}", commit.getKey());
       final ChangeProperties changeProperties = new ChangeProperties();
-      changeProperties.setCommitText(GitUtils.getCommitText(projectFolder, commit.getKey()));
-      changeProperties.setCommitter(GitUtils.getCommitter(projectFolder, commit.getKey()));
+      changeProperties.setCommitText(backend.getCommitText(commit.getKey()));
+      changeProperties.setCommitter(backend.getCommitter(commit.getKey()));
       commitProperties.getVersions().put(commit.getKey(), changeProperties);
       for (final Entry<TestClazzCall, Set<String>> testclazz : commit.getValue().getTestcases().entrySet()) {
          final List<ChangeProperty> properties = new LinkedList<>();
@@ -118,7 +118,7 @@ public class NonIncludedByRule {
    private static CompilationUnit getUnit(TestCase test, JUnitTestTransformer transformer, ExecutionConfig executionConfig) {
       TypeFileFinder finder = new TypeFileFinder(executionConfig);
       final File clazzFile = finder.getClazzFile(transformer.getProjectFolder(), test);
-      CompilationUnit unit = transformer.getLoadedFiles().get(clazzFile);
+      CompilationUnit unit = transformer.getUnit(clazzFile);
       return unit;
    }
 
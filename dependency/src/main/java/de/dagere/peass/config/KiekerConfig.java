@@ -14,7 +14,7 @@ public class KiekerConfig implements Serializable {
    
    public static final int DEFAULT_WRITE_INTERVAL = 5000;
    public static final int DEFAULT_KIEKER_QUEUE_SIZE = 10000000;
-   public static final int DEFAULT_TRACE_SIZE_IN_MB = 100;
+   public static final int DEFAULT_TRACE_SIZE_IN_MB = 1000;
    public final static int DEFAULT_KIEKER_WAIT_TIME = 5;
    
    private static final long serialVersionUID = 3129231099963995908L;
@@ -27,6 +27,7 @@ public class KiekerConfig implements Serializable {
    private boolean useCircularQueue = USE_CIRCULAR_QUEUE_DEFAULT;
    private boolean enableAdaptiveMonitoring = false;
    private boolean adaptiveInstrumentation = false;
+   private boolean instrumentOnce = false;
    private int kiekerAggregationInterval = DEFAULT_WRITE_INTERVAL;
    private AllowedKiekerRecord record = AllowedKiekerRecord.DURATION;
    private boolean onlyOneCallRecording = false;
@@ -56,6 +57,7 @@ public class KiekerConfig implements Serializable {
       this.useCircularQueue = other.useCircularQueue;
       this.enableAdaptiveMonitoring = other.enableAdaptiveMonitoring;
       this.adaptiveInstrumentation = other.adaptiveInstrumentation;
+      this.instrumentOnce = other.instrumentOnce;
       this.kiekerAggregationInterval = other.kiekerAggregationInterval;
       this.record = other.record;
       this.onlyOneCallRecording = other.onlyOneCallRecording;
@@ -74,6 +76,9 @@ public class KiekerConfig implements Serializable {
       if (!useSourceInstrumentation && extractMethod) {
          throw new RuntimeException("Deactivated source instrumentation and usage of extraction is not possible!");
       }
+      if (!useSourceInstrumentation && instrumentOnce) {
+         throw new RuntimeException("Instrumenting the call tree once is only possible with source instrumentation!");
+      }
       if (traceSizeInMb < 1) {
          throw new RuntimeException("Trace size in MB need to be at least 1, but was " + traceSizeInMb);
       }
@@ -153,6 +158,18 @@ public class KiekerConfig implements Serializable {
       this.adaptiveInstrumentation = adaptiveInstrumentation;
    }
 
+   /**
+    * Whether the complete call tree should be instrumented and built once per commit, so every level of the root cause analysis only changes the methods that are activated by
+    * the adaptive monitoring
+    */
+   public boolean isInstrumentOnce() {
+      return instrumentOnce;
+   }
+
+   public void setInstrumentOnce(final boolean instrumentOnce) {
+      this.instrumentOnce = instrumentOnce;
+   }
+
    public int getKiekerAggregationInterval() {
       return kiekerAggregationInterval;
    }
@@ -26,6 +26,10 @@ public class MeasurementConfig implements Serializable {
    private boolean logFullData = true;
    private boolean useGC = false;
    private boolean directlyMeasureKieker = false;
+   private boolean useSampling = false;
+   private boolean reuseBuild = false;
+   private int measurementSlots = 1;
+   private String slotCores = null;
 
    private boolean callSyncBetweenVMs = true;
    private int waitTimeBetweenVMs = 1000;
@@ -83,6 +87,9 @@ public class MeasurementConfig implements Serializable {
       setUseGC(mixin.isUseGC());
       setMeasurementStrategy(mixin.getMeasurementStrategy());
       this.directlyMeasureKieker = mixin.isDirectlyMeasureKieker();
+      this.reuseBuild = mixin.isReuseBuild();
+      this.measurementSlots = mixin.getMeasurementSlots();
+      this.slotCores = mixin.getSlotCores();
 
       saveAll = !mixin.isSaveNothing();
    }
@@ -129,6 +136,10 @@ public class MeasurementConfig implements Serializable {
       this.saveAll = other.saveAll;
       this.waitTimeBetweenVMs = other.waitTimeBetweenVMs;
       this.directlyMeasureKieker = other.directlyMeasureKieker;
+      this.useSampling = other.useSampling;
+      this.reuseBuild = other.reuseBuild;
+      this.measurementSlots = other.measurementSlots;
+      this.slotCores = other.slotCores;
       this.maxLogSizeInMb = other.maxLogSizeInMb;
    }
 
@@ -302,6 +313,66 @@ public class MeasurementConfig implements Serializable {
       this.directlyMeasureKieker = directlyMeasureKieker;
    }
 
+   /**
+    * Whether the test JVM should record execution samples using the JDK Flight Recorder (used by sampling-based root cause analysis)
+    * 
+    * @return
+    */
+   @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+   public boolean isUseSampling() {
+      return useSampling;
+   }
+
+   public void setUseSampling(final boolean useSampling) {
+      this.useSampling = useSampling;
+   }
+
+   /**
+    * Whether the prepared (cleaned, transformed, instrumented and compiled) project should be reused for further VMs of the same commit, if the working tree did not change
+    * 
+    * @return
+    */
+   @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+   public boolean isReuseBuild() {
+      return reuseBuild;
+   }
+
+   public void setReuseBuild(final boolean reuseBuild) {
+      this.reuseBuild = reuseBuild;
+   }
+
+   /**
+    * Count of tests that are measured at the same time; every slot uses its own project folders and its own cores
+    * 
+    * @return
+    */
+   @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+   public int getMeasurementSlots() {
+      return measurementSlots;
+   }
+
+   public void setMeasurementSlots(final int measurementSlots) {
+      if (measurementSlots < 1) {
+         throw new RuntimeException("At least one measurement slot is required, but was " + measurementSlots);
+      }
+      this.measurementSlots = measurementSlots;
+   }
+
+   /**
+    * Cores of the measurement slots, separated by semicolon, in the format of taskset (e.g. 0-3;4-7). If this is null, the available cores are partitioned evenly between the
+    * slots.
+    * 
+    * @return
+    */
+   @JsonInclude(JsonInclude.Include.NON_NULL)
+   public String getSlotCores() {
+      return slotCores;
+   }
+
+   public void setSlotCores(final String slotCores) {
+      this.slotCores = slotCores;
+   }
+
    public ExecutionConfig getExecutionConfig() {
       return executionConfig;
    }
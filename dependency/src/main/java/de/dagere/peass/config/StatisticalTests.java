@@ -1,5 +1,5 @@
 package de.dagere.peass.config;
 
 public enum StatisticalTests {
-   T_TEST, BIMODAL_T_TEST, AGNOSTIC_T_TEST, MANN_WHITNEY_TEST, CONFIDENCE_INTERVAL, ANY, ANY_NO_AGNOSTIC;
+   T_TEST, BIMODAL_T_TEST, AGNOSTIC_T_TEST, MANN_WHITNEY_TEST, CONFIDENCE_INTERVAL, ANY, ANY_NO_AGNOSTIC, SEQUENTIAL_PROBABILITY_RATIO_TEST;
 }
\ No newline at end of file
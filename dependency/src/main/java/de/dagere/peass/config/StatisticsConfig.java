@@ -21,8 +21,13 @@ public class StatisticsConfig implements Serializable {
    private double outlierFactor = DEFAULT_OUTLIER_FACTOR;
    private StatisticalTests statisticTest = StatisticalTests.MANN_WHITNEY_TEST;
    private double maximumRelativeDeviation = Double.MAX_VALUE;
+   /**
+    * Smallest relative difference of the means that is considered a relevant change by the sequential probability ratio test
+    */
+   private double relevantRelativeDifference = DEFAULT_RELEVANT_RELATIVE_DIFFERENCE;
 
    public static final double DEFAULT_OUTLIER_FACTOR = 3.29; // Does not remove 99% of all values in gaussian distribution
+   public static final double DEFAULT_RELEVANT_RELATIVE_DIFFERENCE = 0.01;
 
    public StatisticsConfig() {
    }
@@ -33,6 +38,7 @@ public class StatisticsConfig implements Serializable {
       this.outlierFactor = other.outlierFactor;
       this.statisticTest = other.statisticTest;
       this.maximumRelativeDeviation = other.maximumRelativeDeviation;
+      this.relevantRelativeDifference = other.relevantRelativeDifference;
    }
 
    public double getType1error() {
@@ -74,6 +80,18 @@ public class StatisticsConfig implements Serializable {
       this.maximumRelativeDeviation = maximumRelativeDeviation;
    }
 
+   @JsonInclude(value = Include.CUSTOM, valueFilter = RelevantRelativeDifferenceFilter.class)
+   public double getRelevantRelativeDifference() {
+      return relevantRelativeDifference;
+   }
+
+   public void setRelevantRelativeDifference(final double relevantRelativeDifference) {
+      if (relevantRelativeDifference <= 0.0) {
+         throw new RuntimeException("Configured illegal relevantRelativeDifference: " + relevantRelativeDifference);
+      }
+      this.relevantRelativeDifference = relevantRelativeDifference;
+   }
+
    public StatisticalTests getStatisticTest() {
       return statisticTest;
    }
@@ -93,4 +111,16 @@ public class StatisticsConfig implements Serializable {
 
       }
    }
+
+   public static class RelevantRelativeDifferenceFilter {
+      @Override
+      public boolean equals(Object obj) {
+         if (obj instanceof Double) {
+            return DEFAULT_RELEVANT_RELATIVE_DIFFERENCE == (Double) obj;
+         } else {
+            return false;
+         }
+
+      }
+   }
 }
@@ -5,6 +5,11 @@ import java.io.Serializable;
 public class TestSelectionConfig implements Serializable {
    
    private static final long serialVersionUID = -3734493960077455640L;
+
+   /**
+    * Number of commits after which the full selection files are written; in between, only the results of the analyzed commits are appended to the journals.
+    */
+   public static final int DEFAULT_SNAPSHOT_INTERVAL = 50;
    
    private final int threads;
    private final boolean doNotUpdateDependencies;
@@ -13,6 +18,7 @@ public class TestSelectionConfig implements Serializable {
    private final boolean generateTwiceExecutability;
    private final boolean skipProcessSuccessRuns;
    private final boolean writeAsZip;
+   private int snapshotInterval = DEFAULT_SNAPSHOT_INTERVAL;
 
    public TestSelectionConfig(final int threads, final boolean doNotUpdateDependencies) {
       this.threads = threads;
@@ -93,4 +99,15 @@ public class TestSelectionConfig implements Serializable {
    public boolean isWriteAsZip() {
       return writeAsZip;
    }
+   
+   public int getSnapshotInterval() {
+      return snapshotInterval;
+   }
+   
+   public void setSnapshotInterval(final int snapshotInterval) {
+      if (snapshotInterval < 1) {
+         throw new RuntimeException("Snapshot interval needs to be at least 1, but was " + snapshotInterval);
+      }
+      this.snapshotInterval = snapshotInterval;
+   }
 }
@@ -36,7 +36,11 @@ public class KiekerConfigMixin {
    @Option(names = { "-enableAdaptiveInstrumentation", "--enableAdaptiveInstrumentation" }, description = "Enable adaptive instrumentation (for performance comparison to AspectJ)")
    public boolean enableAdaptiveInstrumentation = false;
 
-   @Option(names = { "-traceSizeInMb", "--traceSizeInMb" }, description = "Sets the maximum allowed trace size in Mb (bigger traces will be ignored by Peass)")
+   @Option(names = { "-instrumentOnce", "--instrumentOnce" }, description = "Instrument and build the complete call tree once per commit and only activate the measured "
+         + "methods of each level of the root cause analysis by adaptive monitoring (requires source instrumentation)")
+   public boolean instrumentOnce = false;
+
+   @Option(names = { "-traceSizeInMb", "--traceSizeInMb" }, description = "Sets the maximum allowed trace size in Mb for the static test selection (tests with bigger traces will be ignored by Peass)")
    public long traceSizeInMb = KiekerConfig.DEFAULT_TRACE_SIZE_IN_MB;
 
    @Option(names = { "-kiekerQueueSize",
@@ -92,6 +96,10 @@ public class KiekerConfigMixin {
       return enableAdaptiveInstrumentation;
    }
 
+   public boolean isInstrumentOnce() {
+      return instrumentOnce;
+   }
+
    public long getTraceSizeInMb() {
       return traceSizeInMb;
    }
@@ -124,6 +132,7 @@ public class KiekerConfigMixin {
       kiekerConfig.setMeasureAdded(measureAdded);
       kiekerConfig.setExtractMethod(useExtraction);
       kiekerConfig.setAdaptiveInstrumentation(enableAdaptiveInstrumentation);
+      kiekerConfig.setInstrumentOnce(instrumentOnce);
       kiekerConfig.setUseSourceInstrumentation(!notUseSourceInstrumentation);
       kiekerConfig.setKiekerQueueSize(kiekerQueueSize);
       kiekerConfig.setTraceSizeInMb(traceSizeInMb);
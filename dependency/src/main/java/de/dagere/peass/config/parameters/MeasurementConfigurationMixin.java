@@ -56,6 +56,18 @@ public class MeasurementConfigurationMixin {
          "--directlyMeasureKieker" }, description = "Activates measurement via Kieker instead KoPeMe (only useful it repetitions = 1 and a test runner contains huge warmup)")
    protected boolean directlyMeasureKieker = false;
 
+   @Option(names = { "-reuseBuild",
+         "--reuseBuild" }, description = "Reuses the prepared and compiled project for all VMs of a commit instead of cleaning, transforming and instrumenting it before every VM (only effective with PARALLEL measurement strategy)")
+   protected boolean reuseBuild = false;
+
+   @Option(names = { "-measurementSlots",
+         "--measurementSlots" }, description = "Count of tests that are measured at the same time, each in its own project folders and on its own cores; in root cause analysis, the count of VMs that are measured at the same time (default 1)")
+   protected int measurementSlots = 1;
+
+   @Option(names = { "-slotCores",
+         "--slotCores" }, description = "Cores of each measurement slot in taskset format, separated by semicolon (e.g. 0-3;4-7); by default, the available cores are partitioned evenly")
+   protected String slotCores;
+
    public int getVms() {
       return vms;
    }
@@ -156,4 +168,28 @@ public class MeasurementConfigurationMixin {
       return directlyMeasureKieker;
    }
 
+   public void setReuseBuild(final boolean reuseBuild) {
+      this.reuseBuild = reuseBuild;
+   }
+
+   public boolean isReuseBuild() {
+      return reuseBuild;
+   }
+
+   public int getMeasurementSlots() {
+      return measurementSlots;
+   }
+
+   public void setMeasurementSlots(final int measurementSlots) {
+      this.measurementSlots = measurementSlots;
+   }
+
+   public String getSlotCores() {
+      return slotCores;
+   }
+
+   public void setSlotCores(final String slotCores) {
+      this.slotCores = slotCores;
+   }
+
 }
@@ -27,6 +27,10 @@ public class StatisticsConfigMixin {
    @Option(names = { "-statisticTest", "--statisticTest" }, description = "Statistic test to use for comparison, default t-test", required = false)
    private StatisticalTests statisticTest = StatisticalTests.MANN_WHITNEY_TEST;
 
+   @Option(names = { "-relevantRelativeDifference", "--relevantRelativeDifference" }, description = "Smallest relative difference of the means that should be detected by the "
+         + "SEQUENTIAL_PROBABILITY_RATIO_TEST (default 0.01, i.e. 1%)")
+   private double relevantRelativeDifference = StatisticsConfig.DEFAULT_RELEVANT_RELATIVE_DIFFERENCE;
+
    public double getOutlierFactor() {
       return outlierFactor;
    }
@@ -67,6 +71,14 @@ public class StatisticsConfigMixin {
       this.statisticTest = statisticTest;
    }
    
+   public double getRelevantRelativeDifference() {
+      return relevantRelativeDifference;
+   }
+
+   public void setRelevantRelativeDifference(final double relevantRelativeDifference) {
+      this.relevantRelativeDifference = relevantRelativeDifference;
+   }
+
    public StatisticsConfig getStasticsConfig() {
       StatisticsConfig config = new StatisticsConfig();
       config.setType1error(getType1error());
@@ -74,6 +86,7 @@ public class StatisticsConfigMixin {
       config.setStatisticTest(getStatisticTest());
       config.setOutlierFactor(getOutlierFactor());
       config.setMaximumRelativeDeviation(getMaximumRelativeDeviation());
+      config.setRelevantRelativeDifference(getRelevantRelativeDifference());
       return config;
    }
    
@@ -36,6 +36,9 @@ public class TestSelectionConfigMixin {
    @Option(names = {"-dontWriteAsZip", "--dontWriteAsZip"}, description = "Write traces as txt files (ZIP saves HDD spaces, but slows down processing)")
    public boolean dontWriteAsZip = false;
    
+   @Option(names = {"-snapshotInterval", "--snapshotInterval"}, description = "Number of commits after which the full selection files are written; in between, only the results of the analyzed commits are appended to the journals. Default: " + TestSelectionConfig.DEFAULT_SNAPSHOT_INTERVAL)
+   public int snapshotInterval = TestSelectionConfig.DEFAULT_SNAPSHOT_INTERVAL;
+   
    public File getProjectFolder() {
       return projectFolder;
    }
@@ -68,6 +71,8 @@ public class TestSelectionConfigMixin {
       boolean generateTraces = !doNotGenerateTraces;
       boolean generateCoverageSelection = !doNotGenerateCoverageSelection;
       boolean generateTwiceExecutability = !doNotGenerateTwiceExecutability;
-      return new TestSelectionConfig(threads, doNotUpdateDependencies, generateTraces, generateCoverageSelection, generateTwiceExecutability, skipProcessSuccessRuns, !dontWriteAsZip);
+      TestSelectionConfig config = new TestSelectionConfig(threads, doNotUpdateDependencies, generateTraces, generateCoverageSelection, generateTwiceExecutability, skipProcessSuccessRuns, !dontWriteAsZip);
+      config.setSnapshotInterval(snapshotInterval);
+      return config;
    }
 }
@@ -31,6 +31,7 @@ import de.dagere.peass.config.parameters.ExecutionConfigMixin;
 import de.dagere.peass.config.parameters.KiekerConfigMixin;
 import de.dagere.peass.config.parameters.TestSelectionConfigMixin;
 import de.dagere.peass.dependency.persistence.CommitStaticSelection;
+import de.dagere.peass.dependency.persistence.SelectionJournalUtil;
 import de.dagere.peass.dependency.persistence.StaticTestSelection;
 import de.dagere.peass.dependency.reader.CommitKeeper;
 import de.dagere.peass.dependency.reader.DependencyReader;
@@ -39,7 +40,6 @@ import de.dagere.peass.dependencyprocessors.VersionComparator;
 import de.dagere.peass.execution.utils.EnvironmentVariables;
 import de.dagere.peass.folders.PeassFolders;
 import de.dagere.peass.folders.ResultsFolders;
-import de.dagere.peass.utils.Constants;
 import de.dagere.peass.vcs.CommitIterator;
 import de.dagere.peass.vcs.CommitIteratorGit;
 import de.dagere.peass.vcs.CommitUtil;
@@ -90,7 +90,7 @@ public class RegressionTestSelectionContinueStarter implements Callable<Void> {
 
       final File dependencyFileIn = getDependencyInFile();
 
-      final StaticTestSelection dependencies = Constants.OBJECTMAPPER.readValue(dependencyFileIn, StaticTestSelection.class);
+      final StaticTestSelection dependencies = SelectionJournalUtil.readStaticSelection(dependencyFileIn);
       CommitComparatorInstance comparator = new CommitComparatorInstance(GitUtils.getCommits(projectFolder, false, executionConfigMixin.isLinearizeHistory()));
       
       VersionComparator.setVersions(GitUtils.getCommits(projectFolder, false, executionConfigMixin.isLinearizeHistory()));
@@ -21,6 +21,7 @@ import de.dagere.peass.dependency.analysis.data.CommitDiff;
 import de.dagere.peass.execution.utils.TestExecutor;
 import de.dagere.peass.folders.PeassFolders;
 import de.dagere.peass.vcs.CommitIterator;
+import de.dagere.peass.vcs.GitBackend;
 import de.dagere.peass.vcs.GitUtils;
 
 /**
@@ -52,14 +53,22 @@ public class ChangeManager {
     * @throws IOException
     * @throws FileNotFoundException
     */
-   private List<Type> getChangedClasses(final String lastCommit) throws FileNotFoundException, IOException {
+   private CommitDiff getChangedClasses(final String lastCommit) throws FileNotFoundException, IOException {
       List<File> moduleFiles = testExecutor.getModules().getModules(); 
       final CommitDiff diff = iterator.getChangedClasses(folders.getProjectFolder(), moduleFiles, lastCommit, config);
       LOG.info("Changed classes: " + diff.getChangedClasses().size());
-      return diff.getChangedClasses();
+      return diff;
    }
 
+   /**
+    * Saves the sources of the current commit as old sources for the comparison with the next commit. If the iterator provides a {@link GitBackend}, nothing is copied, since
+    * the old versions of the changed files are read from the repository when the changes are determined.
+    */
    public void saveOldClasses() {
+      if (iterator.getBackend() != null) {
+         LOG.debug("Old classes will be read from the repository");
+         return;
+      }
       try {
          LOG.debug("Saving old classes");
          if (folders.getOldSources().exists()) {
@@ -106,8 +115,10 @@ public class ChangeManager {
    }
 
    public Map<Type, ClazzChangeData> getChanges(final String commit1, final String commit2) {
-      GitUtils.goToCommit(commit1, folders.getProjectFolder());
-      saveOldClasses();
+      if (iterator.getBackend() == null) {
+         GitUtils.goToCommit(commit1, folders.getProjectFolder());
+         saveOldClasses();
+      }
       GitUtils.goToCommit(commit2, folders.getProjectFolder());
       return getChanges(commit1);
    }
@@ -121,8 +132,13 @@ public class ChangeManager {
    public Map<Type, ClazzChangeData> getChanges(final String lastRunningVersion) {
       final Map<Type, ClazzChangeData> changedClassesMethods = new TreeMap<>();
       try {
-         final List<Type> changedClasses = getChangedClasses(lastRunningVersion);
+         final CommitDiff diff = getChangedClasses(lastRunningVersion);
+         final List<Type> changedClasses = diff.getChangedClasses();
          LOG.debug("Before Cleaning: {}", changedClasses);
+         final GitBackend backend = iterator.getBackend();
+         if (backend != null) {
+            saveOldFiles(backend, lastRunningVersion, diff.getChangedFiles());
+         }
          if (folders.getOldSources().exists()) {
             ChangeDetector detector = new ChangeDetector(config, folders);
             for (final Iterator<Type> clazzIterator = changedClasses.iterator(); clazzIterator.hasNext();) {
@@ -140,8 +156,25 @@ public class ChangeManager {
       return changedClassesMethods;
    }
 
-   
-
-   
-
+   /**
+    * Writes the old versions of the changed files from the repository to the old sources folder, so only changed files are written instead of the whole source tree
+    */
+   private void saveOldFiles(final GitBackend backend, final String lastRunningVersion, final List<String> changedFiles) throws IOException {
+      if (folders.getOldSources().exists()) {
+         FileUtils.deleteDirectory(folders.getOldSources());
+      }
+      folders.getOldSources().mkdir();
+      final String oldCommit = lastRunningVersion != null ? lastRunningVersion : "HEAD^";
+      for (String changedFile : changedFiles) {
+         final byte[] content = backend.readFile(oldCommit, changedFile);
+         if (content != null) {
+            final File oldFile = new File(folders.getOldSources(), changedFile);
+            oldFile.getParentFile().mkdirs();
+            FileUtils.writeByteArrayToFile(oldFile, content);
+         } else {
+            LOG.debug("File {} did not exist in {}", changedFile, oldCommit);
+         }
+      }
+      LOG.debug("Saved {} old files of {}", changedFiles.size(), oldCommit);
+   }
 }
@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
@@ -69,7 +70,8 @@ public class CalledMethodLoader {
             Map<Type, Set<String>> calledMethodResult = loadMethods();
             return calledMethodResult;
          } else {
-            final CalledMethodStage peassFilter = executePeassFilter(null);
+            final CalledMethodStage peassFilter = executePeassFilter(null, call -> {
+            });
             return peassFilter.getCalledMethods();
          }
       } catch (IllegalStateException | AnalysisConfigurationException e) {
@@ -118,7 +120,7 @@ public class CalledMethodLoader {
                ArrayList<TraceElement> result = readOneCallTrace();
                return result;
             } else {
-               final CalledMethodStage peassFilter = executePeassFilter(prefix);
+               final CalledMethodStage peassFilter = executePeassFilter(prefix, null);
                return peassFilter.getCalls();
             }
          } else {
@@ -132,6 +134,36 @@ public class CalledMethodLoader {
       }
    }
 
+   /**
+    * Passes all method executions of the trace in their order of execution to the consumer. Since only a compact form of the executions is buffered, and spilled to temporary
+    * files for big traces (see {@link ExecutionSpool}), the trace size is not limited.
+    * 
+    * @param prefix
+    * @param consumer
+    * @return Count of passed method executions, or -1 if the trace could not be read
+    */
+   public long readShortTrace(final String prefix, final Consumer<TraceElement> consumer) {
+      try {
+         LOG.debug("Streaming trace from folder: {}", kiekerTraceFolder);
+         if (kiekerConfig.isOnlyOneCallRecording()) {
+            ArrayList<TraceElement> result = readOneCallTrace();
+            result.forEach(consumer);
+            return result.size();
+         } else {
+            final long[] count = new long[1];
+            executePeassFilter(prefix, call -> {
+               consumer.accept(call);
+               count[0]++;
+            });
+            return count[0];
+         }
+      } catch (IllegalStateException | AnalysisConfigurationException e) {
+         LOG.debug("Failed to load trace", e);
+         e.printStackTrace();
+         return -1;
+      }
+   }
+
    private ArrayList<TraceElement> readOneCallTrace() {
       ArrayList<TraceElement> result = new ArrayList<>();
       Set<String> calledMethods = OneCallReader.getCalledMethods(kiekerTraceFolder);
@@ -151,8 +183,8 @@ public class CalledMethodLoader {
       return result;
    }
 
-   private CalledMethodStage executePeassFilter(final String prefix) throws AnalysisConfigurationException {
-      CalledMethodStage peassStage = KiekerReader.getCalledMethodStage(kiekerTraceFolder, prefix, mapping);
+   private CalledMethodStage executePeassFilter(final String prefix, final Consumer<TraceElement> consumer) throws AnalysisConfigurationException {
+      CalledMethodStage peassStage = KiekerReader.getCalledMethodStage(kiekerTraceFolder, prefix, mapping, consumer);
       return peassStage;
    }
 
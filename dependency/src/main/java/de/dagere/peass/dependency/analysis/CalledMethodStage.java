@@ -8,6 +8,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -18,16 +19,17 @@ import de.dagere.nodeDiffDetector.data.MethodCallHelper;
 import de.dagere.nodeDiffDetector.data.Type;
 import de.dagere.nodeDiffDetector.typeFinding.TypeFileFinder;
 import de.dagere.peass.dependency.analysis.data.TraceElement;
-import kieker.analysis.architecture.trace.AbstractTraceProcessingStage;
-import kieker.model.repository.SystemModelRepository;
 import kieker.model.system.model.Execution;
-import kieker.model.system.model.ExecutionTrace;
+import kieker.model.system.model.Operation;
+import teetime.framework.AbstractConsumerStage;
 
 /**
- * This stage reads the called methods from a Kieker trace
+ * This stage reads the called methods from the executions of a Kieker trace. The executions are buffered in an {@link ExecutionSpool} and read ordered by trace and execution
+ * order index when the input is finished, so Kieker does not need to reconstruct the {@link kieker.model.system.model.ExecutionTrace}s. The calls are either collected in a list
+ * or, if a consumer is given, passed directly to the consumer, so the calls do not need to be collected.
  *
  */
-public class CalledMethodStage extends AbstractTraceProcessingStage<ExecutionTrace> {
+public class CalledMethodStage extends AbstractConsumerStage<Execution> {
 
    private static final Logger LOG = LogManager.getLogger(CalledMethodStage.class);
 
@@ -35,49 +37,66 @@ public class CalledMethodStage extends AbstractTraceProcessingStage<ExecutionTra
    private final ArrayList<TraceElement> calls = new ArrayList<>();
    private final String prefix;
    private final ModuleClassMapping mapping;
+   private final Consumer<TraceElement> callConsumer;
+   private final ExecutionSpool spool = new ExecutionSpool();
 
-   private final static int CALLCOUNT = 10000000;
+   public CalledMethodStage(final String prefix, final ModuleClassMapping mapping) {
+      this(prefix, mapping, null);
+   }
 
-   public CalledMethodStage(final SystemModelRepository systemModelRepository, final String prefix, final ModuleClassMapping mapping) {
-      super(systemModelRepository);
+   /**
+    * Creates a stage which passes every call to the given consumer instead of collecting it. If the consumer is null, the calls are collected and can be obtained by
+    * {@link #getCalls()}.
+    */
+   public CalledMethodStage(final String prefix, final ModuleClassMapping mapping, final Consumer<TraceElement> callConsumer) {
       this.prefix = prefix;
       this.mapping = mapping;
+      this.callConsumer = callConsumer;
    }
 
    @Override
-   protected void execute(final ExecutionTrace trace) throws Exception {
-      LOG.trace("Trace: {}", trace.getTraceId());
-
-      for (final Execution execution : trace.getTraceAsSortedExecutionSet()) {
-         if (calls.size() > CALLCOUNT) {
-            calls.add(new TraceElement("ATTENTION", "TO MUCH CALLS", 0));
-            LOG.info("Trace Reading Aborted, Cause More Than " + CALLCOUNT + " Appeared");
-            break;
-         }
+   protected void execute(final Execution execution) throws Exception {
+      spool.add(execution);
+   }
 
-         final String fullClassname = execution.getOperation().getComponentType().getFullQualifiedName().intern();
-         if ((prefix == null || prefix != null && fullClassname.startsWith(prefix))
-               && !fullClassname.contains("junit") && !fullClassname.contains("log4j")
-               && !fullClassname.equals("de.peass.generated.GeneratedTest")) {
-            final String methodname = execution.getOperation().getSignature().getName().intern();
-
-            // KoPeMe-methods are not relevant
-            if (!methodname.equals("logFullData")
-                  && !methodname.equals("useKieker")
-                  && !methodname.equals("getWarmupExecutions")
-                  && !methodname.equals("getExecutionTimes")
-                  && !methodname.equals("getMaximalTime")
-                  && !methodname.equals("getRepetitions")
-                  && !methodname.equals("getDataCollectors")) {
-               final TraceElement traceelement = buildTraceElement(execution, fullClassname, methodname);
-
-               calls.add(traceelement);
-               String methodWithParameters = methodname + MethodCallHelper.getParameterString(execution.getOperation().getSignature().getParamTypeList());
-               addCalledMethod(fullClassname, methodWithParameters, traceelement);
-            }
+   @Override
+   protected void onTerminating() {
+      LOG.trace("Reading {} executions", spool.size());
+      spool.forEachOrdered(this::addExecution);
+      LOG.trace("Finished");
+      super.onTerminating();
+   }
+
+   private void addExecution(final Operation operation, final int ess) {
+      final String fullClassname = operation.getComponentType().getFullQualifiedName().intern();
+      if ((prefix == null || prefix != null && fullClassname.startsWith(prefix))
+            && !fullClassname.contains("junit") && !fullClassname.contains("log4j")
+            && !fullClassname.equals("de.peass.generated.GeneratedTest")) {
+         final String methodname = operation.getSignature().getName().intern();
+
+         // KoPeMe-methods are not relevant
+         if (!methodname.equals("logFullData")
+               && !methodname.equals("useKieker")
+               && !methodname.equals("getWarmupExecutions")
+               && !methodname.equals("getExecutionTimes")
+               && !methodname.equals("getMaximalTime")
+               && !methodname.equals("getRepetitions")
+               && !methodname.equals("getDataCollectors")) {
+            final TraceElement traceelement = buildTraceElement(operation, ess, fullClassname, methodname);
+
+            String methodWithParameters = methodname + MethodCallHelper.getParameterString(operation.getSignature().getParamTypeList());
+            addCalledMethod(fullClassname, methodWithParameters, traceelement);
+            addCall(traceelement);
          }
       }
-      LOG.trace("Finished");
+   }
+
+   private void addCall(final TraceElement traceelement) {
+      if (callConsumer != null) {
+         callConsumer.accept(traceelement);
+      } else {
+         calls.add(traceelement);
+      }
    }
 
    private void addCalledMethod(final String fullClassname, final String methodname, final TraceElement traceelement) {
@@ -93,12 +112,12 @@ public class CalledMethodStage extends AbstractTraceProcessingStage<ExecutionTra
       currentMethodSet.add(methodname);
    }
 
-   private TraceElement buildTraceElement(final Execution execution, final String fullClassname, final String methodname) {
-      final TraceElement traceelement = new TraceElement(fullClassname, methodname, execution.getEss());
-      if (Arrays.asList(execution.getOperation().getSignature().getModifier()).contains("static")) {
+   private TraceElement buildTraceElement(final Operation operation, final int ess, final String fullClassname, final String methodname) {
+      final TraceElement traceelement = new TraceElement(fullClassname, methodname, ess);
+      if (Arrays.asList(operation.getSignature().getModifier()).contains("static")) {
          traceelement.setStatic(true);
       }
-      final String[] paramTypeList = execution.getOperation().getSignature().getParamTypeList();
+      final String[] paramTypeList = operation.getSignature().getParamTypeList();
       LOG.trace("Parameters " + fullClassname + " " + methodname + " " + Arrays.toString(paramTypeList));
       LOG.trace(paramTypeList.length); // TODO delete
       final String[] internParamTypeList = getInternTypeList(paramTypeList);
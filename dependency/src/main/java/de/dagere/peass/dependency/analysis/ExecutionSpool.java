@@ -0,0 +1,185 @@
+package de.dagere.peass.dependency.analysis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.ObjIntConsumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import kieker.model.system.model.Execution;
+import kieker.model.system.model.Operation;
+
+/**
+ * Buffers the executions of Kieker traces and passes them on ordered by trace id and execution order index. Since Kieker writes an execution when it finishes, the first
+ * execution of a trace is written last, so the trace needs to be buffered completely. Therefore, only the trace id, the order index, the stack size and the id of the operation
+ * are kept for every execution; they are sorted in chunks, which are written to temporary files and merged when the executions are read, so only one chunk is kept in
+ * memory.
+ *
+ * @author reichelt
+ *
+ */
+public class ExecutionSpool {
+
+   private static final Logger LOG = LogManager.getLogger(ExecutionSpool.class);
+
+   public static final int DEFAULT_CHUNK_SIZE = 1000000;
+
+   private static final Comparator<SpooledExecution> EXECUTION_ORDER = Comparator.comparingLong((SpooledExecution execution) -> execution.traceId)
+         .thenComparingInt(execution -> execution.eoi);
+
+   private final int chunkSize;
+   private final List<SpooledExecution> chunk = new ArrayList<>();
+   private final List<File> chunkFiles = new ArrayList<>();
+   private final Map<Integer, Operation> operations = new HashMap<>();
+   private long size = 0;
+
+   public ExecutionSpool() {
+      this(DEFAULT_CHUNK_SIZE);
+   }
+
+   public ExecutionSpool(final int chunkSize) {
+      this.chunkSize = chunkSize;
+   }
+
+   public void add(final Execution execution) {
+      final Operation operation = execution.getOperation();
+      operations.putIfAbsent(operation.getId(), operation);
+      chunk.add(new SpooledExecution(execution.getTraceId(), execution.getEoi(), execution.getEss(), operation.getId()));
+      size++;
+      if (chunk.size() >= chunkSize) {
+         writeChunk();
+      }
+   }
+
+   /**
+    * Passes the operation and the stack size of every execution to the consumer, ordered by trace id and execution order index, and deletes the temporary files afterwards.
+    */
+   public void forEachOrdered(final ObjIntConsumer<Operation> consumer) {
+      try {
+         if (chunkFiles.isEmpty()) {
+            chunk.sort(EXECUTION_ORDER);
+            for (SpooledExecution execution : chunk) {
+               consumer.accept(operations.get(execution.operationId), execution.ess);
+            }
+         } else {
+            if (!chunk.isEmpty()) {
+               writeChunk();
+            }
+            mergeChunkFiles(consumer);
+         }
+      } catch (IOException e) {
+         throw new RuntimeException(e);
+      } finally {
+         chunk.clear();
+         for (File chunkFile : chunkFiles) {
+            chunkFile.delete();
+         }
+         chunkFiles.clear();
+      }
+   }
+
+   private void mergeChunkFiles(final ObjIntConsumer<Operation> consumer) throws IOException {
+      LOG.debug("Merging {} executions from {} chunk files", size, chunkFiles.size());
+      final PriorityQueue<ChunkReader> readers = new PriorityQueue<>(Comparator.comparing((ChunkReader reader) -> reader.current, EXECUTION_ORDER));
+      try {
+         for (File chunkFile : chunkFiles) {
+            final ChunkReader reader = new ChunkReader(chunkFile);
+            if (reader.next()) {
+               readers.add(reader);
+            } else {
+               reader.close();
+            }
+         }
+         while (!readers.isEmpty()) {
+            final ChunkReader reader = readers.poll();
+            consumer.accept(operations.get(reader.current.operationId), reader.current.ess);
+            if (reader.next()) {
+               readers.add(reader);
+            } else {
+               reader.close();
+            }
+         }
+      } finally {
+         for (ChunkReader reader : readers) {
+            reader.close();
+         }
+      }
+   }
+
+   private void writeChunk() {
+      chunk.sort(EXECUTION_ORDER);
+      try {
+         final File chunkFile = Files.createTempFile("peass-executions", ".bin").toFile();
+         chunkFiles.add(chunkFile);
+         try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(chunkFile)))) {
+            output.writeInt(chunk.size());
+            for (SpooledExecution execution : chunk) {
+               output.writeLong(execution.traceId);
+               output.writeInt(execution.eoi);
+               output.writeInt(execution.ess);
+               output.writeInt(execution.operationId);
+            }
+         }
+         LOG.debug("Wrote {} executions to {}", chunk.size(), chunkFile);
+      } catch (IOException e) {
+         throw new RuntimeException(e);
+      }
+      chunk.clear();
+   }
+
+   public long size() {
+      return size;
+   }
+
+   private static final class SpooledExecution {
+      private final long traceId;
+      private final int eoi;
+      private final int ess;
+      private final int operationId;
+
+      private SpooledExecution(final long traceId, final int eoi, final int ess, final int operationId) {
+         this.traceId = traceId;
+         this.eoi = eoi;
+         this.ess = ess;
+         this.operationId = operationId;
+      }
+   }
+
+   private static final class ChunkReader {
+      private final DataInputStream input;
+      private int remaining;
+      private SpooledExecution current;
+
+      private ChunkReader(final File chunkFile) throws IOException {
+         input = new DataInputStream(new BufferedInputStream(new FileInputStream(chunkFile)));
+         remaining = input.readInt();
+      }
+
+      private boolean next() throws IOException {
+         if (remaining == 0) {
+            return false;
+         }
+         remaining--;
+         current = new SpooledExecution(input.readLong(), input.readInt(), input.readInt(), input.readInt());
+         return true;
+      }
+
+      private void close() throws IOException {
+         input.close();
+      }
+   }
+}
@@ -1,10 +1,13 @@
 package de.dagere.peass.dependency.analysis;
 
 import java.io.File;
+import java.util.function.Consumer;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import de.dagere.peass.dependency.analysis.data.TraceElement;
+
 import teetime.framework.Execution;
 
 public class KiekerReader {
@@ -12,8 +15,16 @@ public class KiekerReader {
    private static final Logger LOG = LogManager.getLogger(KiekerReader.class);
    
    public static CalledMethodStage getCalledMethodStage(final File kiekerTraceFolder, final String prefix, final ModuleClassMapping mapping) {
+      return getCalledMethodStage(kiekerTraceFolder, prefix, mapping, null);
+   }
+
+   /**
+    * Reads the trace and passes every call to the consumer while reading; if the consumer is null, the calls are collected in the stage.
+    */
+   public static CalledMethodStage getCalledMethodStage(final File kiekerTraceFolder, final String prefix, final ModuleClassMapping mapping,
+         final Consumer<TraceElement> callConsumer) {
       KiekerReaderConfiguration configuration = new KiekerReaderConfiguration();
-      CalledMethodStage peassStage = configuration.exampleReader(kiekerTraceFolder, prefix, mapping);
+      CalledMethodStage peassStage = configuration.exampleReader(kiekerTraceFolder, prefix, mapping, callConsumer);
       
       Execution execution = new Execution(configuration);
       execution.executeBlocking();
@@ -4,10 +4,13 @@ import java.io.File;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import de.dagere.peass.dependency.analysis.data.TraceElement;
+
 import kieker.analysis.architecture.trace.execution.ExecutionRecordTransformationStage;
 import kieker.analysis.architecture.trace.reconstruction.TraceReconstructionStage;
 import kieker.analysis.generic.DynamicEventDispatcher;
@@ -29,10 +32,14 @@ public class KiekerReaderConfiguration extends Configuration {
    }
 
    public CalledMethodStage exampleReader(final File kiekerTraceFolder, final String prefix, final ModuleClassMapping mapping) {
-      TraceReconstructionStage traceReconstructionStage = prepareTillExecutionTrace(kiekerTraceFolder);
+      return exampleReader(kiekerTraceFolder, prefix, mapping, null);
+   }
+
+   public CalledMethodStage exampleReader(final File kiekerTraceFolder, final String prefix, final ModuleClassMapping mapping, final Consumer<TraceElement> callConsumer) {
+      ExecutionRecordTransformationStage executionStage = prepareTillExecutions(kiekerTraceFolder);
 
-      CalledMethodStage myStage = new CalledMethodStage(systemModelRepositoryNew, prefix, mapping);
-      this.connectPorts(traceReconstructionStage.getExecutionTraceOutputPort(), myStage.getInputPort());
+      CalledMethodStage myStage = new CalledMethodStage(prefix, mapping, callConsumer);
+      this.connectPorts(executionStage.getOutputPort(), myStage.getInputPort());
 
       LOG.debug("Reading from {}", kiekerTraceFolder);
       return myStage;
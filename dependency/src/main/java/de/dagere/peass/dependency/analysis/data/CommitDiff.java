@@ -40,11 +40,13 @@ public class CommitDiff {
 
    private boolean pomChanged;
    private final List<Type> changedClasses;
+   private final List<String> changedFiles;
    private final List<File> modules;
    private final File projectFolder;
 
    public CommitDiff(final List<File> modules, final File projectFolder) {
       changedClasses = new LinkedList<>();
+      changedFiles = new LinkedList<>();
       pomChanged = false;
       this.modules = modules;
       this.projectFolder = projectFolder;
@@ -68,10 +70,20 @@ public class CommitDiff {
       return changedClasses;
    }
 
+   /**
+    * Returns the paths of all changed source files, relative to the project folder
+    */
+   public List<String> getChangedFiles() {
+      return changedFiles;
+   }
+
    public void addChange(final String currentFileName, final ExecutionConfig config) {
       if (currentFileName.endsWith("pom.xml")) {
          setPomChanged(true);
       } else {
+         if (currentFileName.endsWith(Endings.JAVA) || currentFileName.endsWith(Endings.SCALA)) {
+            changedFiles.add(currentFileName);
+         }
          if (currentFileName.endsWith(Endings.JAVA)) { 
             String fileNameWithoutExtension = currentFileName.substring(0, currentFileName.length() - Endings.JAVA.length());
             String containedPath = checkContainedPath(fileNameWithoutExtension, config);
@@ -19,8 +19,9 @@ package de.dagere.peass.dependency.analysis.data;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -30,9 +31,12 @@ import de.dagere.nodeDiffDetector.data.TestCase;
 import de.dagere.nodeDiffDetector.data.TestMethodCall;
 import de.dagere.nodeDiffDetector.data.Type;
 import de.dagere.nodeDiffDetector.diffDetection.ClazzChangeData;
+import de.dagere.peass.dependency.persistence.ChangeTestIndex;
 
 /**
- * Represents information about the tests and their dependencies, i.e. the classes they call.
+ * Represents information about the tests and their dependencies, i.e. the classes they call. Additionally to the map from test to called classes, a reverse index from called
+ * class to calling tests is maintained, so the tests affected by a change can be looked up without iterating over all tests. Therefore, dependencies should only be added by
+ * the methods of this class and not by modifying the returned maps.
  * 
  * @author reichelt
  *
@@ -46,6 +50,12 @@ public class TestDependencies {
     */
    private final Map<TestMethodCall, CalledMethods> dependencyMap = new HashMap<>();
 
+   /**
+    * Map from called class to the tests calling it; may contain tests that have been removed from the dependencyMap, so it always needs to be checked against the
+    * dependencyMap
+    */
+   private final Map<Type, Set<TestMethodCall>> callers = new HashMap<>();
+
    public TestDependencies() {
 
    }
@@ -72,6 +82,7 @@ public class TestDependencies {
             method += "(" + test.getParams() + ")";
          }
          calledMethods.add(method);
+         addCaller(onlyClass, test);
       }
       return tests.getCalledMethods();
    }
@@ -79,6 +90,13 @@ public class TestDependencies {
    public void setDependencies(final TestMethodCall testClassName, final Map<Type, Set<String>> allCalledClasses) {
       final Map<Type, Set<String>> testDependencies = getOrAddDependenciesForTest(testClassName);
       testDependencies.putAll(allCalledClasses);
+      for (final Type calledClass : allCalledClasses.keySet()) {
+         addCaller(calledClass, testClassName);
+      }
+   }
+
+   private void addCaller(final Type calledClass, final TestMethodCall test) {
+      callers.computeIfAbsent(calledClass, clazz -> new HashSet<>()).add(test);
    }
    
    /**
@@ -99,11 +117,40 @@ public class TestDependencies {
          } else {
             testDependencies.put(calledEntity.getKey(), calledEntity.getValue());
          }
+         addCaller(calledEntity.getKey(), testMethod);
       }
    }
 
    public void removeTest(final TestCase entity) {
-      dependencyMap.remove(entity);
+      final CalledMethods removed = dependencyMap.remove(entity);
+      if (removed != null) {
+         for (final Type calledClass : removed.getCalledClasses()) {
+            final Set<TestMethodCall> classCallers = callers.get(calledClass);
+            if (classCallers != null) {
+               classCallers.remove(entity);
+               if (classCallers.isEmpty()) {
+                  callers.remove(calledClass);
+               }
+            }
+         }
+      }
+   }
+
+   /**
+    * Returns the tests that call the given class
+    */
+   public Set<TestMethodCall> getCallers(final Type calledClass) {
+      final Set<TestMethodCall> result = new HashSet<>();
+      final Set<TestMethodCall> classCallers = callers.get(calledClass.onlyClazz());
+      if (classCallers != null) {
+         for (final TestMethodCall test : classCallers) {
+            final CalledMethods testDependencies = dependencyMap.get(test);
+            if (testDependencies != null && testDependencies.getCalledClasses().contains(calledClass.onlyClazz())) {
+               result.add(test);
+            }
+         }
+      }
+      return result;
    }
 
    public int size() {
@@ -124,6 +171,36 @@ public class TestDependencies {
       return copy;
    }
 
+   /**
+    * Creates the persistable reverse index of the current dependencies
+    */
+   public ChangeTestIndex toIndex(final String commit) {
+      final ChangeTestIndex index = new ChangeTestIndex(commit);
+      for (final Map.Entry<TestMethodCall, CalledMethods> entry : dependencyMap.entrySet()) {
+         for (final Map.Entry<Type, Set<String>> calledClass : entry.getValue().getCalledMethods().entrySet()) {
+            index.getCallers().computeIfAbsent(calledClass.getKey(), clazz -> new TreeMap<>())
+                  .put(entry.getKey(), new TreeSet<>(calledClass.getValue()));
+         }
+      }
+      return index;
+   }
+
+   /**
+    * Replaces the current dependencies by the dependencies of the given index
+    */
+   public void loadIndex(final ChangeTestIndex index) {
+      dependencyMap.clear();
+      callers.clear();
+      for (final Map.Entry<Type, Map<TestMethodCall, Set<String>>> calledClass : index.getCallers().entrySet()) {
+         final Type clazz = new Type(calledClass.getKey().getClazz(), calledClass.getKey().getModule());
+         for (final Map.Entry<TestMethodCall, Set<String>> test : calledClass.getValue().entrySet()) {
+            final CalledMethods testDependencies = dependencyMap.computeIfAbsent(test.getKey(), testcase -> new CalledMethods());
+            testDependencies.getCalledMethods().put(clazz, new HashSet<>(test.getValue()));
+            addCaller(clazz, test.getKey());
+         }
+      }
+   }
+
    @Override
    public String toString() {
       return dependencyMap.toString();
@@ -139,16 +216,11 @@ public class TestDependencies {
     */
    public ChangeTestMapping getChangeTestMap(final Map<Type, ClazzChangeData> changes) {
       final ChangeTestMapping changeTestMap = new ChangeTestMapping();
-      for (final Entry<TestMethodCall, CalledMethods> dependencyEntry : dependencyMap.entrySet()) {
-         final TestMethodCall currentTestcase = dependencyEntry.getKey();
-         final CalledMethods currentTestDependencies = dependencyEntry.getValue();
-         for (ClazzChangeData changedEntry : changes.values()) {
-            for (Type change : changedEntry.getChanges()) {
-               final Type changedClass = change.onlyClazz();
-               final Set<Type> calledClasses = currentTestDependencies.getCalledClasses();
-               if (calledClasses.contains(changedClass)) {
-                  addCall(changeTestMap, currentTestcase, currentTestDependencies, changedEntry, change, changedClass);
-               }
+      for (ClazzChangeData changedEntry : changes.values()) {
+         for (Type change : changedEntry.getChanges()) {
+            final Type changedClass = change.onlyClazz();
+            for (final TestMethodCall currentTestcase : getCallers(changedClass)) {
+               addCall(changeTestMap, currentTestcase, dependencyMap.get(currentTestcase), changedEntry, change, changedClass);
             }
          }
       }
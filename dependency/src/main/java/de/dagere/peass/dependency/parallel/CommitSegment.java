@@ -0,0 +1,68 @@
+package de.dagere.peass.dependency.parallel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Part of the commit list which is analyzed by one {@link OneReader}. The first commit of a segment is the last commit of the previous segment, so every segment starts with a
+ * commit that is read as initial commit (warm-up) and the merged segments contain every commit. If the end of a segment is not running, the reader continues with the reserve
+ * commits until it reaches the minimum commit, i.e. the start of the next segment.
+ *
+ * @author reichelt
+ *
+ */
+public class CommitSegment {
+   private final int index;
+   private final List<String> commits;
+   private final List<String> reserveCommits;
+   private final String minimumCommit;
+
+   public CommitSegment(final int index, final List<String> commits, final List<String> reserveCommits, final String minimumCommit) {
+      this.index = index;
+      this.commits = commits;
+      this.reserveCommits = reserveCommits;
+      this.minimumCommit = minimumCommit;
+   }
+
+   /**
+    * Splits the commits into the given count of segments of (nearly) equal size; the last segment contains the remaining commits.
+    */
+   public static List<CommitSegment> split(final List<String> allCommits, final int segmentCount) {
+      final List<CommitSegment> segments = new ArrayList<>(segmentCount);
+      final int size = allCommits.size();
+      if (size == 0) {
+         return segments;
+      }
+      final int segmentSize = segmentCount > 1 ? size / segmentCount : size;
+      for (int index = 0; index < segmentCount; index++) {
+         final int min = index * segmentSize;
+         final int max = index == segmentCount - 1 ? size : Math.min((index + 1) * segmentSize + 1, size);
+         final List<String> commits = allCommits.subList(min, max);
+         final List<String> reserveCommits = allCommits.subList(max - 1, size);
+         final String minimumCommit = allCommits.get(Math.min(max, size - 1));
+         segments.add(new CommitSegment(index, commits, reserveCommits, minimumCommit));
+      }
+      return segments;
+   }
+
+   public int getIndex() {
+      return index;
+   }
+
+   public List<String> getCommits() {
+      return commits;
+   }
+
+   public List<String> getReserveCommits() {
+      return reserveCommits;
+   }
+
+   public String getMinimumCommit() {
+      return minimumCommit;
+   }
+
+   @Override
+   public String toString() {
+      return "Segment " + index + ": " + commits.get(0) + " - " + commits.get(commits.size() - 1);
+   }
+}
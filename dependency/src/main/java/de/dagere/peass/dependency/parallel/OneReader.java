@@ -62,6 +62,7 @@ public final class OneReader implements Runnable {
          reader.readCommit();
          newest = reader.getDependencies().getNewestCommit();
       }
+      reader.writeSnapshot();
       serializeNotRunningCommits(reader);
    }
 
@@ -2,9 +2,12 @@ package de.dagere.peass.dependency.parallel;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
@@ -15,12 +18,13 @@ import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 
 import de.dagere.peass.dependency.persistence.ExecutionData;
+import de.dagere.peass.dependency.persistence.SelectionJournalUtil;
 import de.dagere.peass.dependency.persistence.StaticTestSelection;
 import de.dagere.peass.dependency.reader.DependencyParallelReader;
 import de.dagere.peass.dependency.reader.DependencyReaderUtil;
+import de.dagere.peass.dependency.traces.TraceBlobStore;
 import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
 import de.dagere.peass.folders.ResultsFolders;
-import de.dagere.peass.utils.Constants;
 
 public class PartialSelectionResultsMerger {
 
@@ -42,26 +46,77 @@ public class PartialSelectionResultsMerger {
       return executionData;
    }
    
-   private static void mergeViews(final ResultsFolders[] outFiles, final ResultsFolders mergedFolders) throws IOException {
+   public static void mergeViews(final ResultsFolders[] outFiles, final ResultsFolders mergedFolders) throws IOException {
       for (ResultsFolders resultsFolders : outFiles) {
          for (File viewFolder : resultsFolders.getViewFolder().listFiles()) {
             File dest = new File(mergedFolders.getViewFolder(), viewFolder.getName());
             if (!dest.exists()) {
                FileUtils.moveDirectory(viewFolder, dest);
+            } else if (viewFolder.getName().equals(TraceBlobStore.BLOB_FOLDER_NAME)) {
+               mergeBlobs(viewFolder, dest);
             }
          }
       }
    }
+
+   /**
+    * Moves the blobs which are not present in the merged blob store; since the trace files are hard links, their content stays available after moving. If blobs of a part have
+    * been copied, the merged blob store is marked as copied, too.
+    */
+   private static void mergeBlobs(final File blobFolder, final File mergedBlobFolder) throws IOException {
+      for (File hashFolder : blobFolder.listFiles()) {
+         if (hashFolder.isDirectory()) {
+            for (File blob : hashFolder.listFiles()) {
+               File dest = new File(new File(mergedBlobFolder, hashFolder.getName()), blob.getName());
+               if (!dest.exists()) {
+                  FileUtils.moveFile(blob, dest);
+               }
+            }
+         } else if (hashFolder.getName().equals(TraceBlobStore.COPY_MARKER_NAME)) {
+            new TraceBlobStore(mergedBlobFolder).markCopied();
+         }
+      }
+   }
    
+   /**
+    * Merges the partial selection files one after another, so only the merged selection and the current part need to be kept in memory. The parts are sorted by their initial
+    * commit before reading them; the journal of every part is applied while reading it.
+    */
    public static StaticTestSelection mergePartFiles(final File out, final File[] partFiles, CommitComparatorInstance comparator)
          throws IOException, JsonGenerationException, JsonMappingException {
-      final List<StaticTestSelection> staticTestSelection = readStaticTestSelection(partFiles);
-      StaticTestSelection merged = mergeDependencies(staticTestSelection, comparator);
+      final List<File> sortedPartFiles = sortByInitialCommit(partFiles, comparator);
+      StaticTestSelection merged = null;
+      for (File partFile : sortedPartFiles) {
+         final StaticTestSelection part = readStaticTestSelection(partFile);
+         if (part != null) {
+            LOG.debug("Merge: {} Vals: {}", partFile, part.getCommitNames());
+            merged = (merged == null) ? part : DependencyReaderUtil.mergeStaticSelection(merged, part, comparator);
+         }
+      }
+      if (merged == null) {
+         merged = new StaticTestSelection();
+      }
 
-      Constants.OBJECTMAPPER.writeValue(out, merged);
+      SelectionJournalUtil.writeSnapshot(out, merged);
       return merged;
    }
 
+   private static List<File> sortByInitialCommit(final File[] partFiles, final CommitComparatorInstance comparator) {
+      final Map<File, Integer> initialCommitIndex = new HashMap<>();
+      final List<File> readableFiles = new ArrayList<>();
+      for (File partFile : partFiles) {
+         try {
+            final String initialCommit = SelectionJournalUtil.readInitialCommitName(partFile);
+            initialCommitIndex.put(partFile, comparator.getVersionIndex(initialCommit));
+            readableFiles.add(partFile);
+         } catch (final IOException e) {
+            e.printStackTrace();
+         }
+      }
+      readableFiles.sort(Comparator.comparing(initialCommitIndex::get));
+      return readableFiles;
+   }
+
    public static void mergeSelectionResults(final File out, final ResultsFolders[] partFolders, CommitComparatorInstance comparator)
          throws IOException, JsonGenerationException, JsonMappingException {
       File[] partFiles = new File[partFolders.length];
@@ -71,19 +126,16 @@ public class PartialSelectionResultsMerger {
       mergePartFiles(out, partFiles, comparator);
    }
 
-   static List<StaticTestSelection> readStaticTestSelection(final File[] partFiles) {
-      final List<StaticTestSelection> staticTestSelection = new LinkedList<>();
-      for (int i = 0; i < partFiles.length; i++) {
-         try {
-            LOG.debug("Reading: {}", partFiles[i]);
-            final StaticTestSelection currentStaticSelection = Constants.OBJECTMAPPER.readValue(partFiles[i], StaticTestSelection.class);
-            staticTestSelection.add(currentStaticSelection);
-            LOG.debug("Size: {}", staticTestSelection.get(staticTestSelection.size() - 1).getCommits().size());
-         } catch (final IOException e) {
-            e.printStackTrace();
-         }
+   static StaticTestSelection readStaticTestSelection(final File partFile) {
+      try {
+         LOG.debug("Reading: {}", partFile);
+         final StaticTestSelection currentStaticSelection = SelectionJournalUtil.readStaticSelection(partFile);
+         LOG.debug("Size: {}", currentStaticSelection.getCommits().size());
+         return currentStaticSelection;
+      } catch (final IOException e) {
+         e.printStackTrace();
+         return null;
       }
-      return staticTestSelection;
    }
 
    public static StaticTestSelection mergeDependencies(final List<StaticTestSelection> staticTestSelections, CommitComparatorInstance comparator) {
@@ -117,10 +169,7 @@ public class PartialSelectionResultsMerger {
    public static ExecutionData mergeExecutiondata(final List<ExecutionData> executionData, CommitComparatorInstance comparator) {
       ExecutionData merged = new ExecutionData();
       for (ExecutionData data : executionData) {
-         if (merged.getUrl() == null && data.getUrl() != null) {
-            merged.setUrl(data.getUrl());
-         }
-         merged.getCommits().putAll(data.getCommits());
+         addExecutionData(merged, data);
       }
       merged.sort(comparator);
       return merged;
@@ -132,40 +181,47 @@ public class PartialSelectionResultsMerger {
       List<File> twiceExecutableOutFiles = new LinkedList<>();
       for (ResultsFolders resultFolder : outFiles) {
          if (resultFolder != null) {
-            if (resultFolder.getTraceTestSelectionFile().exists()) {
+            if (SelectionJournalUtil.exists(resultFolder.getTraceTestSelectionFile())) {
                executionOutFiles.add(resultFolder.getTraceTestSelectionFile());
             }
-            if (resultFolder.getCoverageSelectionFile() != null && resultFolder.getCoverageSelectionFile().exists()) {
+            if (resultFolder.getCoverageSelectionFile() != null && SelectionJournalUtil.exists(resultFolder.getCoverageSelectionFile())) {
                coverageSelectionOutFiles.add(resultFolder.getCoverageSelectionFile());
             }
-            if (resultFolder.getTwiceExecutableFile() != null && resultFolder.getTwiceExecutableFile().exists()) {
+            if (resultFolder.getTwiceExecutableFile() != null && SelectionJournalUtil.exists(resultFolder.getTwiceExecutableFile())) {
                twiceExecutableOutFiles.add(resultFolder.getTwiceExecutableFile());
             }
          }
       }
       ExecutionData mergedExecutions = mergeExecutionFiles(executionOutFiles, comparator);
-      Constants.OBJECTMAPPER.writeValue(mergedOut.getTraceTestSelectionFile(), mergedExecutions);
+      SelectionJournalUtil.writeSnapshot(mergedOut.getTraceTestSelectionFile(), mergedExecutions);
 
       if (coverageSelectionOutFiles.size() > 0) {
          ExecutionData mergedCoverage = mergeExecutionFiles(coverageSelectionOutFiles, comparator);
-         Constants.OBJECTMAPPER.writeValue(mergedOut.getCoverageSelectionFile(), mergedCoverage);
+         SelectionJournalUtil.writeSnapshot(mergedOut.getCoverageSelectionFile(), mergedCoverage);
       }
 
       if (twiceExecutableOutFiles.size() > 0) {
          ExecutionData mergedTwiceExecutable = mergeExecutionFiles(twiceExecutableOutFiles, comparator);
-         Constants.OBJECTMAPPER.writeValue(mergedOut.getTwiceExecutableFile(), mergedTwiceExecutable);
+         SelectionJournalUtil.writeSnapshot(mergedOut.getTwiceExecutableFile(), mergedTwiceExecutable);
       }
 
       return mergedExecutions;
    }
 
    private static ExecutionData mergeExecutionFiles(final List<File> executionOutFiles, CommitComparatorInstance comparator) throws IOException {
-      List<ExecutionData> executionData = new LinkedList<>();
+      ExecutionData merged = new ExecutionData();
       for (File file : executionOutFiles) {
-         ExecutionData currentData = Constants.OBJECTMAPPER.readValue(file, ExecutionData.class);
-         executionData.add(currentData);
+         ExecutionData currentData = SelectionJournalUtil.readExecutionData(file);
+         addExecutionData(merged, currentData);
       }
-      ExecutionData merged = mergeExecutiondata(executionData, comparator);
+      merged.sort(comparator);
       return merged;
    }
+
+   private static void addExecutionData(final ExecutionData merged, final ExecutionData data) {
+      if (merged.getUrl() == null && data.getUrl() != null) {
+         merged.setUrl(data.getUrl());
+      }
+      merged.getCommits().putAll(data.getCommits());
+   }
 }
@@ -0,0 +1,49 @@
+package de.dagere.peass.dependency.persistence;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import de.dagere.nodeDiffDetector.data.TestMethodCall;
+import de.dagere.nodeDiffDetector.data.Type;
+import de.dagere.nodeDiffDetector.data.serialization.MethodCallDeserializer;
+
+/**
+ * Persisted reverse index of the test dependencies after reading a commit, i.e. a map from called class to the calling tests and the methods of the class they call. It is
+ * written next to the static test selection, so continuing the selection can load the dependencies directly instead of replaying all commits.
+ *
+ * @author reichelt
+ *
+ */
+public class ChangeTestIndex {
+
+   private String commit;
+
+   @JsonDeserialize(keyUsing = MethodCallDeserializer.class)
+   private Map<Type, Map<TestMethodCall, Set<String>>> callers = new TreeMap<>();
+
+   public ChangeTestIndex() {
+   }
+
+   public ChangeTestIndex(final String commit) {
+      this.commit = commit;
+   }
+
+   public String getCommit() {
+      return commit;
+   }
+
+   public void setCommit(final String commit) {
+      this.commit = commit;
+   }
+
+   public Map<Type, Map<TestMethodCall, Set<String>>> getCallers() {
+      return callers;
+   }
+
+   public void setCallers(final Map<Type, Map<TestMethodCall, Set<String>>> callers) {
+      this.callers = callers;
+   }
+}
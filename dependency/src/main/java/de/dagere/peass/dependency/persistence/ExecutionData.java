@@ -123,4 +123,10 @@ public class ExecutionData extends SelectedTests {
       return commits.keySet().toArray(new String[0]);
    }
 
+   @Override
+   public String getPredecessor(final String commit) {
+      final TestSet tests = commits.get(commit);
+      return tests != null ? tests.getPredecessor() : null;
+   }
+
 }
\ No newline at end of file
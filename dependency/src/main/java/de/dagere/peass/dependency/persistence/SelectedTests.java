@@ -36,4 +36,9 @@ public abstract class SelectedTests {
    }
    
    public abstract String[] getCommitNames();
+
+   /**
+    * Returns the predecessor which has been used for the given commit, or null if it is unknown
+    */
+   public abstract String getPredecessor(String commit);
 }
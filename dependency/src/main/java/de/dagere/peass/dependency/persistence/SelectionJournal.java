@@ -0,0 +1,108 @@
+package de.dagere.peass.dependency.persistence;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import de.dagere.peass.utils.Constants;
+
+/**
+ * Append-only journal of the per-commit entries of a selection file (e.g. the {@link CommitStaticSelection} of a {@link StaticTestSelection}). Every entry is one JSON line
+ * containing the commit and its data, so adding a commit does not require rewriting the whole selection file. The journal is stored next to its snapshot file, i.e. the full
+ * selection file, and contains all entries that have been added since the snapshot has been written.
+ *
+ * @author reichelt
+ *
+ * @param <T> Type of the per-commit entries
+ */
+public class SelectionJournal<T> {
+
+   private static final Logger LOG = LogManager.getLogger(SelectionJournal.class);
+
+   private static final ObjectWriter LINE_WRITER = Constants.OBJECTMAPPER.writer().without(SerializationFeature.INDENT_OUTPUT);
+
+   public static final String JOURNAL_SUFFIX = ".journal";
+
+   private static final String COMMIT = "commit";
+   private static final String DATA = "data";
+
+   private final File journalFile;
+   private final Class<T> entryType;
+
+   public SelectionJournal(final File snapshotFile, final Class<T> entryType) {
+      this.journalFile = getJournalFile(snapshotFile);
+      this.entryType = entryType;
+   }
+
+   public static File getJournalFile(final File snapshotFile) {
+      return new File(snapshotFile.getParentFile(), snapshotFile.getName() + JOURNAL_SUFFIX);
+   }
+
+   public File getJournalFile() {
+      return journalFile;
+   }
+
+   public void append(final String commit, final T entry) throws IOException {
+      final ObjectNode line = Constants.OBJECTMAPPER.createObjectNode();
+      line.put(COMMIT, commit);
+      line.set(DATA, Constants.OBJECTMAPPER.valueToTree(entry));
+      try (BufferedWriter writer = Files.newBufferedWriter(journalFile.toPath(), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+         writer.write(LINE_WRITER.writeValueAsString(line));
+         writer.write('\n');
+      }
+   }
+
+   /**
+    * Reads the entries one by one in the order they have been appended, without loading the whole journal into memory. A damaged last line (e.g. if the process was killed while
+    * writing) is ignored.
+    */
+   public void forEachEntry(final BiConsumer<String, T> consumer) throws IOException {
+      if (!journalFile.exists()) {
+         return;
+      }
+      try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8)) {
+         String line;
+         while ((line = reader.readLine()) != null) {
+            if (!line.isBlank()) {
+               final JsonNode node;
+               try {
+                  node = Constants.OBJECTMAPPER.readTree(line);
+               } catch (JsonProcessingException e) {
+                  if (reader.readLine() == null) {
+                     LOG.warn("Ignoring incomplete last entry of {}", journalFile);
+                     return;
+                  }
+                  throw e;
+               }
+               consumer.accept(node.get(COMMIT).asText(), Constants.OBJECTMAPPER.treeToValue(node.get(DATA), entryType));
+            }
+         }
+      }
+   }
+
+   /**
+    * Adds all entries of the journal to the given commit map; entries of commits which are already contained replace the old entry.
+    */
+   public void applyTo(final Map<String, T> commits) throws IOException {
+      forEachEntry(commits::put);
+   }
+
+   public void clear() throws IOException {
+      Files.deleteIfExists(journalFile.toPath());
+   }
+}
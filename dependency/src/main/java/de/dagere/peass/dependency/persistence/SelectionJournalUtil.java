@@ -0,0 +1,98 @@
+package de.dagere.peass.dependency.persistence;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import de.dagere.peass.dependency.analysis.data.TestSet;
+import de.dagere.peass.dependency.traces.coverage.CoverageSelectionCommit;
+import de.dagere.peass.dependency.traces.coverage.CoverageSelectionInfo;
+import de.dagere.peass.utils.Constants;
+
+/**
+ * Reads and writes selection files together with their {@link SelectionJournal}: The snapshot file contains the full selection at the time it was written, and the journal
+ * contains the commits analyzed afterwards. Reading always returns the snapshot with all journal entries applied.
+ *
+ * @author reichelt
+ *
+ */
+public class SelectionJournalUtil {
+
+   private SelectionJournalUtil() {
+
+   }
+
+   public static StaticTestSelection readStaticSelection(final File snapshotFile) throws IOException {
+      final StaticTestSelection selection = snapshotFile.exists() ? Constants.OBJECTMAPPER.readValue(snapshotFile, StaticTestSelection.class) : new StaticTestSelection();
+      new SelectionJournal<>(snapshotFile, CommitStaticSelection.class).applyTo(selection.getCommits());
+      return selection;
+   }
+
+   public static ExecutionData readExecutionData(final File snapshotFile) throws IOException {
+      final ExecutionData executionData = snapshotFile.exists() ? Constants.OBJECTMAPPER.readValue(snapshotFile, ExecutionData.class) : new ExecutionData();
+      new SelectionJournal<>(snapshotFile, TestSet.class).applyTo(executionData.getCommits());
+      return executionData;
+   }
+
+   public static CoverageSelectionInfo readCoverageInfo(final File snapshotFile) throws IOException {
+      final CoverageSelectionInfo info = snapshotFile.exists() ? Constants.OBJECTMAPPER.readValue(snapshotFile, CoverageSelectionInfo.class) : new CoverageSelectionInfo();
+      new SelectionJournal<>(snapshotFile, CoverageSelectionCommit.class).applyTo(info.getCommits());
+      return info;
+   }
+
+   /**
+    * Returns whether the snapshot or the journal of the selection file exists
+    */
+   public static boolean exists(final File snapshotFile) {
+      return snapshotFile.exists() || SelectionJournal.getJournalFile(snapshotFile).exists();
+   }
+
+   /**
+    * Writes the full selection as new snapshot and removes the journal, since its entries are contained in the snapshot
+    */
+   public static void writeSnapshot(final File snapshotFile, final Object selection) throws IOException {
+      Constants.OBJECTMAPPER.writeValue(snapshotFile, selection);
+      Files.deleteIfExists(SelectionJournal.getJournalFile(snapshotFile).toPath());
+   }
+
+   /**
+    * Reads the initial commit of a static selection file without deserializing the commits, e.g. for sorting partial selection files before merging them
+    */
+   public static String readInitialCommitName(final File snapshotFile) throws IOException {
+      try (JsonParser parser = Constants.OBJECTMAPPER.getFactory().createParser(snapshotFile)) {
+         if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+         }
+         while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.getCurrentName();
+            final JsonToken value = parser.nextToken();
+            if (("initialcommit".equals(fieldName) || "initialversion".equals(fieldName)) && value == JsonToken.START_OBJECT) {
+               final String commit = readCommitField(parser);
+               if (commit != null) {
+                  return commit;
+               }
+            } else {
+               parser.skipChildren();
+            }
+         }
+      }
+      return null;
+   }
+
+   private static String readCommitField(final JsonParser parser) throws IOException {
+      String commit = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+         final String fieldName = parser.getCurrentName();
+         parser.nextToken();
+         if (("commit".equals(fieldName) || "version".equals(fieldName)) && commit == null) {
+            commit = parser.getValueAsString();
+         } else {
+            parser.skipChildren();
+         }
+      }
+      return commit;
+   }
+}
@@ -96,6 +96,12 @@ public class StaticTestSelection extends SelectedTests {
       return withStartcommit;
    }
 
+   @Override
+   public String getPredecessor(final String commit) {
+      final CommitStaticSelection commitSelection = commits.get(commit);
+      return commitSelection != null ? commitSelection.getPredecessor() : null;
+   }
+
    @JsonIgnore
    public String getNewestCommit() {
       final String[] commits = getCommitNames();
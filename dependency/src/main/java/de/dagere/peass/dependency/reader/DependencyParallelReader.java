@@ -3,6 +3,8 @@ package de.dagere.peass.dependency.reader;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -14,7 +16,9 @@ import org.apache.logging.log4j.Logger;
 import de.dagere.peass.config.ExecutionConfig;
 import de.dagere.peass.config.KiekerConfig;
 import de.dagere.peass.config.TestSelectionConfig;
+import de.dagere.peass.dependency.parallel.CommitSegment;
 import de.dagere.peass.dependency.parallel.OneReader;
+import de.dagere.peass.dependency.parallel.PartialSelectionResultsMerger;
 import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
 import de.dagere.peass.execution.utils.EnvironmentVariables;
 import de.dagere.peass.folders.PeassFolders;
@@ -23,16 +27,34 @@ import de.dagere.peass.vcs.CommitIterator;
 import de.dagere.peass.vcs.CommitIteratorGit;
 import de.dagere.peass.vcs.GitUtils;
 
+/**
+ * Reads the dependencies of a commit list in parallel. The commits are split into more segments than threads; every thread has its own copy of the project and takes the next
+ * unprocessed segment from a shared queue when it finished its current segment, so threads with fast segments help out instead of waiting for slow segments (e.g. with
+ * many non-compiling commits). Every segment is written to its own results folder, which are merged by {@link PartialSelectionResultsMerger}.
+ * 
+ * @author reichelt
+ *
+ */
 public class DependencyParallelReader {
    private static final Logger LOG = LogManager.getLogger(DependencyParallelReader.class);
 
+   /**
+    * Segments per thread; more segments balance the load better, but every segment requires one additional initial commit analysis.
+    */
+   public static final int SEGMENTS_PER_THREAD = 4;
+
+   /**
+    * Minimum count of commits per segment, so the initial commit analysis of each segment does not dominate the analysis time
+    */
+   public static final int MINIMUM_SEGMENT_SIZE = 3;
+
    private final TestSelectionConfig dependencyConfig;
    private final String url;
    private final CommitKeeper nonRunning;
    private final CommitKeeper nonChanges;
    private final CommitComparatorInstance comparator;
    private final PeassFolders folders;
-   private final int sizePerThread;
+   private final List<CommitSegment> segments;
    private final ResultsFolders[] outFolders;
    private final File tempResultFolder;
    private final String project;
@@ -61,14 +83,24 @@ public class DependencyParallelReader {
       nonRunning = new CommitKeeper(new File(tempResultFolder, "nonRunning_" + project + ".json"));
       nonChanges = new CommitKeeper(new File(tempResultFolder, "nonChanges_" + project + ".json"));
 
-      sizePerThread = commits.getCommits().size() > 2 * dependencyConfig.getThreads() ? commits.getCommits().size() / dependencyConfig.getThreads() : 2;
-      outFolders = commits.getCommits().size() > 2 * dependencyConfig.getThreads() ? new ResultsFolders[dependencyConfig.getThreads()] : new ResultsFolders[1];
+      segments = CommitSegment.split(commits.getCommits(), getSegmentCount(commits.getCommits().size(), dependencyConfig.getThreads()));
+      outFolders = new ResultsFolders[segments.size()];
+      for (CommitSegment segment : segments) {
+         final int readableIndex = segment.getIndex() + 1;
+         outFolders[segment.getIndex()] = new ResultsFolders(new File(tempResultFolder, "temp_" + project + "_" + readableIndex), project);
+      }
+
+      LOG.debug("Threads: {} Segments: {}", dependencyConfig.getThreads(), segments.size());
+   }
 
-      LOG.debug("Threads: {} Size per Thread: {} OutFile: {}", dependencyConfig.getThreads(), sizePerThread, outFolders.length);
+   static int getSegmentCount(final int commitCount, final int threads) {
+      final int maximumSegments = Math.max(1, threads) * SEGMENTS_PER_THREAD;
+      return Math.max(1, Math.min(maximumSegments, commitCount / MINIMUM_SEGMENT_SIZE));
    }
 
    public ResultsFolders[] readDependencies() throws InterruptedException, IOException {
-      final ExecutorService service = Executors.newFixedThreadPool(outFolders.length, new ThreadFactory() {
+      final int workerCount = Math.max(1, Math.min(dependencyConfig.getThreads(), segments.size()));
+      final ExecutorService service = Executors.newFixedThreadPool(workerCount, new ThreadFactory() {
 
          int threadcount = 0;
 
@@ -79,20 +111,26 @@ public class DependencyParallelReader {
          }
       });
 
-      startAllProcesses(service);
+      startAllWorkers(service, workerCount);
       service.shutdown();
       waitForAll(service);
 
       return outFolders;
    }
 
-   private void startAllProcesses(final ExecutorService service) throws IOException, InterruptedException {
-      for (int outfileIndex = 0; outfileIndex < outFolders.length; outfileIndex++) {
-         final int readableIndex = outfileIndex + 1;
-         outFolders[outfileIndex] = new ResultsFolders(new File(tempResultFolder, "temp_" + project + "_" + readableIndex), project);
-         PeassFolders foldersTemp = folders.getTempFolder("" + readableIndex, executionConfig.getGitCryptKey());
-         final ResultsFolders currentOutFile = outFolders[outfileIndex];
-         startPartProcess(currentOutFile, service, outfileIndex, foldersTemp);
+   private void startAllWorkers(final ExecutorService service, final int workerCount) throws IOException, InterruptedException {
+      final Queue<CommitSegment> openSegments = new ConcurrentLinkedQueue<>(segments);
+      for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+         final int readableIndex = workerIndex + 1;
+         final PeassFolders foldersTemp = folders.getTempFolder("" + readableIndex, executionConfig.getGitCryptKey());
+         service.submit(() -> {
+            CommitSegment segment;
+            while ((segment = openSegments.poll()) != null) {
+               LOG.info("Worker {} reading {}, remaining segments: {}", readableIndex, segment, openSegments.size());
+               readSegment(segment, foldersTemp);
+            }
+         });
+         Thread.sleep(5);
       }
    }
 
@@ -106,31 +144,22 @@ public class DependencyParallelReader {
       }
    }
 
-   public void startPartProcess(final ResultsFolders currentOutFolders, final ExecutorService service, final int outfileIndex, final PeassFolders foldersTemp)
-         throws InterruptedException {
-      final int min = outfileIndex * sizePerThread;
-      final int max = Math.min((outfileIndex + 1) * sizePerThread + 1, comparator.getCommits().size());
-      LOG.debug("Min: {} Max: {} Size: {}", min, max, comparator.getCommits().size());
-      final List<String> currentCommits = comparator.getCommits().subList(min, max);
-      final List<String> reserveCommits = comparator.getCommits().subList(max - 1, comparator.getCommits().size());
-      final String minimumCommit = comparator.getCommits().get(Math.min(max, comparator.getCommits().size() - 1));
-
-      if (currentCommits.size() > 0) {
-         processCommits(currentOutFolders, service, foldersTemp, currentCommits, reserveCommits, minimumCommit);
-      }
-   }
-
-   void processCommits(final ResultsFolders currentOutFolders, final ExecutorService service, final PeassFolders foldersTemp, final List<String> currentCommits,
-         final List<String> reserveCommits, final String minimumCommit) throws InterruptedException {
+   void readSegment(final CommitSegment segment, final PeassFolders foldersTemp) {
+      final List<String> currentCommits = segment.getCommits();
       LOG.debug("Start: {} End: {}", currentCommits.get(0), currentCommits.get(currentCommits.size() - 1));
       LOG.debug(currentCommits);
+      final ResultsFolders currentOutFolders = outFolders[segment.getIndex()];
       final CommitIterator iterator = new CommitIteratorGit(foldersTemp.getProjectFolder(), currentCommits, null);
-      RunningCommitFinder finder = new RunningCommitFinder(foldersTemp, nonRunning, iterator, executionConfig, env);
-      final DependencyReader reader = new DependencyReader(dependencyConfig, foldersTemp, currentOutFolders, url, iterator, nonChanges, executionConfig, kiekerConfig, env);
-      final CommitIteratorGit reserveIterator = new CommitIteratorGit(foldersTemp.getProjectFolder(), reserveCommits, null);
-      final Runnable current = new OneReader(minimumCommit, reserveIterator, reader, finder, comparator);
-      service.submit(current);
-      Thread.sleep(5);
+      final CommitIteratorGit reserveIterator = new CommitIteratorGit(foldersTemp.getProjectFolder(), segment.getReserveCommits(), null);
+      try {
+         RunningCommitFinder finder = new RunningCommitFinder(foldersTemp, nonRunning, iterator, executionConfig, env);
+         final DependencyReader reader = new DependencyReader(dependencyConfig, foldersTemp, currentOutFolders, url, iterator, nonChanges, executionConfig, kiekerConfig, env);
+         final OneReader current = new OneReader(segment.getMinimumCommit(), reserveIterator, reader, finder, comparator);
+         current.run();
+      } finally {
+         iterator.close();
+         reserveIterator.close();
+      }
    }
 
 }
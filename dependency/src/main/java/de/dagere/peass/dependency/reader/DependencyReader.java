@@ -14,11 +14,15 @@ import de.dagere.peass.config.TestSelectionConfig;
 import de.dagere.peass.dependency.ChangeManager;
 import de.dagere.peass.dependency.DependencyManager;
 import de.dagere.peass.dependency.analysis.data.TestSet;
+import de.dagere.peass.dependency.persistence.ChangeTestIndex;
 import de.dagere.peass.dependency.persistence.CommitStaticSelection;
 import de.dagere.peass.dependency.persistence.ExecutionData;
+import de.dagere.peass.dependency.persistence.SelectionJournal;
+import de.dagere.peass.dependency.persistence.SelectionJournalUtil;
 import de.dagere.peass.dependency.persistence.StaticTestSelection;
 import de.dagere.peass.dependency.reader.twiceExecution.TwiceExecutableChecker;
 import de.dagere.peass.dependency.traces.TraceFileMapping;
+import de.dagere.peass.dependency.traces.coverage.CoverageSelectionCommit;
 import de.dagere.peass.dependency.traces.coverage.CoverageSelectionExecutor;
 import de.dagere.peass.dependency.traces.coverage.CoverageSelectionInfo;
 import de.dagere.peass.dependency.traces.diff.DiffFileGenerator;
@@ -69,6 +73,13 @@ public class DependencyReader {
    private final DependencySizeRecorder sizeRecorder = new DependencySizeRecorder();
    private final TraceFileMapping traceFileMapping = new TraceFileMapping();
 
+   private SelectionJournal<CommitStaticSelection> staticSelectionJournal;
+   private SelectionJournal<TestSet> executionJournal;
+   private SelectionJournal<TestSet> coverageSelectionJournal;
+   private SelectionJournal<CoverageSelectionCommit> coverageInfoJournal;
+   private SelectionJournal<TestSet> twiceExecutableJournal;
+   private int commitsSinceSnapshot = 0;
+
    public DependencyReader(final TestSelectionConfig dependencyConfig, final PeassFolders folders,
          final ResultsFolders resultsFolders, final String url, final CommitIterator iterator,
          final ChangeManager changeManager, final ExecutionConfig executionConfig, final KiekerConfig kiekerConfig, final EnvironmentVariables env) {
@@ -101,6 +112,17 @@ public class DependencyReader {
       twiceExecutableSelected.setUrl(url);
    }
 
+   private void createJournals() {
+      if (staticSelectionJournal != null) {
+         return;
+      }
+      staticSelectionJournal = new SelectionJournal<>(resultsFolders.getStaticTestSelectionFile(), CommitStaticSelection.class);
+      executionJournal = new SelectionJournal<>(resultsFolders.getTraceTestSelectionFile(), TestSet.class);
+      coverageSelectionJournal = new SelectionJournal<>(resultsFolders.getCoverageSelectionFile(), TestSet.class);
+      coverageInfoJournal = new SelectionJournal<>(resultsFolders.getCoverageInfoFile(), CoverageSelectionCommit.class);
+      twiceExecutableJournal = new SelectionJournal<>(resultsFolders.getTwiceExecutableFile(), TestSet.class);
+   }
+
    /**
     * Starts reading dependencies
     * 
@@ -134,7 +156,7 @@ public class DependencyReader {
    }
 
    /**
-    * Reads the dependencies of the tests
+    * Reads the dependencies of the tests; afterwards, the iterator is closed (and only reacquires its resources if it is used again).
     */
    public boolean readDependencies() {
       try {
@@ -147,35 +169,77 @@ public class DependencyReader {
             iterator.goToNextCommit();
             readCommit();
          }
+         writeSnapshot();
 
          LOG.debug("Finished dependency-reading");
          return true;
       } catch (IOException | InterruptedException | ParseException e) {
          e.printStackTrace();
          return false;
+      } finally {
+         iterator.close();
       }
    }
 
    public void readCommit() throws IOException, InterruptedException, ParseException {
       final int tests = analyseCommit(changeManager);
-      GitCommitWriter.writeCurrentCommits(folders, iterator.getCommits(), resultsFolders);
-      DependencyReaderUtil.write(staticSelectionResult, resultsFolders.getStaticTestSelectionFile());
+      GitCommitWriter.writeCurrentCommits(folders, iterator, resultsFolders);
+      writeCommitResults(iterator.getCommitName());
+
+      sizeRecorder.addVersionSize(dependencyManager.getDependencyMap().size(), tests);
+
+      dependencyManager.getExecutor().deleteTemporaryFiles();
+      TooBigLogCleaner.cleanJSONFolder(folders);
+      TooBigLogCleaner.cleanTooBigLogs(folders, iterator.getCommitName());
+   }
+
+   /**
+    * Appends the results of the current commit to the journals and writes the full selection files every {@link TestSelectionConfig#getSnapshotInterval()} commits
+    */
+   private void writeCommitResults(final String commit) throws IOException {
+      createJournals();
+      appendIfPresent(staticSelectionJournal, commit, staticSelectionResult.getCommits().get(commit));
       if (testSelectionConfig.isGenerateTraces()) {
-         Constants.OBJECTMAPPER.writeValue(resultsFolders.getTraceTestSelectionFile(), executionResult);
+         appendIfPresent(executionJournal, commit, executionResult.getCommits().get(commit));
          if (testSelectionConfig.isGenerateCoverageSelection()) {
-            Constants.OBJECTMAPPER.writeValue(resultsFolders.getCoverageSelectionFile(), coverageBasedSelection);
-            Constants.OBJECTMAPPER.writeValue(resultsFolders.getCoverageInfoFile(), coverageSelectionInfo);
+            appendIfPresent(coverageSelectionJournal, commit, coverageBasedSelection.getCommits().get(commit));
+            appendIfPresent(coverageInfoJournal, commit, coverageSelectionInfo.getCommits().get(commit));
          }
          if (testSelectionConfig.isGenerateTwiceExecutability()) {
-            Constants.OBJECTMAPPER.writeValue(resultsFolders.getTwiceExecutableFile(), twiceExecutableSelected);
+            appendIfPresent(twiceExecutableJournal, commit, twiceExecutableSelected.getCommits().get(commit));
          }
       }
 
-      sizeRecorder.addVersionSize(dependencyManager.getDependencyMap().size(), tests);
+      commitsSinceSnapshot++;
+      if (commitsSinceSnapshot >= testSelectionConfig.getSnapshotInterval()) {
+         writeSnapshot();
+      }
+   }
 
-      dependencyManager.getExecutor().deleteTemporaryFiles();
-      TooBigLogCleaner.cleanJSONFolder(folders);
-      TooBigLogCleaner.cleanTooBigLogs(folders, iterator.getCommitName());
+   private static <T> void appendIfPresent(final SelectionJournal<T> journal, final String commit, final T entry) throws IOException {
+      if (entry != null) {
+         journal.append(commit, entry);
+      }
+   }
+
+   /**
+    * Writes the full selection files and the change test index, and removes the journals whose entries are contained in the files now.
+    */
+   public void writeSnapshot() throws IOException {
+      LOG.debug("Writing selection snapshot after {} journaled commits", commitsSinceSnapshot);
+      SelectionJournalUtil.writeSnapshot(resultsFolders.getStaticTestSelectionFile(), staticSelectionResult);
+      if (testSelectionConfig.isGenerateTraces()) {
+         SelectionJournalUtil.writeSnapshot(resultsFolders.getTraceTestSelectionFile(), executionResult);
+         if (testSelectionConfig.isGenerateCoverageSelection()) {
+            SelectionJournalUtil.writeSnapshot(resultsFolders.getCoverageSelectionFile(), coverageBasedSelection);
+            SelectionJournalUtil.writeSnapshot(resultsFolders.getCoverageInfoFile(), coverageSelectionInfo);
+         }
+         if (testSelectionConfig.isGenerateTwiceExecutability()) {
+            SelectionJournalUtil.writeSnapshot(resultsFolders.getTwiceExecutableFile(), twiceExecutableSelected);
+         }
+      }
+      writeChangeTestIndex();
+      commitsSinceSnapshot = 0;
    }
 
    /**
@@ -289,10 +353,12 @@ public class DependencyReader {
    }
 
    public void documentFailure(final String commit) {
-      if (dependencyManager.getExecutor().isAndroid()) {
+      if (dependencyManager.getExecutor().isAndroid() && !staticSelectionResult.isAndroid()) {
          staticSelectionResult.setAndroid(true);
          executionResult.setAndroid(true);
          coverageBasedSelection.setAndroid(true);
+         // The android flag is not part of the journal entries, so it is only persisted with the next snapshot
+         commitsSinceSnapshot = testSelectionConfig.getSnapshotInterval();
       }
       LOG.error("Commit not running");
       final CommitStaticSelection newCommitInfo = new CommitStaticSelection();
@@ -305,12 +371,12 @@ public class DependencyReader {
       staticChangeHandler = new StaticChangeHandler(folders, executionConfig, dependencyManager);
       InitialCommitReader initialVersionReader = new InitialCommitReader(staticSelectionResult, dependencyManager, iterator);
       if (initialVersionReader.readInitialCommit()) {
-         DependencyReaderUtil.write(staticSelectionResult, resultsFolders.getStaticTestSelectionFile());
          lastRunningVersion = iterator.getCommitName();
 
          if (testSelectionConfig.isGenerateTraces()) {
             generateInitialViews();
          }
+         writeSnapshot();
          dependencyManager.cleanResultFolder();
          return true;
       } else {
@@ -336,11 +402,32 @@ public class DependencyReader {
       staticSelectionResult.setInitialcommit(initialdependencies.getInitialcommit());
 
       InitialCommitReader initialCommitReader = new InitialCommitReader(initialdependencies, dependencyManager, iterator);
-      initialCommitReader.readCompletedCommits(comparator);
-      DependencyReaderUtil.write(staticSelectionResult, resultsFolders.getStaticTestSelectionFile());
+      initialCommitReader.readCompletedCommits(comparator, readChangeTestIndex());
+      try {
+         SelectionJournalUtil.writeSnapshot(resultsFolders.getStaticTestSelectionFile(), staticSelectionResult);
+      } catch (IOException e) {
+         e.printStackTrace();
+      }
       lastRunningVersion = iterator.getCommitName();
    }
 
+   private void writeChangeTestIndex() throws IOException {
+      final ChangeTestIndex index = dependencyManager.getDependencyMap().toIndex(iterator.getCommitName());
+      Constants.OBJECTMAPPER.writeValue(resultsFolders.getChangeTestIndexFile(), index);
+   }
+
+   private ChangeTestIndex readChangeTestIndex() {
+      final File indexFile = resultsFolders.getChangeTestIndexFile();
+      if (indexFile.exists()) {
+         try {
+            return Constants.OBJECTMAPPER.readValue(indexFile, ChangeTestIndex.class);
+         } catch (IOException e) {
+            LOG.error("Index {} could not be read, rebuilding dependencies from the commits", indexFile, e);
+         }
+      }
+      return null;
+   }
+
    public StaticTestSelection getDependencies() {
       return staticSelectionResult;
    }
@@ -19,6 +19,7 @@ import de.dagere.peass.dependency.DependencyManager;
 import de.dagere.peass.dependency.analysis.data.CalledMethods;
 import de.dagere.peass.dependency.analysis.data.TestDependencies;
 import de.dagere.peass.dependency.analysis.data.TestSet;
+import de.dagere.peass.dependency.persistence.ChangeTestIndex;
 import de.dagere.peass.dependency.persistence.CommitStaticSelection;
 import de.dagere.peass.dependency.persistence.InitialCallList;
 import de.dagere.peass.dependency.persistence.InitialCommit;
@@ -79,14 +80,25 @@ public class InitialCommitReader {
    }
    
    public void readCompletedCommits(CommitComparatorInstance comparator) {
+      readCompletedCommits(comparator, null);
+   }
+
+   /**
+    * Reads the dependencies of the completed commits; if the persisted index has been written at the start commit, the dependencies are loaded from it, and otherwise they are
+    * rebuilt by replaying the changes of all commits until the start commit.
+    */
+   public void readCompletedCommits(CommitComparatorInstance comparator, final ChangeTestIndex index) {
       fillInitialTestDependencies();
       checkCorrectness();
 
       final InitialCommit initialcommit = createInitialCommit();
       dependencyResult.setInitialcommit(initialcommit);
 
-      if (dependencyResult.getCommits().size() > 0) {
-         String startCommitName = iterator.getCommitName();
+      String startCommitName = iterator.getCommitName();
+      if (index != null && startCommitName.equals(index.getCommit())) {
+         LOG.debug("Loading dependencies from index of commit {}", startCommitName);
+         dependencyMap.loadIndex(index);
+      } else if (dependencyResult.getCommits().size() > 0) {
          for (final Map.Entry<String, CommitStaticSelection> commit : dependencyResult.getCommits().entrySet()) {
             String commitName = commit.getKey();
             LOG.debug("Adding {}", commitName);
@@ -130,15 +142,13 @@ public class InitialCommitReader {
    }
 
    private void addDependencies(final TestMethodCall testName , final MethodCall dependentClass) {
-      final Map<Type, Set<String>> testDependencies = dependencyMap.getOrAddDependenciesForTest(testName);
       final Type dependencyEntity = new Type(dependentClass.getClazz(), dependentClass.getModule());
-      Set<String> methods = testDependencies.get(dependencyEntity);
-      if (methods == null) {
-         methods = new HashSet<>();
-         testDependencies.put(dependencyEntity, methods);
-      }
+      final Set<String> methods = new HashSet<>();
       String method = dependentClass.getMethod() + dependentClass.getParameterString();
       methods.add(method);
+      final Map<Type, Set<String>> calledClasses = new HashMap<>();
+      calledClasses.put(dependencyEntity, methods);
+      dependencyMap.addDependencies(testName, calledClasses);
    }
    
    private void checkCorrectness() {
@@ -13,9 +13,7 @@ import de.dagere.kopeme.kopemedata.Kopemedata;
 import de.dagere.nodeDiffDetector.data.TestMethodCall;
 import de.dagere.peass.config.KiekerConfig;
 import de.dagere.peass.config.TestSelectionConfig;
-import de.dagere.peass.dependency.analysis.CalledMethodLoader;
 import de.dagere.peass.dependency.analysis.ModuleClassMapping;
-import de.dagere.peass.dependency.analysis.data.TraceElement;
 import de.dagere.peass.folders.PeassFolders;
 import de.dagere.peass.folders.ResultsFolders;
 import de.dagere.peass.utils.Constants;
@@ -87,28 +85,20 @@ public class OneTraceGenerator {
          final long sizeInMB = size / (1024 * 1024);
          overallSizeInMb += sizeInMB;
          LOG.debug("Filesize: {} ({})", sizeInMB, size);
-         if (sizeInMB < kiekerConfig.getTraceSizeInMb()) {
-            CalledMethodLoader calledMethodLoader = new CalledMethodLoader(kiekerResultFolder, moduleClassMapping, kiekerConfig);
-            final List<TraceElement> shortTrace = calledMethodLoader.getShortTrace("");
-            if (shortTrace != null) {
-               LOG.debug("Short Trace: {} Folder: {} Project: {}", shortTrace.size(), kiekerResultFolder.getAbsolutePath(), folders.getProjectFolder());
-               if (shortTrace.size() > 0) {
-                  traceMethodReader = new TraceMethodReader(shortTrace, classpathFolders.toArray(new File[0]));
-                  if (trace == null) {
-                     trace = traceMethodReader.getTraceWithMethods();
-                  } else {
-                     TraceWithMethods additionalTrace = traceMethodReader.getTraceWithMethods();
-                     trace.append(additionalTrace);
-                  }
-
-                  success = true;
-               } else {
-                  LOG.warn("Trace is empty! (Which is ok for first execution of a parameterized test.)");
-               }
+         TraceMethodReader folderReader = new TraceMethodReader(kiekerResultFolder, moduleClassMapping, kiekerConfig, classpathFolders.toArray(new File[0]));
+         LOG.debug("Short Trace: {} Folder: {} Project: {}", folderReader.getTraceLength(), kiekerResultFolder.getAbsolutePath(), folders.getProjectFolder());
+         if (folderReader.getTraceWithMethods() != null) {
+            traceMethodReader = folderReader;
+            if (trace == null) {
+               trace = traceMethodReader.getTraceWithMethods();
+            } else {
+               TraceWithMethods additionalTrace = traceMethodReader.getTraceWithMethods();
+               trace.append(additionalTrace);
             }
+
+            success = true;
          } else {
-            LOG.error("File size exceeds {} MB", kiekerConfig.getTraceSizeInMb());
-            FileUtils.deleteDirectory(kiekerResultFolder);
+            LOG.warn("Trace is empty! (Which is ok for first execution of a parameterized test.)");
          }
       }
       if (success) {
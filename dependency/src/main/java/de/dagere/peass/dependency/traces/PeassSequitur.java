@@ -1,20 +1,38 @@
 package de.dagere.peass.dependency.traces;
 
-import java.util.LinkedList;
 import java.util.List;
 
 import de.dagere.peass.dependency.analysis.data.TraceElement;
 import de.dagere.requitur.Sequitur;
 import de.dagere.requitur.Symbol;
 
+/**
+ * Sequitur grammar of a trace; elements can be added one by one while the trace is read, so the memory usage depends on the grammar size and not on the trace length.
+ * 
+ * @author reichelt
+ *
+ */
 public class PeassSequitur extends Sequitur {
+
+   private long traceLength = 0;
+
    public void addTraceElements(final List<TraceElement> calls2) {
-      addingElements = new LinkedList<>();
       for (final TraceElement element : calls2) {
-         final TraceElementContent content = new TraceElementContent(element);
-         addingElements.add(content);
-         final Symbol symbol = new Symbol(this, content);
-         addElement(symbol);
+         addTraceElement(element);
       }
    }
+
+   public void addTraceElement(final TraceElement element) {
+      final TraceElementContent content = new TraceElementContent(element);
+      final Symbol symbol = new Symbol(this, content);
+      addElement(symbol);
+      traceLength++;
+   }
+
+   /**
+    * Returns the count of elements which have been added, i.e. the length of the uncompressed trace
+    */
+   public long getTraceLength() {
+      return traceLength;
+   }
 }
@@ -0,0 +1,173 @@
+package de.dagere.peass.dependency.traces;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Content-addressed store of trace files. Every trace content is written once as blob, named by the hash of its (uncompressed) content and the ending of the trace file. The
+ * trace files in the view folders are hard links to the blobs, so all readers of trace files can stay unchanged; if the file system does not support hard links, the blob is
+ * copied.
+ *
+ * Blobs which are not referenced by any trace file anymore can be removed by {@link #collectGarbage(File)}. Since copies can not be identified as references, the garbage
+ * collection is skipped once a blob has been copied.
+ *
+ * @author reichelt
+ *
+ */
+public class TraceBlobStore {
+
+   public static final String BLOB_FOLDER_NAME = "blobs";
+
+   /**
+    * Marker file in the blob folder which is created if a blob had to be copied instead of linked
+    */
+   public static final String COPY_MARKER_NAME = "copied";
+
+   private static final Logger LOG = LogManager.getLogger(TraceBlobStore.class);
+
+   /**
+    * Writes the content of a blob to the given (temporary) file
+    */
+   public interface BlobWriter {
+      void write(File blobFile) throws IOException;
+   }
+
+   private final File blobFolder;
+
+   public TraceBlobStore(final File blobFolder) {
+      this.blobFolder = blobFolder;
+   }
+
+   public File getBlob(final String hash, final String ending) {
+      File hashFolder = new File(blobFolder, hash.substring(0, 2));
+      return new File(hashFolder, hash + ending);
+   }
+
+   /**
+    * Makes the trace file reference the blob with the given hash; the writer is only called if the blob does not exist yet.
+    */
+   public void store(final File traceFile, final String hash, final BlobWriter writer) throws IOException {
+      String ending = traceFile.getName().endsWith(TraceFileManager.ZIP_ENDING) ? TraceFileManager.ZIP_ENDING : TraceFileManager.TXT_ENDING;
+      File blob = getBlob(hash, ending);
+      if (!blob.exists()) {
+         writeBlob(blob, ending, writer);
+      } else {
+         LOG.debug("Reusing blob {} for {}", blob.getName(), traceFile);
+      }
+      link(blob, traceFile);
+   }
+
+   private void writeBlob(final File blob, final String ending, final BlobWriter writer) throws IOException {
+      blob.getParentFile().mkdirs();
+      File tempFile = File.createTempFile("tmp_", ending, blob.getParentFile());
+      try {
+         writer.write(tempFile);
+         Files.move(tempFile.toPath(), blob.toPath(), StandardCopyOption.ATOMIC_MOVE);
+      } catch (FileAlreadyExistsException e) {
+         LOG.debug("Blob {} has been written concurrently", blob);
+      } finally {
+         Files.deleteIfExists(tempFile.toPath());
+      }
+   }
+
+   private void link(final File blob, final File traceFile) throws IOException {
+      if (traceFile.exists() && !traceFile.delete()) {
+         throw new IOException("Could not replace " + traceFile);
+      }
+      try {
+         Files.createLink(traceFile.toPath(), blob.toPath());
+      } catch (UnsupportedOperationException | InvalidPathException | IOException e) {
+         LOG.debug("Hard link not possible ({}), copying blob to {}", e.getMessage(), traceFile);
+         markCopied();
+         try (InputStream input = new FileInputStream(blob); OutputStream output = new FileOutputStream(traceFile)) {
+            IOUtils.copy(input, output);
+         }
+      }
+   }
+
+   public void markCopied() throws IOException {
+      File marker = new File(blobFolder, COPY_MARKER_NAME);
+      if (!marker.exists()) {
+         blobFolder.mkdirs();
+         marker.createNewFile();
+      }
+   }
+
+   /**
+    * Deletes all blobs which are not referenced by any file in the given view folder (outside of the blob folder).
+    *
+    * @return Count of deleted blobs, or -1 if the file system does not allow to identify references or blobs have been copied
+    */
+   public int collectGarbage(final File viewFolder) throws IOException {
+      if (!blobFolder.exists()) {
+         return 0;
+      }
+      if (new File(blobFolder, COPY_MARKER_NAME).exists()) {
+         LOG.warn("Blobs have been copied instead of linked, references of blobs can not be identified");
+         return -1;
+      }
+      Set<Object> referencedKeys = new HashSet<>();
+      try {
+         for (File file : listFiles(viewFolder, blobFolder.getAbsoluteFile())) {
+            Object key = getFileKey(file);
+            if (key == null) {
+               LOG.warn("File system does not provide file keys, references of blobs can not be identified");
+               return -1;
+            }
+            referencedKeys.add(key);
+         }
+      } catch (InvalidPathException e) {
+         LOG.warn("File {} can not be accessed as path, references of blobs can not be identified", e.getInput());
+         return -1;
+      }
+
+      int deleted = 0;
+      for (File blob : listFiles(blobFolder, null)) {
+         if (!referencedKeys.contains(getFileKey(blob))) {
+            LOG.debug("Deleting unreferenced blob {}", blob);
+            Files.delete(blob.toPath());
+            deleted++;
+         }
+      }
+      LOG.info("Deleted {} unreferenced blobs", deleted);
+      return deleted;
+   }
+
+   private static Object getFileKey(final File file) throws IOException {
+      return Files.readAttributes(file.toPath(), BasicFileAttributes.class).fileKey();
+   }
+
+   private static List<File> listFiles(final File folder, final File excludedFolder) {
+      List<File> result = new LinkedList<>();
+      File[] children = folder.listFiles();
+      if (children != null) {
+         for (File child : children) {
+            if (child.isDirectory()) {
+               if (!child.getAbsoluteFile().equals(excludedFolder)) {
+                  result.addAll(listFiles(child, excludedFolder));
+               }
+            } else {
+               result.add(child);
+            }
+         }
+      }
+      return result;
+   }
+}
@@ -5,8 +5,10 @@ import java.io.FileFilter;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.apache.commons.io.filefilter.WildcardFileFilter;
 import org.apache.logging.log4j.LogManager;
@@ -25,13 +27,16 @@ import de.dagere.peass.config.KiekerConfig;
 import de.dagere.peass.dependency.analysis.CalledMethodLoader;
 import de.dagere.peass.dependency.analysis.ModuleClassMapping;
 import de.dagere.peass.dependency.analysis.data.TraceElement;
-import de.dagere.requitur.ContentTraceExpander;
+import de.dagere.peass.utils.ContentHashCache;
 import de.dagere.requitur.ReducedTraceElement;
+import de.dagere.requitur.Rule;
 import de.dagere.requitur.RunLengthEncodingSequitur;
 import de.dagere.requitur.content.Content;
+import de.dagere.requitur.content.RuleContent;
 
 /**
- * Reads the traces of kieker results and combines them with source information read by javaparser.
+ * Reads the traces of kieker results and combines them with source information read by javaparser. If the reader is created from a kieker folder, the trace is streamed into
+ * the sequitur grammar while reading, so the full trace is never kept in memory.
  * 
  * @author reichelt
  *
@@ -44,24 +49,38 @@ public class TraceMethodReader {
 
    private final File[] clazzFolder;
    
+   /**
+    * Commented and uncommented source of methods, by the content hash of their file and the method; an empty array marks methods which were not found
+    */
+   private static final ContentHashCache<String[]> METHOD_SOURCE_CACHE = new ContentHashCache<>(100000);
+   private static final ContentHashCache<List<String>> TYPE_CACHE = new ContentHashCache<>(20000);
+
    private TypeCache typeCache = new TypeCache();
+   private final Map<File, String> contentHashes = new HashMap<>();
    final TraceWithMethods trace;
    final PeassSequitur seq = new PeassSequitur();
 
    public TraceMethodReader(final List<TraceElement> calls, final File... clazzFolder) throws FileNotFoundException {
       this.clazzFolder = clazzFolder;
-      trace = loadTrace(calls);
+      seq.addTraceElements(calls);
+      trace = loadTrace();
    }
 
    public TraceMethodReader(final File traceFolder, final ModuleClassMapping mapping, final File... clazzFolder) throws FileNotFoundException {
-      List<TraceElement> calls = new CalledMethodLoader(traceFolder, mapping, new KiekerConfig()).getShortTrace(null);
+      this(traceFolder, mapping, new KiekerConfig(), clazzFolder);
+   }
+
+   /**
+    * Streams the trace from the kieker folder into the grammar; if the trace could not be read or is empty, {@link #getTraceWithMethods()} returns null.
+    */
+   public TraceMethodReader(final File traceFolder, final ModuleClassMapping mapping, final KiekerConfig kiekerConfig, final File... clazzFolder) throws FileNotFoundException {
       this.clazzFolder = clazzFolder;
-      trace = loadTrace(calls);
+      final long readElements = new CalledMethodLoader(traceFolder, mapping, kiekerConfig).readShortTrace("", seq::addTraceElement);
+      trace = readElements > 0 ? loadTrace() : null;
    }
 
-   private TraceWithMethods loadTrace(final List<TraceElement> calls) throws FileNotFoundException {
-      LOG.debug("Trace Length: {}", calls.size());
-      seq.addTraceElements(calls);
+   private TraceWithMethods loadTrace() throws FileNotFoundException {
+      LOG.debug("Trace Length: {}", seq.getTraceLength());
       final RunLengthEncodingSequitur runLengthEncodingSequitur = new RunLengthEncodingSequitur(seq);
       runLengthEncodingSequitur.reduce();
       final List<ReducedTraceElement> rleTrace = runLengthEncodingSequitur.getReadableRLETrace();
@@ -83,14 +102,11 @@ public class TraceMethodReader {
          }
 
          if (clazzFile != null) {
-            final Node method = typeCache.getMethod(clazzFile, te.toEntity()); 
-
-            if (method != null) {
-               final String commentedMethod = method.toString().replace("\r", "").intern();
-               trace.setElementSource(te, commentedMethod);
-               method.setComment(null);
-               final String noCommentMethod = method.toString().replace("\r", "").intern();
-               trace.setElementSourceNoComment(te, noCommentMethod);
+            final String[] methodSource = getMethodSource(clazzFile, te);
+
+            if (methodSource.length > 0) {
+               trace.setElementSource(te, methodSource[0]);
+               trace.setElementSourceNoComment(te, methodSource[1]);
             } else {
                LOG.debug("Not found: " + te);
 
@@ -103,13 +119,57 @@ public class TraceMethodReader {
       }
    }
 
+   private String[] getMethodSource(final File clazzFile, final TraceElementContent te) throws FileNotFoundException {
+      final String contentHash = getContentHash(clazzFile);
+      final String entity = te.toString();
+      String[] methodSource = METHOD_SOURCE_CACHE.get(contentHash, entity);
+      if (methodSource == null) {
+         final Node method = typeCache.getMethod(clazzFile, te.toEntity());
+         if (method != null) {
+            final String commentedMethod = method.toString().replace("\r", "").intern();
+            method.setComment(null);
+            final String noCommentMethod = method.toString().replace("\r", "").intern();
+            methodSource = new String[] { commentedMethod, noCommentMethod };
+         } else {
+            methodSource = new String[0];
+         }
+         METHOD_SOURCE_CACHE.put(contentHash, entity, methodSource);
+      }
+      return methodSource;
+   }
+
+   private List<String> getTypes(final File candidate) throws FileNotFoundException {
+      final String contentHash = getContentHash(candidate);
+      List<String> types = TYPE_CACHE.get(contentHash, null);
+      if (types == null) {
+         types = typeCache.getTypes(candidate);
+         TYPE_CACHE.put(contentHash, null, types);
+      }
+      return types;
+   }
+
+   private String getContentHash(final File file) throws FileNotFoundException {
+      String contentHash = contentHashes.get(file);
+      if (contentHash == null) {
+         try {
+            contentHash = ContentHashCache.getContentHash(file);
+         } catch (FileNotFoundException e) {
+            throw e;
+         } catch (IOException e) {
+            throw new RuntimeException(e);
+         }
+         contentHashes.put(file, contentHash);
+      }
+      return contentHash;
+   }
+
    public File findAlternativeClassfile(final TraceElementContent te, File clazzFile) throws FileNotFoundException {
       for (File clazzFolderCandidate : clazzFolder) {
          String packageName = te.getPackage().replaceAll("\\.", "/");
          File packageFolder = new File(clazzFolderCandidate, packageName);
          if (packageFolder.exists()) {
             for (File candidate : packageFolder.listFiles((FileFilter) new WildcardFileFilter("*.java"))) {
-               List<String> clazzes = typeCache.getTypes(candidate);
+               List<String> clazzes = getTypes(candidate);
                if (clazzes.contains(te.getPackagelessClazz())) {
                   clazzFile = candidate;
                }
@@ -122,7 +182,43 @@ public class TraceMethodReader {
    
 
    public List<Content> getExpandedTrace() {
-      return ContentTraceExpander.expandContentTrace(seq.getUncompressedTrace(), seq.getRules());
+      final List<Content> expandedTrace = new LinkedList<>();
+      forEachExpandedElement(expandedTrace::add);
+      return expandedTrace;
+   }
+
+   /**
+    * Passes the elements of the uncompressed trace in their order to the consumer without creating the uncompressed trace in memory.
+    */
+   public void forEachExpandedElement(final Consumer<Content> consumer) {
+      final Map<String, List<ReducedTraceElement>> ruleElements = new HashMap<>();
+      for (final Content content : seq.getUncompressedTrace()) {
+         if (content instanceof RuleContent) {
+            expandRule((RuleContent) content, ruleElements, consumer);
+         } else {
+            consumer.accept(content);
+         }
+      }
+   }
+
+   private void expandRule(final RuleContent ruleContent, final Map<String, List<ReducedTraceElement>> ruleElements, final Consumer<Content> consumer) {
+      final List<ReducedTraceElement> elements = ruleElements.computeIfAbsent(ruleContent.getValue(), name -> {
+         final Rule rule = seq.getRules().get(name);
+         return rule.getElements();
+      });
+      for (final ReducedTraceElement element : elements) {
+         for (int i = 0; i < element.getOccurences(); i++) {
+            if (element.getValue() instanceof RuleContent) {
+               expandRule((RuleContent) element.getValue(), ruleElements, consumer);
+            } else {
+               consumer.accept(element.getValue());
+            }
+         }
+      }
+   }
+
+   public long getTraceLength() {
+      return seq.getTraceLength();
    }
 
    public TraceWithMethods getTraceWithMethods() {
@@ -9,6 +9,7 @@ import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -21,6 +22,7 @@ import de.dagere.peass.dependency.traces.coverage.TraceCallSummary;
 import de.dagere.peass.dependency.traces.coverage.TraceSummaryTransformer;
 import de.dagere.peass.folders.ResultsFolders;
 import de.dagere.peass.utils.Constants;
+import de.dagere.peass.utils.HashUtil;
 import de.dagere.requitur.content.RuleContent;
 
 public class TraceWriter {
@@ -65,38 +67,61 @@ public class TraceWriter {
 
       traceFileMapping.addTraceFile(testcase, fileManager.getWholeTraceFile());
 
-      writeStringToFile(fileManager.getWholeTraceFile(), trace.getWholeTrace(), StandardCharsets.UTF_8);
-      writeStringToFile(fileManager.getNocommentTraceFile(), trace.getNocommentTrace(), StandardCharsets.UTF_8);
-      writeStringToFile(fileManager.getMethodTraceFile(), trace.getTraceMethods(), StandardCharsets.UTF_8);
+      final TraceBlobStore blobStore = new TraceBlobStore(resultsFolders.getTraceBlobFolder());
+      final String wholeTraceHash = storeTrace(blobStore, fileManager.getWholeTraceFile(), trace.getWholeTrace());
+      final String nocommentTraceHash = storeTrace(blobStore, fileManager.getNocommentTraceFile(), trace.getNocommentTrace());
+      final String methodTraceHash = storeTrace(blobStore, fileManager.getMethodTraceFile(), trace.getTraceMethods());
 
       if (sizeInMB < 5) {
-         writeExpandedTrace(traceMethodReader, fileManager);
+         final String expandedTraceHash = getExpandedTraceHash(traceMethodReader);
+         blobStore.store(fileManager.getMethodExpandedTraceFile(), expandedTraceHash, blobFile -> writeExpandedTrace(traceMethodReader, blobFile));
       } else {
          LOG.debug("Do not write expanded trace - size: {} MB", sizeInMB);
       }
       File summaryFile = new File(methodDir, shortVersion + OneTraceGenerator.SUMMARY + ".json");
-      TraceCallSummary traceSummary = TraceSummaryTransformer.transform(testcase, traceMethodReader.getExpandedTrace());
+      TraceCallSummary traceSummary = TraceSummaryTransformer.transform(testcase, traceMethodReader);
+      traceSummary.setTraceHash(wholeTraceHash);
+      traceSummary.setNocommentTraceHash(nocommentTraceHash);
+      traceSummary.setNocommentComparisonHash(HashUtil.hashIgnoringWhitespace(trace.getNocommentTrace()));
+      traceSummary.setMethodTraceHash(methodTraceHash);
       Constants.OBJECTMAPPER.writeValue(summaryFile, traceSummary);
       return fileManager.getMethodTraceFile();
    }
 
-   private void writeExpandedTrace(final TraceMethodReader traceMethodReader, TraceFileManager fileManager) throws IOException, FileNotFoundException {
-      try (ZipOutputStream zipStream = new ZipOutputStream(new FileOutputStream(fileManager.getMethodExpandedTraceFile()));
+   /**
+    * Writes the trace to the blob store, if it is not stored yet, and returns its hash
+    */
+   private String storeTrace(final TraceBlobStore blobStore, final File goalFile, final String trace) throws IOException {
+      final String hash = HashUtil.hash(trace);
+      blobStore.store(goalFile, hash, blobFile -> writeStringToFile(blobFile, trace, StandardCharsets.UTF_8));
+      return hash;
+   }
+
+   private String getExpandedTraceHash(final TraceMethodReader traceMethodReader) {
+      final MessageDigest digest = HashUtil.createDigest();
+      traceMethodReader.forEachExpandedElement(value -> {
+         if (!(value instanceof RuleContent)) {
+            digest.update(StandardCharsets.UTF_8.encode(value.toString()));
+         }
+      });
+      return HashUtil.toHex(digest.digest());
+   }
+
+   private void writeExpandedTrace(final TraceMethodReader traceMethodReader, final File expandedTraceFile) throws IOException, FileNotFoundException {
+      try (ZipOutputStream zipStream = new ZipOutputStream(new FileOutputStream(expandedTraceFile));
             WritableByteChannel channel = Channels.newChannel(zipStream)) {
          ZipEntry entry = new ZipEntry("trace.txt");
          zipStream.putNextEntry(entry);
-         traceMethodReader.getExpandedTrace()
-               .stream()
-               .filter(value -> !(value instanceof RuleContent))
-               .map(value -> value.toString())
-               .forEach(line -> {
-                  ByteBuffer bytebuffer = StandardCharsets.UTF_8.encode(line);
-                  try {
-                     channel.write(bytebuffer);
-                  } catch (IOException e) {
-                     e.printStackTrace();
-                  }
-               });
+         traceMethodReader.forEachExpandedElement(value -> {
+            if (!(value instanceof RuleContent)) {
+               ByteBuffer bytebuffer = StandardCharsets.UTF_8.encode(value.toString());
+               try {
+                  channel.write(bytebuffer);
+               } catch (IOException e) {
+                  e.printStackTrace();
+               }
+            }
+         });
       }
    }
 
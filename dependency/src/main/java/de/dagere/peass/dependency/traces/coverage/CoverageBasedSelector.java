@@ -1,161 +1,222 @@
 package de.dagere.peass.dependency.traces.coverage;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.TreeMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import de.dagere.nodeDiffDetector.data.MethodCall;
+import de.dagere.nodeDiffDetector.data.TestMethodCall;
 import de.dagere.nodeDiffDetector.data.Type;
 
+/**
+ * Greedily selects the test which calls the remaining changes most often, until all changes are covered. Changes are numbered once, and every test is transformed to a sparse
+ * vector of call counts per change and a bitset of covered changes. Since the score of a test can only decrease when changes are covered, scores are re-computed lazily: only
+ * the test with the highest (possibly outdated) score is updated, until the highest score is up to date.
+ *
+ * @author reichelt
+ *
+ */
 public class CoverageBasedSelector {
 
    private static final Logger LOG = LogManager.getLogger(CoverageBasedSelector.class);
 
-   public static CoverageSelectionCommit selectBasedOnCoverage(final List<TraceCallSummary> summaries, final Set<Type> changes) {
-      List<TraceCallSummary> copiedSummaries = new LinkedList<>(summaries);
-      Set<Type> copiedChanges = new HashSet<>(changes);
-      boolean changed = true;
-
-      CoverageSelectionCommit resultingInfo = new CoverageSelectionCommit();
-
-      LOG.debug("Searching CBS");
-      while (copiedSummaries.size() > 0 && copiedChanges.size() > 0 && changed) {
-         changed = false;
-
-         TraceCallSummary selected = selectMaximumCalled(copiedChanges, copiedSummaries);
-
-         LOG.debug("Selected: {}", selected);
-         if (selected != null) {
-            selected.setSelected(true);
-            resultingInfo.getTestcases().put(selected.getTestcase(), selected);
-
-            copiedSummaries.remove(selected);
-            for (Iterator<TraceCallSummary> iterator = copiedSummaries.iterator(); iterator.hasNext();) {
-               TraceCallSummary current = iterator.next();
-               if (current.getTestcase().equals(selected.getTestcase())) {
-                  iterator.remove();
+   /**
+    * Calls of one test to the changes, indexed by the number of the change
+    */
+   private static class Candidate {
+      private final int index;
+      private final TraceCallSummary summary;
+      private final int[] changeIds;
+      private final int[] callCounts;
+      private final List<List<String>> signatures;
+      private final BitSet coveredChanges = new BitSet();
+
+      private int score;
+      private int scoreRound;
+
+      Candidate(final int index, final TraceCallSummary summary, final Map<String, List<Integer>> methodChanges, final Map<String, List<Integer>> clazzChangePrefixes) {
+         this.index = index;
+         this.summary = summary;
+
+         final Map<Integer, Integer> changeCallCounts = new TreeMap<>();
+         final Map<Integer, List<String>> changeSignatures = new HashMap<>();
+         for (Map.Entry<String, Integer> callCount : summary.getCallCounts().entrySet()) {
+            final String signature = callCount.getKey();
+            final List<Integer> methodChangeIds = methodChanges.get(signature);
+            if (methodChangeIds != null) {
+               for (int changeId : methodChangeIds) {
+                  addCall(changeCallCounts, changeSignatures, changeId, signature, callCount.getValue());
+                  if (callCount.getValue() > 0) {
+                     coveredChanges.set(changeId);
+                  }
+               }
+            }
+            // The prefix needs to be used since otherwise inner classes are falsely selected (e.g. ChangedEntity de.Example would select de.Example$InnerClass#methodA)
+            for (int separator = signature.indexOf(MethodCall.METHOD_SEPARATOR); separator != -1; separator = signature.indexOf(MethodCall.METHOD_SEPARATOR, separator + 1)) {
+               final List<Integer> clazzChangeIds = clazzChangePrefixes.get(signature.substring(0, separator + MethodCall.METHOD_SEPARATOR.length()));
+               if (clazzChangeIds != null) {
+                  for (int changeId : clazzChangeIds) {
+                     addCall(changeCallCounts, changeSignatures, changeId, signature, callCount.getValue());
+                     coveredChanges.set(changeId);
+                  }
                }
             }
+         }
 
-            LOG.debug("Selected: {} with score {}", selected.getTestcase(), selected.getOverallScore());
-            changed = removeUnneededChanges(copiedChanges, changed, selected);
+         changeIds = new int[changeCallCounts.size()];
+         callCounts = new int[changeCallCounts.size()];
+         signatures = new ArrayList<>(changeCallCounts.size());
+         int position = 0;
+         for (Map.Entry<Integer, Integer> changeCallCount : changeCallCounts.entrySet()) {
+            changeIds[position] = changeCallCount.getKey();
+            callCounts[position] = changeCallCount.getValue();
+            signatures.add(changeSignatures.get(changeCallCount.getKey()));
+            position++;
          }
       }
-      LOG.debug("Remaining changes: {}", copiedChanges);
 
-      setRemainingCallSums(copiedChanges, copiedSummaries);
-      addNotSelectedSummaryInfos(copiedSummaries, resultingInfo);
+      private static void addCall(final Map<Integer, Integer> changeCallCounts, final Map<Integer, List<String>> changeSignatures, final int changeId,
+            final String signature, final int calls) {
+         changeCallCounts.merge(changeId, calls, Integer::sum);
+         changeSignatures.computeIfAbsent(changeId, id -> new LinkedList<>()).add(signature);
+      }
 
-      return resultingInfo;
-   }
+      int getCallSum(final BitSet remainingChanges) {
+         int callSum = 0;
+         for (int i = 0; i < changeIds.length; i++) {
+            if (remainingChanges.get(changeIds[i])) {
+               callSum += callCounts[i];
+            }
+         }
+         return callSum;
+      }
 
-   private static void setRemainingCallSums(final Set<Type> changes, final List<TraceCallSummary> copiedSummaries) {
-      for (TraceCallSummary summary : copiedSummaries) {
-         int callSum = getCallSum(changes, summary);
-         summary.setOverallScore(callSum);
+      void setSelectedChanges(final BitSet remainingChanges) {
+         summary.getSelectedChanges().clear();
+         for (int i = 0; i < changeIds.length; i++) {
+            if (remainingChanges.get(changeIds[i])) {
+               summary.getSelectedChanges().addAll(signatures.get(i));
+            }
+         }
       }
-   }
 
-   private static void addNotSelectedSummaryInfos(final List<TraceCallSummary> copiedSummaries, final CoverageSelectionCommit resultingInfo) {
-      for (TraceCallSummary leftSummary : copiedSummaries) {
-         LOG.debug("Adding unselected test: {} score: {}", leftSummary.getTestcase(), leftSummary.getOverallScore());
-         leftSummary.setSelected(false);
-         resultingInfo.getTestcases().put(leftSummary.getTestcase(), leftSummary);
+      /**
+       * Removes the changes called by this test from the remaining changes and returns whether any change was removed
+       */
+      boolean removeCoveredChanges(final BitSet remainingChanges) {
+         final boolean changed = coveredChanges.intersects(remainingChanges);
+         remainingChanges.andNot(coveredChanges);
+         return changed;
       }
    }
 
-   private static boolean removeUnneededChanges(final Set<Type> changes, boolean changed, final TraceCallSummary selected) {
-      for (Iterator<Type> changeIterator = changes.iterator(); changeIterator.hasNext();) {
-         Type change = changeIterator.next();
-         String currentChangeSignature = change.toString();
+   public static CoverageSelectionCommit selectBasedOnCoverage(final List<TraceCallSummary> summaries, final Set<Type> changes) {
+      final Map<String, List<Integer>> methodChanges = new HashMap<>();
+      final Map<String, List<Integer>> clazzChangePrefixes = new HashMap<>();
+      int changeId = 0;
+      for (Type change : changes) {
          if (change instanceof MethodCall) {
-            if (selected.getCallCounts().containsKey(currentChangeSignature) && selected.getCallCounts().get(currentChangeSignature) > 0) {
-               changeIterator.remove();
-               changed = true;
-            }
+            methodChanges.computeIfAbsent(change.toString(), signature -> new LinkedList<>()).add(changeId);
          } else {
-            boolean used = false;
-            for (Map.Entry<String, Integer> callCount : selected.getCallCounts().entrySet()) {
-               // The prefix needs to be used since otherwise inner classes are falsely selected (e.g. ChangedEntity de.Example would select de.Example$InnerClass#methodA)
-               String signaturePrefix = change.toString() + MethodCall.METHOD_SEPARATOR;
-               LOG.trace("Testing: {} vs {}" , signaturePrefix , callCount.getKey());
-               if (callCount.getKey().startsWith(signaturePrefix)) {
-                  used = true;
-               }
-            }
-            if (used) {
-               changeIterator.remove();
-               changed = true;
-            }
+            clazzChangePrefixes.computeIfAbsent(change.toString() + MethodCall.METHOD_SEPARATOR, signature -> new LinkedList<>()).add(changeId);
          }
+         changeId++;
+      }
+      final BitSet remainingChanges = new BitSet(changes.size());
+      remainingChanges.set(0, changes.size());
 
+      final List<Candidate> candidates = new ArrayList<>(summaries.size());
+      for (TraceCallSummary summary : summaries) {
+         candidates.add(new Candidate(candidates.size(), summary, methodChanges, clazzChangePrefixes));
       }
-      return changed;
-   }
 
-   private static TraceCallSummary selectMaximumCalled(final Set<Type> changes, final List<TraceCallSummary> copiedSummaries) {
-      TraceCallSummary selected = copiedSummaries.get(0);
-      int selectedCallSum = getCallSum(changes, selected);
-      selected.setOverallScore(selectedCallSum);
-      LOG.debug("Searching in {} summaries", copiedSummaries.size());
-      for (TraceCallSummary current : copiedSummaries) {
-         int currentCallSum = getCallSum(changes, current);
-         if (currentCallSum > selectedCallSum) {
-            selectedCallSum = currentCallSum;
-            selected = current;
-            selected.setOverallScore(currentCallSum);
+      CoverageSelectionCommit resultingInfo = new CoverageSelectionCommit();
+      Set<TestMethodCall> selectedTests = new HashSet<>();
+
+      LOG.debug("Searching CBS");
+      PriorityQueue<Candidate> queue = createQueue(candidates, remainingChanges);
+      int round = 0;
+      boolean changed = true;
+      while (!queue.isEmpty() && !remainingChanges.isEmpty() && changed) {
+         changed = false;
+
+         Candidate selected = selectMaximumCalled(queue, remainingChanges, round, selectedTests);
+
+         if (selected != null) {
+            TraceCallSummary summary = selected.summary;
+            summary.setSelected(true);
+            summary.setOverallScore(selected.score);
+            selected.setSelectedChanges(remainingChanges);
+            resultingInfo.getTestcases().put(summary.getTestcase(), summary);
+            selectedTests.add(summary.getTestcase());
+
+            LOG.debug("Selected: {} with score {}", summary.getTestcase(), summary.getOverallScore());
+            changed = selected.removeCoveredChanges(remainingChanges);
+            round++;
          }
       }
-      if (selectedCallSum > 0) {
-         return selected;
-      } else {
-         return null;
-      }
+      LOG.debug("Remaining changes: {}", remainingChanges.cardinality());
+
+      addNotSelectedSummaryInfos(candidates, selectedTests, remainingChanges, resultingInfo);
+
+      return resultingInfo;
    }
 
-   private static int getCallSum(final Set<Type> changes, final TraceCallSummary summary) {
-      summary.getSelectedChanges().clear();
-      int currentCallSum = 0;
-      LOG.debug("Changes: {} Test: {}", changes.size(), summary.getTestcase());
-      LOG.trace("Trace Callcounts: {}", summary.getCallCounts().keySet());
-      for (Type change : changes) {
-         String changeSignature = change.toString();
-         LOG.trace("Change signature: {}", changeSignature);
-         if (change instanceof MethodCall) {
-            currentCallSum = addExactCallCount(summary, currentCallSum, changeSignature);
-         } else {
-            currentCallSum = addClassbasedCallCount(summary, currentCallSum, changeSignature);
-         }
+   private static PriorityQueue<Candidate> createQueue(final List<Candidate> candidates, final BitSet remainingChanges) {
+      // Highest score first; for equal scores, the first test is selected
+      PriorityQueue<Candidate> queue = new PriorityQueue<>(Math.max(candidates.size(), 1),
+            Comparator.comparingInt((Candidate candidate) -> -candidate.score).thenComparingInt(candidate -> candidate.index));
+      for (Candidate candidate : candidates) {
+         candidate.score = candidate.getCallSum(remainingChanges);
+         candidate.scoreRound = 0;
+         queue.add(candidate);
       }
-      LOG.debug("Sum: " + currentCallSum);
-      return currentCallSum;
+      return queue;
    }
 
-   private static int addClassbasedCallCount(final TraceCallSummary summary, int currentCallSum, final String changeSignature) {
-      LOG.trace("Call counts: {}", summary.getCallCounts().size());
-      for (Map.Entry<String, Integer> callCount : summary.getCallCounts().entrySet()) {
-         // The prefix needs to be used since otherwise inner classes are falsely selected (e.g. ChangedEntity de.Example would select de.Example$InnerClass#methodA)
-         String signaturePrefix = changeSignature + MethodCall.METHOD_SEPARATOR;
-         LOG.trace("Testing: {} vs {}", signaturePrefix, callCount.getKey());
-         if (callCount.getKey().startsWith(signaturePrefix)) {
-            currentCallSum += callCount.getValue();
-            summary.getSelectedChanges().add(callCount.getKey());
+   /**
+    * Returns the first test with the maximum call sum of the remaining changes, or null if no test calls any remaining change. Scores of earlier rounds are upper bounds of the
+    * current scores, so a test whose score is up to date and at the head of the queue has the maximum score.
+    */
+   private static Candidate selectMaximumCalled(final PriorityQueue<Candidate> queue, final BitSet remainingChanges, final int round, final Set<TestMethodCall> selectedTests) {
+      LOG.debug("Searching in {} summaries", queue.size());
+      while (!queue.isEmpty()) {
+         Candidate head = queue.poll();
+         if (selectedTests.contains(head.summary.getTestcase())) {
+            continue;
+         }
+         if (head.scoreRound == round) {
+            return head.score > 0 ? head : null;
          }
+         head.score = head.getCallSum(remainingChanges);
+         head.scoreRound = round;
+         queue.add(head);
       }
-      return currentCallSum;
+      return null;
    }
 
-   private static int addExactCallCount(final TraceCallSummary summary, int currentCallSum, final String changeSignature) {
-      if (summary.getCallCounts().containsKey(changeSignature)) {
-         currentCallSum += summary.getCallCounts().get(changeSignature);
-         summary.getSelectedChanges().add(changeSignature);
+   private static void addNotSelectedSummaryInfos(final List<Candidate> candidates, final Set<TestMethodCall> selectedTests, final BitSet remainingChanges,
+         final CoverageSelectionCommit resultingInfo) {
+      for (Candidate candidate : candidates) {
+         TraceCallSummary leftSummary = candidate.summary;
+         if (!selectedTests.contains(leftSummary.getTestcase())) {
+            leftSummary.setOverallScore(candidate.getCallSum(remainingChanges));
+            candidate.setSelectedChanges(remainingChanges);
+            LOG.debug("Adding unselected test: {} score: {}", leftSummary.getTestcase(), leftSummary.getOverallScore());
+            leftSummary.setSelected(false);
+            resultingInfo.getTestcases().put(leftSummary.getTestcase(), leftSummary);
+         }
       }
-      return currentCallSum;
    }
 }
@@ -20,6 +20,10 @@ public class TraceCallSummary {
    private int overallScore;
    private boolean selected;
    private TestMethodCall testcase;
+   private String traceHash;
+   private String methodTraceHash;
+   private String nocommentTraceHash;
+   private String nocommentComparisonHash;
    private Map<String, Integer> callCounts = new HashMap<>();
    private Set<String> selectedChanges = new HashSet<>();
 
@@ -39,6 +43,45 @@ public class TraceCallSummary {
       this.testcase = testcase;
    }
 
+   /**
+    * Hash of the whole trace (with comments) as written to the trace file; null for traces written by old Peass versions.
+    */
+   public String getTraceHash() {
+      return traceHash;
+   }
+
+   public void setTraceHash(final String traceHash) {
+      this.traceHash = traceHash;
+   }
+
+   public String getMethodTraceHash() {
+      return methodTraceHash;
+   }
+
+   public void setMethodTraceHash(final String methodTraceHash) {
+      this.methodTraceHash = methodTraceHash;
+   }
+
+   public String getNocommentTraceHash() {
+      return nocommentTraceHash;
+   }
+
+   public void setNocommentTraceHash(final String nocommentTraceHash) {
+      this.nocommentTraceHash = nocommentTraceHash;
+   }
+
+   /**
+    * Hash of the trace without comments with all whitespace within the lines removed, which is used to decide whether the trace changed; null for traces written by old
+    * Peass versions.
+    */
+   public String getNocommentComparisonHash() {
+      return nocommentComparisonHash;
+   }
+
+   public void setNocommentComparisonHash(final String nocommentComparisonHash) {
+      this.nocommentComparisonHash = nocommentComparisonHash;
+   }
+
    public Map<String, Integer> getCallCounts() {
       return callCounts;
    }
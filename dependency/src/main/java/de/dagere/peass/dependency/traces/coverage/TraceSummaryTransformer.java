@@ -4,6 +4,7 @@ import java.util.List;
 
 import de.dagere.nodeDiffDetector.data.TestMethodCall;
 import de.dagere.peass.dependency.traces.TraceElementContent;
+import de.dagere.peass.dependency.traces.TraceMethodReader;
 import de.dagere.requitur.content.Content;
 
 public class TraceSummaryTransformer {
@@ -11,13 +12,27 @@ public class TraceSummaryTransformer {
       TraceCallSummary resultSummary = new TraceCallSummary();
       resultSummary.setTestcase(testcase);
       for (Content traceElement : expandedTrace) {
-         if (traceElement instanceof TraceElementContent) {
-            TraceElementContent traceElementContent = (TraceElementContent) traceElement;
-            resultSummary.addCall(traceElementContent.toString());
-         } else {
-            throw new RuntimeException("Adding unexpected trace element: " + traceElement.getClass());
-         }
+         addCall(resultSummary, traceElement);
       }
       return resultSummary;
    }
+
+   /**
+    * Creates the summary while expanding the compressed trace of the reader, without keeping the expanded trace in memory
+    */
+   public static TraceCallSummary transform(final TestMethodCall testcase, final TraceMethodReader traceMethodReader) {
+      TraceCallSummary resultSummary = new TraceCallSummary();
+      resultSummary.setTestcase(testcase);
+      traceMethodReader.forEachExpandedElement(traceElement -> addCall(resultSummary, traceElement));
+      return resultSummary;
+   }
+
+   private static void addCall(final TraceCallSummary resultSummary, final Content traceElement) {
+      if (traceElement instanceof TraceElementContent) {
+         TraceElementContent traceElementContent = (TraceElementContent) traceElement;
+         resultSummary.addCall(traceElementContent.toString());
+      } else {
+         throw new RuntimeException("Adding unexpected trace element: " + traceElement.getClass());
+      }
+   }
 }
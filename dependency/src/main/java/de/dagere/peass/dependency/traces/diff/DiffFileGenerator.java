@@ -8,12 +8,16 @@ import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import de.dagere.nodeDiffDetector.data.TestMethodCall;
 import de.dagere.peass.dependency.persistence.CommitStaticSelection;
 import de.dagere.peass.dependency.persistence.ExecutionData;
 import de.dagere.peass.dependency.traces.OneTraceGenerator;
 import de.dagere.peass.dependency.traces.TraceFileManager;
 import de.dagere.peass.dependency.traces.TraceFileMapping;
+import de.dagere.peass.utils.Constants;
 
 public class DiffFileGenerator {
 
@@ -57,8 +61,14 @@ public class DiffFileGenerator {
                newFile = new File(secondName + OneTraceGenerator.NOCOMMENT + TraceFileManager.ZIP_ENDING);
             }
 
+            final String oldHash = readNocommentComparisonHash(firstName);
+            final String newHash = readNocommentComparisonHash(secondName);
+
             final boolean isDifferent;
-            if (unixDiffAvailable) {
+            if (oldHash != null && newHash != null) {
+               LOG.debug("Comparing trace hashes {} and {}", oldHash, newHash);
+               isDifferent = !oldHash.equals(newHash);
+            } else if (unixDiffAvailable) {
                File oldFileUnzipped = eventuallUnzip(oldFile);
                File newFileUnzipped = eventuallUnzip(newFile);
                isDifferent = DiffUtilUnix.isDifferentDiff(oldFileUnzipped, newFileUnzipped);
@@ -84,6 +94,31 @@ public class DiffFileGenerator {
       }
    }
 
+   /**
+    * Reads the whitespace-insensitive hash of the nocomment trace from the summary of the trace without reading the call counts; returns null if the summary or the hash does
+    * not exist (which is the case for traces of old Peass versions).
+    */
+   private String readNocommentComparisonHash(final String traceName) throws IOException {
+      File summaryFile = new File(traceName + OneTraceGenerator.SUMMARY + ".json");
+      if (!summaryFile.exists()) {
+         return null;
+      }
+      try (JsonParser parser = Constants.OBJECTMAPPER.getFactory().createParser(summaryFile)) {
+         if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+         }
+         while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("nocommentComparisonHash".equals(fieldName)) {
+               return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+            }
+            parser.skipChildren();
+         }
+      }
+      return null;
+   }
+
    private void eventuallDeleteUnzipped(File oldFile, File newFile, File oldFileUnzipped, File newFileUnzipped) {
       if (oldFile.getName().endsWith(TraceFileManager.ZIP_ENDING)) {
          oldFileUnzipped.delete();
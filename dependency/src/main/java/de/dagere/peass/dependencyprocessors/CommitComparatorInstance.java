@@ -1,37 +1,76 @@
 package de.dagere.peass.dependencyprocessors;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import de.dagere.peass.dependency.persistence.SelectedTests;
 
+/**
+ * Orders commits by their position in the commit history. The position of every commit is indexed, so comparisons take constant time even for long histories. If the
+ * parents of the commits are known (e.g. from the predecessors saved in the test selection), {@link #getPreviousVersion(String)} returns the first parent instead of the
+ * commit before in the history.
+ */
 public class CommitComparatorInstance implements Comparator<String> {
-   
+
    public static final String NO_BEFORE = "NO_BEFORE";
-   
+
    private final List<String> commits;
+   private final Map<String, Integer> commitIndex;
+   private final Map<String, List<String>> parents;
 
    public CommitComparatorInstance(List<String> commits) {
-      this.commits = commits;
+      this(commits, new HashMap<>());
+   }
+
+   /**
+    * Creates a comparator for the given commits
+    *
+    * @param commits Commits in ascending order
+    * @param parents Parents of the commits; may be empty if the parents are unknown
+    */
+   public CommitComparatorInstance(final List<String> commits, final Map<String, List<String>> parents) {
+      this.commits = Collections.unmodifiableList(new ArrayList<>(commits));
+      this.commitIndex = createIndex(this.commits);
+      this.parents = parents;
    }
-   
+
    public CommitComparatorInstance(final SelectedTests dependencies2) {
-      commits = new LinkedList<>();
-      Arrays.stream(dependencies2.getCommitNames()).forEach(commit -> commits.add(commit));
+      final String[] commitNames = dependencies2.getCommitNames();
+      final List<String> commitList = new ArrayList<>(commitNames.length);
+      parents = new HashMap<>();
+      for (String commit : commitNames) {
+         commitList.add(commit);
+         final String predecessor = dependencies2.getPredecessor(commit);
+         if (predecessor != null) {
+            parents.put(commit, Collections.singletonList(predecessor));
+         }
+      }
+      commits = Collections.unmodifiableList(commitList);
+      commitIndex = createIndex(commits);
+   }
+
+   private static Map<String, Integer> createIndex(final List<String> commits) {
+      final Map<String, Integer> index = new HashMap<>();
+      for (int i = 0; i < commits.size(); i++) {
+         index.putIfAbsent(commits.get(i), i);
+      }
+      return index;
    }
 
    @Override
    public int compare(String commit1, String commit2) {
-      final int indexOf = commits.indexOf(commit1);
-      final int indexOf2 = commits.indexOf(commit2);
+      final int indexOf = getVersionIndex(commit1);
+      final int indexOf2 = getVersionIndex(commit2);
       return indexOf - indexOf2;
    }
-   
+
    public boolean isBefore(final String commit1, final String commit2) {
-      final int indexOf = commits.indexOf(commit1);
-      final int indexOf2 = commits.indexOf(commit2);
+      final int indexOf = getVersionIndex(commit1);
+      final int indexOf2 = getVersionIndex(commit2);
       return indexOf < indexOf2;
    }
 
@@ -39,12 +78,23 @@ public class CommitComparatorInstance implements Comparator<String> {
       return commits;
    }
 
+   /**
+    * Returns the index of the commit in the history, or -1 if the commit is not contained
+    */
    public int getVersionIndex(String commit) {
-      return commits.indexOf(commit);
+      final Integer index = commitIndex.get(commit);
+      return index != null ? index : -1;
    }
 
+   /**
+    * Returns the first parent of the commit if it is known, and the commit before the given commit in the history otherwise
+    */
    public String getPreviousVersion(final String commit) {
-      final int index = commits.indexOf(commit);
+      final List<String> commitParents = parents.get(commit);
+      if (commitParents != null && !commitParents.isEmpty()) {
+         return commitParents.get(0);
+      }
+      final int index = getVersionIndex(commit);
       return index > 0 ? commits.get(index - 1) : NO_BEFORE;
    }
 }
@@ -24,6 +24,16 @@ public class ArgLineBuilder {
 
    public static final String JAVA_AGENT = "-javaagent";
 
+   /**
+    * Name of the flight recording that is written to the temporary folder of the test JVM if sampling is used
+    */
+   public static final String SAMPLING_RECORDING_NAME = "peass-sampling.jfr";
+   private static final String FLIGHT_RECORDING = "-XX:StartFlightRecording=settings=profile,dumponexit=true,filename=";
+   /**
+    * The default stack depth of 64 would cut off the test method from deep stacks
+    */
+   private static final String FLIGHT_RECORDER_STACK_DEPTH = "-XX:FlightRecorderOptions=stackdepth=2048";
+
    public static final String RELATIVE_MAVEN_FOLDER = ".m2" + File.separator + "repository" + File.separator + "net" + File.separator
          + "kieker-monitoring" + File.separator + "kieker" + File.separator + MavenPomUtil.KIEKER_VERSION + File.separator + "kieker-"
          + MavenPomUtil.KIEKER_VERSION + "-aspectj.jar";
@@ -69,9 +79,20 @@ public class ArgLineBuilder {
                   + MONITORING_PROPERTIES_PATH + "'";
          }
       }
+      if (testTransformer.getConfig().isUseSampling()) {
+         if (!argline.isEmpty() && !argline.endsWith(entrySeparator)) {
+            argline += entrySeparator;
+         }
+         argline += String.join(entrySeparator, getSamplingArguments(tempFolder));
+      }
       return argline;
    }
 
+   private String[] getSamplingArguments(final File tempFolder) {
+      final String recordingPath = new File(tempFolder, SAMPLING_RECORDING_NAME).getAbsolutePath().replace('\\', '/');
+      return new String[] { FLIGHT_RECORDER_STACK_DEPTH, FLIGHT_RECORDING + recordingPath };
+   }
+
    private String getTieredCompilationArglinePart(final String entrySeparator) {
       String argline;
       if (testTransformer.getConfig().getExecutionConfig().isUseTieredCompilation()) {
@@ -84,6 +105,9 @@ public class ArgLineBuilder {
 
    public String buildSystemPropertiesGradle(final File tempFolder) {
       // final String argline = buildGenericArgline(tempFolder, ":", "\",\"", KIEKER_ARG_LINE_GRADLE);
+      final String samplingLine = testTransformer.getConfig().isUseSampling()
+            ? "  jvmArgs \"" + String.join("\", \"", getSamplingArguments(tempFolder)) + "\"" + System.lineSeparator()
+            : "";
       if (testTransformer.getConfig().getKiekerConfig().isUseKieker()) {
          String tempPathNoEscapes = tempFolder.getAbsolutePath().replace('\\', '/');
          String systemProperties = "  systemProperty \"" + TEMP_DIR_PURE + "\", \"" + tempPathNoEscapes + "\"" + System.lineSeparator();
@@ -92,9 +116,9 @@ public class ArgLineBuilder {
 
          LOG.debug("Created gradle properties: {}", systemProperties);
 
-         return systemProperties;
+         return systemProperties + samplingLine;
       } else {
-         return "";
+         return samplingLine;
       }
    }
 
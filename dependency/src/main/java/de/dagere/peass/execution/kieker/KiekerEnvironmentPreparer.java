@@ -34,6 +34,7 @@ public class KiekerEnvironmentPreparer {
    private final PeassFolders folders;
    private final TestTransformer testTransformer;
    private List<File> modules;
+   private Set<String> activatedMethodPattern;
 
    public KiekerEnvironmentPreparer(final Set<String> includedMethodPattern, final List<String> existingClasses, final PeassFolders folders, final TestTransformer testTransformer,
          final List<File> modules) {
@@ -44,6 +45,13 @@ public class KiekerEnvironmentPreparer {
       this.modules = modules;
    }
 
+   /**
+    * Sets the methods that should be activated by the adaptive monitoring; if they are not set, all included methods are activated.
+    */
+   public void setActivatedMethodPattern(final Set<String> activatedMethodPattern) {
+      this.activatedMethodPattern = activatedMethodPattern;
+   }
+
    public void prepareKieker() {
       final MeasurementConfig config = testTransformer.getConfig();
       KiekerConfig kiekerConfig = config.getKiekerConfig();
@@ -162,14 +170,19 @@ public class KiekerEnvironmentPreparer {
       writeConfig();
    }
 
-   private void writeConfig() throws IOException {
+   /**
+    * Writes the adaptive monitoring configuration, which deactivates all methods except the activated ones. Since this does not change the instrumentation, it is sufficient
+    * to change the measured methods of an already prepared build.
+    */
+   public void writeConfig() throws IOException {
       final File configFolder = new File(folders.getProjectFolder(), "config");
       configFolder.mkdir();
 
+      final Set<String> activatedMethods = activatedMethodPattern != null ? activatedMethodPattern : includedMethodPattern;
       final File adaptiveFile = new File(folders.getProjectFolder(), MavenTestExecutor.KIEKER_ADAPTIVE_FILENAME);
       try (BufferedWriter writer = new BufferedWriter(new FileWriter(adaptiveFile))) {
          writer.write("- *\n");
-         for (final String includedMethod : includedMethodPattern) {
+         for (final String includedMethod : activatedMethods) {
             writer.write("+ " + includedMethod + "\n");
          }
 
@@ -31,7 +31,7 @@ public class ProcessBuilderHelper {
 
    public Process buildFolderProcess(final File currentFolder, final File logFile, final String[] vars) {
       String[] envPropertyArray = env.getProperties().length() > 0 ? env.getProperties().split(" ") : new String[0];
-      final String[] varsWithProperties = CommandConcatenator.concatenateCommandArrays(vars, envPropertyArray);
+      final String[] varsWithProperties = pinToCpuSet(CommandConcatenator.concatenateCommandArrays(vars, envPropertyArray));
       LOG.debug("Command: {}", Arrays.toString(varsWithProperties));
 
       final ProcessBuilder pb = new ProcessBuilder(varsWithProperties);
@@ -56,6 +56,18 @@ public class ProcessBuilderHelper {
       }
    }
 
+   /**
+    * If a CPU set is defined and we are on Linux, the process is started via taskset, so it and all of its child processes only run on the given cores
+    */
+   String[] pinToCpuSet(final String[] command) {
+      if (env.getCpuSet() != null && EnvironmentVariables.isLinux()) {
+         final String[] taskset = new String[] { "taskset", "-c", env.getCpuSet() };
+         return CommandConcatenator.concatenateCommandArrays(taskset, command);
+      } else {
+         return command;
+      }
+   }
+
    private void overwriteEnvVars(final ProcessBuilder pb) {
       LOG.debug("KOPEME_HOME={}", folders.getTempMeasurementFolder().getAbsolutePath());
       pb.environment().put("KOPEME_HOME", folders.getTempMeasurementFolder().getAbsolutePath());
@@ -13,6 +13,8 @@ public class EnvironmentVariables implements Serializable {
 
    private final String properties;
 
+   private String cpuSet;
+
    public EnvironmentVariables(final String properties) {
       if (properties != null) {
          this.properties = properties;
@@ -25,6 +27,12 @@ public class EnvironmentVariables implements Serializable {
       properties = "";
    }
 
+   public EnvironmentVariables(final EnvironmentVariables other) {
+      this.properties = other.properties;
+      this.environmentVariables.putAll(other.environmentVariables);
+      this.cpuSet = other.cpuSet;
+   }
+
    public Map<String, String> getEnvironmentVariables() {
       return environmentVariables;
    }
@@ -33,6 +41,17 @@ public class EnvironmentVariables implements Serializable {
       return properties;
    }
 
+   /**
+    * Returns the CPU list (in the format of taskset, e.g. 0-3,8) the child processes should be pinned to, or null if they may run on all cores
+    */
+   public String getCpuSet() {
+      return cpuSet;
+   }
+
+   public void setCpuSet(final String cpuSet) {
+      this.cpuSet = cpuSet;
+   }
+
    public String fetchMavenCall(File projectFolder) {
       if (projectFolder != null) {
          if (!isWindows()) {
@@ -63,9 +63,13 @@ public abstract class KoPeMeExecutor extends TestExecutor {
             instrumenter.instrument(fileToInstrument);
          }
          
-         LOG.info("Cleaning...");
-         final File cleanFile = getCleanLogFile(logFolder, test);
-         clean(cleanFile);
+         if (!buildPrepared) {
+            LOG.info("Cleaning...");
+            final File cleanFile = getCleanLogFile(logFolder, test);
+            clean(cleanFile);
+         } else {
+            LOG.info("Reusing prepared build, not cleaning");
+         }
 
          final File methodLogFile = getMethodLogFile(logFolder, test);
          runTest(moduleFolder, methodLogFile, test, test.getClazz(), timeout);
@@ -0,0 +1,93 @@
+package de.dagere.peass.execution.utils;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.utils.Constants;
+import de.dagere.peass.utils.HashUtil;
+import de.dagere.peass.vcs.GitUtils;
+
+/**
+ * Remembers which project folders have already been prepared (cleaned, transformed, instrumented and compiled) for which build, so further VMs of the same commit can skip the
+ * preparation and directly start the measurement. A build is identified by the commit, the transformer configuration, the included Kieker patterns and the JDK; a folder is only
+ * reused if its working tree did not change since the last VM. The methods activated by adaptive monitoring are not part of the build, so they can change between
+ * VMs of the same build.
+ *
+ * @author reichelt
+ *
+ */
+public class PreparedBuildCache {
+
+   private static final Logger LOG = LogManager.getLogger(PreparedBuildCache.class);
+
+   private static class PreparedBuild {
+      private final String buildKey;
+      private final String fingerprint;
+
+      public PreparedBuild(final String buildKey, final String fingerprint) {
+         this.buildKey = buildKey;
+         this.fingerprint = fingerprint;
+      }
+   }
+
+   private final Map<File, PreparedBuild> preparedBuilds = new HashMap<>();
+
+   public static String getBuildKey(final String commit, final TestExecutor executor) {
+      final MeasurementConfig config = executor.getTestTransformer().getConfig();
+      try {
+         final StringBuilder key = new StringBuilder();
+         key.append(commit).append('\n');
+         key.append(Constants.OBJECTMAPPER.writeValueAsString(config)).append('\n');
+         if (executor.includedMethodPattern != null) {
+            key.append(new TreeSet<>(executor.includedMethodPattern)).append('\n');
+         }
+         key.append(executor.getJDKVersion()).append(' ').append(System.getenv("JAVA_HOME")).append(' ');
+         key.append(executor.getEnv().getEnvironmentVariables().get("JAVA_HOME"));
+         return HashUtil.hash(key.toString());
+      } catch (JsonProcessingException e) {
+         throw new RuntimeException(e);
+      }
+   }
+
+   /**
+    * Checks whether the given project folder still contains the prepared build with the given key
+    */
+   public synchronized boolean isPrepared(final File projectFolder, final String buildKey) {
+      final PreparedBuild build = preparedBuilds.get(projectFolder.getAbsoluteFile());
+      if (build == null || !build.buildKey.equals(buildKey)) {
+         return false;
+      }
+      final String currentFingerprint = GitUtils.getWorkingTreeFingerprint(projectFolder);
+      if (!build.fingerprint.equals(currentFingerprint)) {
+         LOG.info("Working tree of {} changed since last preparation, preparing again", projectFolder);
+         preparedBuilds.remove(projectFolder.getAbsoluteFile());
+         return false;
+      }
+      return true;
+   }
+
+   /**
+    * Marks the current state of the project folder as prepared build with the given key; needs to be called after the VM has finished, since the fingerprint of the working tree
+    * is recorded.
+    */
+   public synchronized void markPrepared(final File projectFolder, final String buildKey) {
+      final String fingerprint = GitUtils.getWorkingTreeFingerprint(projectFolder);
+      if (fingerprint != null) {
+         preparedBuilds.put(projectFolder.getAbsoluteFile(), new PreparedBuild(buildKey, fingerprint));
+      } else {
+         preparedBuilds.remove(projectFolder.getAbsoluteFile());
+      }
+   }
+
+   public synchronized void invalidate(final File projectFolder) {
+      preparedBuilds.remove(projectFolder.getAbsoluteFile());
+   }
+}
@@ -19,6 +19,7 @@ import de.dagere.nodeDiffDetector.data.TestCase;
 import de.dagere.nodeDiffDetector.data.TestMethodCall;
 import de.dagere.nodeDiffDetector.typeFinding.TypeFileFinder;
 import de.dagere.peass.config.ExecutionConfig;
+import de.dagere.peass.config.KiekerConfig;
 import de.dagere.peass.dependency.analysis.ModuleClassMapping;
 import de.dagere.peass.execution.kieker.KiekerEnvironmentPreparer;
 import de.dagere.peass.folders.PeassFolders;
@@ -42,7 +43,9 @@ public abstract class TestExecutor {
    protected final TestTransformer testTransformer;
    protected List<String> existingClasses;
    protected Set<String> includedMethodPattern;
+   protected Set<String> activatedMethodPattern;
    protected boolean isAndroid;
+   protected boolean buildPrepared = false;
 
    protected final EnvironmentVariables env;
 
@@ -117,10 +120,29 @@ public abstract class TestExecutor {
       if (testTransformer.getConfig().getKiekerConfig().isUseKieker()) {
          final KiekerEnvironmentPreparer kiekerEnvironmentPreparer = new KiekerEnvironmentPreparer(includedMethodPattern, existingClasses, folders, testTransformer,
                getModules().getModules());
+         kiekerEnvironmentPreparer.setActivatedMethodPattern(activatedMethodPattern);
          kiekerEnvironmentPreparer.prepareKieker();
       }
    }
 
+   /**
+    * Writes the adaptive monitoring configuration for the activated methods into a project that has already been prepared, so the measured methods change without
+    * instrumenting and building the project again.
+    */
+   public void updateAdaptiveMonitoringConfig() {
+      final KiekerConfig kiekerConfig = testTransformer.getConfig().getKiekerConfig();
+      if (kiekerConfig.isUseKieker() && kiekerConfig.isEnableAdaptiveMonitoring()) {
+         final KiekerEnvironmentPreparer kiekerEnvironmentPreparer = new KiekerEnvironmentPreparer(includedMethodPattern, existingClasses, folders, testTransformer,
+               getModules().getModules());
+         kiekerEnvironmentPreparer.setActivatedMethodPattern(activatedMethodPattern);
+         try {
+            kiekerEnvironmentPreparer.writeConfig();
+         } catch (IOException e) {
+            throw new RuntimeException(e);
+         }
+      }
+   }
+
    private final List<String> aborted = new LinkedList<>();
 
    protected void execute(final String testname, final long timeoutInSeconds, final Process process) {
@@ -219,10 +241,31 @@ public abstract class TestExecutor {
       return false;
    }
 
+   /**
+    * Marks that the project has already been prepared and built for this execution, so the execution should not clean it again.
+    * 
+    * @param buildPrepared
+    */
+   public void setBuildPrepared(final boolean buildPrepared) {
+      this.buildPrepared = buildPrepared;
+   }
+
+   public boolean isBuildPrepared() {
+      return buildPrepared;
+   }
+
    public void setIncludedMethods(final Set<String> includedMethodPattern) {
       this.includedMethodPattern = includedMethodPattern;
    }
 
+   /**
+    * Sets the methods that are activated by the adaptive monitoring; they need to be a subset of the included (i.e. instrumented) methods. If they are not set, all included
+    * methods are activated.
+    */
+   public void setActivatedMethods(final Set<String> activatedMethodPattern) {
+      this.activatedMethodPattern = activatedMethodPattern;
+   }
+
    public TestTransformer getTestTransformer() {
       return testTransformer;
    }
@@ -129,6 +129,12 @@ public class CauseSearchFolders extends PeassFolders {
       return treeFile;
    }
 
+   public File getRcaSamplingFile(final String commit, final TestMethodCall testcase) {
+      final File treeDataFolder = getRcaTreeFolder(commit, testcase);
+      File samplingFile = new File(treeDataFolder, "sampling" + File.separator + testcase.getMethodWithParams() + ".json");
+      return samplingFile;
+   }
+
    public File getTreeCacheFolder(final String commit, final TestMethodCall testcase) {
       final File folder = getExistingTreeCacheFolder(commit, testcase);
       folder.mkdirs();
@@ -9,6 +9,7 @@ import de.dagere.nodeDiffDetector.data.MethodCall;
 import de.dagere.nodeDiffDetector.data.TestCase;
 import de.dagere.nodeDiffDetector.data.TestMethodCall;
 import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.dependency.traces.TraceBlobStore;
 
 public class ResultsFolders {
 
@@ -50,6 +51,13 @@ public class ResultsFolders {
       }
    }
 
+   /**
+    * Returns the file of the persisted reverse index from called class to tests, which is written next to the static test selection
+    */
+   public File getChangeTestIndexFile() {
+      return new File(resultFolder, "changeTestIndex_" + projectName + ".json");
+   }
+
    public File getCoverageSelectionFile() {
       return new File(resultFolder, "coverageSelection_" + projectName + ".json");
    }
@@ -151,6 +159,13 @@ public class ResultsFolders {
       return viewFolder;
    }
 
+   /**
+    * Returns the folder of the content-addressed trace store, which is referenced by the trace files of all views
+    */
+   public File getTraceBlobFolder() {
+      return new File(getViewFolder(), TraceBlobStore.BLOB_FOLDER_NAME);
+   }
+
    public File getPropertiesFile() {
       return new File(getPropertiesFolder(), "properties.json");
    }
@@ -0,0 +1,77 @@
+package de.dagere.peass.folders;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.dagere.peass.vcs.GitUtils;
+
+/**
+ * Keeps temporary project folders (e.g. for the parallel measurement of one commit) alive between VMs, so the project only needs to be cloned once per commit. If the working
+ * tree did not change since the folder was released, it is handed out unchanged (so a prepared build can be reused); otherwise, it is reset and cleaned, and if it is not
+ * consistent afterwards, it is cloned again.
+ *
+ * @author reichelt
+ *
+ */
+public class TemporaryProjectFolderPool {
+
+   private static final Logger LOG = LogManager.getLogger(TemporaryProjectFolderPool.class);
+
+   private final PeassFolders originalFolders;
+   private final Map<String, PeassFolders> pooledFolders = new HashMap<>();
+   private final Map<String, String> fingerprints = new HashMap<>();
+
+   public TemporaryProjectFolderPool(final PeassFolders originalFolders) {
+      this.originalFolders = originalFolders;
+   }
+
+   /**
+    * Returns the temporary folder with the given name; it is only cloned if it does not exist yet or if it is not consistent anymore.
+    */
+   public synchronized PeassFolders getFolders(final String name, final String gitCryptKey) {
+      final PeassFolders existing = pooledFolders.get(name);
+      if (existing != null) {
+         final String releasedFingerprint = fingerprints.get(name);
+         final String currentFingerprint = GitUtils.getWorkingTreeFingerprint(existing.getProjectFolder());
+         if (releasedFingerprint != null && releasedFingerprint.equals(currentFingerprint)) {
+            LOG.debug("Reusing unchanged temporary project folder {}", existing.getProjectFolder());
+            return existing;
+         }
+         final String cleanTreeFingerprint = GitUtils.getCleanTreeFingerprint(existing.getProjectFolder());
+         if (cleanTreeFingerprint != null) {
+            LOG.debug("Reusing temporary project folder {} after reset (Fingerprint: {})", existing.getProjectFolder(), cleanTreeFingerprint);
+            return existing;
+         } else {
+            LOG.info("Temporary project folder {} is not consistent, cloning again", existing.getProjectFolder());
+         }
+      }
+      final PeassFolders created = originalFolders.getTempFolder(name, gitCryptKey);
+      pooledFolders.put(name, created);
+      fingerprints.remove(name);
+      return created;
+   }
+
+   /**
+    * Records the fingerprint of the working tree of the folder with the given name; this needs to be called after the VM has finished.
+    */
+   public synchronized void release(final String name) {
+      final PeassFolders existing = pooledFolders.get(name);
+      if (existing != null) {
+         final String fingerprint = GitUtils.getWorkingTreeFingerprint(existing.getProjectFolder());
+         if (fingerprint != null) {
+            fingerprints.put(name, fingerprint);
+         } else {
+            LOG.debug("Folder {} is not consistent after release", existing.getProjectFolder());
+            fingerprints.remove(name);
+         }
+      }
+   }
+
+   public synchronized void clear() {
+      pooledFolders.clear();
+      fingerprints.clear();
+   }
+}
@@ -93,7 +93,7 @@ public class JUnitTestShortener implements AutoCloseable {
       if (version != 0) {
          saveUnshortened(calleeClazzFile);
 
-         final CompilationUnit calleeUnit = transformer.getLoadedFiles().get(calleeClazzFile);
+         final CompilationUnit calleeUnit = transformer.getUnit(calleeClazzFile);
          final TypeDeclaration<?> clazz = TypeFinder.findClazz(callee, calleeUnit.getChildNodes());
 
          // The clazz might be null, if it is
@@ -70,6 +70,7 @@ import de.dagere.peass.dependency.RunnableTestInformation;
 import de.dagere.peass.dependency.analysis.ModuleClassMapping;
 import de.dagere.peass.dependency.analysis.data.TestSet;
 import de.dagere.peass.execution.utils.ProjectModules;
+import de.dagere.peass.utils.ContentHashCache;
 
 /**
  * Transforms JUnit-Tests to performance tests.
@@ -88,8 +89,14 @@ public class JUnitTestTransformer implements TestTransformer {
    protected Charset charset = StandardCharsets.UTF_8;
    private Map<String, List<File>> extensions = null;
    private Map<File, CompilationUnit> loadedFiles;
+   private Map<File, TestFileInfo> testFileInfos;
    private Map<File, Integer> junitVersions;
 
+   /**
+    * Information derived from parsing test files, shared between all transformers since the content of most test files does not change between commits
+    */
+   private static final ContentHashCache<TestFileInfo> TEST_FILE_CACHE = new ContentHashCache<>(20000);
+
    private final JavaParser javaParser = new JavaParser();
 
    /**
@@ -108,10 +115,30 @@ public class JUnitTestTransformer implements TestTransformer {
       }
    }
 
+   /**
+    * Returns the compilation units which have been parsed so far; since test files are only parsed if their information is not cached, {@link #getUnit(File)} should be used to
+    * get the unit of a test file.
+    */
    public Map<File, CompilationUnit> getLoadedFiles() {
       return loadedFiles;
    }
 
+   /**
+    * Returns the compilation unit of a test file found by {@link #determineVersions(List)}, which is parsed on the first access, or null if the file is no test file.
+    */
+   public CompilationUnit getUnit(final File javaFile) {
+      CompilationUnit unit = loadedFiles.get(javaFile);
+      if (unit == null && testFileInfos.containsKey(javaFile)) {
+         try {
+            unit = JavaParserProvider.parse(javaFile);
+            loadedFiles.put(javaFile, unit);
+         } catch (final FileNotFoundException e) {
+            throw new RuntimeException(e);
+         }
+      }
+      return unit;
+   }
+
    @Override
    public void determineVersions(final List<File> modules) {
       String[] pathes = config.getExecutionConfig().getTestClazzFolders().toArray(new String[0]);
@@ -120,6 +147,7 @@ public class JUnitTestTransformer implements TestTransformer {
 
    public void determineVersionsForPaths(final List<File> modules, final String... testPaths) {
       loadedFiles = new HashMap<>();
+      testFileInfos = new HashMap<>();
       junitVersions = new HashMap<>();
 
       for (final File module : modules) {
@@ -216,8 +244,10 @@ public class JUnitTestTransformer implements TestTransformer {
       }
       LOG.trace("Searching: {}", projectFolder);
 
-      for (File loadedFile : loadedFiles.keySet()) {
-         increaseVariableValues(loadedFile);
+      if (config.getExecutionConfig().getIncreaseVariableValues().size() > 0) {
+         for (File testFile : testFileInfos.keySet()) {
+            increaseVariableValues(testFile);
+         }
       }
 
       LOG.debug("JUnit Versions Determined: {}", junitVersions.size());
@@ -235,7 +265,7 @@ public class JUnitTestTransformer implements TestTransformer {
    }
 
    private void increaseVariableValues(File javaFile) {
-      final CompilationUnit unit = loadedFiles.get(javaFile);
+      final CompilationUnit unit = getUnit(javaFile);
       if (config.getExecutionConfig().getIncreaseVariableValues().size() > 0) {
          for (ClassOrInterfaceDeclaration clazz : ParseUtil.getClasses(unit)) {
             for (String toIncreaseVariable : config.getExecutionConfig().getIncreaseVariableValues()) {
@@ -287,19 +317,15 @@ public class JUnitTestTransformer implements TestTransformer {
             TrueFileFilter.INSTANCE)) {
          try {
             File canonicalJavaFile = javaFile.getCanonicalFile();
-            final CompilationUnit unit = JavaParserProvider.parse(canonicalJavaFile);
-            loadedFiles.put(canonicalJavaFile, unit);
-            final boolean isJUnit4 = isJUnit(unit, 4);
-            if (isJUnit4) {
+            final TestFileInfo info = getTestFileInfo(canonicalJavaFile);
+            testFileInfos.put(canonicalJavaFile, info);
+            if (info.isJunit4()) {
                junitVersions.put(canonicalJavaFile, 4);
-               // editJUnit4(javaFile);
             }
-            final boolean isJUnit5 = isJUnit(unit, 5);
-            if (isJUnit5) {
+            if (info.isJunit5()) {
                junitVersions.put(canonicalJavaFile, 5);
-               // editJUnit4(javaFile);
             }
-            parseExtensions(canonicalJavaFile, unit);
+            parseExtensions(canonicalJavaFile, info);
          } catch (final IOException e) {
             throw new RuntimeException(e);
          }
@@ -308,22 +334,57 @@ public class JUnitTestTransformer implements TestTransformer {
       addJUnit3Test("TestCase", junitVersions);
    }
 
-   private void parseExtensions(final File canonicalJavaFile, final CompilationUnit unit) {
+   /**
+    * Returns the information of the test file from the cache, or parses the file if its content is not cached yet.
+    */
+   private TestFileInfo getTestFileInfo(final File canonicalJavaFile) throws IOException {
+      final String contentHash = ContentHashCache.getContentHash(canonicalJavaFile);
+      TestFileInfo info = TEST_FILE_CACHE.get(contentHash, null);
+      if (info == null) {
+         final CompilationUnit unit = JavaParserProvider.parse(canonicalJavaFile);
+         loadedFiles.put(canonicalJavaFile, unit);
+         info = createTestFileInfo(unit);
+         TEST_FILE_CACHE.put(contentHash, null, info);
+      } else {
+         LOG.trace("Using cached information of {}", canonicalJavaFile);
+      }
+      return info;
+   }
+
+   private TestFileInfo createTestFileInfo(final CompilationUnit unit) {
+      final List<String> extendedTypes = new LinkedList<>();
       for (ClassOrInterfaceDeclaration clazz : ParseUtil.getClasses(unit)) {
-         LOG.trace("Transforming: {}", clazz.getNameAsString());
          // We only need to consider classes with one extends, since classes can not have
          // multiple extends and we search for classes that may extend TestCase
          // (indirectly)
          if (clazz.getExtendedTypes().size() == 1) {
             final ClassOrInterfaceType extend = clazz.getExtendedTypes(0);
-            final String extensionName = extend.getNameAsString().intern();
-            List<File> extensionsOfBase = extensions.get(extensionName);
-            if (extensionsOfBase == null) {
-               extensionsOfBase = new LinkedList<>();
-               extensions.put(extensionName, extensionsOfBase);
+            extendedTypes.add(extend.getNameAsString().intern());
+         }
+      }
+      final TestFileInfo info = new TestFileInfo(isJUnit(unit, 4), isJUnit(unit, 5), extendedTypes);
+      for (ClassOrInterfaceDeclaration clazz : ParseUtil.getClasses(unit)) {
+         final List<String> junit3Methods = new LinkedList<>();
+         for (final MethodDeclaration method : clazz.getMethods()) {
+            if (method.getNameAsString().toLowerCase().contains("test")) {
+               junit3Methods.add(method.getNameAsString());
             }
-            extensionsOfBase.add(canonicalJavaFile);
          }
+         info.addClass(new TestFileInfo.ClassInfo(clazz.getName().toString(), junit3Methods,
+               getAnnotatedMethods(clazz, 4), getIgnoredMethods(clazz, 4),
+               getAnnotatedMethods(clazz, 5), getIgnoredMethods(clazz, 5)));
+      }
+      return info;
+   }
+
+   private void parseExtensions(final File canonicalJavaFile, final TestFileInfo info) {
+      for (String extensionName : info.getExtendedTypes()) {
+         List<File> extensionsOfBase = extensions.get(extensionName);
+         if (extensionsOfBase == null) {
+            extensionsOfBase = new LinkedList<>();
+            extensions.put(extensionName, extensionsOfBase);
+         }
+         extensionsOfBase.add(canonicalJavaFile);
       }
    }
 
@@ -383,17 +444,17 @@ public class JUnitTestTransformer implements TestTransformer {
       RunnableTestInformation rti = new RunnableTestInformation();
       TypeFileFinder finder = new TypeFileFinder(config.getExecutionConfig());
       final File clazzFile = finder.getClazzFile(module, clazzname);
-      final CompilationUnit unit = loadedFiles.get(clazzFile);
-      if (unit != null) {
+      final TestFileInfo info = testFileInfos.get(clazzFile);
+      if (info != null) {
          final Integer junit = junitVersions.get(clazzFile);
          if (junit != null) {
-            for (ClassOrInterfaceDeclaration clazz : ParseUtil.getClasses(unit)) {
+            for (TestFileInfo.ClassInfo clazz : info.getClasses()) {
 
                /**
                 * This could not work if there is ClazzA$ClazzB$ClazzC and ClazzA$ClazzC; in the unlikely event of this happening, please refactor the code accordingly to also
                 * check for parent clazz names matching
                 */
-               String pureClazzName = clazz.getName().toString();
+               String pureClazzName = clazz.getName();
                if (pureClazzName.equals(clazzname.getPureClazz())) {
                   addTestMethodNames(clazzname, rti, junit, clazz);
                }
@@ -427,28 +488,26 @@ public class JUnitTestTransformer implements TestTransformer {
    }
 
    private void addTestMethodNames(final TestCase clazzname, RunnableTestInformation runnableTests, final Integer junit,
-         final ClassOrInterfaceDeclaration clazz) {
+         final TestFileInfo.ClassInfo clazz) {
       if (junit == 3) {
-         for (final MethodDeclaration method : clazz.getMethods()) {
-            if (method.getNameAsString().toLowerCase().contains("test")) {
-               runnableTests.getTestsToUpdate().addTest(new TestMethodCall(clazzname.getClazz(), method.getNameAsString(), clazzname.getModule()));
-            }
+         for (final String method : clazz.getJunit3Methods()) {
+            runnableTests.getTestsToUpdate().addTest(new TestMethodCall(clazzname.getClazz(), method, clazzname.getModule()));
          }
       } else if (junit == 4) {
-         for (String junit4method : getAnnotatedMethods(clazz, 4)) {
+         for (String junit4method : clazz.getTestMethods(4)) {
             TestMethodCall test = new TestMethodCall(clazzname.getClazz(), junit4method, clazzname.getModule());
             runnableTests.getTestsToUpdate().addTest(test);
          }
-         for (String junit4method : getIgnoredMethods(clazz, 4)) {
+         for (String junit4method : clazz.getIgnoredMethods(4)) {
             TestMethodCall test = new TestMethodCall(clazzname.getClazz(), junit4method, clazzname.getModule());
             runnableTests.getIgnoredTests().addTest(test);
          }
       } else if (junit == 5) {
-         for (String junit5method : getAnnotatedMethods(clazz, 5)) {
+         for (String junit5method : clazz.getTestMethods(5)) {
             TestMethodCall test = new TestMethodCall(clazzname.getClazz(), junit5method, clazzname.getModule());
             runnableTests.getTestsToUpdate().addTest(test);
          }
-         for (String junit5method : getIgnoredMethods(clazz, 5)) {
+         for (String junit5method : clazz.getIgnoredMethods(5)) {
             TestMethodCall test = new TestMethodCall(clazzname.getClazz(), junit5method, clazzname.getModule());
             runnableTests.getIgnoredTests().addTest(test);
          }
@@ -505,7 +564,7 @@ public class JUnitTestTransformer implements TestTransformer {
     */
    protected void editJUnit3(final File javaFile) {
       try {
-         final CompilationUnit unit = loadedFiles.get(javaFile);
+         final CompilationUnit unit = getUnit(javaFile);
          editJUnit3(unit);
          Files.write(javaFile.toPath(), unit.toString().getBytes(charset));
       } catch (final FileNotFoundException e) {
@@ -581,7 +640,7 @@ public class JUnitTestTransformer implements TestTransformer {
     */
    protected void editJUnit4(final File javaFile) {
       try {
-         final CompilationUnit unit = loadedFiles.get(javaFile);
+         final CompilationUnit unit = getUnit(javaFile);
 
          JUnit4Helper.editJUnit4(unit, config, datacollectorlist);
 
@@ -595,7 +654,7 @@ public class JUnitTestTransformer implements TestTransformer {
 
    protected void editJUnit5(final File javaFile) {
       try {
-         final CompilationUnit unit = loadedFiles.get(javaFile);
+         final CompilationUnit unit = getUnit(javaFile);
 
          editJUnit5(unit);
 
@@ -0,0 +1,87 @@
+package de.dagere.peass.testtransformation;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Information about a test source file which is derived from its compilation unit once, so it can be cached by the content of the file: the JUnit versions of the imports, the
+ * extended types and the test methods of all classes.
+ *
+ * @author reichelt
+ *
+ */
+class TestFileInfo {
+
+   /**
+    * Test methods of one class of the file for each JUnit version
+    */
+   static class ClassInfo {
+      private final String name;
+      private final List<String> junit3Methods;
+      private final List<String> junit4Methods;
+      private final List<String> junit4IgnoredMethods;
+      private final List<String> junit5Methods;
+      private final List<String> junit5IgnoredMethods;
+
+      ClassInfo(final String name, final List<String> junit3Methods, final List<String> junit4Methods, final List<String> junit4IgnoredMethods,
+            final List<String> junit5Methods, final List<String> junit5IgnoredMethods) {
+         this.name = name;
+         this.junit3Methods = junit3Methods;
+         this.junit4Methods = junit4Methods;
+         this.junit4IgnoredMethods = junit4IgnoredMethods;
+         this.junit5Methods = junit5Methods;
+         this.junit5IgnoredMethods = junit5IgnoredMethods;
+      }
+
+      public String getName() {
+         return name;
+      }
+
+      public List<String> getJunit3Methods() {
+         return junit3Methods;
+      }
+
+      public List<String> getTestMethods(final int version) {
+         return version == 4 ? junit4Methods : junit5Methods;
+      }
+
+      public List<String> getIgnoredMethods(final int version) {
+         return version == 4 ? junit4IgnoredMethods : junit5IgnoredMethods;
+      }
+   }
+
+   private final boolean junit4;
+   private final boolean junit5;
+   private final List<String> extendedTypes;
+   private final List<ClassInfo> classes = new LinkedList<>();
+
+   TestFileInfo(final boolean junit4, final boolean junit5, final List<String> extendedTypes) {
+      this.junit4 = junit4;
+      this.junit5 = junit5;
+      this.extendedTypes = extendedTypes;
+   }
+
+   public boolean isJunit4() {
+      return junit4;
+   }
+
+   public boolean isJunit5() {
+      return junit5;
+   }
+
+   /**
+    * Returns the names of the single extended type of each class which extends exactly one type
+    */
+   public List<String> getExtendedTypes() {
+      return extendedTypes;
+   }
+
+   public List<ClassInfo> getClasses() {
+      return Collections.unmodifiableList(classes);
+   }
+
+   void addClass(final ClassInfo clazz) {
+      classes.add(clazz);
+   }
+}
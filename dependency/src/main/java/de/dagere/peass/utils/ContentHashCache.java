@@ -0,0 +1,57 @@
+package de.dagere.peass.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded least-recently-used cache of results derived from file contents, e.g. parsed source information. Entries are keyed by the hash of the file content, so they can be
+ * shared across commits and working copies as long as the content of the file is unchanged.
+ *
+ * @author reichelt
+ *
+ * @param <V> Type of the cached results
+ */
+public class ContentHashCache<V> {
+
+   private final Map<String, V> entries;
+
+   public ContentHashCache(final int maximumEntries) {
+      entries = new LinkedHashMap<String, V>(16, 0.75f, true) {
+         private static final long serialVersionUID = 1L;
+
+         @Override
+         protected boolean removeEldestEntry(final Map.Entry<String, V> eldest) {
+            return size() > maximumEntries;
+         }
+      };
+   }
+
+   /**
+    * Returns the cached result for the given content hash and an optional sub key (e.g. a method inside of the file), or null if no result is cached
+    */
+   public synchronized V get(final String contentHash, final String subKey) {
+      return entries.get(getKey(contentHash, subKey));
+   }
+
+   public synchronized void put(final String contentHash, final String subKey, final V value) {
+      entries.put(getKey(contentHash, subKey), value);
+   }
+
+   public synchronized int size() {
+      return entries.size();
+   }
+
+   public synchronized void clear() {
+      entries.clear();
+   }
+
+   private static String getKey(final String contentHash, final String subKey) {
+      return subKey != null ? contentHash + "#" + subKey : contentHash;
+   }
+
+   public static String getContentHash(final File file) throws IOException {
+      return HashUtil.hash(file);
+   }
+}
@@ -0,0 +1,88 @@
+package de.dagere.peass.utils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Creates SHA-256 hashes of strings, files and streams, e.g. for fingerprints and content-addressed caches.
+ *
+ * @author reichelt
+ *
+ */
+public class HashUtil {
+
+   private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+   private HashUtil() {
+
+   }
+
+   public static MessageDigest createDigest() {
+      try {
+         return MessageDigest.getInstance("SHA-256");
+      } catch (NoSuchAlgorithmException e) {
+         throw new RuntimeException(e);
+      }
+   }
+
+   public static String hash(final String content) {
+      final MessageDigest digest = createDigest();
+      digest.update(content.getBytes(StandardCharsets.UTF_8));
+      return toHex(digest.digest());
+   }
+
+   /**
+    * Hashes the content with all whitespace except line breaks removed, so contents which only differ in whitespace within lines have the same hash (like diff
+    * --ignore-all-space).
+    */
+   public static String hashIgnoringWhitespace(final String content) {
+      final MessageDigest digest = createDigest();
+      final StringBuilder line = new StringBuilder();
+      for (int i = 0; i < content.length(); i++) {
+         final char character = content.charAt(i);
+         if (character == '\n') {
+            line.append(character);
+            digest.update(line.toString().getBytes(StandardCharsets.UTF_8));
+            line.setLength(0);
+         } else if (!Character.isWhitespace(character)) {
+            line.append(character);
+         }
+      }
+      digest.update(line.toString().getBytes(StandardCharsets.UTF_8));
+      return toHex(digest.digest());
+   }
+
+   public static String hash(final File file) throws IOException {
+      try (InputStream stream = new FileInputStream(file)) {
+         return hash(stream);
+      }
+   }
+
+   public static String hash(final InputStream stream) throws IOException {
+      final MessageDigest digest = createDigest();
+      update(digest, stream);
+      return toHex(digest.digest());
+   }
+
+   public static void update(final MessageDigest digest, final InputStream stream) throws IOException {
+      final byte[] buffer = new byte[8192];
+      int read;
+      while ((read = stream.read(buffer)) != -1) {
+         digest.update(buffer, 0, read);
+      }
+   }
+
+   public static String toHex(final byte[] bytes) {
+      final char[] result = new char[bytes.length * 2];
+      for (int i = 0; i < bytes.length; i++) {
+         result[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+         result[i * 2 + 1] = HEX[bytes[i] & 0xF];
+      }
+      return new String(result);
+   }
+}
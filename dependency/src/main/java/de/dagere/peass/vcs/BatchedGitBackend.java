@@ -0,0 +1,323 @@
+package de.dagere.peass.vcs;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ProcessBuilder.Redirect;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.dagere.peass.config.ExecutionConfig;
+import de.dagere.peass.dependency.analysis.data.CommitDiff;
+
+/**
+ * {@link GitBackend} which reads commits and files through one long-lived <code>git cat-file --batch</code> process instead of starting a git process per query. The process
+ * is started on the first read and stopped by {@link #close()}. Since raw commit objects contain the original author, authors are mapped by a long-lived
+ * <code>git check-mailmap --stdin</code> process, like <code>git log</code> does. Operations that change the working tree or compare it are still executed by
+ * {@link GitUtils}.
+ *
+ * @author reichelt
+ *
+ */
+public class BatchedGitBackend implements GitBackend {
+
+   private static final Logger LOG = LogManager.getLogger(BatchedGitBackend.class);
+
+   private static final DateTimeFormatter GIT_ISO_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss xx");
+
+   private final File projectFolder;
+
+   private Process catFileProcess;
+   private OutputStream requests;
+   private InputStream objects;
+
+   private Process mailmapProcess;
+   private OutputStream mailmapRequests;
+   private InputStream mailmapResults;
+
+   public BatchedGitBackend(final File projectFolder) {
+      this.projectFolder = projectFolder;
+   }
+
+   @Override
+   public synchronized List<GitCommit> getCommitMetadata(final List<String> commits) throws IOException {
+      final List<GitCommit> metadata = new ArrayList<>(commits.size());
+      boolean readable = true;
+      for (String commit : commits) {
+         GitCommit gitCommit = null;
+         if (readable) {
+            try {
+               final byte[] content = readObject(commit, "commit");
+               if (content != null) {
+                  gitCommit = parseCommit(commit, content);
+                  if (gitCommit.getComitter() != null) {
+                     gitCommit.setComitter(applyMailmap(gitCommit.getComitter()));
+                  }
+               }
+            } catch (IOException e) {
+               LOG.error("Could not read commits from {}, writing remaining commits without metadata", projectFolder, e);
+               readable = false;
+            }
+         }
+         metadata.add(gitCommit != null ? gitCommit : new GitCommit(commit, null, null, ""));
+      }
+      return metadata;
+   }
+
+   @Override
+   public synchronized String getCommitText(final String commit) {
+      try {
+         final byte[] content = readObject(commit, "commit");
+         if (content != null) {
+            final String message = getMessage(new String(content, StandardCharsets.UTF_8));
+            final int subjectEnd = message.indexOf("\n\n");
+            if (subjectEnd != -1) {
+               return message.substring(0, subjectEnd).replace('\n', ' ') + " " + message.substring(subjectEnd + 2).replace("\n", "");
+            } else {
+               return message.replace('\n', ' ').trim() + " ";
+            }
+         }
+      } catch (IOException e) {
+         e.printStackTrace();
+      }
+      return "";
+   }
+
+   @Override
+   public synchronized String getCommitter(final String commit) {
+      try {
+         final byte[] content = readObject(commit, "commit");
+         if (content != null) {
+            final String author = getAuthor(new String(content, StandardCharsets.UTF_8));
+            if (author != null) {
+               final String mappedAuthor = applyMailmap(author.substring(0, author.lastIndexOf('>') + 1));
+               final int mailEnd = mappedAuthor.lastIndexOf('>');
+               final int mailStart = mappedAuthor.lastIndexOf('<', mailEnd);
+               final String name = mappedAuthor.substring(0, Math.max(mailStart, 0)).trim();
+               final String mail = mappedAuthor.substring(mailStart + 1, mailEnd);
+               return mail + " " + name;
+            }
+         }
+      } catch (IOException e) {
+         e.printStackTrace();
+      }
+      return "";
+   }
+
+   @Override
+   public synchronized byte[] readFile(final String commit, final String path) throws IOException {
+      return readObject(commit + ":" + path, "blob");
+   }
+
+   @Override
+   public String resolve(final String revision) {
+      return GitUtils.getName(revision, projectFolder);
+   }
+
+   @Override
+   public CommitDiff getChangedClasses(final List<File> modules, final String lastCommit, final ExecutionConfig config) {
+      return GitUtils.getChangedClasses(projectFolder, modules, lastCommit, config);
+   }
+
+   @Override
+   public void goToCommit(final String commit) {
+      GitUtils.goToCommit(commit, projectFolder);
+   }
+
+   /**
+    * Reads the object with the given name from the cat-file stream; returns null if the object does not exist or has a different type.
+    */
+   private byte[] readObject(final String objectName, final String expectedType) throws IOException {
+      if (objectName.indexOf('\n') != -1) {
+         return null;
+      }
+      startProcess();
+      requests.write((objectName + "\n").getBytes(StandardCharsets.UTF_8));
+      requests.flush();
+
+      final String header = readLine(objects);
+      if (header == null) {
+         stopProcess();
+         throw new IOException("git cat-file in " + projectFolder + " terminated unexpectedly");
+      }
+      if (header.endsWith(" missing") || header.endsWith(" ambiguous")) {
+         LOG.debug("Object {} not found: {}", objectName, header);
+         return null;
+      }
+      final String[] parts = header.split(" ");
+      final int size = Integer.parseInt(parts[parts.length - 1]);
+      final byte[] content = objects.readNBytes(size);
+      if (content.length != size || objects.read() != '\n') {
+         stopProcess();
+         throw new IOException("Incomplete object " + objectName + " from git cat-file in " + projectFolder);
+      }
+      return expectedType.equals(parts[1]) ? content : null;
+   }
+
+   /**
+    * Returns the author as given by the mailmap of the repository, e.g. <code>Name &lt;mail&gt;</code>; if the mailmap can not be read, the author is returned unchanged.
+    */
+   private String applyMailmap(final String author) {
+      if (author.indexOf('\n') != -1) {
+         return author;
+      }
+      try {
+         startMailmapProcess();
+         mailmapRequests.write((author + "\n").getBytes(StandardCharsets.UTF_8));
+         mailmapRequests.flush();
+         final String mappedAuthor = readLine(mailmapResults);
+         if (mappedAuthor != null) {
+            return mappedAuthor;
+         }
+         LOG.error("git check-mailmap in {} terminated unexpectedly", projectFolder);
+      } catch (IOException e) {
+         LOG.error("Could not read mailmap of {}", projectFolder, e);
+      }
+      stopMailmapProcess();
+      return author;
+   }
+
+   private static String readLine(final InputStream input) throws IOException {
+      final ByteArrayOutputStream line = new ByteArrayOutputStream();
+      int current;
+      while ((current = input.read()) != '\n') {
+         if (current == -1) {
+            return null;
+         }
+         line.write(current);
+      }
+      return line.toString(StandardCharsets.UTF_8);
+   }
+
+   private void startProcess() throws IOException {
+      if (catFileProcess == null) {
+         LOG.debug("Starting git cat-file in {}", projectFolder);
+         catFileProcess = new ProcessBuilder("git", "cat-file", "--batch")
+               .directory(projectFolder)
+               .redirectError(Redirect.DISCARD)
+               .start();
+         requests = new BufferedOutputStream(catFileProcess.getOutputStream());
+         objects = new BufferedInputStream(catFileProcess.getInputStream());
+      }
+   }
+
+   private void startMailmapProcess() throws IOException {
+      if (mailmapProcess == null) {
+         LOG.debug("Starting git check-mailmap in {}", projectFolder);
+         mailmapProcess = new ProcessBuilder("git", "check-mailmap", "--stdin")
+               .directory(projectFolder)
+               .redirectError(Redirect.DISCARD)
+               .start();
+         mailmapRequests = new BufferedOutputStream(mailmapProcess.getOutputStream());
+         mailmapResults = new BufferedInputStream(mailmapProcess.getInputStream());
+      }
+   }
+
+   private void stopProcess() {
+      if (catFileProcess != null) {
+         stop(catFileProcess, requests, objects);
+         catFileProcess = null;
+      }
+   }
+
+   private void stopMailmapProcess() {
+      if (mailmapProcess != null) {
+         stop(mailmapProcess, mailmapRequests, mailmapResults);
+         mailmapProcess = null;
+      }
+   }
+
+   private static void stop(final Process process, final OutputStream input, final InputStream output) {
+      try {
+         input.close();
+         output.close();
+         if (!process.waitFor(10, TimeUnit.SECONDS)) {
+            process.destroy();
+         }
+      } catch (IOException e) {
+         process.destroy();
+      } catch (InterruptedException e) {
+         process.destroy();
+         Thread.currentThread().interrupt();
+      }
+   }
+
+   @Override
+   public synchronized void close() {
+      stopProcess();
+      stopMailmapProcess();
+   }
+
+   /**
+    * Creates the metadata from a raw commit object in the format of <code>git log --date=iso</code>, i.e. author as name and mail, the date in the time zone of the author and
+    * the message lines separated by spaces.
+    */
+   static GitCommit parseCommit(final String commit, final byte[] content) {
+      final String text = new String(content, StandardCharsets.UTF_8);
+      final String author = getAuthor(text);
+      String name = null;
+      String date = null;
+      if (author != null) {
+         final int mailEnd = author.lastIndexOf('>');
+         name = author.substring(0, mailEnd + 1);
+         date = formatDate(author.substring(mailEnd + 1).trim());
+      }
+      final StringBuilder message = new StringBuilder();
+      for (String line : getMessage(text).split("\n")) {
+         if (!line.isBlank()) {
+            message.append(line.trim()).append(' ');
+         }
+      }
+      return new GitCommit(commit, name, date, message.toString());
+   }
+
+   /**
+    * Returns the author line of a raw commit object including the timestamp, e.g. <code>Name &lt;mail&gt; 1600000000 +0200</code>
+    */
+   private static String getAuthor(final String rawCommit) {
+      for (String line : getHeader(rawCommit).split("\n")) {
+         if (line.startsWith("author ")) {
+            final String authorWithTime = line.substring("author ".length());
+            final int mailEnd = authorWithTime.lastIndexOf('>');
+            return mailEnd != -1 ? authorWithTime : null;
+         }
+      }
+      return null;
+   }
+
+   private static String formatDate(final String timestampAndZone) {
+      final String[] parts = timestampAndZone.split(" ");
+      if (parts.length != 2) {
+         return null;
+      }
+      try {
+         return Instant.ofEpochSecond(Long.parseLong(parts[0])).atOffset(ZoneOffset.of(parts[1])).format(GIT_ISO_DATE);
+      } catch (NumberFormatException | DateTimeException e) {
+         LOG.debug("Unexpected commit date {}", timestampAndZone);
+         return null;
+      }
+   }
+
+   private static String getHeader(final String rawCommit) {
+      final int headerEnd = rawCommit.indexOf("\n\n");
+      return headerEnd != -1 ? rawCommit.substring(0, headerEnd) : rawCommit;
+   }
+
+   private static String getMessage(final String rawCommit) {
+      final int headerEnd = rawCommit.indexOf("\n\n");
+      return headerEnd != -1 ? rawCommit.substring(headerEnd + 2) : "";
+   }
+}
@@ -23,11 +23,12 @@ import de.dagere.peass.config.ExecutionConfig;
 import de.dagere.peass.dependency.analysis.data.CommitDiff;
 
 /**
- * Iterator for VCS, moving always the position of the iterator alongside with the version saved in the folder.
+ * Iterator for VCS, moving always the position of the iterator alongside with the version saved in the folder. Iterators may keep resources (e.g. a running git process)
+ * open, so they should be closed after usage.
  * @author reichelt
  *
  */
-public abstract class CommitIterator {
+public abstract class CommitIterator implements AutoCloseable {
 
 	protected final File projectFolder;
 	protected int commitIndex = 0;
@@ -104,4 +105,18 @@ public abstract class CommitIterator {
       return commitIndex > 0;
    }
 
+   /**
+    * Returns the backend for reading files of arbitrary commits directly from the repository, or null if the iterator does not provide one
+    */
+   public GitBackend getBackend() {
+      return null;
+   }
+
+   /**
+    * Releases the resources of the iterator; since they are acquired again on demand, the iterator may still be used afterwards.
+    */
+   @Override
+   public void close() {
+   }
+
 }
\ No newline at end of file
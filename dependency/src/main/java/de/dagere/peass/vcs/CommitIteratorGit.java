@@ -40,13 +40,17 @@ public class CommitIteratorGit extends CommitIterator {
    private final List<String> commits;
    private final String previous;
    private final int previousIndex;
+   private final GitBackend backend;
+   private final boolean ownBackend;
 
    @Mixin
    private ExecutionConfigMixin executionConfigMixin;
 
    public CommitIteratorGit(final File projectFolder) {
       super(projectFolder);
-      previous = GitUtils.getName("HEAD~1", projectFolder);
+      backend = new BatchedGitBackend(projectFolder);
+      ownBackend = true;
+      previous = backend.resolve("HEAD~1");
       commits = GitUtils.getCommits(projectFolder, false, executionConfigMixin.isLinearizeHistory());
       previousIndex = commits.indexOf(previous);
    }
@@ -59,7 +63,21 @@ public class CommitIteratorGit extends CommitIterator {
     * @param previousCommit Previous commit before start (NO_BEFORE, if it is the first one)
     */
    public CommitIteratorGit(final File projectFolder, final List<String> commits, final String previousCommit) {
+      this(projectFolder, commits, previousCommit, new BatchedGitBackend(projectFolder), true);
+   }
+
+   /**
+    * Initializes the iterator like {@link #CommitIteratorGit(File, List, String)}, but accesses the repository through the given backend; the backend is not closed by the
+    * iterator.
+    */
+   public CommitIteratorGit(final File projectFolder, final List<String> commits, final String previousCommit, final GitBackend backend) {
+      this(projectFolder, commits, previousCommit, backend, false);
+   }
+
+   private CommitIteratorGit(final File projectFolder, final List<String> commits, final String previousCommit, final GitBackend backend, final boolean ownBackend) {
       super(projectFolder);
+      this.backend = backend;
+      this.ownBackend = ownBackend;
       this.commits = commits;
       this.previous = previousCommit;
       int index = -1;
@@ -80,7 +98,7 @@ public class CommitIteratorGit extends CommitIterator {
    @Override
    public boolean goToFirstCommit() {
       commitIndex = 0;
-      GitUtils.goToCommit(commits.get(0), projectFolder);
+      backend.goToCommit(commits.get(0));
       return true;
    }
 
@@ -88,7 +106,7 @@ public class CommitIteratorGit extends CommitIterator {
    public boolean goToNextCommit() {
       commitIndex++;
       final String nextTag = commits.get(commitIndex);
-      GitUtils.goToCommit(nextTag, projectFolder);
+      backend.goToCommit(nextTag);
       return true;
    }
 
@@ -97,7 +115,7 @@ public class CommitIteratorGit extends CommitIterator {
       if (commitIndex > 0) {
          commitIndex--;
          final String nextTag = commits.get(commitIndex);
-         GitUtils.goToCommit(nextTag, projectFolder);
+         backend.goToCommit(nextTag);
          return true;
       } else {
          return false;
@@ -132,7 +150,7 @@ public class CommitIteratorGit extends CommitIterator {
    @Override
    public boolean goTo0thCommit() {
       if (previousIndex != -1) {
-         GitUtils.goToCommit(previous, projectFolder);
+         backend.goToCommit(previous);
          commitIndex = previousIndex;
          return true;
       } else {
@@ -147,7 +165,7 @@ public class CommitIteratorGit extends CommitIterator {
    
    @Override
    public CommitDiff getChangedClasses(final File projectFolder, final List<File> genericModules, final String lastCommit, final ExecutionConfig config) {
-      CommitDiff diff = GitUtils.getChangedClasses(projectFolder, genericModules, lastCommit, config);
+      CommitDiff diff = backend.getChangedClasses(genericModules, lastCommit, config);
       return diff;
    }
    
@@ -155,4 +173,16 @@ public class CommitIteratorGit extends CommitIterator {
    public List<String> getCommits() {
       return commits;
    }
+
+   @Override
+   public GitBackend getBackend() {
+      return backend;
+   }
+
+   @Override
+   public void close() {
+      if (ownBackend) {
+         backend.close();
+      }
+   }
 }
@@ -0,0 +1,52 @@
+package de.dagere.peass.vcs;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import de.dagere.peass.config.ExecutionConfig;
+import de.dagere.peass.dependency.analysis.data.CommitDiff;
+
+/**
+ * Access to one git repository. Implementations may keep resources (e.g. a running git process) open between calls, so a backend should be closed after usage.
+ *
+ * @author reichelt
+ *
+ */
+public interface GitBackend extends AutoCloseable {
+
+   /**
+    * Returns the metadata of the given commits in the given order; commits that do not exist are returned without author, date and message.
+    */
+   List<GitCommit> getCommitMetadata(List<String> commits) throws IOException;
+
+   /**
+    * Returns subject and body of the commit message in one line
+    */
+   String getCommitText(String commit);
+
+   /**
+    * Returns mail and name of the author of the commit
+    */
+   String getCommitter(String commit);
+
+   /**
+    * Returns the content of the file at the given path (relative to the repository root) in the given commit, or null if the file does not exist in the commit
+    */
+   byte[] readFile(String commit, String path) throws IOException;
+
+   /**
+    * Returns the full hash of the given revision, e.g. HEAD~1
+    */
+   String resolve(String revision);
+
+   CommitDiff getChangedClasses(List<File> modules, String lastCommit, ExecutionConfig config);
+
+   /**
+    * Resets the working tree and checks out the given commit
+    */
+   void goToCommit(String commit);
+
+   @Override
+   void close();
+}
@@ -2,6 +2,8 @@ package de.dagere.peass.vcs;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.core.exc.StreamReadException;
 import com.fasterxml.jackson.core.exc.StreamWriteException;
@@ -15,18 +17,43 @@ import de.dagere.peass.utils.Constants;
 public class GitCommitWriter {
    public static void writeCurrentCommits(PeassFolders folders, List<String> current, ResultsFolders resultsFolders)
          throws IOException, StreamReadException, DatabindException, StreamWriteException {
-      List<GitCommit> commitMetadata = GitUtils.getCommitMetadata(folders.getProjectFolder(), current);
+      try (GitBackend backend = new BatchedGitBackend(folders.getProjectFolder())) {
+         writeCurrentCommits(backend, current, resultsFolders);
+      }
+   }
+
+   /**
+    * Adds the metadata of the commits of the iterator, reading them through the backend of the iterator if it provides one.
+    */
+   public static void writeCurrentCommits(PeassFolders folders, CommitIterator iterator, ResultsFolders resultsFolders)
+         throws IOException, StreamReadException, DatabindException, StreamWriteException {
+      if (iterator.getBackend() != null) {
+         writeCurrentCommits(iterator.getBackend(), iterator.getCommits(), resultsFolders);
+      } else {
+         writeCurrentCommits(folders, iterator.getCommits(), resultsFolders);
+      }
+   }
+
+   /**
+    * Adds the metadata of the given commits to the commit metadata file; only commits that are not contained in the file yet are read from the repository.
+    */
+   public static void writeCurrentCommits(GitBackend backend, List<String> current, ResultsFolders resultsFolders)
+         throws IOException, StreamReadException, DatabindException, StreamWriteException {
       if (resultsFolders.getCommitMetadataFile().exists()) {
          try {
             CommitList old = Constants.OBJECTMAPPER.readValue(resultsFolders.getCommitMetadataFile(), CommitList.class);
-            old.addCommits(commitMetadata);
-            Constants.OBJECTMAPPER.writeValue(resultsFolders.getCommitMetadataFile(), old);
+            Set<String> knownCommits = old.getCommits().stream().map(commit -> commit.getTag()).collect(Collectors.toSet());
+            List<String> missingCommits = current.stream().filter(commit -> !knownCommits.contains(commit)).collect(Collectors.toList());
+            if (!missingCommits.isEmpty()) {
+               old.addCommits(backend.getCommitMetadata(missingCommits));
+               Constants.OBJECTMAPPER.writeValue(resultsFolders.getCommitMetadataFile(), old);
+            }
          } catch (JsonMappingException e) {
             e.printStackTrace();
-            serializeOnlyCurrent(resultsFolders, commitMetadata);
+            serializeOnlyCurrent(resultsFolders, backend.getCommitMetadata(current));
          }
       } else {
-         serializeOnlyCurrent(resultsFolders, commitMetadata);
+         serializeOnlyCurrent(resultsFolders, backend.getCommitMetadata(current));
       }
 
    }
@@ -19,13 +19,18 @@ package de.dagere.peass.vcs;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.lang.ProcessBuilder.Redirect;
 import java.nio.file.Files;
+import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
@@ -42,6 +47,7 @@ import de.dagere.peass.dependencyprocessors.VersionComparator;
 import de.dagere.peass.folders.PeassFolders;
 import de.dagere.peass.folders.ResultsFolders;
 import de.dagere.peass.utils.Constants;
+import de.dagere.peass.utils.HashUtil;
 import de.dagere.peass.utils.StreamGobbler;
 
 /**
@@ -54,6 +60,16 @@ public final class GitUtils {
 
    private static final Logger LOG = LogManager.getLogger(GitUtils.class);
 
+   /**
+    * Locks of the project folders by canonical path, so all git operations on one folder are serialized even if they use different {@link File} instances
+    */
+   private static final Map<String, Object> FOLDER_LOCKS = new ConcurrentHashMap<>();
+   private static final Map<String, BatchedGitBackend> SHARED_BACKENDS = new ConcurrentHashMap<>();
+
+   static {
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> SHARED_BACKENDS.values().forEach(BatchedGitBackend::close)));
+   }
+
    /**
     * Only utility-clazz, no instantiation needed.
     */
@@ -193,9 +209,13 @@ public final class GitUtils {
       }
    }
    
+   /**
+    * Returns the metadata of the given commits; all commits are read by one git process.
+    */
    public static List<GitCommit> getCommitMetadata(File folder, List<String> commitNames) throws IOException{
-      List<GitCommit> commits = getCommitsMetadata(folder, commitNames);
-      return commits;
+      try (GitBackend backend = new BatchedGitBackend(folder)) {
+         return backend.getCommitMetadata(commitNames);
+      }
    }
 
    private static List<String> getLinearCommitNames(final File folder) {
@@ -233,32 +253,6 @@ public final class GitUtils {
       }
    }
 
-   private static List<GitCommit> getCommitsMetadata(final File folder, final List<String> commitNames) throws IOException {
-      final List<GitCommit> commits = new LinkedList<>();
-      for (String commit : commitNames) {
-         ProcessBuilder readCommitProcessBuilder = new ProcessBuilder("git", "log", "--date=iso", "-n", "1", commit);
-         readCommitProcessBuilder.directory(folder);
-         final Process readCommitProcess = readCommitProcessBuilder.start();
-         try (final BufferedReader readCommitInput = new BufferedReader(new InputStreamReader(readCommitProcess.getInputStream()))) {
-            String line = null;
-            String author = null, date = null, message = "";
-            while ((line = readCommitInput.readLine()) != null) {
-               if (line.startsWith("Author:")) {
-                  author = line.substring(8);
-               }
-               if (line.startsWith("Date: ")) {
-                  date = line.substring(8);
-               } else if (author != null && date != null) {
-                  message += line + " ";
-               }
-            }
-            final GitCommit gc = new GitCommit(commit, author, date, message);
-            commits.add(gc);
-         }
-      }
-      return commits;
-   }
-
    private static List<String> getCommitNames(final File folder, final boolean includeAllBranches) throws IOException {
       String command = includeAllBranches ? "git log --oneline --all --no-abbrev-commit" : "git log --oneline --no-abbrev-commit";
       final Process p = Runtime.getRuntime().exec(command, new String[0], folder);
@@ -364,8 +358,27 @@ public final class GitUtils {
       return null;
    }
 
+   static Object getFolderLock(final File projectFolder) {
+      return FOLDER_LOCKS.computeIfAbsent(getPath(projectFolder), key -> new Object());
+   }
+
+   /**
+    * Returns one backend per repository for single queries, so no git process needs to be started per query; the backends are closed on shutdown.
+    */
+   static GitBackend getSharedBackend(final File projectFolder) {
+      return SHARED_BACKENDS.computeIfAbsent(getPath(projectFolder), key -> new BatchedGitBackend(projectFolder));
+   }
+
+   private static String getPath(final File projectFolder) {
+      try {
+         return projectFolder.getCanonicalPath();
+      } catch (IOException e) {
+         return projectFolder.getAbsolutePath();
+      }
+   }
+
    public static void pull(final File projectFolder) {
-      synchronized (projectFolder) {
+      synchronized (getFolderLock(projectFolder)) {
          LOG.debug("Pulling {}", projectFolder.getAbsolutePath());
          try {
             Process pullProcess = Runtime.getRuntime().exec("git pull origin HEAD", new String[0], projectFolder);
@@ -386,7 +399,7 @@ public final class GitUtils {
     */
    public static void goToCommit(final String commit, final File projectFolder) {
       try {
-         synchronized (projectFolder) {
+         synchronized (getFolderLock(projectFolder)) {
             LOG.debug("Going to commit {} folder: {}", commit, projectFolder.getAbsolutePath());
             reset(projectFolder);
 
@@ -444,6 +457,77 @@ public final class GitUtils {
       return worked;
    }
 
+   /**
+    * Resets and cleans the given folder and returns the hash of the checked out tree, if the working tree is consistent afterwards. If the folder is no valid git repository
+    * anymore or if tracked files could not be restored, null is returned.
+    *
+    * @param projectFolder Folder that should be checked
+    * @return Tree hash of HEAD or null, if the working tree is not consistent
+    */
+   public static String getCleanTreeFingerprint(final File projectFolder) {
+      if (!new File(projectFolder, ".git").exists()) {
+         return null;
+      }
+      try {
+         synchronized (getFolderLock(projectFolder)) {
+            reset(projectFolder);
+            clean(projectFolder);
+
+            final Process statusProcess = new ProcessBuilder("git", "status", "--porcelain").directory(projectFolder).start();
+            final String status = StreamGobbler.getFullProcess(statusProcess, false);
+            if (statusProcess.waitFor() != 0 || !status.trim().isEmpty()) {
+               LOG.debug("Working tree {} is not clean: {}", projectFolder, status);
+               return null;
+            }
+
+            final Process treeProcess = new ProcessBuilder("git", "rev-parse", "HEAD^{tree}").directory(projectFolder).start();
+            final String tree = StreamGobbler.getFullProcess(treeProcess, false).trim();
+            if (treeProcess.waitFor() != 0 || tree.isEmpty()) {
+               return null;
+            }
+            return tree;
+         }
+      } catch (IOException | InterruptedException e) {
+         LOG.debug("Fingerprint could not be created", e);
+         return null;
+      }
+   }
+
+   /**
+    * Returns a fingerprint of the current working tree state (HEAD, changes of tracked files and untracked, not ignored files) without changing the working tree. Ignored files,
+    * e.g. build results, are not part of the fingerprint.
+    *
+    * @param projectFolder Folder that should be checked
+    * @return Fingerprint of the working tree or null, if the folder is no valid git repository
+    */
+   public static String getWorkingTreeFingerprint(final File projectFolder) {
+      if (!new File(projectFolder, ".git").exists()) {
+         return null;
+      }
+      try {
+         synchronized (getFolderLock(projectFolder)) {
+            final MessageDigest digest = HashUtil.createDigest();
+            final String[][] commands = new String[][] {
+                  { "git", "rev-parse", "HEAD" },
+                  { "git", "diff", "HEAD", "--binary" },
+                  { "git", "ls-files", "--others", "--exclude-standard" } };
+            for (String[] command : commands) {
+               final Process process = new ProcessBuilder(command).directory(projectFolder).redirectError(Redirect.DISCARD).start();
+               try (InputStream output = process.getInputStream()) {
+                  HashUtil.update(digest, output);
+               }
+               if (process.waitFor() != 0) {
+                  return null;
+               }
+            }
+            return HashUtil.toHex(digest.digest());
+         }
+      } catch (IOException | InterruptedException e) {
+         LOG.debug("Fingerprint could not be created", e);
+         return null;
+      }
+   }
+
    public static String getURL(final File projectFolder) {
       try {
          final Process process = Runtime.getRuntime().exec("git config --get remote.origin.url", new String[0], projectFolder);
@@ -471,27 +555,11 @@ public final class GitUtils {
    }
 
    public static String getCommitText(final File projectFolder, final String commit) {
-      String text = "";
-      try {
-         final String[] args2 = new String[] { "git", "log", "--pretty=format:%s %b", "-n", "1", commit };
-         final Process process = Runtime.getRuntime().exec(args2, new String[0], projectFolder);
-         text = StreamGobbler.getFullProcess(process, false).replace("\n", "");
-      } catch (final IOException e) {
-         e.printStackTrace();
-      }
-      return text;
+      return getSharedBackend(projectFolder).getCommitText(commit);
    }
 
    public static String getCommitter(final File projectFolder, final String commit) {
-      String comitter = "";
-      try {
-         final String[] args2 = new String[] { "git", "log", "--pretty=format:%aE %aN", "-n", "1", commit };
-         final Process process = Runtime.getRuntime().exec(args2, new String[0], projectFolder);
-         comitter = StreamGobbler.getFullProcess(process, false).replace("\n", "");
-      } catch (final IOException e) {
-         e.printStackTrace();
-      }
-      return comitter;
+      return getSharedBackend(projectFolder).getCommitter(commit);
    }
 
    public static int getVersions(final File projectFolder) {
@@ -0,0 +1,76 @@
+package de.dagere.peass.dependency;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import de.dagere.nodeDiffDetector.data.Type;
+import de.dagere.nodeDiffDetector.diffDetection.ClazzChangeData;
+import de.dagere.peass.TestConstants;
+import de.dagere.peass.TestUtil;
+import de.dagere.peass.config.ExecutionConfig;
+import de.dagere.peass.execution.utils.ProjectModules;
+import de.dagere.peass.execution.utils.TestExecutor;
+import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.vcs.CommitIteratorGit;
+import de.dagere.peass.vcs.GitUtils;
+import de.dagere.peass.vcs.ProjectBuilderHelper;
+
+public class TestChangeManager {
+
+   private final static File PROJECT_FOLDER = new File(TestConstants.CURRENT_FOLDER, "demo-change-manager");
+   private final static File SOURCE_FOLDER = new File(PROJECT_FOLDER, "src/main/java/demo");
+
+   @BeforeEach
+   public void prepareProject() throws InterruptedException, IOException {
+      TestUtil.deleteContents(PROJECT_FOLDER);
+      SOURCE_FOLDER.mkdirs();
+      ProjectBuilderHelper.init(PROJECT_FOLDER);
+
+      writeClazz("Changed", "return 1;");
+      writeClazz("Unchanged", "return 1;");
+      ProjectBuilderHelper.commit(PROJECT_FOLDER, "Initial version");
+
+      writeClazz("Changed", "return 2;");
+      ProjectBuilderHelper.commit(PROJECT_FOLDER, "Change method");
+   }
+
+   private void writeClazz(final String name, final String body) throws IOException {
+      String source = "package demo;\n\npublic class " + name + " {\n   public int method() {\n      " + body + "\n   }\n}\n";
+      FileUtils.writeStringToFile(new File(SOURCE_FOLDER, name + ".java"), source, StandardCharsets.UTF_8);
+   }
+
+   @Test
+   public void testOnlyChangedFilesAreRead() {
+      List<String> commits = GitUtils.getCommits(PROJECT_FOLDER, false, false);
+      PeassFolders folders = new PeassFolders(PROJECT_FOLDER);
+      TestExecutor executor = Mockito.mock(TestExecutor.class);
+      Mockito.when(executor.getModules()).thenReturn(new ProjectModules(PROJECT_FOLDER));
+
+      CommitIteratorGit iterator = new CommitIteratorGit(PROJECT_FOLDER, Arrays.asList(commits.get(1)), commits.get(0));
+      ChangeManager manager = new ChangeManager(folders, iterator, new ExecutionConfig(), executor);
+      manager.saveOldClasses();
+      Assert.assertEquals(0, folders.getOldSources().list().length);
+
+      Map<Type, ClazzChangeData> changes = manager.getChanges(commits.get(0));
+      iterator.getBackend().close();
+
+      MatcherAssert.assertThat(changes.keySet(), Matchers.contains(new Type("demo.Changed", "")));
+      MatcherAssert.assertThat(changes.get(new Type("demo.Changed", "")).getChangedMethods().get("Changed"), Matchers.contains("method"));
+
+      File oldSourceFolder = new File(folders.getOldSources(), "src/main/java/demo");
+      Assert.assertTrue(new File(oldSourceFolder, "Changed.java").exists());
+      Assert.assertFalse(new File(oldSourceFolder, "Unchanged.java").exists());
+   }
+}
@@ -0,0 +1,56 @@
+package de.dagere.peass.dependency.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import kieker.common.util.signature.Signature;
+import kieker.model.system.model.AllocationComponent;
+import kieker.model.system.model.AssemblyComponent;
+import kieker.model.system.model.ComponentType;
+import kieker.model.system.model.Execution;
+import kieker.model.system.model.ExecutionContainer;
+import kieker.model.system.model.Operation;
+
+public class TestExecutionSpool {
+
+   private static final ComponentType TYPE = new ComponentType(1, "de.dagere.peass.Example");
+   private static final AllocationComponent COMPONENT = new AllocationComponent(1, new AssemblyComponent(1, "example", TYPE), new ExecutionContainer(1, null, "localhost"));
+
+   @Test
+   public void testOrderInMemory() {
+      checkOrder(new ExecutionSpool());
+   }
+
+   @Test
+   public void testOrderWithChunkFiles() {
+      checkOrder(new ExecutionSpool(3));
+   }
+
+   private void checkOrder(final ExecutionSpool spool) {
+      Operation[] operations = new Operation[5];
+      for (int i = 0; i < operations.length; i++) {
+         operations[i] = new Operation(i, TYPE, new Signature("method" + i, new String[0], "void", new String[0]));
+      }
+
+      // Like Kieker, every execution is written when it finishes, so callees are written before their callers
+      spool.add(execution(operations[2], 2, 1, 2));
+      spool.add(execution(operations[1], 2, 0, 1));
+      spool.add(execution(operations[4], 1, 2, 2));
+      spool.add(execution(operations[3], 1, 1, 1));
+      spool.add(execution(operations[1], 1, 3, 1));
+      spool.add(execution(operations[0], 1, 0, 0));
+
+      List<String> calls = new ArrayList<>();
+      spool.forEachOrdered((operation, ess) -> calls.add(operation.getSignature().getName() + " " + ess));
+
+      Assert.assertEquals(6, spool.size());
+      Assert.assertEquals(List.of("method0 0", "method3 1", "method4 2", "method1 1", "method1 1", "method2 2"), calls);
+   }
+
+   private Execution execution(final Operation operation, final long traceId, final int eoi, final int ess) {
+      return new Execution(operation, COMPONENT, traceId, eoi, ess, 0, 1, false);
+   }
+}
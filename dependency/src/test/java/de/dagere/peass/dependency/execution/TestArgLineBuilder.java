@@ -47,6 +47,25 @@ public class TestArgLineBuilder {
       MatcherAssert.assertThat(argLineGradle, Matchers.not(Matchers.containsString("-javaagent")));
    }
    
+   @Test
+   public void testSampling() {
+      JUnitTestTransformer mockedTransformer = Mockito.mock(JUnitTestTransformer.class);
+      MeasurementConfig config = new MeasurementConfig(2);
+      config.getKiekerConfig().setUseKieker(false);
+      config.setUseSampling(true);
+      Mockito.when(mockedTransformer.getConfig()).thenReturn(config);
+
+      ArgLineBuilder builder = new ArgLineBuilder(mockedTransformer, new File("/tmp/asd"));
+
+      String argLineMaven = builder.buildArglineMaven(new File("/tmp/asd"));
+      MatcherAssert.assertThat(argLineMaven, Matchers.containsString("-XX:StartFlightRecording"));
+      MatcherAssert.assertThat(argLineMaven, Matchers.containsString("/tmp/asd/" + ArgLineBuilder.SAMPLING_RECORDING_NAME));
+      MatcherAssert.assertThat(argLineMaven, Matchers.not(Matchers.containsString("-javaagent")));
+
+      String argLineGradle = builder.buildSystemPropertiesGradle(new File("/tmp/asd"));
+      MatcherAssert.assertThat(argLineGradle, Matchers.containsString("jvmArgs \"-XX:FlightRecorderOptions"));
+   }
+
    @Test
    public void testAggregatedWriter() {
       JUnitTestTransformer mockedTransformer = Mockito.mock(JUnitTestTransformer.class);
@@ -23,6 +23,7 @@ import de.dagere.peass.config.KiekerConfig;
 import de.dagere.peass.dependency.RTSTestTransformerBuilder;
 import de.dagere.peass.dependencytests.DependencyTestConstants;
 import de.dagere.peass.execution.kieker.KiekerEnvironmentPreparer;
+import de.dagere.peass.execution.maven.pom.MavenTestExecutor;
 import de.dagere.peass.folders.PeassFolders;
 import de.dagere.peass.testtransformation.TestTransformer;
 
@@ -80,4 +81,22 @@ public class TestKiekerEnvironmentPreparer {
       checkAopCorrectness();
    }
 
+   @Test
+   public void testAdaptiveMonitoringConfig() throws IOException {
+      Set<String> includedMethodPatterns = new HashSet<String>();
+      includedMethodPatterns.add("public void defaultpackage.NormalDependency.methodA(java.lang.String,int)");
+      includedMethodPatterns.add("private int defaultpackage.NormalDependency.methodB()");
+      KiekerConfig kiekerConfig = new KiekerConfig(true);
+      PeassFolders folders = new PeassFolders(DependencyTestConstants.CURRENT);
+      TestTransformer testTransformer = RTSTestTransformerBuilder.createTestTransformer(folders, new ExecutionConfig(10), kiekerConfig);
+      KiekerEnvironmentPreparer kiekerEnvironmentPreparer = new KiekerEnvironmentPreparer(includedMethodPatterns, new LinkedList<>(), folders,
+            testTransformer, Arrays.asList(DependencyTestConstants.CURRENT));
+      kiekerEnvironmentPreparer.setActivatedMethodPattern(Set.of("private int defaultpackage.NormalDependency.methodB()"));
+
+      kiekerEnvironmentPreparer.writeConfig();
+
+      File adaptiveFile = new File(DependencyTestConstants.CURRENT, MavenTestExecutor.KIEKER_ADAPTIVE_FILENAME);
+      List<String> lines = FileUtils.readLines(adaptiveFile, "UTF-8");
+      Assert.assertEquals(Arrays.asList("- *", "+ private int defaultpackage.NormalDependency.methodB()"), lines);
+   }
 }
@@ -0,0 +1,88 @@
+package de.dagere.peass.dependency.persistence;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.nodeDiffDetector.data.TestMethodCall;
+import de.dagere.peass.dependency.analysis.data.TestSet;
+import de.dagere.peass.dependency.parallel.PartialSelectionResultsMerger;
+import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
+
+public class TestSelectionJournal {
+
+   private static final File FOLDER = new File("target/selectionJournal");
+
+   @BeforeEach
+   public void cleanFolder() throws IOException {
+      FileUtils.deleteDirectory(FOLDER);
+      FOLDER.mkdirs();
+   }
+
+   @Test
+   public void testJournalIsAppliedToSnapshot() throws IOException {
+      File snapshotFile = new File(FOLDER, "staticTestSelection_project.json");
+      StaticTestSelection snapshot = TestExecutionData.buildExampleDependencies();
+      SelectionJournalUtil.writeSnapshot(snapshotFile, snapshot);
+
+      SelectionJournal<CommitStaticSelection> journal = new SelectionJournal<>(snapshotFile, CommitStaticSelection.class);
+      CommitStaticSelection notRunning = new CommitStaticSelection();
+      notRunning.setRunning(false);
+      journal.append("000005", notRunning);
+      journal.append("000006", new CommitStaticSelection());
+
+      StaticTestSelection read = SelectionJournalUtil.readStaticSelection(snapshotFile);
+      Assert.assertArrayEquals(new String[] { "000001", "000002", "000004", "000005", "000006" }, read.getCommitNames());
+      Assert.assertFalse(read.getCommits().get("000005").isRunning());
+
+      SelectionJournalUtil.writeSnapshot(snapshotFile, read);
+      Assert.assertFalse(journal.getJournalFile().exists());
+      Assert.assertEquals(4, SelectionJournalUtil.readStaticSelection(snapshotFile).getCommits().size());
+   }
+
+   @Test
+   public void testIncompleteLastEntryIsIgnored() throws IOException {
+      File snapshotFile = new File(FOLDER, "traceTestSelection_project.json");
+      SelectionJournal<TestSet> journal = new SelectionJournal<>(snapshotFile, TestSet.class);
+      TestSet tests = new TestSet();
+      tests.addTest(new TestMethodCall("de.dagere.peass.ExampleTest", "testMe"));
+      journal.append("000002", tests);
+      Files.write(journal.getJournalFile().toPath(), "{\"commit\":\"000003\",\"da".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+      ExecutionData read = SelectionJournalUtil.readExecutionData(snapshotFile);
+      Assert.assertArrayEquals(new String[] { "000002" }, read.getCommitNames());
+      Assert.assertEquals(1, read.getCommits().get("000002").getTestMethods().size());
+   }
+
+   @Test
+   public void testMergingAppliesPartJournals() throws IOException {
+      File part1 = new File(FOLDER, "part1.json");
+      StaticTestSelection selection1 = new StaticTestSelection();
+      selection1.getInitialcommit().setCommit("000001");
+      SelectionJournalUtil.writeSnapshot(part1, selection1);
+      new SelectionJournal<>(part1, CommitStaticSelection.class).append("000002", new CommitStaticSelection());
+
+      File part2 = new File(FOLDER, "part2.json");
+      StaticTestSelection selection2 = new StaticTestSelection();
+      selection2.getInitialcommit().setCommit("000002");
+      SelectionJournalUtil.writeSnapshot(part2, selection2);
+      new SelectionJournal<>(part2, CommitStaticSelection.class).append("000003", new CommitStaticSelection());
+
+      Assert.assertEquals("000002", SelectionJournalUtil.readInitialCommitName(part2));
+
+      CommitComparatorInstance comparator = new CommitComparatorInstance(Arrays.asList("000001", "000002", "000003"));
+      File merged = new File(FOLDER, "merged.json");
+      StaticTestSelection mergedSelection = PartialSelectionResultsMerger.mergePartFiles(merged, new File[] { part2, part1 }, comparator);
+
+      Assert.assertEquals("000001", mergedSelection.getInitialcommit().getCommit());
+      Assert.assertArrayEquals(new String[] { "000001", "000002", "000003" }, mergedSelection.getCommitNames());
+   }
+}
@@ -18,7 +18,10 @@ import de.dagere.peass.dependency.analysis.data.TestSet;
 import de.dagere.peass.dependency.persistence.CommitStaticSelection;
 import de.dagere.peass.dependency.persistence.ExecutionData;
 import de.dagere.peass.dependency.traces.diff.DiffFileGenerator;
+import de.dagere.peass.dependency.traces.coverage.TraceCallSummary;
 import de.dagere.peass.dependency.traces.diff.TraceFileUtil;
+import de.dagere.peass.utils.Constants;
+import de.dagere.peass.utils.HashUtil;
 
 public class TestDiffFileGenerator {
 
@@ -122,6 +125,40 @@ public class TestDiffFileGenerator {
       Assert.assertFalse(expectedResultFileMethodExpanded.exists());
    }
 
+   @Test
+   public void testHashComparison() throws IOException {
+      TraceFileMapping mapping = DiffFileGeneraturTestUtil.generateFiles(rawFileFolder, test, TraceFileManager.ZIP_ENDING, true, true);
+
+      DiffFileGenerator generator = new DiffFileGenerator(diffFolder);
+      writeSummary(new File(rawFileFolder, "version1" + OneTraceGenerator.SUMMARY + ".json"), "hash1");
+      writeSummary(new File(rawFileFolder, "version2" + OneTraceGenerator.SUMMARY + ".json"), "hash1");
+      Assert.assertFalse(generator.tracesChanged(test, mapping));
+
+      writeSummary(new File(rawFileFolder, "version2" + OneTraceGenerator.SUMMARY + ".json"), "hash2");
+      Assert.assertTrue(generator.tracesChanged(test, mapping));
+   }
+
+   @Test
+   public void testWhitespaceOnlyChange() throws IOException {
+      TraceFileMapping mapping = DiffFileGeneraturTestUtil.generateFiles(rawFileFolder, test, TraceFileManager.ZIP_ENDING, true, true);
+
+      DiffFileGenerator generator = new DiffFileGenerator(diffFolder);
+      writeSummary(new File(rawFileFolder, "version1" + OneTraceGenerator.SUMMARY + ".json"), HashUtil.hashIgnoringWhitespace("public void test() {\n  a();\n}"));
+      writeSummary(new File(rawFileFolder, "version2" + OneTraceGenerator.SUMMARY + ".json"), HashUtil.hashIgnoringWhitespace("public void test()  {\n\ta( );\r\n}"));
+      Assert.assertFalse(generator.tracesChanged(test, mapping));
+
+      writeSummary(new File(rawFileFolder, "version2" + OneTraceGenerator.SUMMARY + ".json"), HashUtil.hashIgnoringWhitespace("public void test() {\n  a();\n\n}"));
+      Assert.assertTrue(generator.tracesChanged(test, mapping));
+   }
+
+   private void writeSummary(final File summaryFile, final String nocommentHash) throws IOException {
+      TraceCallSummary summary = new TraceCallSummary();
+      summary.setTestcase(test);
+      summary.addCall("de.dagere.peass.ExampleTest#test");
+      summary.setNocommentComparisonHash(nocommentHash);
+      Constants.OBJECTMAPPER.writeValue(summaryFile, summary);
+   }
+
    private void checkResultDiff(File expectedResultFileNoComment) throws IOException {
       List<String> text = TraceFileUtil.getText(expectedResultFileNoComment);
       MatcherAssert.assertThat(text.get(1), Matchers.containsString("SomeSource"));
@@ -48,7 +48,28 @@ public class TestOneTraceGenerator {
       Assert.assertTrue(expectedResultFile.exists());
    }
 
+   /**
+    * The trace size limit only applies to the static test selection, since the trace generation does not keep the trace in memory
+    */
+   @Test
+   public void testTraceSizeDoesNotSkipTraceGeneration() throws IOException {
+      File copiedFolder = new File("target/testOneTraceGenerator/demo-fine_peass/measurementsTemp/");
+      if (copiedFolder.exists()) {
+         FileUtils.deleteDirectory(copiedFolder);
+      }
+      FileUtils.copyDirectory(measurementsTempFolder_Fine, copiedFolder);
+
+      KiekerConfig kiekerConfig = new KiekerConfig();
+      kiekerConfig.setTraceSizeInMb(0);
+      analyzeFolder(copiedFolder, kiekerConfig);
+      Assert.assertTrue(expectedResultFile.exists());
+   }
+
    private void analyzeFolder(File moduleExampleResultsFolder) {
+      analyzeFolder(moduleExampleResultsFolder, new KiekerConfig());
+   }
+
+   private void analyzeFolder(File moduleExampleResultsFolder, KiekerConfig kiekerConfig) {
       try (MockedStatic<KiekerFolderUtil> kfu = Mockito.mockStatic(KiekerFolderUtil.class, Mockito.CALLS_REAL_METHODS)) {
          kfu.when(() -> KiekerFolderUtil.getModuleResultFolder(Mockito.any(), Mockito.any()))
                .thenReturn(new File(moduleExampleResultsFolder, "demo-project-gradle"));
@@ -58,7 +79,7 @@ public class TestOneTraceGenerator {
          TestMethodCall testcase = new TestMethodCall("de.dagere.peass.ExampleTest", "test");
          OneTraceGenerator generator = new OneTraceGenerator(resultsFolders, folders, testcase, new TraceFileMapping(), "d4d964daa4a77bac09422174509c31a19d082ed4",
                new LinkedList<>(),
-               Mockito.mock(ModuleClassMapping.class), new KiekerConfig(), new TestSelectionConfig(1, false));
+               Mockito.mock(ModuleClassMapping.class), kiekerConfig, new TestSelectionConfig(1, false));
          generator.generateTrace("d4d964daa4a77bac09422174509c31a19d082ed4");
       }
    }
@@ -0,0 +1,79 @@
+package de.dagere.peass.dependency.traces;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.dagere.peass.utils.HashUtil;
+
+public class TestTraceBlobStore {
+
+   @TempDir
+   File viewFolder;
+
+   @Test
+   public void testBlobIsWrittenOnce() throws IOException {
+      TraceBlobStore store = new TraceBlobStore(new File(viewFolder, TraceBlobStore.BLOB_FOLDER_NAME));
+      File firstTrace = new File(viewFolder, "view_000001/ClazzA/methodA/000001.txt");
+      File secondTrace = new File(viewFolder, "view_000002/ClazzA/methodA/000002.txt");
+      firstTrace.getParentFile().mkdirs();
+      secondTrace.getParentFile().mkdirs();
+
+      AtomicInteger writes = new AtomicInteger();
+      String hash = HashUtil.hash("ClazzA#methodA");
+      for (File traceFile : new File[] { firstTrace, secondTrace }) {
+         store.store(traceFile, hash, blobFile -> {
+            writes.incrementAndGet();
+            FileUtils.writeStringToFile(blobFile, "ClazzA#methodA", StandardCharsets.UTF_8);
+         });
+      }
+
+      Assert.assertEquals(1, writes.get());
+      Assert.assertEquals("ClazzA#methodA", FileUtils.readFileToString(firstTrace, StandardCharsets.UTF_8));
+      Assert.assertEquals("ClazzA#methodA", FileUtils.readFileToString(secondTrace, StandardCharsets.UTF_8));
+      Assert.assertTrue(store.getBlob(hash, TraceFileManager.TXT_ENDING).exists());
+   }
+
+   @Test
+   public void testGarbageCollection() throws IOException {
+      TraceBlobStore store = new TraceBlobStore(new File(viewFolder, TraceBlobStore.BLOB_FOLDER_NAME));
+      File oldTrace = new File(viewFolder, "view_000001/ClazzA/methodA/000001.txt");
+      File newTrace = new File(viewFolder, "view_000002/ClazzA/methodA/000002.txt");
+      oldTrace.getParentFile().mkdirs();
+      newTrace.getParentFile().mkdirs();
+
+      String oldHash = HashUtil.hash("old");
+      String newHash = HashUtil.hash("new");
+      store.store(oldTrace, oldHash, blobFile -> FileUtils.writeStringToFile(blobFile, "old", StandardCharsets.UTF_8));
+      store.store(newTrace, newHash, blobFile -> FileUtils.writeStringToFile(blobFile, "new", StandardCharsets.UTF_8));
+
+      Assert.assertEquals(0, store.collectGarbage(viewFolder));
+
+      FileUtils.deleteDirectory(new File(viewFolder, "view_000001"));
+      Assert.assertEquals(1, store.collectGarbage(viewFolder));
+
+      Assert.assertFalse(store.getBlob(oldHash, TraceFileManager.TXT_ENDING).exists());
+      Assert.assertTrue(store.getBlob(newHash, TraceFileManager.TXT_ENDING).exists());
+      Assert.assertEquals("new", FileUtils.readFileToString(newTrace, StandardCharsets.UTF_8));
+   }
+
+   @Test
+   public void testNoGarbageCollectionAfterCopying() throws IOException {
+      TraceBlobStore store = new TraceBlobStore(new File(viewFolder, TraceBlobStore.BLOB_FOLDER_NAME));
+      File trace = new File(viewFolder, "view_000001/ClazzA/methodA/000001.txt");
+      trace.getParentFile().mkdirs();
+
+      String hash = HashUtil.hash("copied");
+      store.store(trace, hash, blobFile -> FileUtils.writeStringToFile(blobFile, "copied", StandardCharsets.UTF_8));
+      store.markCopied();
+
+      Assert.assertEquals(-1, store.collectGarbage(viewFolder));
+      Assert.assertTrue(store.getBlob(hash, TraceFileManager.TXT_ENDING).exists());
+   }
+}
@@ -11,7 +11,10 @@ import org.mockito.Mockito;
 
 import de.dagere.nodeDiffDetector.data.TestMethodCall;
 import de.dagere.peass.config.TestSelectionConfig;
+import de.dagere.peass.dependency.traces.coverage.TraceCallSummary;
 import de.dagere.peass.folders.ResultsFolders;
+import de.dagere.peass.utils.Constants;
+import de.dagere.peass.utils.HashUtil;
 import de.dagere.requitur.ReducedTraceElement;
 import de.dagere.requitur.content.StringContent;
 
@@ -33,6 +36,24 @@ public class TraceWriterTest {
       Assert.assertTrue(expectedResultFile.exists());
    }
 
+   @Test
+   public void testHashWriting() throws IOException {
+      ResultsFolders resultsFolders = new ResultsFolders(tempDir, "test");
+      TestSelectionConfig testSelectionConfig = new TestSelectionConfig(1, false, true, true, false, true);
+      TraceWriter writer = new TraceWriter("000001", new TestMethodCall("ClazzA", "methodA"), resultsFolders, new TraceFileMapping(), testSelectionConfig);
+
+      TraceWithMethods exampleTrace = getTrace();
+
+      writer.writeTrace("000002", 3, Mockito.mock(TraceMethodReader.class), exampleTrace);
+
+      File summaryFile = new File(resultsFolders.getViewFolder(), "view_000001/ClazzA/methodA/000002" + OneTraceGenerator.SUMMARY + ".json");
+      TraceCallSummary summary = Constants.OBJECTMAPPER.readValue(summaryFile, TraceCallSummary.class);
+      Assert.assertEquals(HashUtil.hash(exampleTrace.getNocommentTrace()), summary.getNocommentTraceHash());
+      Assert.assertEquals(HashUtil.hashIgnoringWhitespace(exampleTrace.getNocommentTrace()), summary.getNocommentComparisonHash());
+      Assert.assertEquals(HashUtil.hash(exampleTrace.getWholeTrace()), summary.getTraceHash());
+      Assert.assertEquals(HashUtil.hash(exampleTrace.getTraceMethods()), summary.getMethodTraceHash());
+   }
+
    @Test
    public void testModuleWriting() throws IOException {
       ResultsFolders resultsFolders = new ResultsFolders(tempDir, "test");
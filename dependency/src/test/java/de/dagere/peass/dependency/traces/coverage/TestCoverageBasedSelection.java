@@ -92,6 +92,40 @@ public class TestCoverageBasedSelection {
       MatcherAssert.assertThat(traceBSummary.getSelectedChanges(), IsEmptyCollection.empty());
    }
 
+   @Test
+   public void testManyTestsSelection() {
+      List<TraceCallSummary> traces = new LinkedList<>();
+      Set<Type> changes = new HashSet<>();
+      TraceCallSummary coveringAll = new TraceCallSummary();
+      coveringAll.setTestcase(new TestMethodCall("ClazzAll", "testAll"));
+      for (int i = 0; i < 10000; i++) {
+         changes.add(new MethodCall("de.dagere.peass.ExampleClazz", "", "method" + i));
+         TraceCallSummary summary = new TraceCallSummary();
+         summary.setTestcase(new TestMethodCall("Clazz" + i, "test"));
+         summary.getCallCounts().put("de.dagere.peass.ExampleClazz#method" + i, 2);
+         traces.add(summary);
+         coveringAll.getCallCounts().put("de.dagere.peass.ExampleClazz#method" + i, 1);
+      }
+      traces.add(coveringAll);
+      TraceCallSummary equalToFirst = new TraceCallSummary();
+      equalToFirst.setTestcase(new TestMethodCall("ClazzEqual", "test"));
+      equalToFirst.getCallCounts().put("de.dagere.peass.ExampleClazz#method0", 2);
+      traces.add(equalToFirst);
+
+      CoverageSelectionCommit selection = CoverageBasedSelector.selectBasedOnCoverage(traces, changes);
+
+      TraceCallSummary selectedSummary = selection.getTestcases().get(new TestMethodCall("ClazzAll", "testAll"));
+      Assert.assertTrue(selectedSummary.isSelected());
+      Assert.assertEquals(10000, selectedSummary.getOverallScore());
+      Assert.assertEquals(10000, selectedSummary.getSelectedChanges().size());
+
+      Assert.assertEquals(10002, selection.getTestcases().size());
+      Assert.assertEquals(new TestMethodCall("ClazzAll", "testAll"), selection.getTestcases().keySet().iterator().next());
+      TraceCallSummary notSelected = selection.getTestcases().get(new TestMethodCall("Clazz0", "test"));
+      Assert.assertFalse(notSelected.isSelected());
+      Assert.assertEquals(0, notSelected.getOverallScore());
+   }
+
    private List<TraceCallSummary> getTraceSummaryList() {
       List<Content> firstTrace = TestTraceSummaryTransformer.buildTestTrace();
       TraceCallSummary summary = TraceSummaryTransformer.transform(new TestMethodCall("ClazzA", "testA"), firstTrace);
@@ -1,5 +1,6 @@
 package de.dagere.peass.dependency.traces.coverage;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Set;
@@ -15,6 +16,8 @@ import de.dagere.nodeDiffDetector.data.Type;
 import de.dagere.nodeDiffDetector.diffDetection.ClazzChangeData;
 import de.dagere.peass.dependency.analysis.data.ChangeTestMapping;
 import de.dagere.peass.dependency.analysis.data.TestDependencies;
+import de.dagere.peass.dependency.persistence.ChangeTestIndex;
+import de.dagere.peass.utils.Constants;
 
 public class TestTestDependencies {
    
@@ -64,6 +67,40 @@ public class TestTestDependencies {
       MatcherAssert.assertThat(changeTestMap.getChanges().get(new Type("package.ClazzA", "moduleA")), IsIterableContaining.hasItem(testEntity));
    }
    
+   @Test
+   public void testRemovedTestIsNotSelected() {
+      TestDependencies dependencies = buildTestDependencies();
+      TestMethodCall otherTest = new TestMethodCall("package.ClazzC", "testC", "moduleA");
+      HashMap<Type, Set<String>> calledClasses = new HashMap<>();
+      calledClasses.put(new Type("package.ClazzB", "moduleA"), new HashSet<>(Set.of("methodB")));
+      dependencies.addDependencies(otherTest, calledClasses);
+
+      MatcherAssert.assertThat(dependencies.getCallers(new Type("package.ClazzB", "moduleA")), IsIterableContaining.hasItems(testEntity, otherTest));
+
+      dependencies.removeTest(testEntity);
+
+      Set<TestMethodCall> callers = dependencies.getCallers(new Type("package.ClazzB", "moduleA"));
+      Assert.assertEquals(1, callers.size());
+      MatcherAssert.assertThat(callers, IsIterableContaining.hasItem(otherTest));
+      Assert.assertTrue(dependencies.getCallers(new Type("package.ClazzA", "moduleA")).isEmpty());
+   }
+
+   @Test
+   public void testIndexSerialization() throws IOException {
+      TestDependencies dependencies = buildTestDependencies();
+
+      String serialized = Constants.OBJECTMAPPER.writeValueAsString(dependencies.toIndex("000001"));
+      ChangeTestIndex deserialized = Constants.OBJECTMAPPER.readValue(serialized, ChangeTestIndex.class);
+      Assert.assertEquals("000001", deserialized.getCommit());
+
+      TestDependencies loaded = new TestDependencies();
+      loaded.loadIndex(deserialized);
+
+      Assert.assertEquals(dependencies.getCopiedDependencies(), loaded.getCopiedDependencies());
+      MatcherAssert.assertThat(loaded.getCallers(new Type("package.ClazzB", "moduleA")), IsIterableContaining.hasItem(testEntity));
+      testNonParameterChange(loaded);
+   }
+
    private TestDependencies buildTestDependenciesFQN() {
       TestDependencies dependencies = new TestDependencies();
       
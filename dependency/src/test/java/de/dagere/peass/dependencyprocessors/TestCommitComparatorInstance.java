@@ -0,0 +1,60 @@
+package de.dagere.peass.dependencyprocessors;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.peass.dependency.analysis.data.TestSet;
+import de.dagere.peass.dependency.persistence.ExecutionData;
+
+public class TestCommitComparatorInstance {
+
+   @Test
+   public void testOrdering() {
+      CommitComparatorInstance comparator = new CommitComparatorInstance(Arrays.asList("A", "B", "C", "D"));
+
+      Assertions.assertTrue(comparator.isBefore("A", "C"));
+      Assertions.assertFalse(comparator.isBefore("D", "C"));
+      Assertions.assertTrue(comparator.compare("B", "D") < 0);
+      Assertions.assertEquals(2, comparator.getVersionIndex("C"));
+      Assertions.assertEquals(-1, comparator.getVersionIndex("X"));
+      Assertions.assertTrue(comparator.isBefore("X", "A"));
+
+      Assertions.assertEquals("B", comparator.getPreviousVersion("C"));
+      Assertions.assertEquals(CommitComparatorInstance.NO_BEFORE, comparator.getPreviousVersion("A"));
+   }
+
+   @Test
+   public void testMergeHistory() {
+      // A - B - D (merge of B and C)
+      //  \- C -/
+      Map<String, List<String>> parents = new HashMap<>();
+      parents.put("B", Arrays.asList("A"));
+      parents.put("C", Arrays.asList("A"));
+      parents.put("D", Arrays.asList("B", "C"));
+      CommitComparatorInstance comparator = new CommitComparatorInstance(Arrays.asList("A", "B", "C", "D"), parents);
+
+      Assertions.assertEquals("B", comparator.getPreviousVersion("D"));
+      Assertions.assertEquals("A", comparator.getPreviousVersion("C"));
+
+      Assertions.assertTrue(comparator.isBefore("B", "C"));
+   }
+
+   @Test
+   public void testPredecessorsOfSelection() {
+      ExecutionData data = new ExecutionData();
+      data.addCall("B", new TestSet());
+      data.getCommits().get("B").setPredecessor("A");
+      data.addCall("D", new TestSet());
+      data.getCommits().get("D").setPredecessor("C");
+
+      CommitComparatorInstance comparator = new CommitComparatorInstance(data);
+      Assertions.assertEquals(Arrays.asList("B", "D"), comparator.getCommits());
+      Assertions.assertEquals("C", comparator.getPreviousVersion("D"));
+      Assertions.assertTrue(comparator.isBefore("B", "D"));
+   }
+}
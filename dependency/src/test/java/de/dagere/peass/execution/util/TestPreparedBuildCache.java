@@ -0,0 +1,67 @@
+package de.dagere.peass.execution.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.peass.TestConstants;
+import de.dagere.peass.TestUtil;
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.dependency.DummyExecutor;
+import de.dagere.peass.execution.utils.EnvironmentVariables;
+import de.dagere.peass.execution.utils.PreparedBuildCache;
+import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.testtransformation.JUnitTestTransformer;
+import de.dagere.peass.vcs.ProjectBuilderHelper;
+
+public class TestPreparedBuildCache {
+
+   private static final File PROJECT_FOLDER = new File(TestConstants.CURRENT_FOLDER, "demo-build");
+
+   @BeforeEach
+   public void prepareProject() throws InterruptedException, IOException {
+      TestUtil.deleteContents(TestConstants.CURRENT_FOLDER);
+      PROJECT_FOLDER.mkdirs();
+      ProjectBuilderHelper.init(PROJECT_FOLDER);
+
+      FileUtils.writeStringToFile(new File(PROJECT_FOLDER, "file.txt"), "Dummy", StandardCharsets.UTF_8);
+      ProjectBuilderHelper.commit(PROJECT_FOLDER, "Initial version");
+   }
+
+   @Test
+   public void testBuildKey() {
+      MeasurementConfig config = new MeasurementConfig(5);
+      DummyExecutor executor = new DummyExecutor(new PeassFolders(PROJECT_FOLDER), new JUnitTestTransformer(PROJECT_FOLDER, config), new EnvironmentVariables());
+
+      String key = PreparedBuildCache.getBuildKey("000001", executor);
+      Assertions.assertEquals(key, PreparedBuildCache.getBuildKey("000001", executor));
+      Assertions.assertNotEquals(key, PreparedBuildCache.getBuildKey("000002", executor));
+
+      executor.setIncludedMethods(Set.of("public void de.dagere.peass.C0_0.method0()"));
+      String keyWithPattern = PreparedBuildCache.getBuildKey("000001", executor);
+      Assertions.assertNotEquals(key, keyWithPattern);
+
+      config.setIterations(3);
+      Assertions.assertNotEquals(keyWithPattern, PreparedBuildCache.getBuildKey("000001", executor));
+   }
+
+   @Test
+   public void testChangedWorkingTreeIsNotReused() throws IOException {
+      PreparedBuildCache cache = new PreparedBuildCache();
+      Assertions.assertFalse(cache.isPrepared(PROJECT_FOLDER, "key"));
+
+      FileUtils.writeStringToFile(new File(PROJECT_FOLDER, "file.txt"), "Transformed", StandardCharsets.UTF_8);
+      cache.markPrepared(PROJECT_FOLDER, "key");
+      Assertions.assertTrue(cache.isPrepared(PROJECT_FOLDER, "key"));
+      Assertions.assertFalse(cache.isPrepared(PROJECT_FOLDER, "otherKey"));
+
+      FileUtils.writeStringToFile(new File(PROJECT_FOLDER, "file.txt"), "Changed", StandardCharsets.UTF_8);
+      Assertions.assertFalse(cache.isPrepared(PROJECT_FOLDER, "key"));
+   }
+}
@@ -0,0 +1,70 @@
+package de.dagere.peass.folders;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.peass.TestConstants;
+import de.dagere.peass.TestUtil;
+import de.dagere.peass.vcs.ProjectBuilderHelper;
+
+public class TestTemporaryProjectFolderPool {
+
+   private static final File PROJECT_FOLDER = new File(TestConstants.CURRENT_FOLDER, "demo-pool");
+
+   @BeforeEach
+   public void prepareProject() throws InterruptedException, IOException {
+      TestUtil.deleteContents(TestConstants.CURRENT_FOLDER);
+      PROJECT_FOLDER.mkdirs();
+      ProjectBuilderHelper.init(PROJECT_FOLDER);
+
+      FileUtils.writeStringToFile(new File(PROJECT_FOLDER, "file.txt"), "Dummy", StandardCharsets.UTF_8);
+      ProjectBuilderHelper.commit(PROJECT_FOLDER, "Initial version");
+   }
+
+   @Test
+   public void testFolderIsReused() throws IOException {
+      TemporaryProjectFolderPool pool = new TemporaryProjectFolderPool(new PeassFolders(PROJECT_FOLDER));
+
+      PeassFolders first = pool.getFolders("parallel_test", null);
+      FileUtils.writeStringToFile(new File(first.getProjectFolder(), "file.txt"), "Transformed", StandardCharsets.UTF_8);
+      pool.release("parallel_test");
+
+      PeassFolders second = pool.getFolders("parallel_test", null);
+      Assertions.assertSame(first, second);
+      Assertions.assertEquals("Transformed", FileUtils.readFileToString(new File(second.getProjectFolder(), "file.txt"), StandardCharsets.UTF_8));
+   }
+
+   @Test
+   public void testChangedFolderIsReset() throws IOException {
+      TemporaryProjectFolderPool pool = new TemporaryProjectFolderPool(new PeassFolders(PROJECT_FOLDER));
+
+      PeassFolders first = pool.getFolders("parallel_test", null);
+      pool.release("parallel_test");
+      FileUtils.writeStringToFile(new File(first.getProjectFolder(), "file.txt"), "Changed", StandardCharsets.UTF_8);
+
+      PeassFolders second = pool.getFolders("parallel_test", null);
+      Assertions.assertSame(first, second);
+      Assertions.assertEquals("Dummy", FileUtils.readFileToString(new File(second.getProjectFolder(), "file.txt"), StandardCharsets.UTF_8));
+   }
+
+   @Test
+   public void testCorruptedFolderIsRecreated() throws IOException {
+      TemporaryProjectFolderPool pool = new TemporaryProjectFolderPool(new PeassFolders(PROJECT_FOLDER));
+
+      PeassFolders first = pool.getFolders("parallel_test", null);
+      pool.release("parallel_test");
+
+      FileUtils.deleteDirectory(new File(first.getProjectFolder(), ".git"));
+
+      PeassFolders second = pool.getFolders("parallel_test", null);
+      Assertions.assertNotSame(first, second);
+      Assertions.assertTrue(new File(second.getProjectFolder(), ".git").exists());
+      Assertions.assertTrue(new File(second.getProjectFolder(), "file.txt").exists());
+   }
+}
@@ -21,6 +21,7 @@ import de.dagere.peass.TestConstants;
 import de.dagere.peass.config.ExecutionConfig;
 import de.dagere.peass.config.KiekerConfig;
 import de.dagere.peass.dependency.ChangeManager;
+import de.dagere.peass.dependency.parallel.CommitSegment;
 import de.dagere.peass.dependency.parallel.OneReader;
 import de.dagere.peass.dependency.parallel.PartialSelectionResultsMerger;
 import de.dagere.peass.dependency.persistence.InitialCommit;
@@ -67,6 +68,11 @@ public class TestCommitSplitting {
             System.out.println("Reading: " + iterator.getCommitName());
          }
       }
+
+      @Override
+      public void writeSnapshot() {
+         // The dummy reader has no result folders, so its results are only kept in memory
+      }
    }
 
    @Test
@@ -93,6 +99,33 @@ public class TestCommitSplitting {
       }
    }
    
+   @Test
+   public void testSegmentSplittingNonRunning() throws IOException {
+      CommitComparatorInstance comparator = ParallelTestUtil.getCommits();
+      List<CommitSegment> segments = CommitSegment.split(comparator.getCommits(), 3);
+      Assert.assertEquals(3, segments.size());
+      Assert.assertEquals("9", segments.get(2).getCommits().get(segments.get(2).getCommits().size() - 1));
+
+      Set<String> defaultNonRunning = DummyReader.nonRunning;
+      try {
+         for (int i = 1; i < 10; i++) {
+            for (int j = i + 1; j < 10; j++) {
+               DummyReader.nonRunning = new HashSet<>(Arrays.asList(String.valueOf(i), String.valueOf(j)));
+
+               List<StaticTestSelection> dependencies = new LinkedList<>();
+               for (CommitSegment segment : segments) {
+                  readDummyDependencies(dependencies, segment.getIndex(), segment.getCommits(), segment.getReserveCommits(), segment.getMinimumCommit());
+               }
+
+               StaticTestSelection merged = PartialSelectionResultsMerger.mergeDependencies(dependencies, comparator);
+               Assert.assertEquals("Error in " + DummyReader.nonRunning, 7, merged.getCommits().size());
+            }
+         }
+      } finally {
+         DummyReader.nonRunning = defaultNonRunning;
+      }
+   }
+
    @Test
    public void testEmptyMerging() {
       StaticTestSelection merged = PartialSelectionResultsMerger.mergeDependencies(new LinkedList<>(), new CommitComparatorInstance(new LinkedList<>()));
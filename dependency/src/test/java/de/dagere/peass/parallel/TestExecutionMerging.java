@@ -2,10 +2,12 @@ package de.dagere.peass.parallel;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.apache.commons.io.FileUtils;
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
@@ -22,6 +24,7 @@ import de.dagere.peass.dependency.analysis.data.TestSet;
 import de.dagere.peass.dependency.parallel.PartialSelectionResultsMerger;
 import de.dagere.peass.dependency.persistence.ExecutionData;
 import de.dagere.peass.dependency.persistence.StaticTestSelection;
+import de.dagere.peass.dependency.traces.TraceBlobStore;
 import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
 import de.dagere.peass.folders.ResultsFolders;
 import de.dagere.peass.utils.Constants;
@@ -70,6 +73,26 @@ public class TestExecutionMerging {
       Assert.assertEquals("xyz12", merged.getCommitNames()[6]);
    }
 
+   @Test
+   public void testBlobMerging() throws IOException {
+      File basicFolder = new File("target/blobMerging");
+      TestUtil.deleteContents(basicFolder);
+      ResultsFolders[] partFolders = new ResultsFolders[2];
+      for (int i = 0; i < partFolders.length; i++) {
+         partFolders[i] = new ResultsFolders(new File(basicFolder, "part" + i), "project");
+         FileUtils.writeStringToFile(new File(partFolders[i].getTraceBlobFolder(), "ab/ab" + i + ".txt"), "Trace " + i, StandardCharsets.UTF_8);
+      }
+      new TraceBlobStore(partFolders[1].getTraceBlobFolder()).markCopied();
+      ResultsFolders mergedFolders = new ResultsFolders(new File(basicFolder, "merged"), "project");
+
+      PartialSelectionResultsMerger.mergeViews(partFolders, mergedFolders);
+
+      File mergedBlobFolder = mergedFolders.getTraceBlobFolder();
+      Assert.assertTrue(new File(mergedBlobFolder, "ab/ab0.txt").exists());
+      Assert.assertTrue(new File(mergedBlobFolder, "ab/ab1.txt").exists());
+      Assert.assertTrue(new File(mergedBlobFolder, TraceBlobStore.COPY_MARKER_NAME).exists());
+   }
+
    @Test
    public void mergeExecutions() {
       ExecutionData ex1 = createExecutionData(0);
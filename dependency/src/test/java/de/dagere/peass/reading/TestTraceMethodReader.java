@@ -163,4 +163,29 @@ public class TestTraceMethodReader {
 
       Assert.assertEquals(7, trace.getLength());
    }
+
+   @Test
+   public void testStreamedTraceEqualsListTrace() throws ParseException, IOException {
+      final ProcessBuilder builder = new ProcessBuilder("java",
+            "-javaagent:" + getAgentPath(),
+            "-Dorg.aspectj.weaver.loadtime.configuration=file:src" + File.separator + "test" + File.separator + "resources" + File.separator + "aop.xml",
+            "-cp", getJarPath(),
+            "de.dagere.peass.example.CallerLongFor");
+      final Process process = builder.start();
+
+      StreamGobbler.showFullProcess(process);
+      final File[] kiekerFolders = tmpFolder.listFiles((FileFilter) new WildcardFileFilter("kieker-*"));
+
+      final File traceFolder = kiekerFolders[0];
+      final File sourceFolder = new File("src" + File.separator + "test" + File.separator + "java");
+
+      final TraceMethodReader listReader = new TraceMethodReader(new CalledMethodLoader(traceFolder, ModuleClassMapping.SINGLE_MODULE_MAPPING, new KiekerConfig()).getShortTrace(""),
+            sourceFolder);
+      final TraceMethodReader streamingReader = new TraceMethodReader(traceFolder, ModuleClassMapping.SINGLE_MODULE_MAPPING, new KiekerConfig(), sourceFolder);
+
+      Assert.assertEquals(listReader.getTraceLength(), streamingReader.getTraceLength());
+      Assert.assertEquals(7, streamingReader.getTraceWithMethods().getLength());
+      Assert.assertEquals(listReader.getTraceWithMethods().getWholeTrace(), streamingReader.getTraceWithMethods().getWholeTrace());
+      Assert.assertEquals(listReader.getExpandedTrace().toString(), streamingReader.getExpandedTrace().toString());
+   }
 }
@@ -1,13 +1,17 @@
 package de.dagere.peass.testtransformation;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Set;
 
+import org.apache.commons.io.FileUtils;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.hamcrest.core.IsIterableContaining;
+import org.junit.Assert;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import de.dagere.nodeDiffDetector.data.TestClazzCall;
 import de.dagere.nodeDiffDetector.data.TestMethodCall;
@@ -30,4 +34,24 @@ public class TestJUnitTestTransformer {
       MatcherAssert.assertThat(testMethodNamesInner, Matchers.not(IsIterableContaining.hasItem(new TestMethodCall("demo.project.gradle.ExampleTest$SenselessClazz", "test", ""))));
       
    }
+
+   @Test
+   public void testCachedTestFileInformation(@TempDir final File tempDir) throws IOException {
+      File projectFolder = new File("src/test/resources/transformation/findStaticMethods");
+      JUnitTestTransformer transformer = new JUnitTestTransformer(projectFolder, new MeasurementConfig(5));
+      transformer.determineVersions(Arrays.asList(projectFolder));
+
+      File copiedFolder = new File(tempDir, "findStaticMethods");
+      FileUtils.copyDirectory(projectFolder, copiedFolder);
+      JUnitTestTransformer copyTransformer = new JUnitTestTransformer(copiedFolder, new MeasurementConfig(5));
+      copyTransformer.determineVersions(Arrays.asList(copiedFolder));
+
+      Assert.assertTrue("Unchanged test files should not be parsed again", copyTransformer.getLoadedFiles().isEmpty());
+      Set<TestMethodCall> testMethodNames = copyTransformer.getTestMethodNames(copiedFolder, new TestClazzCall("demo.project.gradle.ExampleTest"));
+      MatcherAssert.assertThat(testMethodNames, IsIterableContaining.hasItem(new TestMethodCall("demo.project.gradle.ExampleTest", "test", "")));
+
+      File testFile = new File(copiedFolder, "src/test/java/demo/project/gradle/ExampleTest.java").getCanonicalFile();
+      Assert.assertNotNull(copyTransformer.getUnit(testFile));
+      Assert.assertEquals(1, copyTransformer.getLoadedFiles().size());
+   }
 }
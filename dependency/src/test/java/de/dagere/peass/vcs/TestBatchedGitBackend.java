@@ -0,0 +1,81 @@
+package de.dagere.peass.vcs;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.peass.TestConstants;
+import de.dagere.peass.TestUtil;
+
+public class TestBatchedGitBackend {
+
+   private final static File PROJECT_FOLDER = new File(TestConstants.CURRENT_FOLDER, "demo-git-batched");
+
+   private static final File EXAMPLE_FILE = new File(PROJECT_FOLDER, "file.txt");
+
+   @BeforeEach
+   public void prepareProject() throws InterruptedException, IOException {
+      TestUtil.deleteContents(PROJECT_FOLDER);
+      PROJECT_FOLDER.mkdirs();
+      ProjectBuilderHelper.init(PROJECT_FOLDER);
+
+      for (int i = 0; i < 3; i++) {
+         FileUtils.writeStringToFile(EXAMPLE_FILE, "Content " + i, StandardCharsets.UTF_8);
+         ProjectBuilderHelper.commit(PROJECT_FOLDER, "Version " + i + "\n\nDetails of version " + i);
+      }
+   }
+
+   @Test
+   public void testMetadataOfAllCommits() throws IOException {
+      List<String> commits = GitUtils.getCommits(PROJECT_FOLDER, false, false);
+      Assert.assertEquals(3, commits.size());
+
+      try (GitBackend backend = new BatchedGitBackend(PROJECT_FOLDER)) {
+         List<GitCommit> metadata = backend.getCommitMetadata(Arrays.asList(commits.get(0), "0000000000000000000000000000000000000000", commits.get(2)));
+
+         Assert.assertEquals(3, metadata.size());
+         Assert.assertEquals(commits.get(0), metadata.get(0).getTag());
+         MatcherAssert.assertThat(metadata.get(0).getComitter(), Matchers.containsString("anonym@generated.org"));
+         MatcherAssert.assertThat(metadata.get(0).getDate(), Matchers.matchesPattern("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2} [+-]\\d{4}"));
+         Assert.assertEquals("Version 0 Details of version 0 ", metadata.get(0).getMessage());
+
+         Assert.assertNull(metadata.get(1).getComitter());
+         Assert.assertEquals("Version 2 Details of version 2 ", metadata.get(2).getMessage());
+
+         Assert.assertEquals("Version 1 Details of version 1", backend.getCommitText(commits.get(1)));
+         Assert.assertEquals("anonym@generated.org Anonym", backend.getCommitter(commits.get(1)));
+      }
+   }
+
+   @Test
+   public void testMailmap() throws IOException {
+      FileUtils.writeStringToFile(new File(PROJECT_FOLDER, ".mailmap"), "Real Name <real@generated.org> <anonym@generated.org>\n", StandardCharsets.UTF_8);
+      List<String> commits = GitUtils.getCommits(PROJECT_FOLDER, false, false);
+
+      try (GitBackend backend = new BatchedGitBackend(PROJECT_FOLDER)) {
+         Assert.assertEquals("real@generated.org Real Name", backend.getCommitter(commits.get(1)));
+         Assert.assertEquals("Real Name <real@generated.org>", backend.getCommitMetadata(commits).get(0).getComitter());
+      }
+   }
+
+   @Test
+   public void testFileContent() throws IOException {
+      List<String> commits = GitUtils.getCommits(PROJECT_FOLDER, false, false);
+
+      try (GitBackend backend = new BatchedGitBackend(PROJECT_FOLDER)) {
+         Assert.assertEquals("Content 1", new String(backend.readFile(commits.get(1), "file.txt"), StandardCharsets.UTF_8));
+         Assert.assertEquals("Content 2", new String(backend.readFile(commits.get(2), "file.txt"), StandardCharsets.UTF_8));
+         Assert.assertNull(backend.readFile(commits.get(2), "notExisting.txt"));
+         Assert.assertEquals(commits.get(1), backend.resolve("HEAD~1"));
+      }
+   }
+}
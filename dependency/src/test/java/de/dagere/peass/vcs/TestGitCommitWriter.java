@@ -45,4 +45,24 @@ public class TestGitCommitWriter {
       CommitList commitsAfterSecondWriting = Constants.OBJECTMAPPER.readValue(COMMIT_FILE, CommitList.class);
       Assert.assertEquals(4, commitsAfterSecondWriting.getCommits().size());
    }
+
+   @Test
+   public void testWritingThroughIteratorBackend() throws StreamReadException, DatabindException, StreamWriteException, IOException {
+      PeassFolders folders = Mockito.mock(PeassFolders.class);
+      ResultsFolders resultsFolders = Mockito.mock(ResultsFolders.class);
+      Mockito.when(resultsFolders.getCommitMetadataFile()).thenReturn(COMMIT_FILE);
+      List<String> peassCommits = Arrays.asList("d11aa4558e9d16a98af572aea6d52e13af7cf974", "35310a36d782e67520fb03321ebec6b597dd7604");
+
+      try (BatchedGitBackend backend = Mockito.spy(new BatchedGitBackend(new File(".")))) {
+         try (CommitIteratorGit iterator = new CommitIteratorGit(new File("."), peassCommits, null, backend)) {
+            GitCommitWriter.writeCurrentCommits(folders, iterator, resultsFolders);
+         }
+         Mockito.verify(backend).getCommitMetadata(peassCommits);
+         Mockito.verify(backend, Mockito.never()).close();
+      }
+      Mockito.verify(folders, Mockito.never()).getProjectFolder();
+
+      CommitList commits = Constants.OBJECTMAPPER.readValue(COMMIT_FILE, CommitList.class);
+      Assert.assertEquals(2, commits.getCommits().size());
+   }
 }
@@ -120,6 +120,23 @@ public class TestGitUtils {
       Assert.assertEquals("Startcommit 00000A not found at all, but endcommit 000003 found", thrown2.getMessage());
    }
 
+   @Test
+   public void testFolderLockIsShared() {
+      File sameFolder = new File(PROJECT_FOLDER.getParentFile(), "." + File.separator + PROJECT_FOLDER.getName());
+      Assert.assertSame(GitUtils.getFolderLock(PROJECT_FOLDER), GitUtils.getFolderLock(sameFolder));
+      Assert.assertNotSame(GitUtils.getFolderLock(PROJECT_FOLDER), GitUtils.getFolderLock(PROJECT_FOLDER.getParentFile()));
+   }
+
+   @Test
+   public void testBackendIsShared() {
+      File sameFolder = new File(PROJECT_FOLDER.getParentFile(), "." + File.separator + PROJECT_FOLDER.getName());
+      Assert.assertSame(GitUtils.getSharedBackend(PROJECT_FOLDER), GitUtils.getSharedBackend(sameFolder));
+
+      List<String> commits = GitUtils.getCommits(PROJECT_FOLDER, false, false);
+      Assert.assertEquals("anonym@generated.org Anonym", GitUtils.getCommitter(PROJECT_FOLDER, commits.get(1)));
+      Assert.assertEquals("Version 0 ", GitUtils.getCommitText(PROJECT_FOLDER, commits.get(1)));
+   }
+
    private List<String> buildExampleList() {
       List<String> regularExample = new LinkedList<>();
       regularExample.add("000001");
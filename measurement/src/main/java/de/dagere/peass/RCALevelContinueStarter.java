@@ -44,10 +44,9 @@ public class RCALevelContinueStarter implements Callable<Void> {
    public Void call() throws Exception {
       final CauseSearchFolders folders = new CauseSearchFolders(projectFolder);
       final File resultFile = getResultFile(folders);
-      final File resultFileFull = getFullResultFile(folders);
-      if (resultFile != null && resultFileFull != null) {
+      if (resultFile != null) {
          final CauseSearchData data = Constants.OBJECTMAPPER.readValue(resultFile, CauseSearchData.class);
-         final CauseSearchData dataFull = Constants.OBJECTMAPPER.readValue(resultFileFull, CauseSearchData.class);
+         final CauseSearchData dataFull = CausePersistenceManager.readDetails(resultFile);
 
          MeasurementConfig measurementConfig = data.getMeasurementConfig();
          final CauseSearchFolders alternateFolders = createAlternateFolders(folders, measurementConfig.getExecutionConfig().getGitCryptKey());
@@ -69,6 +68,7 @@ public class RCALevelContinueStarter implements Callable<Void> {
          new LevelManager(currentCommitNodeList, currentPredecessorNodeList, reader).goToLastMeasuredLevel(data.getNodes());
 
          tester.isLevelDifferent(currentPredecessorNodeList, currentCommitNodeList);
+         persistenceManager.exportDetails();
       }
 
       return null;
@@ -94,19 +94,4 @@ public class RCALevelContinueStarter implements Callable<Void> {
       }
       return resultFile;
    }
-   
-   private File getFullResultFile(final CauseSearchFolders folders) {
-      File resultFile = null;
-      for (final File commitFolder : folders.getRcaTreeFolder().listFiles()) {
-         for (final File testcaseFolder : commitFolder.listFiles()) {
-            File detailsFolder = new File(testcaseFolder, "details");
-            for (final File treeFile : detailsFolder.listFiles()) {
-               if (treeFile.getName().endsWith(".json")) {
-                  resultFile = treeFile;
-               }
-            }
-         }
-      }
-      return resultFile;
-   }
 }
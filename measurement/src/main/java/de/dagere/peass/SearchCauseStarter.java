@@ -127,6 +127,12 @@ public class SearchCauseStarter extends MeasureStarter {
       } else {
          boolean useSourceInstrumentation = measurementConfiguration.getKiekerConfig().isUseSourceInstrumentation();
          measurementConfiguration.getKiekerConfig().setEnableAdaptiveMonitoring(!useSourceInstrumentation);
+         if (measurementConfiguration.getKiekerConfig().isInstrumentOnce()) {
+            // The complete tree is instrumented with probes that check whether they are activated, so every level only changes the adaptive monitoring configuration
+            measurementConfiguration.getKiekerConfig().setEnableAdaptiveMonitoring(true);
+            measurementConfiguration.getKiekerConfig().setAdaptiveInstrumentation(true);
+            measurementConfiguration.setReuseBuild(true);
+         }
       }
       if (kiekerConfigMixin.isNotUseSourceInstrumentation() && kiekerConfigMixin.isNotUseSelectiveInstrumentation()) {
          measurementConfiguration.getKiekerConfig().setUseSelectiveInstrumentation(false);
@@ -189,7 +195,8 @@ public class SearchCauseStarter extends MeasureStarter {
             tester = new CauseSearcherComplete(reader, causeSearcherConfig, measurer, measurementConfiguration, alternateFolders, creator, env);
             break;
          case SAMPLING:
-            tester = new SamplingCauseSearcher(causeSearcherConfig.getTestCase(), measurementConfiguration, alternateFolders, env);
+            tester = new SamplingCauseSearcher(reader, causeSearcherConfig, measurementConfiguration, alternateFolders, env);
+            break;
          default:
             throw new RuntimeException("Strategy " + causeSearcherConfig.getRcaStrategy() + " not expected");
          }
@@ -1,7 +1,6 @@
 package de.dagere.peass.measurement.dataloading;
 
 import java.io.File;
-import java.util.concurrent.LinkedBlockingQueue;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -13,7 +12,6 @@ public abstract class DataAnalyser {
    
    private static final Logger LOG = LogManager.getLogger(DataAnalyser.class);
    
-   private boolean isFinished = false;
    protected final CommitComparatorInstance comparator;
 
    public DataAnalyser(CommitComparatorInstance comparator) {
@@ -28,38 +26,11 @@ public abstract class DataAnalyser {
          System.exit(1);
       }
 
-      final LinkedBlockingQueue<TestData> measurements = new LinkedBlockingQueue<>();
-      final Thread readerThread = DataReader.startReadVersionDataMap(measurementsFolder, measurements, comparator);
-
-      Thread processorThread = new Thread(new Runnable() {
-         
-         @Override
-         public void run() {
-            isFinished = false;
-            TestData measurementEntry;
-            try {
-               measurementEntry = measurements.take();
-               
-               while (measurementEntry != DataReader.POISON_PILL && !isFinished) {
-                  processTestdata(measurementEntry);
-                  measurementEntry = measurements.take();
-               }
-            } catch (InterruptedException e) {
-               e.printStackTrace();
-            }
+      try (DataReader reader = new DataReader(measurementsFolder, comparator)) {
+         while (reader.hasNext()) {
+            processTestdata(reader.next());
          }
-      });
-      processorThread.start();
-      readerThread.join();
-      
-      finishProcessingIfRunning(processorThread);
-   }
-
-   private void finishProcessingIfRunning(Thread processorThread) throws InterruptedException {
-      Thread.sleep(100);
-      isFinished = true;
-      processorThread.join();
-//      processorThread.interrupt();
+      }
    }
 
    public abstract void processTestdata(TestData measurementEntry);
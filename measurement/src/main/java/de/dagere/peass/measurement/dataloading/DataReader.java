@@ -3,8 +3,18 @@ package de.dagere.peass.measurement.dataloading;
 import java.io.File;
 import java.io.FileFilter;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.commons.io.filefilter.WildcardFileFilter;
 import org.apache.logging.log4j.LogManager;
@@ -17,59 +27,118 @@ import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
 import de.dagere.peass.measurement.statistics.data.TestData;
 
 /**
- * Reads measurement data sequentially, reading files after each other to a queue and stops reading if the queue gets too full (currently 10 elements).
- * 
+ * Reads measurement data in parallel: Every class folder is read by a task of a bounded thread pool, and the read data are passed to the consumer by a bounded queue, so
+ * reading blocks if the consumer is slower than the readers. The data are consumed by iterating over the reader (or its stream); the reader needs to be closed if the
+ * iteration is stopped early.
+ *
  * @author reichelt
  *
  */
-public final class DataReader {
+public final class DataReader implements Iterator<TestData>, AutoCloseable {
    private static final int MAX_QUEUE_SIZE = 25;
 
    private static final Logger LOG = LogManager.getLogger(DataReader.class);
 
-   public static final TestData POISON_PILL = new TestData(null, null, null);
-   private static int size = 0;
+   private final TestData poisonPill = new TestData(null, null, null);
+   private final BlockingQueue<TestData> measurements = new ArrayBlockingQueue<>(MAX_QUEUE_SIZE);
+   private final AtomicInteger remainingFolders = new AtomicInteger();
+   private final AtomicInteger size = new AtomicInteger();
+   private final ExecutorService pool;
 
-   private DataReader() {
+   private TestData next;
+   private boolean finished = false;
 
+   /**
+    * Starts reading the measurement data of the given folder with one thread per available processor
+    */
+   public DataReader(final File fullDataFolder, final CommitComparatorInstance comparator) {
+      this(fullDataFolder, comparator, Runtime.getRuntime().availableProcessors());
    }
 
-   public static Thread startReadVersionDataMap(final File fullDataFolder, LinkedBlockingQueue<TestData> myQueue, CommitComparatorInstance comparator) {
-      final Thread readerThread = new Thread(new Runnable() {
+   public DataReader(final File fullDataFolder, final CommitComparatorInstance comparator, final int threads) {
+      LOG.info("Loading folder: {}", fullDataFolder);
+      final File[] clazzFolders = fullDataFolder.listFiles();
+      if (clazzFolders == null || clazzFolders.length == 0) {
+         pool = null;
+         finished = true;
+         return;
+      }
+
+      pool = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, clazzFolders.length)));
+      remainingFolders.set(clazzFolders.length);
+      for (final File clazzFolder : clazzFolders) {
+         pool.submit(() -> readClassFolderToQueue(clazzFolder, comparator));
+      }
+      pool.shutdown();
+   }
 
-         @Override
-         public void run() {
-            size = 0;
-            LOG.debug("Starting data-reading from: {}", fullDataFolder);
-            readDataToQueue(fullDataFolder, myQueue, comparator);
-            myQueue.add(POISON_PILL);
-            LOG.debug("Finished data-reading, testcase-changes: {}", size);
+   private void readClassFolderToQueue(final File clazzFolder, final CommitComparatorInstance comparator) {
+      try {
+         final Map<String, TestData> currentMeasurement = readClassFolder(clazzFolder, comparator);
+         for (final TestData data : currentMeasurement.values()) {
+            LOG.debug("Add: {} {}", data.getTestClass(), data.getTestMethod());
+            measurements.put(data);
+            size.addAndGet(data.getVersions());
+         }
+      } catch (final InterruptedException e) {
+         LOG.debug("Reading of {} was interrupted", clazzFolder);
+         Thread.currentThread().interrupt();
+         return;
+      } catch (final RuntimeException e) {
+         LOG.error("Could not read {}", clazzFolder, e);
+      }
+      if (remainingFolders.decrementAndGet() == 0) {
+         try {
+            measurements.put(poisonPill);
+            LOG.debug("Finished data-reading, testcase-changes: {}", size.get());
+         } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
          }
-      });
-      readerThread.start();
+      }
+   }
 
-      return readerThread;
+   @Override
+   public boolean hasNext() {
+      if (next == null && !finished) {
+         try {
+            final TestData taken = measurements.take();
+            if (taken == poisonPill) {
+               finished = true;
+            } else {
+               next = taken;
+            }
+         } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new RuntimeException("Interrupted while waiting for measurement data", e);
+         }
+      }
+      return next != null;
    }
 
-   private static void readDataToQueue(final File fullDataFolder, final LinkedBlockingQueue<TestData> measurements, CommitComparatorInstance comparator) {
-      LOG.info("Loading folder: {}", fullDataFolder);
+   @Override
+   public TestData next() {
+      if (!hasNext()) {
+         throw new NoSuchElementException();
+      }
+      final TestData current = next;
+      next = null;
+      return current;
+   }
 
-      for (final File clazzFile : fullDataFolder.listFiles()) {
-         final Map<String, TestData> currentMeasurement = readClassFolder(clazzFile, comparator);
+   public Stream<TestData> stream() {
+      return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+   }
 
-         for (final TestData data : currentMeasurement.values()) {
-            LOG.debug("Add: {}", data.getTestClass() + " " + data.getTestMethod());
-            while (measurements.size() > MAX_QUEUE_SIZE) {
-               LOG.info("Waiting, Measurements: {} Max-Queue-Size: {}", measurements.size(), MAX_QUEUE_SIZE);
-               try {
-                  Thread.sleep(1000);
-               } catch (final InterruptedException e) {
-                  e.printStackTrace();
-               }
-            }
-            measurements.add(data);
-            size += data.getVersions();
-         }
+   /**
+    * Stops all reading tasks which are still running
+    */
+   @Override
+   public void close() {
+      finished = true;
+      next = null;
+      if (pool != null) {
+         pool.shutdownNow();
       }
    }
 
@@ -81,7 +150,7 @@ public final class DataReader {
                for (final File measurementFile : commitCurrent.listFiles((FileFilter) new WildcardFileFilter("*.json"))) {
                   readMeasurementFile(currentMeasurement, commitOfPair, commitCurrent, measurementFile, comparator);
                }
-               
+
                // For compatibility with reading old xml result data, this needs to stay in the code
                for (final File measurementFile : commitCurrent.listFiles((FileFilter) new WildcardFileFilter("*.xml"))) {
                   readMeasurementFile(currentMeasurement, commitOfPair, commitCurrent, measurementFile, comparator);
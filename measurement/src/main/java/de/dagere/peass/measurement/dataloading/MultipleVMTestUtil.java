@@ -67,12 +67,37 @@ public class MultipleVMTestUtil {
    public static void saveSummaryData(final File summaryResultFile, final File oneResultFile, final VMResult oneResult, final TestMethodCall testcase, final String commit,
          final long currentChunkStart, final String datacollectorName) {
       LOG.info("Writing to merged result file: {}", summaryResultFile);
-      final Kopemedata summaryData = initKopemeData(summaryResultFile, testcase);
-      VMResultChunk summaryChunk = findChunk(currentChunkStart, summaryData, datacollectorName);
-      
+      final VMResult result = createSummaryResult(oneResultFile, oneResult, commit, datacollectorName);
+      if (result != null) {
+         final Kopemedata summaryData = initKopemeData(summaryResultFile, testcase);
+         VMResultChunk summaryChunk = findChunk(currentChunkStart, summaryData, datacollectorName);
+         summaryChunk.getResults().add(result);
+         JSONDataStorer.storeData(summaryResultFile, summaryData);
+      }
+   }
+
+   /**
+    * Takes the given result and the given commit and appends the aggregated result to the record file of the summary file; in contrast to
+    * {@link #saveSummaryData(File, File, VMResult, TestMethodCall, String, long, String)}, the summary file itself is not read or written, it is only updated when
+    * {@link SummaryRecordStore#compact(File)} is called.
+    * 
+    * @return the aggregated result, or null if the result contained no data
+    */
+   public static VMResult appendSummaryData(final File summaryResultFile, final File oneResultFile, final VMResult oneResult, final TestMethodCall testcase, final String commit,
+         final long currentChunkStart, final String datacollectorName) {
+      LOG.info("Appending to summary records of: {}", summaryResultFile);
+      final VMResult result = createSummaryResult(oneResultFile, oneResult, commit, datacollectorName);
+      if (result != null) {
+         SummaryRecord record = new SummaryRecord(testcase.getClassWithModule(), testcase.getMethod(), datacollectorName, currentChunkStart, result);
+         SummaryRecordStore.append(summaryResultFile, record);
+      }
+      return result;
+   }
+
+   private static VMResult createSummaryResult(final File oneResultFile, final VMResult oneResult, final String commit, final String datacollectorName) {
       if (oneResult.getFulldata().getFileName() != null) {
          SummaryStatistics st = getExternalFileStatistics(oneResultFile, datacollectorName, oneResult);
-         saveData(summaryResultFile, commit, summaryData, summaryChunk, oneResult, st);
+         return createSummaryResult(commit, oneResult, st);
       } else {
          final VMResult cleaned;
          if (oneResult.getWarmup() != 0) {
@@ -83,22 +108,20 @@ public class MultipleVMTestUtil {
          final Fulldata realData = cleaned.getFulldata();
          if (realData != null && realData.getValues() != null && realData.getValues().size() > 0) {
             final SummaryStatistics st = createStatistics(realData);
-            saveData(summaryResultFile, commit, summaryData, summaryChunk, oneResult, st);
+            return createSummaryResult(commit, oneResult, st);
          } else {
             LOG.error("Fulldata of " + oneResultFile + " empty!");
+            return null;
          }
       }
    }
 
-   private static void saveData(final File summaryResultFile, final String commit, final Kopemedata summaryData, final VMResultChunk summaryChunk, final VMResult oneResult,
-         final SummaryStatistics st) {
+   private static VMResult createSummaryResult(final String commit, final VMResult oneResult, final SummaryStatistics st) {
       final VMResult result = createResultFromStatistic(commit, st, oneResult.getRepetitions());
       result.setDate(oneResult.getDate());
       result.setWarmup(oneResult.getWarmup());
       result.setParameters(oneResult.getParameters());
-
-      summaryChunk.getResults().add(result);
-      JSONDataStorer.storeData(summaryResultFile, summaryData);
+      return result;
    }
 
    private static SummaryStatistics getExternalFileStatistics(final File oneResultFile, final String dataCollectorName, final VMResult oneResult) {
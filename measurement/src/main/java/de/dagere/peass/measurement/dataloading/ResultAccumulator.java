@@ -0,0 +1,154 @@
+package de.dagere.peass.measurement.dataloading;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.dagere.kopeme.datastorage.JSONDataLoader;
+import de.dagere.kopeme.kopemedata.DatacollectorResult;
+import de.dagere.kopeme.kopemedata.Kopemedata;
+import de.dagere.kopeme.kopemedata.VMResult;
+import de.dagere.kopeme.kopemedata.VMResultChunk;
+import de.dagere.nodeDiffDetector.data.TestMethodCall;
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.folders.PeassFolders;
+
+/**
+ * Keeps the statistics of the VM results of the current chunk of one testcase in memory, so deciding whether the measurement can be stopped does not need to read the summary
+ * file after every VM. The statistics are updated incrementally (using {@link SummaryStatistics}) by the {@link de.dagere.peass.measurement.organize.ResultOrganizer} whenever a
+ * VM result is saved. Like {@link ResultLoader}, only results that have been measured with the current iteration and repetition count are considered.
+ *
+ * @author reichelt
+ *
+ */
+public class ResultAccumulator {
+
+   private static final Logger LOG = LogManager.getLogger(ResultAccumulator.class);
+
+   private final TestMethodCall testcase;
+
+   private final Map<String, Map<String, SummaryStatistics>> statistics = new HashMap<>();
+   private final Map<String, Map<String, Map<Integer, VMResult>>> lastResults = new HashMap<>();
+   private int concurrentVMs = 1;
+
+   public ResultAccumulator(final TestMethodCall testcase) {
+      this.testcase = testcase;
+   }
+
+   /**
+    * Adds the summarized result of one VM, if it belongs to the testcase of this accumulator
+    */
+   public synchronized void addResult(final TestMethodCall concreteTestcase, final String commit, final VMResult summaryResult) {
+      if (isAccumulatedTestcase(concreteTestcase)) {
+         addResult(commit, summaryResult);
+      }
+   }
+
+   private void addResult(final String commit, final VMResult summaryResult) {
+      final String configurationKey = getConfigurationKey(summaryResult.getIterations() + summaryResult.getWarmup(), summaryResult.getRepetitions());
+      final Map<String, SummaryStatistics> commitStatistics = statistics.computeIfAbsent(commit, key -> new HashMap<>());
+      commitStatistics.computeIfAbsent(configurationKey, key -> new SummaryStatistics()).addValue(summaryResult.getValue());
+   }
+
+   /**
+    * Sets the (unsummarized) result of the given VM, if it belongs to the test method of this accumulator; the results are kept per test call (including its parameters), so the
+    * results of the parameters of a parameterized test do not overwrite each other. Only the results of the last VMs that may run concurrently are kept.
+    */
+   public synchronized void setLastResult(final TestMethodCall concreteTestcase, final String commit, final int vmid, final VMResult result) {
+      if (isAccumulatedMethod(concreteTestcase)) {
+         final Map<String, Map<Integer, VMResult>> callResults = lastResults.computeIfAbsent(concreteTestcase.getMethodWithParams(), key -> new HashMap<>());
+         final Map<Integer, VMResult> commitResults = callResults.computeIfAbsent(commit, key -> new HashMap<>());
+         commitResults.put(vmid, result);
+         commitResults.keySet().removeIf(keptVMId -> keptVMId <= vmid - concurrentVMs);
+      }
+   }
+
+   /**
+    * Sets the count of VMs that are measured at the same time, so the results of all VMs of one batch are kept until the batch is finished
+    */
+   public synchronized void setConcurrentVMs(final int concurrentVMs) {
+      this.concurrentVMs = concurrentVMs;
+   }
+
+   /**
+    * Returns the result of the given VM of the given commit for the given test call, or null if the VM did not produce a result.
+    */
+   public synchronized VMResult getLastResult(final TestMethodCall concreteTestcase, final String commit, final int vmid) {
+      final Map<String, Map<Integer, VMResult>> callResults = lastResults.get(concreteTestcase.getMethodWithParams());
+      final Map<Integer, VMResult> commitResults = callResults != null ? callResults.get(commit) : null;
+      return commitResults != null ? commitResults.get(vmid) : null;
+   }
+
+   /**
+    * Returns a copy of the statistics of the given commit, only considering results with the current iteration and repetition count of the configuration
+    */
+   public synchronized StatisticalSummary getStatistics(final String commit, final MeasurementConfig config) {
+      final Map<String, SummaryStatistics> commitStatistics = statistics.get(commit);
+      if (commitStatistics != null) {
+         final SummaryStatistics current = commitStatistics.get(getConfigurationKey(config.getAllIterations(), config.getRepetitions()));
+         if (current != null) {
+            return current.copy();
+         }
+      }
+      return new SummaryStatistics();
+   }
+
+   /**
+    * Returns the count of all results of the given commit, regardless of their iteration and repetition count
+    */
+   public synchronized long getResultCount(final String commit) {
+      final Map<String, SummaryStatistics> commitStatistics = statistics.get(commit);
+      if (commitStatistics == null) {
+         return 0;
+      }
+      return commitStatistics.values().stream().mapToLong(SummaryStatistics::getN).sum();
+   }
+
+   /**
+    * Adds all persisted results of the given chunk, e.g. if the measurement of a chunk is continued after a restart.
+    */
+   public synchronized void replay(final PeassFolders folders, final long chunkStart) {
+      final File summaryFile = folders.getSummaryFile(testcase);
+      if (summaryFile == null) {
+         return;
+      }
+      int replayed = 0;
+      if (summaryFile.exists()) {
+         final Kopemedata data = JSONDataLoader.loadData(summaryFile);
+         if (data.getMethods().size() > 0) {
+            final DatacollectorResult dataCollector = data.getMethods().get(0).getDatacollectorResults().get(0);
+            final VMResultChunk chunk = MultipleVMTestUtil.findChunk(chunkStart, dataCollector);
+            if (chunk != null) {
+               for (final VMResult result : chunk.getResults()) {
+                  addResult(result.getCommit(), result);
+                  replayed++;
+               }
+            }
+         }
+      }
+      for (final SummaryRecord record : SummaryRecordStore.readRecords(summaryFile)) {
+         if (record.getChunkStartTime() == chunkStart) {
+            addResult(record.getResult().getCommit(), record.getResult());
+            replayed++;
+         }
+      }
+      LOG.debug("Replayed {} persisted results of {}", replayed, testcase);
+   }
+
+   private boolean isAccumulatedTestcase(final TestMethodCall concreteTestcase) {
+      return testcase.getMethodWithParams().equals(concreteTestcase.getMethodWithParams());
+   }
+
+   private boolean isAccumulatedMethod(final TestMethodCall concreteTestcase) {
+      return testcase.getMethod().equals(concreteTestcase.getMethod()) && (testcase.getParams() == null || isAccumulatedTestcase(concreteTestcase));
+   }
+
+   private static String getConfigurationKey(final long allIterations, final long repetitions) {
+      return allIterations + "_" + repetitions;
+   }
+}
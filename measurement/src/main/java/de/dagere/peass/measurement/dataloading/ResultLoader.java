@@ -32,27 +32,53 @@ public class ResultLoader {
       this.config = config;
    }
 
+   /**
+    * Loads the results of the chunk; like {@link ResultAccumulator#replay(PeassFolders, long)}, the results which are already compacted into the summary file and the records
+    * which are not compacted yet are both read.
+    */
    public void loadData(PeassFolders folders, final TestMethodCall testcase, final long currentChunkStart)  {
       final File kopemeFile = folders.getSummaryFile(testcase);
+      if (kopemeFile.exists()) {
+         loadSummaryFile(kopemeFile, currentChunkStart);
+      }
+      loadRecords(SummaryRecordStore.readRecords(kopemeFile), currentChunkStart);
+   }
+
+   private void loadRecords(final List<SummaryRecord> records, final long currentChunkStart) {
+      LOG.debug("Records: {}", records.size());
+      for (final SummaryRecord record : records) {
+         if (record.getChunkStartTime() == currentChunkStart) {
+            addResult(record.getResult());
+         }
+      }
+   }
+
+   private void loadSummaryFile(final File kopemeFile, final long currentChunkStart) {
       final Kopemedata data = JSONDataLoader.loadData(kopemeFile);
       if (data.getMethods().size() > 0) {
          final DatacollectorResult dataCollector = data.getMethods().get(0).getDatacollectorResults().get(0);
          final VMResultChunk realChunk = MultipleVMTestUtil.findChunk(currentChunkStart, dataCollector);
-         loadChunk(realChunk);
+         if (realChunk != null) {
+            loadChunk(realChunk);
+         }
       }
    }
 
    public void loadChunk(final VMResultChunk realChunk) {
       LOG.debug("Chunk size: {}", realChunk.getResults().size());
       for (final VMResult result : realChunk.getResults()) {
-         if (result.getIterations() + result.getWarmup() == config.getAllIterations() &&
-               result.getRepetitions() == config.getRepetitions()) {
-            if (result.getCommit().equals(config.getFixedCommitConfig().getCommitOld())) {
-               predecessor.add(result.getValue());
-            }
-            if (result.getCommit().equals(config.getFixedCommitConfig().getCommit())) {
-               current.add(result.getValue());
-            }
+         addResult(result);
+      }
+   }
+
+   private void addResult(final VMResult result) {
+      if (result.getIterations() + result.getWarmup() == config.getAllIterations() &&
+            result.getRepetitions() == config.getRepetitions()) {
+         if (result.getCommit().equals(config.getFixedCommitConfig().getCommitOld())) {
+            predecessor.add(result.getValue());
+         }
+         if (result.getCommit().equals(config.getFixedCommitConfig().getCommit())) {
+            current.add(result.getValue());
          }
       }
    }
@@ -0,0 +1,68 @@
+package de.dagere.peass.measurement.dataloading;
+
+import de.dagere.kopeme.kopemedata.VMResult;
+
+/**
+ * One summarized VM result as it is appended to the record file of a testcase; contains everything that is needed to add the result to the KoPeMe summary file later on.
+ *
+ * @author reichelt
+ *
+ */
+public class SummaryRecord {
+   private String clazz;
+   private String method;
+   private String datacollectorName;
+   private long chunkStartTime;
+   private VMResult result;
+
+   public SummaryRecord() {
+   }
+
+   public SummaryRecord(final String clazz, final String method, final String datacollectorName, final long chunkStartTime, final VMResult result) {
+      this.clazz = clazz;
+      this.method = method;
+      this.datacollectorName = datacollectorName;
+      this.chunkStartTime = chunkStartTime;
+      this.result = result;
+   }
+
+   public String getClazz() {
+      return clazz;
+   }
+
+   public void setClazz(final String clazz) {
+      this.clazz = clazz;
+   }
+
+   public String getMethod() {
+      return method;
+   }
+
+   public void setMethod(final String method) {
+      this.method = method;
+   }
+
+   public String getDatacollectorName() {
+      return datacollectorName;
+   }
+
+   public void setDatacollectorName(final String datacollectorName) {
+      this.datacollectorName = datacollectorName;
+   }
+
+   public long getChunkStartTime() {
+      return chunkStartTime;
+   }
+
+   public void setChunkStartTime(final long chunkStartTime) {
+      this.chunkStartTime = chunkStartTime;
+   }
+
+   public VMResult getResult() {
+      return result;
+   }
+
+   public void setResult(final VMResult result) {
+      this.result = result;
+   }
+}
@@ -0,0 +1,146 @@
+package de.dagere.peass.measurement.dataloading;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import de.dagere.kopeme.datastorage.JSONDataLoader;
+import de.dagere.kopeme.datastorage.JSONDataStorer;
+import de.dagere.kopeme.junit.rule.annotations.KoPeMeConstants;
+import de.dagere.kopeme.kopemedata.Kopemedata;
+import de.dagere.kopeme.kopemedata.TestMethod;
+import de.dagere.kopeme.kopemedata.VMResultChunk;
+
+/**
+ * Append-only store for the summarized VM results of a testcase. Every finished VM appends one line to the record file next to the summary file, so saving a VM result does not
+ * need to parse and rewrite the whole summary file. {@link #compact(File)} merges the records into the KoPeMe summary file and removes the record file afterwards.
+ *
+ * @author reichelt
+ *
+ */
+public class SummaryRecordStore {
+
+   private static final Logger LOG = LogManager.getLogger(SummaryRecordStore.class);
+
+   public static final String RECORD_SUFFIX = ".records";
+
+   private static final ObjectMapper RECORD_MAPPER = KoPeMeConstants.OBJECTMAPPER.copy().disable(SerializationFeature.INDENT_OUTPUT);
+
+   private SummaryRecordStore() {
+
+   }
+
+   public static File getRecordFile(final File summaryResultFile) {
+      return new File(summaryResultFile.getParentFile(), summaryResultFile.getName() + RECORD_SUFFIX);
+   }
+
+   public static synchronized void append(final File summaryResultFile, final SummaryRecord record) {
+      final File recordFile = getRecordFile(summaryResultFile);
+      try {
+         final String line = RECORD_MAPPER.writeValueAsString(record) + "\n";
+         Files.write(recordFile.toPath(), line.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+      } catch (IOException e) {
+         throw new RuntimeException(e);
+      }
+   }
+
+   /**
+    * Reads all records that have not been compacted yet; if the last line is incomplete (e.g. because the process was killed while writing), it is ignored.
+    */
+   public static synchronized List<SummaryRecord> readRecords(final File summaryResultFile) {
+      final File recordFile = getRecordFile(summaryResultFile);
+      final List<SummaryRecord> records = new LinkedList<>();
+      if (recordFile.exists()) {
+         try (BufferedReader reader = Files.newBufferedReader(recordFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+               if (!line.isEmpty()) {
+                  try {
+                     records.add(RECORD_MAPPER.readValue(line, SummaryRecord.class));
+                  } catch (JsonProcessingException e) {
+                     LOG.error("Incomplete record in {} - ignoring it", recordFile, e);
+                  }
+               }
+            }
+         } catch (IOException e) {
+            throw new RuntimeException(e);
+         }
+      }
+      return records;
+   }
+
+   /**
+    * Adds all records of the given summary file to the summary file and deletes the record file afterwards.
+    */
+   public static synchronized void compact(final File summaryResultFile) {
+      final File recordFile = getRecordFile(summaryResultFile);
+      if (!recordFile.exists()) {
+         return;
+      }
+      final List<SummaryRecord> records = readRecords(summaryResultFile);
+      if (records.size() > 0) {
+         LOG.debug("Compacting {} records into {}", records.size(), summaryResultFile);
+         final Kopemedata summaryData = JSONDataLoader.loadData(summaryResultFile);
+         if (summaryData.getMethods().size() == 0) {
+            final SummaryRecord firstRecord = records.get(0);
+            summaryData.setClazz(firstRecord.getClazz());
+            summaryData.getMethods().add(new TestMethod(firstRecord.getMethod()));
+         }
+         for (SummaryRecord record : records) {
+            final VMResultChunk chunk = MultipleVMTestUtil.findChunk(record.getChunkStartTime(), summaryData, record.getDatacollectorName());
+            chunk.getResults().add(record.getResult());
+         }
+         JSONDataStorer.storeData(summaryResultFile, summaryData);
+      }
+      if (!recordFile.delete()) {
+         LOG.error("Could not delete record file {}", recordFile);
+      }
+   }
+
+   /**
+    * Compacts all record files in the given folder
+    */
+   public static void compactAll(final File folder) {
+      if (folder == null) {
+         return;
+      }
+      compactRecordFiles(folder, file -> true);
+   }
+
+   /**
+    * Compacts the record file of the given summary file; if the summary file belongs to a test without parameters, the record files of the summary files of all its parameter
+    * sets (named like method(params).json) are compacted, too.
+    */
+   public static void compactTestcase(final File summaryResultFile) {
+      compact(summaryResultFile);
+      final String summaryName = summaryResultFile.getName();
+      final int endingIndex = summaryName.lastIndexOf('.');
+      if (!summaryName.contains("(") && endingIndex != -1) {
+         final String parameterizedPrefix = summaryName.substring(0, endingIndex) + "(";
+         compactRecordFiles(summaryResultFile.getParentFile(), file -> file.getName().startsWith(parameterizedPrefix));
+      }
+   }
+
+   private static void compactRecordFiles(final File folder, final FileFilter summaryFilter) {
+      final File[] recordFiles = folder.listFiles((FileFilter) file -> file.isFile() && file.getName().endsWith(RECORD_SUFFIX) && summaryFilter.accept(file));
+      if (recordFiles != null) {
+         for (File recordFile : recordFiles) {
+            final String summaryName = recordFile.getName().substring(0, recordFile.getName().length() - RECORD_SUFFIX.length());
+            compact(new File(folder, summaryName));
+         }
+      }
+   }
+}
@@ -2,8 +2,9 @@ package de.dagere.peass.measurement.dependencyprocessors;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 
-import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -12,9 +13,9 @@ import de.dagere.peass.config.MeasurementConfig;
 import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
 import de.dagere.peass.execution.utils.EnvironmentVariables;
 import de.dagere.peass.folders.PeassFolders;
-import de.dagere.peass.measurement.dataloading.ResultLoader;
 import de.dagere.peass.measurement.dependencyprocessors.helper.EarlyBreakDecider;
 import de.dagere.peass.measurement.dependencyprocessors.helper.ProgressWriter;
+import de.dagere.peass.measurement.organize.ResultOrganizer;
 
 public class AdaptiveTester extends DependencyTester {
 
@@ -32,14 +33,17 @@ public class AdaptiveTester extends DependencyTester {
 
       final File logFolder = folders.getMeasureLogFolder(configuration.getFixedCommitConfig().getCommit(), testcase);
 
-      try (ProgressWriter writer = new ProgressWriter(folders.getProgressFile(), configuration.getVms())) {
+      try (ProgressWriter writer = new ProgressWriter(getProgressFile(), configuration.getVms())) {
          evaluateWithAdaption(testcase, logFolder, writer);
+         finishChunk(testcase);
+      } finally {
+         compactSummaries(testcase);
       }
    }
 
    protected void evaluateWithAdaption(final TestMethodCall testcase, final File logFolder, final ProgressWriter writer) throws IOException {
-      currentChunkStart = System.currentTimeMillis();
-      for (finishedVMs = 0; finishedVMs < configuration.getVms(); finishedVMs++) {
+      initChunk(testcase);
+      for (finishedVMs = resumedVMs; finishedVMs < configuration.getVms(); finishedVMs++) {
          long comparisonStart = System.currentTimeMillis();
          runOneComparison(logFolder, testcase, finishedVMs);
 
@@ -62,6 +66,68 @@ public class AdaptiveTester extends DependencyTester {
       }
    }
 
+   /**
+    * Measures the VMs in batches, running one VM in each of the given slots at the same time; whether the measurement can be stopped is checked after every batch.
+    */
+   protected void evaluateInBatches(final TestMethodCall testcase, final File logFolder, final ProgressWriter writer, final List<MeasurementSlot> vmSlots) throws IOException {
+      initChunk(testcase);
+      resultAccumulator.setConcurrentVMs(vmSlots.size());
+      finishedVMs = resumedVMs;
+      while (finishedVMs < configuration.getVms()) {
+         long batchStart = System.currentTimeMillis();
+         final int batchSize = Math.min(vmSlots.size(), configuration.getVms() - finishedVMs);
+         final List<ResultOrganizer> organizers = runConcurrentComparisons(logFolder, testcase, finishedVMs, vmSlots.subList(0, batchSize));
+         setCurrentOrganizer(getBatchOrganizer(organizers));
+         final int lastVM = finishedVMs + batchSize - 1;
+
+         final boolean savelyDecidable = checkIsDecidable(testcase, lastVM);
+         if (savelyDecidable) {
+            LOG.debug("Savely decidable - finishing testing");
+            finishedVMs = lastVM;
+            break;
+         }
+
+         final boolean shouldBreak = updateExecutions(testcase, finishedVMs, organizers);
+         if (shouldBreak) {
+            LOG.debug("Too few executions possible - finishing testing.");
+            finishedVMs = lastVM;
+            break;
+         }
+         long durationInSeconds = (System.currentTimeMillis() - batchStart) / 1000;
+         writer.write(durationInSeconds, lastVM);
+
+         finishedVMs += batchSize;
+         betweenVMCooldown();
+      }
+   }
+
+   /**
+    * Returns the organizer of the first failed VM of the batch, or the organizer of the last VM if all VMs succeeded
+    */
+   private ResultOrganizer getBatchOrganizer(final List<ResultOrganizer> organizers) {
+      for (ResultOrganizer organizer : organizers) {
+         if (!organizer.isSuccess()) {
+            return organizer;
+         }
+      }
+      return organizers.get(organizers.size() - 1);
+   }
+
+   /**
+    * Updates the executions based on the VMs of a batch; since all VMs of the batch were started with the same executions, only the first reduction is applied.
+    */
+   private boolean updateExecutions(final TestMethodCall testcase, final int firstVmid, final List<ResultOrganizer> organizers) {
+      final int iterations = configuration.getIterations();
+      final int repetitions = configuration.getRepetitions();
+      for (int i = 0; i < organizers.size(); i++) {
+         final boolean shouldBreak = reductionManager.updateExecutions(testcase, firstVmid + i, organizers.get(i));
+         if (shouldBreak || iterations != configuration.getIterations() || repetitions != configuration.getRepetitions()) {
+            return shouldBreak;
+         }
+      }
+      return false;
+   }
+
    public int getFinishedVMs() {
       return finishedVMs;
    }
@@ -70,13 +136,11 @@ public class AdaptiveTester extends DependencyTester {
    public boolean checkIsDecidable(final TestMethodCall testcase, final int vmid) {
       final boolean savelyDecidable;
       if (configuration.isEarlyStop()) {
-         final ResultLoader loader = new ResultLoader(configuration);
-         loader.loadData(folders, testcase, currentChunkStart);
-         LOG.debug(loader.getStatisticsCurrent());
-         DescriptiveStatistics statisticsPredecessor = loader.getStatisticsPredecessor();
-         DescriptiveStatistics statisticsCurrent = loader.getStatisticsCurrent();
+         StatisticalSummary statisticsPredecessor = resultAccumulator.getStatistics(configuration.getFixedCommitConfig().getCommitOld(), configuration);
+         StatisticalSummary statisticsCurrent = resultAccumulator.getStatistics(configuration.getFixedCommitConfig().getCommit(), configuration);
+         LOG.debug(statisticsCurrent);
 
-         final EarlyBreakDecider decider = new EarlyBreakDecider(configuration, statisticsCurrent, statisticsPredecessor);
+         final EarlyBreakDecider decider = new EarlyBreakDecider(configuration, statisticsPredecessor, statisticsCurrent);
          savelyDecidable = decider.isBreakPossible(vmid);
       } else {
          savelyDecidable = false;
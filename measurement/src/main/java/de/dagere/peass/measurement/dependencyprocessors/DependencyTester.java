@@ -2,7 +2,16 @@ package de.dagere.peass.measurement.dependencyprocessors;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -16,10 +25,14 @@ import de.dagere.peass.dependency.ExecutorCreator;
 import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
 import de.dagere.peass.execution.processutils.ProcessBuilderHelper;
 import de.dagere.peass.execution.utils.EnvironmentVariables;
+import de.dagere.peass.execution.utils.PreparedBuildCache;
 import de.dagere.peass.execution.utils.TestExecutor;
 import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.folders.TemporaryProjectFolderPool;
 import de.dagere.peass.measurement.cleaning.Cleaner;
 import de.dagere.peass.measurement.dataloading.DataReader;
+import de.dagere.peass.measurement.dataloading.ResultAccumulator;
+import de.dagere.peass.measurement.dataloading.SummaryRecordStore;
 import de.dagere.peass.measurement.dependencyprocessors.helper.ProgressWriter;
 import de.dagere.peass.measurement.dependencyprocessors.reductioninfos.ReductionManager;
 import de.dagere.peass.measurement.organize.FolderDeterminer;
@@ -43,8 +56,13 @@ public class DependencyTester implements KiekerResultHandler {
    protected final EnvironmentVariables env;
    private ResultOrganizer currentOrganizer;
    protected long currentChunkStart = 0;
+   protected int resumedVMs = 0;
+   protected ResultAccumulator resultAccumulator;
    private final CommitComparatorInstance comparator;
    protected final ReductionManager reductionManager; 
+   private TemporaryProjectFolderPool temporaryFolderPool;
+   private MeasurementSlot slot;
+   private final PreparedBuildCache preparedBuildCache = new PreparedBuildCache();
 
    public DependencyTester(final PeassFolders folders, final MeasurementConfig measurementConfig, final EnvironmentVariables env, CommitComparatorInstance comparator) {
       this.folders = folders;
@@ -52,6 +70,7 @@ public class DependencyTester implements KiekerResultHandler {
       this.env = env;
       this.comparator = comparator;
       reductionManager = new ReductionManager(measurementConfig);
+      temporaryFolderPool = new TemporaryProjectFolderPool(folders);
    }
 
    /**
@@ -66,8 +85,93 @@ public class DependencyTester implements KiekerResultHandler {
       initEvaluation(testcase);
 
       final File logFolder = folders.getMeasureLogFolder(configuration.getFixedCommitConfig().getCommit(), testcase);
-      try (ProgressWriter writer = new ProgressWriter(folders.getProgressFile(), configuration.getVms())) {
+      try (ProgressWriter writer = new ProgressWriter(getProgressFile(), configuration.getVms())) {
          evaluateSimple(testcase, logFolder, writer);
+         finishChunk(testcase);
+      } finally {
+         compactSummaries(testcase);
+      }
+   }
+
+   /**
+    * Merges the appended summary records of the finished VMs of the testcase into its summary files; needs to be called after all VMs of the testcase have been measured. Only
+    * the summary files of the testcase are compacted, since other testcases may be measured in other slots at the same time.
+    */
+   protected void compactSummaries(final TestMethodCall testcase) {
+      SummaryRecordStore.compactTestcase(folders.getSummaryFile(testcase));
+   }
+
+   /**
+    * Starts a new chunk of measurements of the testcase, or continues the unfinished chunk of the same commits if the measurement has been aborted before. In the latter case,
+    * the results that have already been persisted for this chunk are replayed into the in-memory statistics and the measurement continues after the last finished VM.
+    */
+   protected void initChunk(final TestMethodCall testcase) {
+      resultAccumulator = new ResultAccumulator(testcase);
+      final Long unfinishedChunkStart = isChunkResumable() ? readUnfinishedChunkStart(testcase) : null;
+      if (unfinishedChunkStart != null) {
+         currentChunkStart = unfinishedChunkStart;
+         resultAccumulator.replay(folders, currentChunkStart);
+         resumedVMs = (int) Arrays.stream(getVersions()).mapToLong(commit -> resultAccumulator.getResultCount(commit)).max().orElse(0);
+         LOG.info("Continuing chunk {} of {} after {} VMs", currentChunkStart, testcase, resumedVMs);
+      } else {
+         currentChunkStart = System.currentTimeMillis();
+         resumedVMs = 0;
+         if (isChunkResumable()) {
+            writeChunkStart(testcase);
+         }
+      }
+   }
+
+   /**
+    * Marks the current chunk of the testcase as finished, so the next measurement of the testcase starts a new chunk.
+    */
+   protected void finishChunk(final TestMethodCall testcase) {
+      final File chunkStartFile = getChunkStartFile(testcase);
+      if (chunkStartFile != null && chunkStartFile.exists() && !chunkStartFile.delete()) {
+         LOG.error("Could not delete {}", chunkStartFile);
+      }
+   }
+
+   /**
+    * Whether an aborted chunk may be continued; this requires that all data of the finished VMs can be restored from the persisted results.
+    */
+   protected boolean isChunkResumable() {
+      return true;
+   }
+
+   private File getChunkStartFile(final TestMethodCall testcase) {
+      final File summaryFile = folders.getSummaryFile(testcase);
+      return summaryFile != null ? new File(summaryFile.getParentFile(), summaryFile.getName() + ".chunk") : null;
+   }
+
+   private Long readUnfinishedChunkStart(final TestMethodCall testcase) {
+      final File chunkStartFile = getChunkStartFile(testcase);
+      if (chunkStartFile != null && chunkStartFile.exists()) {
+         try {
+            final List<String> lines = Files.readAllLines(chunkStartFile.toPath(), StandardCharsets.UTF_8);
+            final String[] commits = getVersions();
+            if (lines.size() == 3 && lines.get(1).equals(commits[0]) && lines.get(2).equals(commits[1])) {
+               return Long.parseLong(lines.get(0));
+            }
+            LOG.info("Unfinished chunk in {} belongs to other commits - starting new chunk", chunkStartFile);
+         } catch (IOException | NumberFormatException e) {
+            LOG.error("Could not read unfinished chunk from {} - starting new chunk", chunkStartFile, e);
+         }
+      }
+      return null;
+   }
+
+   private void writeChunkStart(final TestMethodCall testcase) {
+      final File chunkStartFile = getChunkStartFile(testcase);
+      if (chunkStartFile == null) {
+         return;
+      }
+      final String[] commits = getVersions();
+      try {
+         chunkStartFile.getParentFile().mkdirs();
+         Files.write(chunkStartFile.toPath(), Arrays.asList(Long.toString(currentChunkStart), commits[0], commits[1]), StandardCharsets.UTF_8);
+      } catch (IOException e) {
+         throw new RuntimeException(e);
       }
    }
 
@@ -80,8 +184,8 @@ public class DependencyTester implements KiekerResultHandler {
 
    private void evaluateSimple(final TestMethodCall testcase, final File logFolder, final ProgressWriter writer)
          throws IOException {
-      currentChunkStart = System.currentTimeMillis();
-      for (int finishedVMs = 0; finishedVMs < configuration.getVms(); finishedVMs++) {
+      initChunk(testcase);
+      for (int finishedVMs = resumedVMs; finishedVMs < configuration.getVms(); finishedVMs++) {
          long comparisonStart = System.currentTimeMillis();
 
          runOneComparison(logFolder, testcase, finishedVMs);
@@ -147,10 +251,7 @@ public class DependencyTester implements KiekerResultHandler {
    }
 
    private void runParallel(final File logFolder, final TestMethodCall testcase, final int vmid, final String[] commits) throws IOException {
-      final ResultOrganizerParallel organizer = new ResultOrganizerParallel(folders, configuration.getFixedCommitConfig().getCommit(), currentChunkStart,
-            configuration.getKiekerConfig().isUseKieker(),
-            configuration.isSaveAll(), testcase,
-            configuration.getAllIterations());
+      final ResultOrganizerParallel organizer = createParallelOrganizer(testcase);
       currentOrganizer = organizer;
       final ParallelExecutionRunnable[] runnables = new ParallelExecutionRunnable[2];
       for (int i = 0; i < 2; i++) {
@@ -177,14 +278,83 @@ public class DependencyTester implements KiekerResultHandler {
 
    public void runSequential(final File logFolder, final TestMethodCall testcase, final int vmid, final String commits[])
          throws IOException {
+      if (slot != null) {
+         runSequentialInSlot(logFolder, testcase, vmid, commits);
+         return;
+      }
       currentOrganizer = new ResultOrganizer(folders, configuration.getFixedCommitConfig().getCommit(), currentChunkStart, configuration.getKiekerConfig().isUseKieker(),
             configuration.isSaveAll(),
             testcase, configuration.getAllIterations());
+      currentOrganizer.setAccumulator(resultAccumulator);
       for (String commit : commits) {
          runOnce(testcase, commit, vmid, logFolder);
       }
    }
 
+   /**
+    * Runs the commits one after another; since the project folder may be used by other slots at the same time, every commit is executed in a temporary folder of the slot.
+    */
+   private void runSequentialInSlot(final File logFolder, final TestMethodCall testcase, final int vmid, final String commits[]) throws IOException {
+      final ResultOrganizerParallel organizer = createParallelOrganizer(testcase);
+      currentOrganizer = organizer;
+      for (String commit : commits) {
+         new ParallelExecutionRunnable(organizer, commit, testcase, vmid, logFolder, this, configuration.getExecutionConfig().getGitCryptKey()).run();
+      }
+   }
+
+   /**
+    * Runs one VM in each of the given slots at the same time; every VM executes the commits one after another in the temporary folders and on the cores of its slot. The VM
+    * ids start with the given id and follow the order of the slots.
+    * 
+    * @return The organizers of the VMs, in the order of the slots
+    */
+   protected List<ResultOrganizer> runConcurrentComparisons(final File logFolder, final TestMethodCall testcase, final int firstVmid, final List<MeasurementSlot> vmSlots)
+         throws IOException {
+      final String[] commits = getVersions();
+      final ExecutorService executor = Executors.newFixedThreadPool(vmSlots.size());
+      try {
+         final List<Future<ResultOrganizer>> futures = new ArrayList<>();
+         for (int i = 0; i < vmSlots.size(); i++) {
+            final MeasurementSlot vmSlot = vmSlots.get(i);
+            final int vmid = firstVmid + i;
+            futures.add(executor.submit(() -> runComparisonInSlot(logFolder, testcase, vmid, commits, vmSlot)));
+         }
+         final List<ResultOrganizer> organizers = new ArrayList<>();
+         for (Future<ResultOrganizer> future : futures) {
+            organizers.add(future.get());
+         }
+         return organizers;
+      } catch (InterruptedException e) {
+         throw new RuntimeException(e);
+      } catch (ExecutionException e) {
+         if (e.getCause() instanceof IOException) {
+            throw (IOException) e.getCause();
+         }
+         throw new RuntimeException(e.getCause());
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+
+   private ResultOrganizer runComparisonInSlot(final File logFolder, final TestMethodCall testcase, final int vmid, final String[] commits, final MeasurementSlot vmSlot)
+         throws IOException {
+      LOG.info("Running VM {} in slot {} (Cores: {})", vmid, vmSlot.getName(), vmSlot.getCpuSet());
+      final ResultOrganizerParallel organizer = createParallelOrganizer(testcase);
+      for (String commit : commits) {
+         new ParallelExecutionRunnable(organizer, commit, testcase, vmid, logFolder, this, configuration.getExecutionConfig().getGitCryptKey(), vmSlot).run();
+      }
+      return organizer;
+   }
+
+   private ResultOrganizerParallel createParallelOrganizer(final TestMethodCall testcase) {
+      final ResultOrganizerParallel organizer = new ResultOrganizerParallel(folders, configuration.getFixedCommitConfig().getCommit(), currentChunkStart,
+            configuration.getKiekerConfig().isUseKieker(),
+            configuration.isSaveAll(), testcase,
+            configuration.getAllIterations());
+      organizer.setAccumulator(resultAccumulator);
+      return organizer;
+   }
+
    private void runOnce(final TestMethodCall testcase, final String commit, final int vmid, final File logFolder) {
       final TestExecutor testExecutor = getExecutor(folders, commit);
       final OnceRunner runner = new OnceRunner(folders, testExecutor, getCurrentOrganizer(), this);
@@ -192,8 +362,15 @@ public class DependencyTester implements KiekerResultHandler {
    }
 
    protected synchronized TestExecutor getExecutor(final PeassFolders currentFolders, final String commit) {
+      return getExecutor(currentFolders, commit, env);
+   }
+
+   /**
+    * Creates the executor for the given folders, starting the processes with the given environment (e.g. the environment of a slot, which pins the processes to its cores)
+    */
+   protected synchronized TestExecutor getExecutor(final PeassFolders currentFolders, final String commit, final EnvironmentVariables executionEnv) {
       TestTransformer transformer = ExecutorCreator.createTestTransformer(currentFolders, configuration.getExecutionConfig(), configuration);
-      final TestExecutor testExecutor = ExecutorCreator.createExecutor(currentFolders, transformer, env);
+      final TestExecutor testExecutor = ExecutorCreator.createExecutor(currentFolders, transformer, executionEnv);
       return testExecutor;
    }
 
@@ -210,6 +387,7 @@ public class DependencyTester implements KiekerResultHandler {
    public void setCommits(final String commit, final String commitOld) {
       configuration.getFixedCommitConfig().setCommit(commit);
       configuration.getFixedCommitConfig().setCommitOld(commitOld);
+      temporaryFolderPool.clear();
    }
 
    protected boolean checkIsDecidable(final TestMethodCall testcase, final int vmid) {
@@ -220,9 +398,54 @@ public class DependencyTester implements KiekerResultHandler {
       return currentOrganizer;
    }
 
+   protected void setCurrentOrganizer(final ResultOrganizer currentOrganizer) {
+      this.currentOrganizer = currentOrganizer;
+   }
+
+   public ResultAccumulator getResultAccumulator() {
+      return resultAccumulator;
+   }
+
    public PeassFolders getFolders() {
       return folders;
    }
+
+   public TemporaryProjectFolderPool getTemporaryFolderPool() {
+      return temporaryFolderPool;
+   }
+
+   /**
+    * Returns the name of the temporary project folder the given commit is executed in
+    */
+   public String getTemporaryFolderName(final String commit) {
+      return slot != null ? slot.getTemporaryFolderName(commit) : "parallel_" + commit;
+   }
+
+   protected File getProgressFile() {
+      final File progressFile = folders.getProgressFile();
+      return slot != null ? new File(progressFile.getParentFile(), "progress_" + slot.getName() + ".txt") : progressFile;
+   }
+
+   /**
+    * Sets the slot this tester is measuring in; the temporary project folders of the slot are used instead of the tester's own temporary folders.
+    */
+   public void setSlot(final MeasurementSlot slot) {
+      this.slot = slot;
+      this.temporaryFolderPool = slot.getTemporaryFolderPool();
+   }
+
+   public MeasurementSlot getSlot() {
+      return slot;
+   }
+
+   /**
+    * Returns the cache of prepared builds, if builds should be reused between VMs, and null otherwise
+    * 
+    * @return cache of prepared builds or null
+    */
+   public PreparedBuildCache getPreparedBuildCache() {
+      return configuration.isReuseBuild() ? preparedBuildCache : null;
+   }
    
    public ReductionManager getReductionManager() {
       return reductionManager;
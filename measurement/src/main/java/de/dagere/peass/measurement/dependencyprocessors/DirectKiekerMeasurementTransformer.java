@@ -2,6 +2,7 @@ package de.dagere.peass.measurement.dependencyprocessors;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.io.IOException;
 import java.util.List;
 
 import org.apache.commons.io.filefilter.WildcardFileFilter;
@@ -9,17 +10,19 @@ import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import de.dagere.kopeme.datacollection.TestResult;
 import de.dagere.kopeme.datacollection.TimeDataCollectorNoGC;
 import de.dagere.kopeme.datastorage.JSONDataLoader;
 import de.dagere.kopeme.datastorage.JSONDataStorer;
 import de.dagere.kopeme.kopemedata.DatacollectorResult;
 import de.dagere.kopeme.kopemedata.Fulldata;
 import de.dagere.kopeme.kopemedata.Kopemedata;
-import de.dagere.kopeme.kopemedata.MeasuredValue;
 import de.dagere.kopeme.kopemedata.TestMethod;
 import de.dagere.kopeme.kopemedata.VMResult;
 import de.dagere.nodeDiffDetector.data.TestMethodCall;
 import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.measurement.rca.kiekerReading.DurationColumns;
+import de.dagere.peass.measurement.rca.kiekerReading.DurationFileWriter;
 import de.dagere.peass.measurement.rca.kiekerReading.KiekerDurationReader;
 
 public class DirectKiekerMeasurementTransformer {
@@ -38,7 +41,8 @@ public class DirectKiekerMeasurementTransformer {
          File tempFile = new File(tempClazzFolder.get(0), test.getMethod() + ".json");
          Kopemedata data = JSONDataLoader.loadData(tempFile);
 
-         List<MeasuredValue> oneVMResult = readKiekerData(test);
+         File fulldataFile = new File(tempFile.getParentFile(), test.getMethod() + "_kieker.bin");
+         DurationFileWriter oneVMResult = readKiekerData(test, fulldataFile);
 
          buildMergedData(data, oneVMResult);
 
@@ -49,7 +53,7 @@ public class DirectKiekerMeasurementTransformer {
 
    }
 
-   private void buildMergedData(Kopemedata data, List<MeasuredValue> oneVMResult) {
+   private void buildMergedData(Kopemedata data, DurationFileWriter oneVMResult) {
       if (data.getMethods().size() > 0 && oneVMResult.size() > 0) {
          TestMethod testMethod = data.getMethods().get(0);
          DatacollectorResult datacollector = new DatacollectorResult(TimeDataCollectorNoGC.class.getName());
@@ -58,27 +62,38 @@ public class DirectKiekerMeasurementTransformer {
 
          vmResult.setIterations(oneVMResult.size());
          vmResult.setRepetitions(1);
-         Fulldata fulldata = new Fulldata();
-         SummaryStatistics statistics = new SummaryStatistics();
-         for (MeasuredValue value : oneVMResult) {
-            fulldata.getValues().add(value);
-
-            statistics.addValue(value.getValue());
-         }
+         Fulldata fulldata = buildFulldata(oneVMResult);
+         SummaryStatistics statistics = oneVMResult.getStatistics();
 
          vmResult.setValue(statistics.getMean());
          vmResult.setDeviation(statistics.getStandardDeviation());
-         vmResult.setDate(oneVMResult.get(0).getStartTime());
+         vmResult.setDate(oneVMResult.getFirstStart());
 
          vmResult.setFulldata(fulldata);
 
          testMethod.getDatacollectorResults().add(datacollector);
       } else {
          LOG.error("No measurement data stored in JSON file!");
+         oneVMResult.getFile().delete();
+      }
+   }
+
+   /**
+    * Like in KoPeMe itself, big results stay in the binary file next to the result file, which is referenced by the fulldata; only small results are stored inline.
+    */
+   private Fulldata buildFulldata(DurationFileWriter oneVMResult) {
+      Fulldata fulldata = new Fulldata();
+      DurationColumns values = oneVMResult.getFirstValues();
+      if (values != null) {
+         fulldata.setValues(values.toMeasuredValues());
+         oneVMResult.getFile().delete();
+      } else {
+         fulldata.setFileName(oneVMResult.getFile().getName());
       }
+      return fulldata;
    }
 
-   private List<MeasuredValue> readKiekerData(TestMethodCall test) {
+   private DurationFileWriter readKiekerData(TestMethodCall test, File fulldataFile) {
       File[] kiekerData = folders.getTempDir().listFiles((FileFilter) new WildcardFileFilter("kieker-*-KoPeMe"));
       if (kiekerData.length != 1) {
          throw new RuntimeException("Expected exactly one Kieker results folder to exist - error occured!");
@@ -90,7 +105,11 @@ public class DirectKiekerMeasurementTransformer {
          throw new RuntimeException("Params and directlyMeasureKieker are currently not combinable!");
       }
 
-      List<MeasuredValue> values = KiekerDurationReader.executeReducedDurationStage(kiekerDataFolder);
-      return values;
+      try (DurationFileWriter values = new DurationFileWriter(fulldataFile, TimeDataCollectorNoGC.class.getName(), TestResult.BOUNDARY_SAVE_FILE)) {
+         KiekerDurationReader.executeReducedDurationStage(kiekerDataFolder, values);
+         return values;
+      } catch (IOException e) {
+         throw new RuntimeException(e);
+      }
    }
 }
@@ -2,6 +2,8 @@ package de.dagere.peass.measurement.dependencyprocessors;
 
 import java.io.File;
 
+import de.dagere.peass.measurement.organize.ResultOrganizer;
+
 public interface KiekerResultHandler{
    
    /**
@@ -10,4 +12,11 @@ public interface KiekerResultHandler{
     * @param folder
     */
    void handleKiekerResults(final String commit, final File folder);
+
+   /**
+    * Handles the kieker results of a VM whose results are organized by the given organizer; this needs to be overriden if VMs are executed concurrently
+    */
+   default void handleKiekerResults(final ResultOrganizer organizer, final String commit, final File folder) {
+      handleKiekerResults(commit, folder);
+   }
 }
\ No newline at end of file
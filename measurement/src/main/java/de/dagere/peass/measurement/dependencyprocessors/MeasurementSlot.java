@@ -0,0 +1,54 @@
+package de.dagere.peass.measurement.dependencyprocessors;
+
+import de.dagere.peass.execution.utils.EnvironmentVariables;
+import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.folders.TemporaryProjectFolderPool;
+
+/**
+ * One slot of the concurrent measurement: A slot measures one test at a time, in its own temporary project folders and with its child processes pinned to its own cores.
+ *
+ * @author reichelt
+ *
+ */
+public class MeasurementSlot {
+
+   private final String name;
+   private final EnvironmentVariables env;
+   private final TemporaryProjectFolderPool temporaryFolderPool;
+
+   public MeasurementSlot(final String name, final String cpuSet, final EnvironmentVariables env, final PeassFolders folders) {
+      this.name = name;
+      this.env = new EnvironmentVariables(env);
+      this.env.setCpuSet(cpuSet);
+      this.temporaryFolderPool = new TemporaryProjectFolderPool(folders);
+   }
+
+   public String getName() {
+      return name;
+   }
+
+   public String getCpuSet() {
+      return env.getCpuSet();
+   }
+
+   /**
+    * Returns the environment of the slot, which contains the cores the child processes are pinned to
+    */
+   public EnvironmentVariables getEnv() {
+      return env;
+   }
+
+   /**
+    * Returns the temporary project folders of this slot; they are kept between the tests measured in this slot
+    */
+   public TemporaryProjectFolderPool getTemporaryFolderPool() {
+      return temporaryFolderPool;
+   }
+
+   /**
+    * Returns the name of the temporary project folder of this slot the given commit is executed in
+    */
+   public String getTemporaryFolderName(final String commit) {
+      return name + "_parallel_" + commit;
+   }
+}
@@ -0,0 +1,189 @@
+package de.dagere.peass.measurement.dependencyprocessors;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.dagere.nodeDiffDetector.data.TestMethodCall;
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.execution.utils.EnvironmentVariables;
+import de.dagere.peass.folders.PeassFolders;
+
+/**
+ * Measures several tests at the same time. Every {@link MeasurementSlot} takes the next test that has not been measured yet and measures it using its own temporary project
+ * folders and its own cores, so the measurements of different slots do not share cores. The results are saved by the {@link DependencyTester} of each test as usual.
+ *
+ * @author reichelt
+ *
+ */
+public class MeasurementSlotScheduler {
+
+   private static final Logger LOG = LogManager.getLogger(MeasurementSlotScheduler.class);
+
+   private static final String CPUS_ALLOWED_LIST = "Cpus_allowed_list:";
+
+   /**
+    * Creates the tester for one test, using the environment of the slot that measures the test
+    */
+   public interface TesterFactory {
+      DependencyTester createTester(EnvironmentVariables slotEnv);
+   }
+
+   private final List<MeasurementSlot> slots;
+
+   public MeasurementSlotScheduler(final PeassFolders folders, final MeasurementConfig config, final EnvironmentVariables env) {
+      this.slots = createSlots(folders, config, env, getAllowedCpus());
+   }
+
+   public List<MeasurementSlot> getSlots() {
+      return slots;
+   }
+
+   public void measure(final Collection<TestMethodCall> tests, final TesterFactory factory) throws IOException {
+      final Queue<TestMethodCall> remainingTests = new ConcurrentLinkedQueue<>(tests);
+      final ExecutorService executor = Executors.newFixedThreadPool(slots.size());
+      try {
+         final List<Future<?>> futures = new ArrayList<>();
+         for (final MeasurementSlot slot : slots) {
+            futures.add(executor.submit(() -> measureInSlot(slot, remainingTests, factory)));
+         }
+         for (Future<?> future : futures) {
+            future.get();
+         }
+      } catch (InterruptedException e) {
+         throw new RuntimeException(e);
+      } catch (ExecutionException e) {
+         if (e.getCause() instanceof RuntimeException && e.getCause().getCause() instanceof IOException) {
+            throw (IOException) e.getCause().getCause();
+         }
+         throw new RuntimeException(e.getCause());
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+
+   private void measureInSlot(final MeasurementSlot slot, final Queue<TestMethodCall> remainingTests, final TesterFactory factory) {
+      TestMethodCall test;
+      while ((test = remainingTests.poll()) != null) {
+         LOG.info("Measuring {} in slot {} (Cores: {})", test, slot.getName(), slot.getCpuSet());
+         final DependencyTester tester = factory.createTester(slot.getEnv());
+         tester.setSlot(slot);
+         try {
+            tester.evaluate(test);
+         } catch (Exception e) {
+            throw new RuntimeException(e);
+         }
+      }
+   }
+
+   /**
+    * Creates the measurement slots; if no core layout is configured, the given cores are partitioned evenly between the slots.
+    */
+   public static List<MeasurementSlot> createSlots(final PeassFolders folders, final MeasurementConfig config, final EnvironmentVariables env,
+         final List<Integer> availableCores) {
+      final String[] cpuSets = getCpuSets(config, availableCores);
+      final List<MeasurementSlot> slots = new ArrayList<>();
+      for (int i = 0; i < cpuSets.length; i++) {
+         slots.add(new MeasurementSlot("slot" + i, cpuSets[i], env, folders));
+      }
+      return slots;
+   }
+
+   static String[] getCpuSets(final MeasurementConfig config, final List<Integer> availableCores) {
+      final int slotCount = config.getMeasurementSlots();
+      final String[] cpuSets;
+      if (config.getSlotCores() != null) {
+         cpuSets = config.getSlotCores().split(";");
+         for (int i = 0; i < cpuSets.length; i++) {
+            cpuSets[i] = cpuSets[i].trim();
+         }
+         if (cpuSets.length != slotCount) {
+            throw new RuntimeException("Core layout " + config.getSlotCores() + " defines " + cpuSets.length + " slots, but " + slotCount + " slots should be used");
+         }
+      } else {
+         cpuSets = new String[slotCount];
+         final int coresPerSlot = availableCores.size() / slotCount;
+         if (coresPerSlot == 0) {
+            LOG.warn("Only {} cores are available for {} slots - slots will not be pinned to cores", availableCores.size(), slotCount);
+         } else {
+            for (int i = 0; i < slotCount; i++) {
+               cpuSets[i] = toCpuList(availableCores.subList(i * coresPerSlot, (i + 1) * coresPerSlot));
+            }
+         }
+      }
+      return cpuSets;
+   }
+
+   /**
+    * Returns the cores the current process may run on, as given by Cpus_allowed_list in /proc/self/status (e.g. restricted by taskset or a container); if this is not
+    * available, e.g. on other operating systems than Linux, the first cores up to the count of available processors are returned.
+    */
+   public static List<Integer> getAllowedCpus() {
+      final File statusFile = new File("/proc/self/status");
+      if (statusFile.exists()) {
+         try {
+            for (String line : Files.readAllLines(statusFile.toPath())) {
+               if (line.startsWith(CPUS_ALLOWED_LIST)) {
+                  return parseCpuList(line.substring(CPUS_ALLOWED_LIST.length()).trim());
+               }
+            }
+         } catch (IOException e) {
+            LOG.warn("Could not read allowed cores from {}", statusFile, e);
+         }
+      }
+      final List<Integer> cores = new ArrayList<>();
+      for (int i = 0; i < Runtime.getRuntime().availableProcessors(); i++) {
+         cores.add(i);
+      }
+      return cores;
+   }
+
+   /**
+    * Parses a cpu list in the format of the Linux kernel and taskset, e.g. 0-3,8,10-11
+    */
+   static List<Integer> parseCpuList(final String cpuList) {
+      final List<Integer> cores = new ArrayList<>();
+      for (String part : cpuList.split(",")) {
+         final String[] range = part.trim().split("-");
+         final int first = Integer.parseInt(range[0]);
+         final int last = range.length > 1 ? Integer.parseInt(range[1]) : first;
+         for (int core = first; core <= last; core++) {
+            cores.add(core);
+         }
+      }
+      return cores;
+   }
+
+   /**
+    * Formats sorted cores as cpu list, joining consecutive cores to ranges
+    */
+   static String toCpuList(final List<Integer> cores) {
+      final StringBuilder cpuList = new StringBuilder();
+      int rangeStart = 0;
+      for (int i = 1; i <= cores.size(); i++) {
+         if (i == cores.size() || cores.get(i) != cores.get(i - 1) + 1) {
+            if (cpuList.length() > 0) {
+               cpuList.append(',');
+            }
+            cpuList.append(cores.get(rangeStart));
+            if (i - 1 > rangeStart) {
+               cpuList.append('-').append(cores.get(i - 1));
+            }
+            rangeStart = i;
+         }
+      }
+      return cpuList.toString();
+   }
+}
@@ -8,6 +8,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import de.dagere.nodeDiffDetector.data.TestMethodCall;
+import de.dagere.peass.execution.utils.PreparedBuildCache;
 import de.dagere.peass.execution.utils.TestExecutor;
 import de.dagere.peass.folders.PeassFolders;
 import de.dagere.peass.measurement.organize.ResultOrganizer;
@@ -24,13 +25,25 @@ public class OnceRunner extends AbstractMeasurementProcessRunner {
 
    protected final ResultOrganizer currentOrganizer;
    private final KiekerResultHandler resultHandler;
+   private final PreparedBuildCache buildCache;
 
    public OnceRunner(final PeassFolders folders, final TestExecutor testExecutor, final ResultOrganizer currentOrganizer, final KiekerResultHandler resultHandler) {
+      this(folders, testExecutor, currentOrganizer, resultHandler, null);
+   }
+
+   /**
+    * Creates a runner that reuses the prepared build of the project folder if the given cache contains it
+    * 
+    * @param buildCache Cache of prepared builds, or null if the project should be prepared for every VM
+    */
+   public OnceRunner(final PeassFolders folders, final TestExecutor testExecutor, final ResultOrganizer currentOrganizer, final KiekerResultHandler resultHandler,
+         final PreparedBuildCache buildCache) {
       super(folders);
       this.testTransformer = testExecutor.getTestTransformer();
       this.testExecutor = testExecutor;
       this.currentOrganizer = currentOrganizer;
       this.resultHandler = resultHandler;
+      this.buildCache = buildCache;
       
       try {
          FileUtils.cleanDirectory(folders.getTempDir());
@@ -40,14 +53,24 @@ public class OnceRunner extends AbstractMeasurementProcessRunner {
    }
 
    public void runOnce(final TestMethodCall testcase, final String commit, final int vmid, final File logFolder) {
-      initCommit(commit);
+      final String buildKey = buildCache != null ? PreparedBuildCache.getBuildKey(commit, testExecutor) : null;
+      final boolean buildPrepared = buildKey != null && buildCache.isPrepared(folders.getProjectFolder(), buildKey);
+      if (!buildPrepared) {
+         initCommit(commit);
+      }
 
       final File vmidFolder = initVMFolder(commit, vmid, logFolder);
 
-      if (testTransformer.getConfig().getKiekerConfig().isUseKieker()) {
-         testExecutor.loadClasses();
+      if (!buildPrepared) {
+         if (testTransformer.getConfig().getKiekerConfig().isUseKieker()) {
+            testExecutor.loadClasses();
+         }
+         testExecutor.prepareKoPeMeExecution(new File(logFolder, "clean.txt"));
+      } else {
+         LOG.info("Reusing prepared build of commit {} in {}", commit, folders.getProjectFolder());
+         testExecutor.setBuildPrepared(true);
+         testExecutor.updateAdaptiveMonitoringConfig();
       }
-      testExecutor.prepareKoPeMeExecution(new File(logFolder, "clean.txt"));
       final long outerTimeout = 10 + (int) (this.testTransformer.getConfig().getTimeoutInSeconds() * 1.2);
       testExecutor.executeTest(testcase, vmidFolder, outerTimeout);
 
@@ -57,11 +80,19 @@ public class OnceRunner extends AbstractMeasurementProcessRunner {
       }
 
       LOG.debug("Handling Kieker results");
-      resultHandler.handleKiekerResults(commit, currentOrganizer.getTempResultsFolder(commit));
+      resultHandler.handleKiekerResults(currentOrganizer, commit, currentOrganizer.getTempResultsFolder(commit));
 
       LOG.info("Organizing result paths");
       currentOrganizer.saveResultFiles(commit, vmid);
 
+      if (buildCache != null) {
+         if (currentOrganizer.isSuccess()) {
+            buildCache.markPrepared(folders.getProjectFolder(), buildKey);
+         } else {
+            buildCache.invalidate(folders.getProjectFolder());
+         }
+      }
+
       cleanup();
    }
 
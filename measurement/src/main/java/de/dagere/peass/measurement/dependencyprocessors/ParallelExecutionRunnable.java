@@ -6,6 +6,7 @@ import java.io.IOException;
 import de.dagere.nodeDiffDetector.data.TestMethodCall;
 import de.dagere.peass.execution.utils.TestExecutor;
 import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.folders.TemporaryProjectFolderPool;
 import de.dagere.peass.measurement.organize.ResultOrganizerParallel;
 
 public class ParallelExecutionRunnable implements Runnable {
@@ -16,28 +17,46 @@ public class ParallelExecutionRunnable implements Runnable {
    private final int vmid;
    private final File logFolder;
    private final DependencyTester tester;
+   private final MeasurementSlot vmSlot;
+   private final TemporaryProjectFolderPool temporaryFolderPool;
+   private final String temporaryFolderName;
    private final PeassFolders temporaryFolders;
 
    public ParallelExecutionRunnable(final ResultOrganizerParallel organizer, final String commit, final TestMethodCall testcase, final int vmid, final File logFolder,
          final DependencyTester tester, final String gitCryptKey) throws IOException {
+      this(organizer, commit, testcase, vmid, logFolder, tester, gitCryptKey, null);
+   }
+
+   /**
+    * Creates a runnable that executes the VM in the temporary folders and on the cores of the given slot; if the slot is null, the temporary folders of the tester are used.
+    */
+   public ParallelExecutionRunnable(final ResultOrganizerParallel organizer, final String commit, final TestMethodCall testcase, final int vmid, final File logFolder,
+         final DependencyTester tester, final String gitCryptKey, final MeasurementSlot vmSlot) throws IOException {
       this.organizer = organizer;
       this.commit = commit;
       this.testcase = testcase;
       this.vmid = vmid;
       this.logFolder = logFolder;
       this.tester = tester;
+      this.vmSlot = vmSlot;
+      this.temporaryFolderPool = vmSlot != null ? vmSlot.getTemporaryFolderPool() : tester.getTemporaryFolderPool();
+      this.temporaryFolderName = vmSlot != null ? vmSlot.getTemporaryFolderName(commit) : tester.getTemporaryFolderName(commit);
       temporaryFolders = cloneProjectFolder(gitCryptKey);
    }
 
    @Override
    public void run() {
-      final TestExecutor testExecutor = tester.getExecutor(temporaryFolders, commit);
-      final OnceRunner runner = new OnceRunner(temporaryFolders, testExecutor, organizer, tester);
-      runner.runOnce(testcase, commit, vmid, logFolder);
+      final TestExecutor testExecutor = vmSlot != null ? tester.getExecutor(temporaryFolders, commit, vmSlot.getEnv()) : tester.getExecutor(temporaryFolders, commit);
+      final OnceRunner runner = new OnceRunner(temporaryFolders, testExecutor, organizer, tester, tester.getPreparedBuildCache());
+      try {
+         runner.runOnce(testcase, commit, vmid, logFolder);
+      } finally {
+         temporaryFolderPool.release(temporaryFolderName);
+      }
    }
 
    private PeassFolders cloneProjectFolder(final String gitCryptKey) throws IOException {
-      PeassFolders temporaryFolders = tester.getFolders().getTempFolder("parallel_" + commit, gitCryptKey);
+      PeassFolders temporaryFolders = temporaryFolderPool.getFolders(temporaryFolderName, gitCryptKey);
       organizer.addCommitFolders(commit, temporaryFolders);
       return temporaryFolders;
    }
@@ -2,28 +2,36 @@ package de.dagere.peass.measurement.dependencyprocessors;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.filefilter.NameFileFilter;
+import org.apache.commons.io.filefilter.TrueFileFilter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import de.dagere.nodeDiffDetector.data.TestMethodCall;
+import de.dagere.peass.execution.kieker.ArgLineBuilder;
 import de.dagere.peass.execution.utils.TestExecutor;
 import de.dagere.peass.folders.PeassFolders;
 import de.dagere.peass.measurement.organize.ResultOrganizer;
-import de.dagere.peass.measurement.rca.searcher.ICauseSearcher;
+import de.dagere.peass.measurement.rca.searcher.SamplingCauseSearcher;
 import de.dagere.peass.testtransformation.TestTransformer;
 
+/**
+ * Runs one VM with execution sampling by the JDK Flight Recorder and passes the recording to the {@link SamplingCauseSearcher}
+ */
 public class SamplingRunner extends AbstractMeasurementProcessRunner {
-   private static final Logger LOG = LogManager.getLogger(OnceRunner.class);
+   private static final Logger LOG = LogManager.getLogger(SamplingRunner.class);
 
    protected final TestTransformer testTransformer;
    protected final TestExecutor testExecutor;
 
    protected final ResultOrganizer currentOrganizer;
-   private final ICauseSearcher resultHandler;
+   private final SamplingCauseSearcher resultHandler;
 
-   public SamplingRunner(final PeassFolders folders, final TestExecutor testExecutor, final ResultOrganizer currentOrganizer, final ICauseSearcher resultHandler) {
+   public SamplingRunner(final PeassFolders folders, final TestExecutor testExecutor, final ResultOrganizer currentOrganizer, final SamplingCauseSearcher resultHandler) {
       super(folders);
       this.testTransformer = testExecutor.getTestTransformer();
       this.testExecutor = testExecutor;
@@ -44,10 +52,15 @@ public class SamplingRunner extends AbstractMeasurementProcessRunner {
       final File vmidFolder = initVMFolder(commit, vmid, logFolder);
       
       testExecutor.prepareKoPeMeExecution(new File(logFolder, "clean.txt"));
-      
-      //TODO implement sampling measurement
-      if (true) {
-         throw new RuntimeException("Not implemented yet");
+      final long outerTimeout = 10 + (int) (this.testTransformer.getConfig().getTimeoutInSeconds() * 1.2);
+      testExecutor.executeTest(testcase, vmidFolder, outerTimeout);
+
+      final List<File> recordings = getRecordings();
+      if (recordings.isEmpty()) {
+         LOG.error("No flight recording found in {} - sampling data of VM {} of commit {} are missing", folders.getKiekerTempFolder(), vmid, commit);
+      } else {
+         LOG.debug("Handling sampling results");
+         resultHandler.handleSamplingResults(commit, recordings);
       }
       
       LOG.info("Organizing result paths");
@@ -55,4 +68,11 @@ public class SamplingRunner extends AbstractMeasurementProcessRunner {
 
       cleanup();
    }
+
+   private List<File> getRecordings() {
+      if (!folders.getKiekerTempFolder().exists()) {
+         return new ArrayList<>();
+      }
+      return new ArrayList<>(FileUtils.listFiles(folders.getKiekerTempFolder(), new NameFileFilter(ArgLineBuilder.SAMPLING_RECORDING_NAME), TrueFileFilter.INSTANCE));
+   }
 }
@@ -5,7 +5,10 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.config.StatisticalTests;
+import de.dagere.peass.config.StatisticsConfig;
 import de.dagere.peass.measurement.statistics.Relation;
+import de.dagere.peass.measurement.statistics.SequentialProbabilityRatioTest;
 import de.dagere.peass.measurement.statistics.StatisticUtil;
 
 
@@ -18,8 +21,10 @@ public class EarlyBreakDecider {
 
    private final double type1error;
    private final double type2error;
+   private final StatisticsConfig statisticsConfig;
 
    public EarlyBreakDecider(final MeasurementConfig config, final StatisticalSummary statisticsPredecessor, final StatisticalSummary statisticsCurrent)  {
+      this.statisticsConfig = config.getStatisticsConfig();
       this.type1error = config.getStatisticsConfig().getType1error();
       this.type2error = config.getStatisticsConfig().getType2error();
       this.statisticsPredecessor = statisticsPredecessor;
@@ -27,6 +32,9 @@ public class EarlyBreakDecider {
    }
 
    public boolean isBreakPossible(final int vmid) {
+      if (statisticsConfig.getStatisticTest() == StatisticalTests.SEQUENTIAL_PROBABILITY_RATIO_TEST) {
+         return isSequentiallyDecidable(vmid);
+      }
       boolean savelyDecidable = false;
       if (vmid > 3) {
          LOG.debug("T: {} {}", statisticsPredecessor.getN(), statisticsCurrent.getN());
@@ -41,6 +49,22 @@ public class EarlyBreakDecider {
       return savelyDecidable;
    }
 
+   /**
+    * The sequential probability ratio test is checked after every VM, since its error rates hold regardless of how often it is evaluated
+    */
+   private boolean isSequentiallyDecidable(final int vmid) {
+      final Relation relation = SequentialProbabilityRatioTest.test(statisticsPredecessor, statisticsCurrent, statisticsConfig);
+      if (relation != Relation.UNKOWN) {
+         LOG.info("Can sequentially decide after {} VMs: {}", vmid + 1, relation);
+         return true;
+      } else if (vmid > 10 && (statisticsPredecessor.getN() < SequentialProbabilityRatioTest.MINIMUM_VMS
+            || statisticsCurrent.getN() < SequentialProbabilityRatioTest.MINIMUM_VMS)) {
+         LOG.debug("More than 10 executions and only {} / {} measurements - aborting", statisticsPredecessor.getN(), statisticsCurrent.getN());
+         return true;
+      }
+      return false;
+   }
+
    public boolean isSavelyDecidableBothHypothesis(final int vmid) {
       boolean savelyDecidable = false;
       if (statisticsPredecessor.getN() > 30 && statisticsCurrent.getN() > 30) {
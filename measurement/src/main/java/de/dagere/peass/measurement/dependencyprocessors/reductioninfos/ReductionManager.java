@@ -92,6 +92,9 @@ public class ReductionManager {
 
    public VMResult getLastResult(final String version, final TestMethodCall testcase, final int vmid, ResultOrganizer organizer) {
       System.out.println("Getting " + version + " " + testcase + " " + vmid);
+      if (organizer.getAccumulator() != null) {
+         return organizer.getAccumulator().getLastResult(testcase, version, vmid);
+      }
       final File resultFile = organizer.getResultFile(testcase, vmid, version);
       if (resultFile.exists()) {
          final Kopemedata data = JSONDataLoader.loadData(resultFile);
@@ -24,6 +24,7 @@ import de.dagere.kopeme.kopemedata.VMResult;
 import de.dagere.nodeDiffDetector.data.TestMethodCall;
 import de.dagere.peass.folders.PeassFolders;
 import de.dagere.peass.measurement.dataloading.MultipleVMTestUtil;
+import de.dagere.peass.measurement.dataloading.ResultAccumulator;
 
 public class ResultOrganizer {
 
@@ -40,6 +41,7 @@ public class ResultOrganizer {
    private boolean success = true;
    private final int expectedIterations;
    private final KiekerFileCompressor compressor = new KiekerFileCompressor();
+   private ResultAccumulator accumulator;
 
    public ResultOrganizer(final PeassFolders folders, final String currentCommit, final long currentChunkStart, final boolean isUseKieker, final boolean saveAll,
          final TestMethodCall test,
@@ -154,6 +156,10 @@ public class ResultOrganizer {
          String paramString = ParamNameHelper.paramsToString(result.getParameters());
          TestMethodCall concreteTestcase = new TestMethodCall(testcase.getClazz(), testcase.getMethod(), testcase.getModule(), paramString);
 
+         if (accumulator != null) {
+            accumulator.setLastResult(concreteTestcase, commit, vmid, result);
+         }
+
          final File destFile = folders.getResultFile(concreteTestcase, vmid, commit, mainCommit);
          destFile.getParentFile().mkdirs();
          LOG.info("Saving in: {}", destFile);
@@ -190,7 +196,11 @@ public class ResultOrganizer {
          TestMethodCall concreteTestcase = new TestMethodCall(testcase.getClazz(), testcase.getMethod(), testcase.getModule(), paramString);
 
          final File summaryResultFile = folders.getSummaryFile(concreteTestcase);
-         MultipleVMTestUtil.saveSummaryData(summaryResultFile, oneResultFile, result, concreteTestcase, commit, currentChunkStart, timeDataCollector.getName());
+         final VMResult summaryResult = MultipleVMTestUtil.appendSummaryData(summaryResultFile, oneResultFile, result, concreteTestcase, commit, currentChunkStart,
+               timeDataCollector.getName());
+         if (accumulator != null && summaryResult != null) {
+            accumulator.addResult(concreteTestcase, commit, summaryResult);
+         }
       }
    }
 
@@ -207,6 +217,17 @@ public class ResultOrganizer {
       }
    }
 
+   /**
+    * Sets the accumulator that should be updated with every saved result; if no accumulator is set, results are only written to disk.
+    */
+   public void setAccumulator(final ResultAccumulator accumulator) {
+      this.accumulator = accumulator;
+   }
+
+   public ResultAccumulator getAccumulator() {
+      return accumulator;
+   }
+
    public KiekerFileCompressor getCompressor() {
       return compressor;
    }
@@ -8,10 +8,12 @@ import de.dagere.peass.config.MeasurementConfig;
 import de.dagere.peass.folders.CauseSearchFolders;
 import de.dagere.peass.measurement.rca.data.CallTreeNode;
 import de.dagere.peass.measurement.rca.data.CauseSearchData;
+import de.dagere.peass.measurement.rca.serialization.BinaryTreeFormat;
 import de.dagere.peass.utils.Constants;
 
 /**
- * Persists RCA data to the file system 
+ * Persists RCA data to the file system. After every measured level, the summary is written as JSON and the details, which contain all measured values and therefore grow
+ * with every level, are written in the compact {@link BinaryTreeFormat}. The details are exported as JSON for the visualization once the search is finished.
  *
  */
 public class CausePersistenceManager {
@@ -21,6 +23,7 @@ public class CausePersistenceManager {
    private final CauseSearchFolders folders;
    private final File treeDataFile;
    private final File treeDataFileDetails;
+   private final File treeDataFileDetailsBinary;
 
    public CausePersistenceManager(final CauseSearcherConfig causeSearchConfig, final MeasurementConfig measurementConfig, final CauseSearchFolders folders) {
       this(new CauseSearchData(measurementConfig, causeSearchConfig), new CauseSearchData(measurementConfig, causeSearchConfig), folders);
@@ -41,17 +44,56 @@ public class CausePersistenceManager {
       treeDataFolder.mkdirs();
       treeDataFileDetails = folders.getRcaTreeFileDetails(commit, testCase);
       treeDataFileDetails.getParentFile().mkdirs();
+      treeDataFileDetailsBinary = getBinaryDetailsFile(treeDataFileDetails);
    }
 
    public void writeTreeState() {
       try {
          Constants.OBJECTMAPPER.writeValue(treeDataFile, data);
+         if (dataDetails.getNodes() != null) {
+            BinaryTreeFormat.writeMeasuredTree(dataDetails.getNodes(), treeDataFileDetailsBinary);
+         }
+      } catch (IOException e) {
+         throw new RuntimeException(e);
+      }
+   }
+
+   /**
+    * Writes the details as JSON, which is read by the visualization
+    */
+   public void exportDetails() {
+      try {
          Constants.OBJECTMAPPER.writeValue(treeDataFileDetails, dataDetails);
       } catch (IOException e) {
          throw new RuntimeException(e);
       }
    }
 
+   /**
+    * Reads the details belonging to the given summary file; if the details have not been exported as JSON (e.g. because the search was aborted), they are read from the
+    * binary details file, and if no details exist, the summary is returned.
+    */
+   public static CauseSearchData readDetails(final File treeDataFile) throws IOException {
+      final File treeDataFileDetails = new File(treeDataFile.getParentFile(), "details" + File.separator + treeDataFile.getName());
+      final File treeDataFileDetailsBinary = getBinaryDetailsFile(treeDataFileDetails);
+      if (treeDataFileDetails.exists()) {
+         return Constants.OBJECTMAPPER.readValue(treeDataFileDetails, CauseSearchData.class);
+      }
+      final CauseSearchData data = Constants.OBJECTMAPPER.readValue(treeDataFile, CauseSearchData.class);
+      if (treeDataFileDetailsBinary.exists()) {
+         final CauseSearchData details = new CauseSearchData(data.getMeasurementConfig(), data.getCauseConfig());
+         details.setNodes(BinaryTreeFormat.readMeasuredTree(treeDataFileDetailsBinary));
+         return details;
+      }
+      return data;
+   }
+
+   private static File getBinaryDetailsFile(final File treeDataFileDetails) {
+      final String name = treeDataFileDetails.getName();
+      final String baseName = name.endsWith(".json") ? name.substring(0, name.length() - ".json".length()) : name;
+      return new File(treeDataFileDetails.getParentFile(), baseName + BinaryTreeFormat.FILE_ENDING);
+   }
+
    public void addMeasurement(final CallTreeNode predecessorNode) {
       data.addDiff(predecessorNode);
       dataDetails.addDetailDiff(predecessorNode);
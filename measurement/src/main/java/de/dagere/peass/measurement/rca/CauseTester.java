@@ -2,9 +2,15 @@ package de.dagere.peass.measurement.rca;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
@@ -19,15 +25,18 @@ import de.dagere.peass.execution.utils.TestExecutor;
 import de.dagere.peass.folders.CauseSearchFolders;
 import de.dagere.peass.folders.PeassFolders;
 import de.dagere.peass.measurement.dependencyprocessors.AdaptiveTester;
+import de.dagere.peass.measurement.dependencyprocessors.MeasurementSlot;
+import de.dagere.peass.measurement.dependencyprocessors.MeasurementSlotScheduler;
 import de.dagere.peass.measurement.dependencyprocessors.helper.EarlyBreakDecider;
 import de.dagere.peass.measurement.dependencyprocessors.helper.ProgressWriter;
+import de.dagere.peass.measurement.organize.ResultOrganizer;
 import de.dagere.peass.measurement.rca.data.CallTreeNode;
 import de.dagere.peass.measurement.rca.data.CauseSearchData;
 import de.dagere.peass.measurement.rca.kieker.KiekerResultReader;
 import de.dagere.peass.testtransformation.TestTransformer;
 
 /**
- * Measures method calls adaptively instrumented by Kieker
+ * Measures method calls adaptively instrumented by Kieker. If more than one measurement slot is configured, one VM is run in each slot at the same time.
  * 
  * @author reichelt
  *
@@ -42,6 +51,9 @@ public class CauseTester extends AdaptiveTester {
    private final CauseSearcherConfig causeConfig;
    private final CauseSearchFolders folders;
    private int levelId = 0;
+   private List<MeasurementSlot> vmSlots;
+   private final List<PendingKiekerResult> pendingResults = Collections.synchronizedList(new ArrayList<>());
+   private final AtomicInteger pendingResultIndex = new AtomicInteger();
 
    public CauseTester(final CauseSearchFolders project, final MeasurementConfig measurementConfig, final CauseSearcherConfig causeConfig, final EnvironmentVariables env,
          CommitComparatorInstance comparator) {
@@ -94,24 +106,89 @@ public class CauseTester extends AdaptiveTester {
       final File logFolder = folders.getRCALogFolder(configuration.getFixedCommitConfig().getCommit(), testcase, levelId);
 
       try (ProgressWriter writer = new ProgressWriter(folders.getProgressFile(), configuration.getVms())) {
-         evaluateWithAdaption(testcase, logFolder, writer);
+         final List<MeasurementSlot> slots = getVMSlots();
+         if (slots.size() > 1) {
+            evaluateInBatches(testcase, logFolder, writer, slots);
+         } else {
+            evaluateWithAdaption(testcase, logFolder, writer);
+         }
       } catch (IOException e) {
          throw new RuntimeException(e);
+      } finally {
+         compactSummaries(testcase);
+      }
+   }
+
+   /**
+    * The measured data of the call tree nodes are only kept in memory, so an aborted level can not be continued from the persisted VM results.
+    */
+   @Override
+   protected boolean isChunkResumable() {
+      return false;
+   }
+
+   /**
+    * Returns the slots the VMs are run in concurrently; if only one slot is configured, no slots are used and the VMs are run one after another.
+    */
+   private List<MeasurementSlot> getVMSlots() {
+      if (vmSlots == null) {
+         if (configuration.getMeasurementSlots() > 1) {
+            vmSlots = MeasurementSlotScheduler.createSlots(folders, configuration, env, MeasurementSlotScheduler.getAllowedCpus());
+         } else {
+            vmSlots = Collections.emptyList();
+         }
+      }
+      return vmSlots;
+   }
+
+   @Override
+   public void setCommits(final String commit, final String commitOld) {
+      super.setCommits(commit, commitOld);
+      if (vmSlots != null) {
+         vmSlots.forEach(slot -> slot.getTemporaryFolderPool().clear());
       }
    }
 
    @Override
-   protected synchronized TestExecutor getExecutor(final PeassFolders temporaryFolders, final String commit) {
-      final TestExecutor testExecutor = super.getExecutor(temporaryFolders, commit);
+   protected synchronized TestExecutor getExecutor(final PeassFolders temporaryFolders, final String commit, final EnvironmentVariables executionEnv) {
+      final TestExecutor testExecutor = super.getExecutor(temporaryFolders, commit, executionEnv);
       TestTransformer testTransformer = testExecutor.getTestTransformer();
       testTransformer.setIgnoreEOIs(causeConfig.isIgnoreEOIs());
       PatternSetGenerator patternSetGenerator = new PatternSetGenerator(configuration.getFixedCommitConfig(), testcase);
       includedPattern = patternSetGenerator.generatePatternSet(includedNodes, commit);
-      final HashSet<String> includedMethodPattern = new HashSet<>(includedPattern);
-      testExecutor.setIncludedMethods(includedMethodPattern);
+      if (configuration.getKiekerConfig().isInstrumentOnce()) {
+         final Set<String> instrumentedPattern = getInstrumentedPattern(patternSetGenerator, commit);
+         testExecutor.setIncludedMethods(instrumentedPattern);
+         testExecutor.setActivatedMethods(new HashSet<>(includedPattern));
+      } else {
+         final HashSet<String> includedMethodPattern = new HashSet<>(includedPattern);
+         testExecutor.setIncludedMethods(includedMethodPattern);
+      }
       return testExecutor;
    }
 
+   /**
+    * Returns the patterns of the complete call tree of the commit, so the instrumentation (and therefore the build) stays the same for all levels. If the tree of the current
+    * commit is not known, only the nodes of the level are instrumented.
+    */
+   private Set<String> getInstrumentedPattern(final PatternSetGenerator patternSetGenerator, final String commit) {
+      final Set<String> instrumentedPattern = new HashSet<>(includedPattern);
+      if (includedNodes.isEmpty()) {
+         return instrumentedPattern;
+      }
+      CallTreeNode root = includedNodes.iterator().next();
+      while (root.getParent() != null) {
+         root = root.getParent();
+      }
+      final CallTreeNode commitRoot = configuration.getFixedCommitConfig().getCommitOld().equals(commit) ? root : root.getOtherCommitNode();
+      if (commitRoot != null) {
+         instrumentedPattern.addAll(patternSetGenerator.generateTreePatternSet(commitRoot));
+      } else {
+         LOG.warn("Call tree of {} is not known, only instrumenting current level", commit);
+      }
+      return instrumentedPattern;
+   }
+
    @Override
    public boolean checkIsDecidable(final TestMethodCall testcase, final int vmid) {
       getDurationsCommit(configuration.getFixedCommitConfig().getCommit());
@@ -138,20 +215,90 @@ public class CauseTester extends AdaptiveTester {
 
    @Override
    public void handleKiekerResults(final String commit, final File commitResultFolder) {
-      if (getCurrentOrganizer().testSuccess(commit)) {
-         LOG.info("Did succeed in measurement - analyse values");
-
-         boolean isOtherVersion = commit.equals(configuration.getFixedCommitConfig().getCommit());
-         final KiekerResultReader kiekerResultReader = new KiekerResultReader(configuration.getKiekerConfig().isUseAggregation(), configuration.getKiekerConfig().getRecord(),
-               includedNodes, commit, testcase,
-               isOtherVersion);
-         kiekerResultReader.setConsiderNodePosition(!configuration.getKiekerConfig().isUseAggregation());
+      handleKiekerResults(getCurrentOrganizer(), commit, commitResultFolder);
+   }
 
-         kiekerResultReader.readResults(commitResultFolder);
+   /**
+    * Reads the Kieker results of one VM into the included nodes. If the VMs are run concurrently, the results are only linked to a pending folder, since parsing them would
+    * disturb the VMs of the other slots; they are read after all VMs of the batch finished.
+    */
+   @Override
+   public void handleKiekerResults(final ResultOrganizer organizer, final String commit, final File commitResultFolder) {
+      if (organizer.testSuccess(commit)) {
+         LOG.info("Did succeed in measurement - analyse values");
+         if (!getVMSlots().isEmpty()) {
+            try {
+               final File pendingFolder = new File(getPendingResultsFolder(), "result_" + pendingResultIndex.getAndIncrement());
+               linkRecursively(commitResultFolder.toPath(), pendingFolder.toPath());
+               pendingResults.add(new PendingKiekerResult(commit, pendingFolder));
+            } catch (IOException e) {
+               throw new RuntimeException(e);
+            }
+         } else {
+            readKiekerResults(commit, commitResultFolder);
+         }
       } else {
          LOG.info("Did not success in measurement");
       }
+   }
+
+   @Override
+   protected List<ResultOrganizer> runConcurrentComparisons(final File logFolder, final TestMethodCall testcase, final int firstVmid, final List<MeasurementSlot> vmSlots)
+         throws IOException {
+      try {
+         final List<ResultOrganizer> organizers = super.runConcurrentComparisons(logFolder, testcase, firstVmid, vmSlots);
+         for (PendingKiekerResult pendingResult : pendingResults) {
+            readKiekerResults(pendingResult.commit, pendingResult.folder);
+         }
+         return organizers;
+      } finally {
+         pendingResults.clear();
+         FileUtils.deleteDirectory(getPendingResultsFolder());
+      }
+   }
+
+   private void readKiekerResults(final String commit, final File commitResultFolder) {
+      boolean isOtherVersion = commit.equals(configuration.getFixedCommitConfig().getCommit());
+      final KiekerResultReader kiekerResultReader = new KiekerResultReader(configuration.getKiekerConfig().isUseAggregation(), configuration.getKiekerConfig().getRecord(),
+            includedNodes, commit, testcase,
+            isOtherVersion);
+      kiekerResultReader.setConsiderNodePosition(!configuration.getKiekerConfig().isUseAggregation());
+      kiekerResultReader.readResults(commitResultFolder);
+   }
+
+   private File getPendingResultsFolder() {
+      return new File(folders.getTempDir(), "pendingKiekerResults");
+   }
+
+   /**
+    * Hard links all files of the source folder to the destination folder, so they are still available after the result organizer moved or deleted them; if the file system
+    * does not support hard links, the files are copied.
+    */
+   private static void linkRecursively(final Path source, final Path destination) throws IOException {
+      try (Stream<Path> paths = Files.walk(source)) {
+         for (Path path : (Iterable<Path>) paths::iterator) {
+            final Path target = destination.resolve(source.relativize(path).toString());
+            if (Files.isDirectory(path)) {
+               Files.createDirectories(target);
+            } else {
+               try {
+                  Files.createLink(target, path);
+               } catch (UnsupportedOperationException | IOException e) {
+                  Files.copy(path, target);
+               }
+            }
+         }
+      }
+   }
+
+   private static final class PendingKiekerResult {
+      private final String commit;
+      private final File folder;
 
+      private PendingKiekerResult(final String commit, final File folder) {
+         this.commit = commit;
+         this.folder = folder;
+      }
    }
 
    public void setIncludedMethods(final Set<CallTreeNode> children) {
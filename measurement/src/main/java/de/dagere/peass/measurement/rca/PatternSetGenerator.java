@@ -44,6 +44,24 @@ public class PatternSetGenerator {
       return includedPattern;
    }
 
+   /**
+    * Generates the patterns of all nodes of the given call tree; the nodes of the tree need to belong to one commit, since their own Kieker pattern is used
+    */
+   public Set<String> generateTreePatternSet(final CallTreeNode root) {
+      Set<String> treePattern = new HashSet<>();
+      addTreePattern(root, treePattern);
+      return treePattern;
+   }
+
+   private void addTreePattern(final CallTreeNode node, final Set<String> treePattern) {
+      if (!node.getKiekerPattern().equals(CauseSearchData.ADDED)) {
+         addIncludedPattern(node, node.getKiekerPattern(), treePattern);
+      }
+      for (CallTreeNode child : node.getChildren()) {
+         addTreePattern(child, treePattern);
+      }
+   }
+
    private void addIncludedPattern(CallTreeNode node, String addPattern, Set<String> includedPattern) {
       if (node.getCall().equals(testcase.getExecutable()) && addPattern.startsWith("public ")) {
          includedPattern.add(addPattern.substring("public ".length()));
@@ -100,7 +100,7 @@ public class CallTreeNode extends BasicNode {
       return parent;
    }
 
-   public void addMeasurement(final String commit, final Long duration) {
+   public void addMeasurement(final String commit, final long duration) {
       checkDataAddPossible(commit);
       LOG.trace("Adding measurement: {} Call: {}", commit, call);
       CallTreeStatistics callTreeStatistics = data.get(commit);
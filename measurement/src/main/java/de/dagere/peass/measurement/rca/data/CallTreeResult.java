@@ -24,7 +24,7 @@ public class CallTreeResult implements OneVMResult {
       return statistics.getMean();
    }
 
-   public void addValue(final Long value) {
+   public void addValue(final long value) {
       measured++;
       if (measured > warmup) {
          statistics.addValue(value);
@@ -0,0 +1,69 @@
+package de.dagere.peass.measurement.rca.kieker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.dagere.kopeme.kieker.aggregateddata.AggregatedData;
+import de.dagere.kopeme.kieker.aggregateddata.AggregatedDataNode;
+
+/**
+ * Index of the aggregated data of one Kieker result folder by the normalized Kieker pattern (see {@link KiekerPatternConverter#getKiekerPattern(String)}), so the data of a
+ * call tree node can be found without comparing it to every measured node. Entries with equal pattern keep the iteration order of the original map.
+ *
+ * @author reichelt
+ *
+ */
+public class AggregatedDataIndex {
+
+   /**
+    * One measured node with its data; the EOI is stored to allow filtering by node position
+    */
+   public static class IndexedData {
+      private final int eoi;
+      private final AggregatedData data;
+
+      public IndexedData(final int eoi, final AggregatedData data) {
+         this.eoi = eoi;
+         this.data = data;
+      }
+
+      public int getEoi() {
+         return eoi;
+      }
+
+      public AggregatedData getData() {
+         return data;
+      }
+   }
+
+   private final Map<String, List<IndexedData>> dataByPattern = new HashMap<>();
+   private final int size;
+
+   public AggregatedDataIndex(final Map<AggregatedDataNode, AggregatedData> fullDataMap) {
+      for (Map.Entry<AggregatedDataNode, AggregatedData> entry : fullDataMap.entrySet()) {
+         final String kiekerPattern = KiekerPatternConverter.getKiekerPattern(entry.getKey().getCall());
+         dataByPattern.computeIfAbsent(kiekerPattern, pattern -> new ArrayList<>(1))
+               .add(new IndexedData(entry.getKey().getEoi(), entry.getValue()));
+      }
+      size = fullDataMap.size();
+   }
+
+   /**
+    * Returns all measured nodes with the given normalized Kieker pattern
+    */
+   public List<IndexedData> get(final String kiekerPattern) {
+      final List<IndexedData> data = dataByPattern.get(kiekerPattern);
+      return data != null ? data : Collections.emptyList();
+   }
+
+   public boolean isEmpty() {
+      return size == 0;
+   }
+
+   public int size() {
+      return size;
+   }
+}
@@ -11,6 +11,7 @@ import de.dagere.peass.execution.utils.EnvironmentVariables;
 import de.dagere.peass.folders.CauseSearchFolders;
 import de.dagere.peass.measurement.rca.CauseSearcherConfig;
 import de.dagere.peass.measurement.rca.data.CallTreeNode;
+import de.dagere.peass.measurement.rca.serialization.BinaryTreeFormat;
 import de.dagere.peass.measurement.rca.treeanalysis.TreeUtil;
 import de.dagere.peass.utils.Constants;
 
@@ -28,6 +29,8 @@ public class BothTreeReader {
 
    final File potentialCacheFileOld;
    final File potentialCacheFile;
+   final File potentialJsonCacheFileOld;
+   final File potentialJsonCacheFile;
 
    public BothTreeReader(final CauseSearcherConfig causeSearchConfig, final MeasurementConfig config, final CauseSearchFolders folders, final EnvironmentVariables env) {
       this.causeSearchConfig = causeSearchConfig;
@@ -36,47 +39,65 @@ public class BothTreeReader {
       this.env = env;
 
       File treeCacheFolder = folders.getTreeCacheFolder(config.getFixedCommitConfig().getCommit(), causeSearchConfig.getTestCase());
-      potentialCacheFileOld = new File(treeCacheFolder, config.getFixedCommitConfig().getCommitOld());
-      potentialCacheFile = new File(treeCacheFolder, config.getFixedCommitConfig().getCommit());
+      potentialCacheFileOld = new File(treeCacheFolder, config.getFixedCommitConfig().getCommitOld() + BinaryTreeFormat.FILE_ENDING);
+      potentialCacheFile = new File(treeCacheFolder, config.getFixedCommitConfig().getCommit() + BinaryTreeFormat.FILE_ENDING);
+      potentialJsonCacheFileOld = new File(treeCacheFolder, config.getFixedCommitConfig().getCommitOld());
+      potentialJsonCacheFile = new File(treeCacheFolder, config.getFixedCommitConfig().getCommit());
    }
 
    public void readCachedTrees() {
-      if (!potentialCacheFile.exists()) {
-         throw new RuntimeException("Cache not existing! " + potentialCacheFile.getAbsolutePath());
-      }
-      if (!potentialCacheFileOld.exists()) {
+      rootPredecessor = readCachedTree(potentialCacheFileOld.getParentFile(), config.getFixedCommitConfig().getCommitOld(), config);
+      if (rootPredecessor == null) {
          throw new RuntimeException("Cache not existing! " + potentialCacheFileOld.getAbsolutePath());
       }
+      rootCurrent = readCachedTree(potentialCacheFile.getParentFile(), config.getFixedCommitConfig().getCommit(), config);
+      if (rootCurrent == null) {
+         throw new RuntimeException("Cache not existing! " + potentialCacheFile.getAbsolutePath());
+      }
+   }
+
+   /**
+    * Reads the cached tree of the given commit, which is stored in the binary format or, if it was cached by an older Peass version, as JSON
+    *
+    * @return the cached tree, or null if no tree is cached
+    */
+   public static CallTreeNode readCachedTree(final File treeCacheFolder, final String commit, final MeasurementConfig config) {
+      final File binaryCacheFile = new File(treeCacheFolder, commit + BinaryTreeFormat.FILE_ENDING);
+      final File jsonCacheFile = new File(treeCacheFolder, commit);
       try {
-         rootPredecessor = Constants.OBJECTMAPPER.readValue(potentialCacheFileOld, CallTreeNode.class);
-         rootCurrent = Constants.OBJECTMAPPER.readValue(potentialCacheFile, CallTreeNode.class);
+         if (binaryCacheFile.exists()) {
+            return BinaryTreeFormat.readCallTree(binaryCacheFile, config);
+         } else if (jsonCacheFile.exists()) {
+            final CallTreeNode root = Constants.OBJECTMAPPER.readValue(jsonCacheFile, CallTreeNode.class);
+            root.setConfig(config);
+            setConfig(root, config);
+            return root;
+         } else {
+            return null;
+         }
       } catch (IOException e) {
          throw new RuntimeException(e);
       }
-
-      rootPredecessor.setConfig(config);
-      setConfig(rootPredecessor);
-      rootCurrent.setConfig(config);
-      setConfig(rootCurrent);
    }
 
-   private void setConfig(final CallTreeNode node) {
+   private static void setConfig(final CallTreeNode node, final MeasurementConfig config) {
       for (CallTreeNode child : node.getChildren()) {
          child.setConfig(config);
-         setConfig(child);
+         setConfig(child, config);
       }
    }
 
    public void readTrees() {
-      if (potentialCacheFile.exists() && potentialCacheFileOld.exists()) {
+      if ((potentialCacheFile.exists() || potentialJsonCacheFile.exists()) && (potentialCacheFileOld.exists() || potentialJsonCacheFileOld.exists())) {
          LOG.info("Using cache!");
          readCachedTrees();
       } else {
          determineTrees();
          LOG.info("Writing to cache");
          try {
-            Constants.OBJECTMAPPER.writeValue(potentialCacheFileOld, rootPredecessor);
-            Constants.OBJECTMAPPER.writeValue(potentialCacheFile, rootCurrent);
+            potentialCacheFile.getParentFile().mkdirs();
+            BinaryTreeFormat.writeCallTree(rootPredecessor, potentialCacheFileOld);
+            BinaryTreeFormat.writeCallTree(rootCurrent, potentialCacheFile);
          } catch (IOException e) {
             throw new RuntimeException(e);
          }
@@ -3,11 +3,15 @@ package de.dagere.peass.measurement.rca.kieker;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.io.filefilter.OrFileFilter;
 import org.apache.commons.io.filefilter.RegexFileFilter;
@@ -25,6 +29,7 @@ import de.dagere.nodeDiffDetector.data.TestMethodCall;
 import de.dagere.peass.dependency.traces.KiekerFolderUtil;
 import de.dagere.peass.measurement.rca.data.CallTreeNode;
 import de.dagere.peass.measurement.rca.data.CauseSearchData;
+import de.dagere.peass.measurement.rca.kieker.AggregatedDataIndex.IndexedData;
 import de.dagere.peass.measurement.rca.kiekerReading.KiekerDurationReader;
 import kieker.analysis.exception.AnalysisConfigurationException;
 import net.kieker.sourceinstrumentation.AllowedKiekerRecord;
@@ -61,12 +66,13 @@ public class KiekerResultReader {
          LOG.info("Reading kieker results from {}", commitResultFolder.getAbsolutePath(), commit);
          FileFilter filter = new OrFileFilter(new RegexFileFilter("[0-9]*"), new RegexFileFilter("measurement-[0-9]*.csv"));
          final File[] kiekerResultFiles = commitResultFolder.listFiles(filter);
-         for (final File kiekerResultFolder : kiekerResultFiles) {
-            final File kiekerTraceFile = KiekerFolderUtil.getKiekerTraceFolder(kiekerResultFolder, testcase);
-            LOG.debug("Reading file: {}", kiekerTraceFile.getAbsolutePath());
-            if (useAggregation) {
-               readAggregatedData(kiekerTraceFile);
-            } else {
+         if (useAggregation) {
+            readAggregatedDataParallel(kiekerResultFiles);
+         } else {
+            // The stages add the values directly to the nodes, so the folders need to be read one after another
+            for (final File kiekerResultFolder : kiekerResultFiles) {
+               final File kiekerTraceFile = KiekerFolderUtil.getKiekerTraceFolder(kiekerResultFolder, testcase);
+               LOG.debug("Reading file: {}", kiekerTraceFile.getAbsolutePath());
                readNonAggregated(kiekerTraceFile);
             }
          }
@@ -75,58 +81,85 @@ public class KiekerResultReader {
       }
    }
 
+   /**
+    * Parses and indexes the aggregated data of all folders in parallel; the values are added to the nodes afterwards in the order of the folders, since the nodes are not
+    * thread-safe.
+    */
+   private void readAggregatedDataParallel(final File[] kiekerResultFiles) throws IOException {
+      final int threads = Math.max(1, Math.min(kiekerResultFiles.length, Runtime.getRuntime().availableProcessors()));
+      final ExecutorService service = Executors.newFixedThreadPool(threads);
+      try {
+         final List<Future<AggregatedDataIndex>> indices = new ArrayList<>(kiekerResultFiles.length);
+         for (final File kiekerResultFolder : kiekerResultFiles) {
+            final File kiekerTraceFile = KiekerFolderUtil.getKiekerTraceFolder(kiekerResultFolder, testcase);
+            LOG.debug("Reading file: {}", kiekerTraceFile.getAbsolutePath());
+            indices.add(service.submit(() -> new AggregatedDataIndex(AggregatedDataReader.getFullDataMap(kiekerTraceFile))));
+         }
+         for (final Future<AggregatedDataIndex> index : indices) {
+            readAggregatedData(index.get());
+         }
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new RuntimeException(e);
+      } catch (ExecutionException e) {
+         if (e.getCause() instanceof IOException) {
+            throw (IOException) e.getCause();
+         }
+         throw new RuntimeException(e.getCause());
+      } finally {
+         service.shutdownNow();
+      }
+   }
+
    public void readAggregatedData(final File kiekerTraceFolder) throws JsonParseException, JsonMappingException, IOException {
       final Map<AggregatedDataNode, AggregatedData> fullDataMap = AggregatedDataReader.getFullDataMap(kiekerTraceFolder);
-      if (fullDataMap.isEmpty()) {
+      readAggregatedData(new AggregatedDataIndex(fullDataMap));
+   }
+
+   private void readAggregatedData(final AggregatedDataIndex index) {
+      if (index.isEmpty()) {
          LOG.warn("No data were measured - a measurement error occured");
       } else {
          for (final CallTreeNode node : includedNodes) {
-            readNode(fullDataMap, node);
+            readNode(index, node);
          }
       }
    }
 
-   private void readNode(final Map<AggregatedDataNode, AggregatedData> fullDataMap, final CallTreeNode node) {
+   private void readNode(final AggregatedDataIndex index, final CallTreeNode node) {
       boolean nodeFound = false;
       final CallTreeNode examinedNode = otherCommit ? node.getOtherCommitNode() : node;
       final List<StatisticalSummary> values = new LinkedList<>();
-      for (final Entry<AggregatedDataNode, AggregatedData> entry : fullDataMap.entrySet()) {
-         if (isSameNode(examinedNode, entry.getKey())) {
-            for (final StatisticalSummary dataSlice : entry.getValue().getStatistic().values()) {
-               values.add(dataSlice);
-            }
-            nodeFound = true;
+      for (final IndexedData data : getMatchingData(index, examinedNode)) {
+         for (final StatisticalSummary dataSlice : data.getData().getStatistic().values()) {
+            values.add(dataSlice);
          }
+         nodeFound = true;
       }
 
       if (nodeFound) {
          LOG.debug("Setting measurement: {} {} Values: {}", commit, node.getKiekerPattern(), values.size());
-         // System.out.println(StatisticUtil.getMean(values) + " ");
          node.addAggregatedMeasurement(commit, values);
       } else {
-         LOG.warn("Node {} ({}) did not find measurement values, measured methods: {}", node.getKiekerPattern(), node.getOtherKiekerPattern(), fullDataMap.entrySet().size());
+         LOG.warn("Node {} ({}) did not find measurement values, measured methods: {}", node.getKiekerPattern(), node.getOtherKiekerPattern(), index.size());
       }
    }
 
-   private boolean isSameNode(final CallTreeNode node, final AggregatedDataNode measuredNode) {
+   private List<IndexedData> getMatchingData(final AggregatedDataIndex index, final CallTreeNode node) {
       final String nodeCall = KiekerPatternConverter.fixParameters(node.getKiekerPattern());
-      final String kiekerCall = KiekerPatternConverter.getKiekerPattern(measuredNode.getCall());
-      LOG.trace("Node: {} Kieker: {} Equal: {}", nodeCall, kiekerCall, nodeCall.equals(kiekerCall));
-      if (nodeCall.equals(kiekerCall) || (node.getParent() == null && isSameNodeWithoutModifier(nodeCall, kiekerCall))) {
-         LOG.trace("EOI: {} vs {}", node.getEoi(commit), measuredNode.getEoi());
-         if (considerNodePosition) {
-            final int eoi = node.getEoi(commit);
-            if (measuredNode.getEoi() == eoi) {
-               return true;
-            } else {
-               return false;
-            }
-         } else {
-            return true;
+      final List<IndexedData> candidates = new ArrayList<>(index.get(nodeCall));
+      if (node.getParent() == null) {
+         final String callWithoutModifier = getCallWithoutModifier(nodeCall);
+         if (callWithoutModifier != null) {
+            candidates.addAll(index.get(callWithoutModifier));
          }
-      } else {
-         return false;
       }
+      if (considerNodePosition) {
+         final int eoi = node.getEoi(commit);
+         candidates.removeIf(candidate -> candidate.getEoi() != eoi);
+      }
+      LOG.trace("Node: {} Matching: {}", nodeCall, candidates.size());
+      return candidates;
    }
 
    public void readNonAggregated(final File kiekerTraceFolder) throws AnalysisConfigurationException {
@@ -137,12 +170,18 @@ public class KiekerResultReader {
       }
    }
 
-   private boolean isSameNodeWithoutModifier(String nodeCall, String kiekerCall) {
+   /**
+    * Returns the call of the test method without the public modifier, since Kieker does not always record it for the root node, or null if the node is not the test method
+    */
+   private String getCallWithoutModifier(final String nodeCall) {
       if (CauseSearchData.ADDED.equals(nodeCall)) {
-         return false;
+         return null;
       }
       String executable = testcase.getExecutable().replace("#", ".");
-      String pureCall = nodeCall.substring("public ".length());
-      return nodeCall.contains(executable) && pureCall.equals(kiekerCall);
+      if (nodeCall.contains(executable) && nodeCall.length() > "public ".length()) {
+         return nodeCall.substring("public ".length());
+      } else {
+         return null;
+      }
    }
 }
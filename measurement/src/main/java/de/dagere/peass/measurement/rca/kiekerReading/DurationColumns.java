@@ -0,0 +1,89 @@
+package de.dagere.peass.measurement.rca.kiekerReading;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+
+import de.dagere.kopeme.kopemedata.MeasuredValue;
+
+/**
+ * Stores start times and durations of measured executions in growable primitive arrays, so reading a trace does not create one object per record. Compared to a list of
+ * {@link MeasuredValue}, this needs 16 bytes per execution.
+ *
+ * @author reichelt
+ *
+ */
+public class DurationColumns implements DurationConsumer {
+
+   private static final int INITIAL_CAPACITY = 1024;
+
+   private long[] starts;
+   private long[] durations;
+   private int size = 0;
+
+   public DurationColumns() {
+      this(INITIAL_CAPACITY);
+   }
+
+   public DurationColumns(final int initialCapacity) {
+      starts = new long[Math.max(initialCapacity, 1)];
+      durations = new long[starts.length];
+   }
+
+   @Override
+   public void add(final long start, final long duration) {
+      if (size == starts.length) {
+         final int newCapacity = starts.length + (starts.length >> 1) + 1;
+         starts = Arrays.copyOf(starts, newCapacity);
+         durations = Arrays.copyOf(durations, newCapacity);
+      }
+      starts[size] = start;
+      durations[size] = duration;
+      size++;
+   }
+
+   public int size() {
+      return size;
+   }
+
+   public long getStart(final int index) {
+      checkIndex(index);
+      return starts[index];
+   }
+
+   public long getDuration(final int index) {
+      checkIndex(index);
+      return durations[index];
+   }
+
+   private void checkIndex(final int index) {
+      if (index < 0 || index >= size) {
+         throw new IndexOutOfBoundsException("Index: " + index + " Size: " + size);
+      }
+   }
+
+   public SummaryStatistics getStatistics() {
+      final SummaryStatistics statistics = new SummaryStatistics();
+      for (int i = 0; i < size; i++) {
+         statistics.addValue(durations[i]);
+      }
+      return statistics;
+   }
+
+   /**
+    * Creates the {@link MeasuredValue}s of all executions, e.g. for writing them to the KoPeMe fulldata; this allocates one object per execution, so it should only be called if
+    * the values are really needed as objects.
+    */
+   public List<MeasuredValue> toMeasuredValues() {
+      final List<MeasuredValue> values = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+         final MeasuredValue value = new MeasuredValue();
+         value.setStartTime(starts[i]);
+         value.setValue(durations[i]);
+         values.add(value);
+      }
+      return values;
+   }
+}
@@ -0,0 +1,11 @@
+package de.dagere.peass.measurement.rca.kiekerReading;
+
+/**
+ * Receives the start time and duration of each measured execution while the Kieker records are read.
+ *
+ * @author reichelt
+ *
+ */
+public interface DurationConsumer {
+   void add(long start, long duration);
+}
@@ -0,0 +1,88 @@
+package de.dagere.peass.measurement.rca.kiekerReading;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+
+/**
+ * Writes each execution directly to the binary temp file format of KoPeMe (as read by {@link de.dagere.kopeme.datacollection.tempfile.WrittenResultReaderBin}) and only
+ * aggregates the statistics, so the heap usage does not grow with the number of executions. Only the first executions (up to the given limit) are kept in memory, so small
+ * results can still be stored inline.
+ *
+ * @author reichelt
+ *
+ */
+public class DurationFileWriter implements DurationConsumer, Closeable {
+
+   private final File file;
+   private final DataOutputStream output;
+   private final int keptValues;
+   private final SummaryStatistics statistics = new SummaryStatistics();
+   private DurationColumns firstValues = new DurationColumns();
+   private long firstStart;
+
+   public DurationFileWriter(final File file, final String datacollectorName, final int keptValues) throws IOException {
+      this.file = file;
+      this.keptValues = keptValues;
+      output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+      output.write('=');
+      output.write(datacollectorName.getBytes(StandardCharsets.UTF_8));
+      output.write('\n');
+      output.write('\n');
+   }
+
+   @Override
+   public void add(final long start, final long duration) {
+      if (statistics.getN() == 0) {
+         firstStart = start;
+      }
+      try {
+         output.writeLong(start);
+         output.writeLong(duration);
+      } catch (IOException e) {
+         throw new RuntimeException(e);
+      }
+      statistics.addValue(duration);
+      if (firstValues != null) {
+         if (firstValues.size() < keptValues) {
+            firstValues.add(start, duration);
+         } else {
+            firstValues = null;
+         }
+      }
+   }
+
+   public long size() {
+      return statistics.getN();
+   }
+
+   public SummaryStatistics getStatistics() {
+      return statistics;
+   }
+
+   public long getFirstStart() {
+      return firstStart;
+   }
+
+   /**
+    * @return all executions if there are not more than the kept values, otherwise null
+    */
+   public DurationColumns getFirstValues() {
+      return firstValues;
+   }
+
+   public File getFile() {
+      return file;
+   }
+
+   @Override
+   public void close() throws IOException {
+      output.close();
+   }
+}
@@ -1,35 +1,26 @@
 package de.dagere.peass.measurement.rca.kiekerReading;
 
-import java.util.LinkedList;
-import java.util.List;
-
 import de.dagere.kopeme.kieker.record.DurationRecord;
-import de.dagere.kopeme.kopemedata.MeasuredValue;
 import kieker.analysis.architecture.trace.AbstractTraceAnalysisStage;
 import kieker.model.repository.SystemModelRepository;
 
 public class DurationMeasurementStage extends AbstractTraceAnalysisStage<DurationRecord> {
 
-   private final List<MeasuredValue> values = new LinkedList<>();
+   private final DurationConsumer durations;
 
    /**
     * Creates a new instance of this class using the given parameters.
     *
     * @param repository system model repository
+    * @param durations consumer receiving each execution
     */
-   public DurationMeasurementStage(final SystemModelRepository systemModelRepository) {
+   public DurationMeasurementStage(final SystemModelRepository systemModelRepository, final DurationConsumer durations) {
       super(systemModelRepository);
+      this.durations = durations;
    }
 
    @Override
    protected void execute(final DurationRecord execution) throws Exception {
-      MeasuredValue value = new MeasuredValue();
-      value.setStartTime(execution.getTin());
-      value.setValue(execution.getTout() - execution.getTin());
-      values.add(value);
-   }
-   
-   public List<MeasuredValue> getValues() {
-      return values;
+      durations.add(execution.getTin(), execution.getTout() - execution.getTin());
    }
 }
@@ -18,6 +18,10 @@ public class DurationRCAStage extends AbstractTraceAnalysisStage<DurationRecord>
    private static final Logger LOG = LogManager.getLogger(DurationRCAStage.class);
 
    private final Map<String, CallTreeNode> measuredNodes = new HashMap<>();
+   /**
+    * Nodes by the signature of the records (or null if the signature is not measured), so the pattern conversion is only done once per signature and not once per record
+    */
+   private final Map<String, CallTreeNode> nodesBySignature = new HashMap<>();
    private final String commit;
 
    /**
@@ -37,12 +41,22 @@ public class DurationRCAStage extends AbstractTraceAnalysisStage<DurationRecord>
 
    @Override
    protected void execute(final DurationRecord execution) throws Exception {
-      final String kiekerPattern = KiekerPatternConverter.addNewIfRequired(execution.getOperationSignature());
-      CallTreeNode node = measuredNodes.get(kiekerPattern);
+      final CallTreeNode node = getNode(execution.getOperationSignature());
       if (node != null) {
          // Get duration in mikroseconds - Kieker produces nanoseconds
          final long duration = (execution.getTout() - execution.getTin());
          node.addMeasurement(commit, duration);
       }
    }
+
+   private CallTreeNode getNode(final String operationSignature) {
+      CallTreeNode node = nodesBySignature.get(operationSignature);
+      if (node == null && !nodesBySignature.containsKey(operationSignature)) {
+         final String kiekerPattern = KiekerPatternConverter.addNewIfRequired(operationSignature);
+         node = measuredNodes.get(kiekerPattern);
+         LOG.trace("Signature {} is measured: {}", operationSignature, node != null);
+         nodesBySignature.put(operationSignature, node);
+      }
+      return node;
+   }
 }
@@ -1,10 +1,8 @@
 package de.dagere.peass.measurement.rca.kiekerReading;
 
 import java.io.File;
-import java.util.List;
 import java.util.Set;
 
-import de.dagere.kopeme.kopemedata.MeasuredValue;
 import de.dagere.nodeDiffDetector.data.TestMethodCall;
 import de.dagere.peass.config.MeasurementConfig;
 import de.dagere.peass.dependency.analysis.ModuleClassMapping;
@@ -30,14 +28,18 @@ public class KiekerDurationReader {
       execution.executeBlocking();
    }
 
-   public static List<MeasuredValue> executeReducedDurationStage(final File kiekerTraceFolder) {
+   public static DurationColumns executeReducedDurationStage(final File kiekerTraceFolder) {
+      DurationColumns durations = new DurationColumns();
+      executeReducedDurationStage(kiekerTraceFolder, durations);
+      return durations;
+   }
+
+   public static void executeReducedDurationStage(final File kiekerTraceFolder, final DurationConsumer durations) {
       KiekerReaderConfigurationDuration configuration = new KiekerReaderConfigurationDuration();
-      DurationMeasurementStage stage = configuration.readReducedDurationsToList(kiekerTraceFolder);
+      configuration.readReducedDurations(kiekerTraceFolder, durations);
 
       Execution execution = new Execution(configuration);
       execution.executeBlocking();
-
-      return stage.getValues();
    }
 
    public static TreeStage executeTreeStage(final File kiekerTraceFolder, final TestMethodCall test, final boolean ignoreEOIs, final MeasurementConfig config,
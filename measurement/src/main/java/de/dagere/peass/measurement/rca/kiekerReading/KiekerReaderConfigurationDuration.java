@@ -42,12 +42,12 @@ public class KiekerReaderConfigurationDuration extends KiekerReaderConfiguration
       this.connectPorts(operationExecutionRecordMatcher.getOutputPort(), executionRecordTransformationStage.getInputPort());
    }
    
-   protected DurationMeasurementStage readReducedDurationsToList(final File kiekerTraceFolder) {
+   protected void readReducedDurations(final File kiekerTraceFolder, final DurationConsumer durations) {
       List<File> inputDirs = new LinkedList<File>();
       inputDirs.add(kiekerTraceFolder);
       LogsReaderCompositeStage logReaderStage = new LogsReaderCompositeStage(inputDirs, true, 4096);
 
-      final DurationMeasurementStage executionRecordTransformationStage = new DurationMeasurementStage(systemModelRepositoryNew);
+      final DurationMeasurementStage executionRecordTransformationStage = new DurationMeasurementStage(systemModelRepositoryNew, durations);
 
       final DynamicEventDispatcher dispatcher = new DynamicEventDispatcher(null, false, true, false);
       final IEventMatcher<? extends DurationRecord> operationExecutionRecordMatcher = new ImplementsEventMatcher<>(DurationRecord.class, null);
@@ -55,8 +55,6 @@ public class KiekerReaderConfigurationDuration extends KiekerReaderConfiguration
 
       this.connectPorts(logReaderStage.getOutputPort(), dispatcher.getInputPort());
       this.connectPorts(operationExecutionRecordMatcher.getOutputPort(), executionRecordTransformationStage.getInputPort());
-      
-      return executionRecordTransformationStage;
    }
    
    public TreeStage readTree(final File kiekerTraceFolder, final TestMethodCall test, final boolean ignoreEOIs, final MeasurementConfig config, final ModuleClassMapping mapping) {
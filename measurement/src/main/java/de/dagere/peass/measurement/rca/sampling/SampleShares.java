@@ -0,0 +1,37 @@
+package de.dagere.peass.measurement.rca.sampling;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.dagere.peass.measurement.rca.data.CallTreeNode;
+
+/**
+ * Saves the sample share of every node of a call tree for every VM, so the shares of two commits can be compared like the measurement values of the VMs.
+ *
+ * @author reichelt
+ *
+ */
+public class SampleShares {
+
+   private final Map<CallTreeNode, List<Double>> shares = new IdentityHashMap<>();
+
+   /**
+    * Adds the shares of one VM for all nodes of the tree
+    */
+   public void addVM(final CallTreeNode root, final SampleTreeMapper mapper) {
+      shares.computeIfAbsent(root, node -> new ArrayList<>()).add(mapper.getShare(root));
+      for (CallTreeNode child : root.getChildren()) {
+         addVM(child, mapper);
+      }
+   }
+
+   public double[] getShares(final CallTreeNode node) {
+      final List<Double> nodeShares = shares.get(node);
+      if (nodeShares == null) {
+         return new double[0];
+      }
+      return nodeShares.stream().mapToDouble(Double::doubleValue).toArray();
+   }
+}
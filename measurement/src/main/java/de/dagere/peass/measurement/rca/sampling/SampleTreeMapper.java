@@ -0,0 +1,203 @@
+package de.dagere.peass.measurement.rca.sampling;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.dagere.nodeDiffDetector.data.MethodCall;
+import de.dagere.peass.measurement.rca.data.CallTreeNode;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Maps the execution samples of a JDK flight recording onto a call tree. Every sample which contains the root of the tree is followed from the root downwards; each frame
+ * which is a child of the current node continues the path, all other frames (e.g. reflection or methods which are not part of the tree) are skipped. Every node on the path
+ * gets the sample, so the sample count of a node is inclusive the samples of its children.
+ *
+ * @author reichelt
+ *
+ */
+public class SampleTreeMapper {
+
+   private static final Logger LOG = LogManager.getLogger(SampleTreeMapper.class);
+
+   public static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+
+   /**
+    * One frame of a sampled stack, with the call in the format of {@link CallTreeNode#getCall()} and the parameters in the format of {@link CallTreeNode#getParameters()}
+    */
+   public static class SampledFrame {
+      private final String call;
+      private final String parameters;
+
+      public SampledFrame(final String call, final String parameters) {
+         this.call = call;
+         this.parameters = parameters;
+      }
+
+      public String getCall() {
+         return call;
+      }
+
+      public String getParameters() {
+         return parameters;
+      }
+   }
+
+   private final CallTreeNode root;
+   private final Map<CallTreeNode, Long> samples = new IdentityHashMap<>();
+   private long unmappedSamples = 0;
+
+   public SampleTreeMapper(final CallTreeNode root) {
+      this.root = root;
+   }
+
+   public void readRecording(final File recording) throws IOException {
+      try (RecordingFile recordingFile = new RecordingFile(recording.toPath())) {
+         while (recordingFile.hasMoreEvents()) {
+            final RecordedEvent event = recordingFile.readEvent();
+            if (EXECUTION_SAMPLE.equals(event.getEventType().getName()) && event.getStackTrace() != null) {
+               addSample(getFrames(event.getStackTrace()));
+            }
+         }
+      }
+      LOG.debug("Read {} samples of {}, {} samples did not contain the root", getSamples(root), recording, unmappedSamples);
+   }
+
+   /**
+    * Adds one sample
+    *
+    * @param frames Frames of the sample, starting with the bottom of the stack (i.e. the thread start)
+    */
+   public void addSample(final List<SampledFrame> frames) {
+      int rootIndex = -1;
+      for (int i = 0; i < frames.size() && rootIndex == -1; i++) {
+         if (frames.get(i).getCall().equals(root.getCall())) {
+            rootIndex = i;
+         }
+      }
+      if (rootIndex == -1) {
+         unmappedSamples++;
+         return;
+      }
+
+      CallTreeNode current = root;
+      increment(current);
+      for (int i = rootIndex + 1; i < frames.size(); i++) {
+         final CallTreeNode child = getMatchingChild(current, frames.get(i));
+         if (child != null) {
+            current = child;
+            increment(current);
+         }
+      }
+   }
+
+   private void increment(final CallTreeNode node) {
+      samples.merge(node, 1L, Long::sum);
+   }
+
+   /**
+    * Returns the child with the call of the frame; if several children have this call (i.e. overloaded methods or several calls of the same method), the first one with equal
+    * parameters is preferred.
+    */
+   private CallTreeNode getMatchingChild(final CallTreeNode node, final SampledFrame frame) {
+      CallTreeNode matching = null;
+      for (CallTreeNode child : node.getChildren()) {
+         if (child.getCall().equals(frame.getCall())) {
+            if (child.getParameters().equals(frame.getParameters())) {
+               return child;
+            } else if (matching == null) {
+               matching = child;
+            }
+         }
+      }
+      return matching;
+   }
+
+   public long getSamples(final CallTreeNode node) {
+      return samples.getOrDefault(node, 0L);
+   }
+
+   /**
+    * Returns the share of the samples of the given node in all samples of the root (i.e. the test), or 0 if the root has no samples
+    */
+   public double getShare(final CallTreeNode node) {
+      final long rootSamples = getSamples(root);
+      return rootSamples > 0 ? (double) getSamples(node) / rootSamples : 0.0;
+   }
+
+   public long getUnmappedSamples() {
+      return unmappedSamples;
+   }
+
+   static List<SampledFrame> getFrames(final RecordedStackTrace stackTrace) {
+      final List<RecordedFrame> recordedFrames = stackTrace.getFrames();
+      final List<SampledFrame> frames = new ArrayList<>(recordedFrames.size());
+      for (int i = recordedFrames.size() - 1; i >= 0; i--) {
+         final RecordedMethod method = recordedFrames.get(i).getMethod();
+         if (method != null) {
+            final String call = method.getType().getName() + MethodCall.METHOD_SEPARATOR + method.getName();
+            frames.add(new SampledFrame(call, getParameters(method.getDescriptor())));
+         }
+      }
+      return frames;
+   }
+
+   /**
+    * Converts a JVM method descriptor, e.g. (I[Ljava/lang/String;)V, to the parameter format of Kieker patterns, e.g. (int,java.lang.String[])
+    */
+   static String getParameters(final String descriptor) {
+      final List<String> parameters = new ArrayList<>();
+      int index = 1;
+      while (index < descriptor.length() && descriptor.charAt(index) != ')') {
+         int dimensions = 0;
+         while (descriptor.charAt(index) == '[') {
+            dimensions++;
+            index++;
+         }
+         final String type;
+         if (descriptor.charAt(index) == 'L') {
+            final int end = descriptor.indexOf(';', index);
+            type = descriptor.substring(index + 1, end).replace('/', '.');
+            index = end + 1;
+         } else {
+            type = getPrimitiveType(descriptor.charAt(index));
+            index++;
+         }
+         parameters.add(type + "[]".repeat(dimensions));
+      }
+      return "(" + String.join(",", parameters) + ")";
+   }
+
+   private static String getPrimitiveType(final char descriptorChar) {
+      switch (descriptorChar) {
+      case 'Z':
+         return "boolean";
+      case 'B':
+         return "byte";
+      case 'C':
+         return "char";
+      case 'S':
+         return "short";
+      case 'I':
+         return "int";
+      case 'J':
+         return "long";
+      case 'F':
+         return "float";
+      case 'D':
+         return "double";
+      default:
+         throw new RuntimeException("Unexpected type in method descriptor: " + descriptorChar);
+      }
+   }
+}
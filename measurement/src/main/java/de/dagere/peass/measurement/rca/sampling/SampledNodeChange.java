@@ -0,0 +1,58 @@
+package de.dagere.peass.measurement.rca.sampling;
+
+import de.dagere.peass.measurement.statistics.Relation;
+
+/**
+ * Change of the sample share of one call tree node between the predecessor and the current commit, as persisted by sampling-based root cause analysis.
+ *
+ * @author reichelt
+ *
+ */
+public class SampledNodeChange {
+   private String kiekerPattern;
+   private double sharePredecessor;
+   private double shareCurrent;
+   private Relation relation;
+
+   public SampledNodeChange() {
+   }
+
+   public SampledNodeChange(final String kiekerPattern, final double sharePredecessor, final double shareCurrent, final Relation relation) {
+      this.kiekerPattern = kiekerPattern;
+      this.sharePredecessor = sharePredecessor;
+      this.shareCurrent = shareCurrent;
+      this.relation = relation;
+   }
+
+   public String getKiekerPattern() {
+      return kiekerPattern;
+   }
+
+   public void setKiekerPattern(final String kiekerPattern) {
+      this.kiekerPattern = kiekerPattern;
+   }
+
+   public double getSharePredecessor() {
+      return sharePredecessor;
+   }
+
+   public void setSharePredecessor(final double sharePredecessor) {
+      this.sharePredecessor = sharePredecessor;
+   }
+
+   public double getShareCurrent() {
+      return shareCurrent;
+   }
+
+   public void setShareCurrent(final double shareCurrent) {
+      this.shareCurrent = shareCurrent;
+   }
+
+   public Relation getRelation() {
+      return relation;
+   }
+
+   public void setRelation(final Relation relation) {
+      this.relation = relation;
+   }
+}
@@ -55,7 +55,9 @@ public abstract class CauseSearcher implements ICauseSearcher {
 
       LOG.info("Tree size: {}", reader.getRootPredecessor().getTreeSize());
 
-      return searchCause();
+      final Set<MethodCall> changedMethods = searchCause();
+      persistenceManager.exportDetails();
+      return changedMethods;
    }
 
    protected abstract Set<MethodCall> searchCause();
@@ -1,8 +1,11 @@
 package de.dagere.peass.measurement.rca.searcher;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.apache.logging.log4j.LogManager;
@@ -17,36 +20,65 @@ import de.dagere.peass.dependency.ExecutorCreator;
 import de.dagere.peass.execution.processutils.ProcessBuilderHelper;
 import de.dagere.peass.execution.utils.EnvironmentVariables;
 import de.dagere.peass.execution.utils.TestExecutor;
+import de.dagere.peass.folders.CauseSearchFolders;
 import de.dagere.peass.folders.PeassFolders;
-import de.dagere.peass.measurement.dependencyprocessors.DependencyTester;
-import de.dagere.peass.measurement.dependencyprocessors.OnceRunner;
 import de.dagere.peass.measurement.dependencyprocessors.SamplingRunner;
 import de.dagere.peass.measurement.dependencyprocessors.helper.ProgressWriter;
 import de.dagere.peass.measurement.organize.FolderDeterminer;
 import de.dagere.peass.measurement.organize.ResultOrganizer;
+import de.dagere.peass.measurement.rca.CauseSearcherConfig;
+import de.dagere.peass.measurement.rca.analyzer.StructureChangeTreeAnalyzer;
+import de.dagere.peass.measurement.rca.data.CallTreeNode;
+import de.dagere.peass.measurement.rca.data.CauseSearchData;
+import de.dagere.peass.measurement.rca.kieker.BothTreeReader;
+import de.dagere.peass.measurement.rca.sampling.SampleShares;
+import de.dagere.peass.measurement.rca.sampling.SampleTreeMapper;
+import de.dagere.peass.measurement.rca.sampling.SampledNodeChange;
+import de.dagere.peass.measurement.statistics.Relation;
+import de.dagere.peass.measurement.statistics.StatisticUtil;
+import de.dagere.peass.measurement.statistics.bimodal.CompareData;
 import de.dagere.peass.testtransformation.TestTransformer;
-
+import de.dagere.peass.utils.Constants;
+
+/**
+ * Searches the root cause of a performance change in one measurement round: Both commits are executed with execution sampling by the JDK Flight Recorder, and the samples of
+ * every VM are mapped onto the call trees of the {@link BothTreeReader}. Nodes whose share of the samples differs between the commits are the root cause candidates.
+ *
+ * @author reichelt
+ *
+ */
 public class SamplingCauseSearcher implements ICauseSearcher {
 
    private static final Logger LOG = LogManager.getLogger(SamplingCauseSearcher.class);
 
    private final TestMethodCall testcase;
    protected final MeasurementConfig configuration;
-   protected final PeassFolders folders;
+   protected final CauseSearchFolders folders;
    private ResultOrganizer currentOrganizer;
    protected final EnvironmentVariables env;
-   
+   private final BothTreeReader reader;
+
+   private final SampleShares shares = new SampleShares();
+
    protected long currentChunkStart = 0;
 
-   public SamplingCauseSearcher(TestMethodCall testcase, MeasurementConfig configuration, PeassFolders folders, EnvironmentVariables env) {
-      this.testcase = testcase;
-      this.configuration = configuration;
+   public SamplingCauseSearcher(final BothTreeReader reader, final CauseSearcherConfig causeSearchConfig, final MeasurementConfig configuration, final CauseSearchFolders folders,
+         final EnvironmentVariables env) {
+      this.reader = reader;
+      this.testcase = causeSearchConfig.getTestCase();
+      this.configuration = new MeasurementConfig(configuration);
+      this.configuration.getKiekerConfig().setUseKieker(false);
+      this.configuration.setUseSampling(true);
       this.folders = folders;
       this.env = env;
    }
 
    @Override
    public Set<MethodCall> search() {
+      reader.readTrees();
+      LOG.info("Tree size: {}", reader.getRootPredecessor().getTreeSize());
+      final StructureChangeTreeAnalyzer analyzer = new StructureChangeTreeAnalyzer(reader.getRootCurrent(), reader.getRootPredecessor());
+
       FixedCommitConfig fixedCommitConfig = configuration.getFixedCommitConfig();
       LOG.info("Executing test " + testcase.getClazz() + " " + testcase.getMethod() + " in commits {} and {}", fixedCommitConfig.getCommitOld(),
             fixedCommitConfig.getCommit());
@@ -57,7 +89,84 @@ public class SamplingCauseSearcher implements ICauseSearcher {
          evaluateSimple(testcase, logFolder, writer);
       }
 
-      throw new RuntimeException("Not implemented yet");
+      final List<SampledNodeChange> changes = new ArrayList<>();
+      final Set<MethodCall> candidates = new LinkedHashSet<>();
+      for (CallTreeNode node : getDifferingNodes(reader.getRootCurrent(), changes)) {
+         candidates.add(node.toEntity());
+      }
+      for (CallTreeNode unequalNode : analyzer.getUnequalStructureNodesPredecessor()) {
+         LOG.info("Structure changed: {}", unequalNode.getKiekerPattern());
+      }
+      persistChanges(changes);
+      return candidates;
+   }
+
+   /**
+    * Returns the nodes of the current tree whose sample share differs from the share of the predecessor node, starting with the greatest difference
+    */
+   List<CallTreeNode> getDifferingNodes(final CallTreeNode rootCurrent, final List<SampledNodeChange> changes) {
+      final List<CallTreeNode> differingNodes = new ArrayList<>();
+      addDifferingNodes(rootCurrent, differingNodes);
+      differingNodes.sort(Comparator.comparingDouble((CallTreeNode node) -> Math.abs(getShareDifference(node))).reversed());
+      for (CallTreeNode node : differingNodes) {
+         final CompareData data = getCompareData(node);
+         final String kiekerPattern = node.getCall().equals(CauseSearchData.ADDED) ? node.getOtherKiekerPattern() : node.getKiekerPattern();
+         LOG.info("Sample share changed: {} {} -> {}", kiekerPattern, data.getAvgPredecessor(), data.getAvgCurrent());
+         changes.add(new SampledNodeChange(kiekerPattern, data.getAvgPredecessor(), data.getAvgCurrent(), StatisticUtil.isDifferent(data, configuration.getStatisticsConfig())));
+      }
+      return differingNodes;
+   }
+
+   private void addDifferingNodes(final CallTreeNode node, final List<CallTreeNode> differingNodes) {
+      if (node.getOtherCommitNode() == null) {
+         return;
+      }
+      final CompareData data = getCompareData(node);
+      if (data.getCurrent().length > 1 && data.getPredecessor().length > 1 && (data.getAvgCurrent() > 0 || data.getAvgPredecessor() > 0)) {
+         final Relation relation = StatisticUtil.isDifferent(data, configuration.getStatisticsConfig());
+         if (Relation.isUnequal(relation)) {
+            differingNodes.add(node);
+         }
+      }
+      for (CallTreeNode child : node.getChildren()) {
+         addDifferingNodes(child, differingNodes);
+      }
+   }
+
+   private double getShareDifference(final CallTreeNode node) {
+      final CompareData data = getCompareData(node);
+      return data.getAvgCurrent() - data.getAvgPredecessor();
+   }
+
+   private CompareData getCompareData(final CallTreeNode node) {
+      return new CompareData(shares.getShares(node.getOtherCommitNode()), shares.getShares(node));
+   }
+
+   private void persistChanges(final List<SampledNodeChange> changes) {
+      final File samplingFile = folders.getRcaSamplingFile(configuration.getFixedCommitConfig().getCommit(), testcase);
+      samplingFile.getParentFile().mkdirs();
+      try {
+         Constants.OBJECTMAPPER.writeValue(samplingFile, changes);
+      } catch (IOException e) {
+         throw new RuntimeException(e);
+      }
+   }
+
+   /**
+    * Maps the samples of the recordings of one VM onto the tree of the commit
+    */
+   public void handleSamplingResults(final String commit, final List<File> recordings) {
+      final CallTreeNode root = commit.equals(getVersions()[1]) ? reader.getRootCurrent() : reader.getRootPredecessor();
+      final SampleTreeMapper mapper = new SampleTreeMapper(root);
+      for (File recording : recordings) {
+         try {
+            mapper.readRecording(recording);
+         } catch (IOException e) {
+            throw new RuntimeException(e);
+         }
+      }
+      LOG.info("Samples of {}: {}", commit, mapper.getSamples(root));
+      shares.addVM(root, mapper);
    }
 
    private void evaluateSimple(TestMethodCall testcase2, File logFolder, ProgressWriter writer) {
@@ -77,17 +186,10 @@ public class SamplingCauseSearcher implements ICauseSearcher {
    public void runOneComparison(final File logFolder, final TestMethodCall testcase, final int vmid) {
       String[] commits = getVersions();
 
-      if (configuration.getMeasurementStrategy().equals(MeasurementStrategy.SEQUENTIAL)) {
-         LOG.info("Running sequential");
-         runSequential(logFolder, testcase, vmid, commits);
-      } else if (configuration.getMeasurementStrategy().equals(MeasurementStrategy.PARALLEL)) {
-         LOG.info("Running parallel");
-         runParallel(logFolder, testcase, vmid, commits);
+      if (configuration.getMeasurementStrategy().equals(MeasurementStrategy.PARALLEL)) {
+         LOG.info("Parallel sampling is not supported, since both commits would share the same trees; running sequential");
       }
-   }
-
-   private void runParallel(File logFolder, TestMethodCall testcase2, int vmid, String[] commits) {
-      throw new RuntimeException("Not implemented yet");
+      runSequential(logFolder, testcase, vmid, commits);
    }
 
    private void runSequential(File logFolder, TestMethodCall testcase2, int vmid, String[] commits) {
@@ -121,11 +223,11 @@ public class SamplingCauseSearcher implements ICauseSearcher {
          throw new RuntimeException(e);
       }
    }
-   
+
    public ResultOrganizer getCurrentOrganizer() {
       return currentOrganizer;
    }
-   
+
    private String[] getVersions() {
       String commits[] = new String[2];
       commits[0] = configuration.getFixedCommitConfig().getCommitOld().equals("HEAD~1") ? configuration.getFixedCommitConfig().getCommit() + "~1"
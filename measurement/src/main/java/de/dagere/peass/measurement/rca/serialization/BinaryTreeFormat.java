@@ -0,0 +1,359 @@
+package de.dagere.peass.measurement.rca.serialization;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
+import org.apache.commons.math3.stat.descriptive.StatisticalSummaryValues;
+
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.measurement.rca.data.BasicNode;
+import de.dagere.peass.measurement.rca.data.CallTreeNode;
+import de.dagere.peass.measurement.statistics.data.TestcaseStatistic;
+
+/**
+ * Compact binary format of call trees (for the tree cache) and measured trees (for the RCA details). Every string is stored once in a string table, the nodes are stored
+ * in preorder with their child count, and statistics are stored as primitive values. Files are read into one buffer at once, so only the string table and the node
+ * records are decoded, and they are written to a temporary file which replaces the target, so readers never see a partially written tree; the JSON format stays the
+ * exchange format for the visualization.
+ *
+ * @author reichelt
+ *
+ */
+public final class BinaryTreeFormat {
+
+   public static final String FILE_ENDING = ".bin";
+
+   private static final int MAGIC = 0x50545245;
+   private static final byte VERSION = 1;
+   private static final byte CALL_TREE = 1;
+   private static final byte MEASURED_TREE = 2;
+
+   private static final int NULL_ID = -1;
+
+   private BinaryTreeFormat() {
+
+   }
+
+   /**
+    * Writes the structure of the call tree, i.e. call, kieker pattern and module of every node; measurement data are not written.
+    */
+   public static void writeCallTree(final CallTreeNode root, final File file) throws IOException {
+      final List<CallTreeNode> nodes = preorder(root);
+      final Map<String, Integer> strings = new LinkedHashMap<>();
+      for (CallTreeNode node : nodes) {
+         intern(strings, node.getCall());
+         intern(strings, node.getKiekerPattern());
+         intern(strings, node.getModule());
+      }
+      write(file, out -> {
+         writeHeader(out, CALL_TREE, strings, nodes.size());
+         for (CallTreeNode node : nodes) {
+            out.writeInt(strings.get(node.getCall()));
+            out.writeInt(getId(strings, node.getKiekerPattern()));
+            out.writeInt(getId(strings, node.getModule()));
+            out.writeInt(node.getChildren().size());
+         }
+      });
+   }
+
+   /**
+    * Reads a call tree written by {@link #writeCallTree(CallTreeNode, File)}; every node gets the given config.
+    */
+   public static CallTreeNode readCallTree(final File file, final MeasurementConfig config) throws IOException {
+      final ByteBuffer buffer = read(file);
+      final String[] strings = readHeader(buffer, CALL_TREE, file);
+      final int nodeCount = buffer.getInt();
+
+      final Deque<CallTreeNode> parents = new ArrayDeque<>();
+      final Deque<Integer> remainingChildren = new ArrayDeque<>();
+      CallTreeNode root = null;
+      for (int i = 0; i < nodeCount; i++) {
+         final String call = strings[buffer.getInt()];
+         final String kiekerPattern = getString(strings, buffer.getInt());
+         final String module = getString(strings, buffer.getInt());
+         final int childCount = buffer.getInt();
+
+         final CallTreeNode node;
+         if (root == null) {
+            node = new CallTreeNode(call, kiekerPattern, null, config);
+            root = node;
+         } else {
+            node = parents.peek().appendChild(call, kiekerPattern, null);
+            decrementRemainingChildren(parents, remainingChildren);
+         }
+         node.setModule(module);
+         if (childCount > 0) {
+            parents.push(node);
+            remainingChildren.push(childCount);
+         }
+      }
+      return root;
+   }
+
+   public static void writeMeasuredTree(final MeasuredNode root, final File file) throws IOException {
+      final List<MeasuredNode> nodes = preorder(root);
+      final Map<String, Integer> strings = new LinkedHashMap<>();
+      for (MeasuredNode node : nodes) {
+         intern(strings, node.getCall());
+         intern(strings, node.getKiekerPattern());
+         intern(strings, node.getOtherKiekerPattern());
+         intern(strings, node.getModule());
+         if (node.getStatistic() != null) {
+            intern(strings, node.getStatistic().getPredecessor());
+         }
+      }
+      write(file, out -> {
+         writeHeader(out, MEASURED_TREE, strings, nodes.size());
+         for (MeasuredNode node : nodes) {
+            out.writeInt(strings.get(node.getCall()));
+            out.writeInt(getId(strings, node.getKiekerPattern()));
+            out.writeInt(getId(strings, node.getOtherKiekerPattern()));
+            out.writeInt(getId(strings, node.getModule()));
+            writeStatistic(out, strings, node.getStatistic());
+            writeValues(out, node.getValues());
+            writeValues(out, node.getValuesPredecessor());
+            out.writeInt(node.getChilds().size());
+         }
+      });
+   }
+
+   public static MeasuredNode readMeasuredTree(final File file) throws IOException {
+      final ByteBuffer buffer = read(file);
+      final String[] strings = readHeader(buffer, MEASURED_TREE, file);
+      final int nodeCount = buffer.getInt();
+
+      final Deque<MeasuredNode> parents = new ArrayDeque<>();
+      final Deque<Integer> remainingChildren = new ArrayDeque<>();
+      MeasuredNode root = null;
+      for (int i = 0; i < nodeCount; i++) {
+         final MeasuredNode node = new MeasuredNode(strings[buffer.getInt()], getString(strings, buffer.getInt()), getString(strings, buffer.getInt()));
+         node.setModule(getString(strings, buffer.getInt()));
+         node.setStatistic(readStatistic(buffer, strings));
+         node.setValues(readValues(buffer));
+         node.setValuesPredecessor(readValues(buffer));
+         final int childCount = buffer.getInt();
+
+         if (root == null) {
+            root = node;
+         } else {
+            parents.peek().getChilds().add(node);
+            decrementRemainingChildren(parents, remainingChildren);
+         }
+         if (childCount > 0) {
+            parents.push(node);
+            remainingChildren.push(childCount);
+         }
+      }
+      return root;
+   }
+
+   private static <T extends BasicNode> void decrementRemainingChildren(final Deque<T> parents, final Deque<Integer> remainingChildren) {
+      final int remaining = remainingChildren.pop() - 1;
+      if (remaining > 0) {
+         remainingChildren.push(remaining);
+      } else {
+         parents.pop();
+      }
+   }
+
+   private static void writeStatistic(final DataOutputStream out, final Map<String, Integer> strings, final TestcaseStatistic statistic) throws IOException {
+      out.writeBoolean(statistic != null);
+      if (statistic != null) {
+         out.writeDouble(statistic.getMeanOld());
+         out.writeDouble(statistic.getMeanCurrent());
+         out.writeDouble(statistic.getDeviationOld());
+         out.writeDouble(statistic.getDeviationCurrent());
+         out.writeLong(statistic.getVMs());
+         out.writeLong(statistic.getCallsOld());
+         out.writeLong(statistic.getCalls());
+         out.writeDouble(statistic.getTvalue());
+         out.writeBoolean(statistic.getMannWhitneyUStatistic() != null);
+         out.writeDouble(statistic.getMannWhitneyUStatistic() != null ? statistic.getMannWhitneyUStatistic() : Double.NaN);
+         out.writeInt(getId(strings, statistic.getPredecessor()));
+         out.writeByte(toByte(statistic.isChange()));
+         out.writeByte(toByte(statistic.getIsBimodal()));
+      }
+   }
+
+   private static TestcaseStatistic readStatistic(final ByteBuffer buffer, final String[] strings) {
+      if (buffer.get() == 0) {
+         return null;
+      }
+      final TestcaseStatistic statistic = new TestcaseStatistic();
+      statistic.setMeanOld(buffer.getDouble());
+      statistic.setMeanCurrent(buffer.getDouble());
+      statistic.setDeviationOld(buffer.getDouble());
+      statistic.setDeviationCurrent(buffer.getDouble());
+      statistic.setVMs(buffer.getLong());
+      statistic.setCallsOld(buffer.getLong());
+      statistic.setCalls(buffer.getLong());
+      statistic.setTvalue(buffer.getDouble());
+      final boolean hasMannWhitneyUStatistic = buffer.get() != 0;
+      final double mannWhitneyUStatistic = buffer.getDouble();
+      statistic.setMannWhitneyUStatistic(hasMannWhitneyUStatistic ? mannWhitneyUStatistic : null);
+      statistic.setPredecessor(getString(strings, buffer.getInt()));
+      statistic.setChange(toBoolean(buffer.get()));
+      statistic.setIsBimodal(toBoolean(buffer.get()));
+      return statistic;
+   }
+
+   private static void writeValues(final DataOutputStream out, final MeasuredValues values) throws IOException {
+      if (values == null) {
+         out.writeInt(NULL_ID);
+         return;
+      }
+      out.writeInt(values.getValues().size());
+      for (Map.Entry<Integer, List<StatisticalSummary>> vmValues : values.getValues().entrySet()) {
+         out.writeInt(vmValues.getKey());
+         out.writeInt(vmValues.getValue().size());
+         for (StatisticalSummary summary : vmValues.getValue()) {
+            out.writeDouble(summary.getMean());
+            out.writeDouble(summary.getVariance());
+            out.writeLong(summary.getN());
+            out.writeDouble(summary.getMax());
+            out.writeDouble(summary.getMin());
+            out.writeDouble(summary.getSum());
+         }
+      }
+   }
+
+   private static MeasuredValues readValues(final ByteBuffer buffer) {
+      final int vms = buffer.getInt();
+      if (vms == NULL_ID) {
+         return null;
+      }
+      final MeasuredValues values = new MeasuredValues();
+      for (int vm = 0; vm < vms; vm++) {
+         final int key = buffer.getInt();
+         final int summaryCount = buffer.getInt();
+         final List<StatisticalSummary> summaries = new ArrayList<>(summaryCount);
+         for (int i = 0; i < summaryCount; i++) {
+            final double mean = buffer.getDouble();
+            final double variance = buffer.getDouble();
+            final long n = buffer.getLong();
+            final double max = buffer.getDouble();
+            final double min = buffer.getDouble();
+            final double sum = buffer.getDouble();
+            summaries.add(new StatisticalSummaryValues(mean, variance, n, max, min, sum));
+         }
+         values.getValues().put(key, summaries);
+      }
+      return values;
+   }
+
+   private static byte toByte(final Boolean value) {
+      if (value == null) {
+         return 0;
+      }
+      return (byte) (value ? 2 : 1);
+   }
+
+   private static Boolean toBoolean(final byte value) {
+      if (value == 0) {
+         return null;
+      }
+      return value == 2;
+   }
+
+   /**
+    * Returns the nodes in preorder; this is done iteratively, since call trees may be deeper than the stack allows for recursion
+    */
+   @SuppressWarnings("unchecked")
+   private static <T extends BasicNode> List<T> preorder(final T root) {
+      final List<T> nodes = new ArrayList<>();
+      final Deque<T> stack = new ArrayDeque<>();
+      stack.push(root);
+      while (!stack.isEmpty()) {
+         final T node = stack.pop();
+         nodes.add(node);
+         final List<? extends BasicNode> children = node.getChildren();
+         for (int i = children.size() - 1; i >= 0; i--) {
+            stack.push((T) children.get(i));
+         }
+      }
+      return nodes;
+   }
+
+   private static void intern(final Map<String, Integer> strings, final String value) {
+      if (value != null) {
+         strings.computeIfAbsent(value, key -> strings.size());
+      }
+   }
+
+   private static int getId(final Map<String, Integer> strings, final String value) {
+      return value != null ? strings.get(value) : NULL_ID;
+   }
+
+   private static String getString(final String[] strings, final int id) {
+      return id != NULL_ID ? strings[id] : null;
+   }
+
+   private static void writeHeader(final DataOutputStream out, final byte type, final Map<String, Integer> strings, final int nodeCount) throws IOException {
+      out.writeInt(MAGIC);
+      out.writeByte(VERSION);
+      out.writeByte(type);
+      out.writeInt(strings.size());
+      for (String value : strings.keySet()) {
+         final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+         out.writeInt(bytes.length);
+         out.write(bytes);
+      }
+      out.writeInt(nodeCount);
+   }
+
+   private static String[] readHeader(final ByteBuffer buffer, final byte type, final File file) throws IOException {
+      if (buffer.getInt() != MAGIC || buffer.get() != VERSION || buffer.get() != type) {
+         throw new IOException("File " + file.getAbsolutePath() + " is not a tree of the expected type and version");
+      }
+      final String[] strings = new String[buffer.getInt()];
+      for (int i = 0; i < strings.length; i++) {
+         final byte[] bytes = new byte[buffer.getInt()];
+         buffer.get(bytes);
+         strings[i] = new String(bytes, StandardCharsets.UTF_8);
+      }
+      return strings;
+   }
+
+   /**
+    * Reads the file into a heap buffer; a mapped buffer would keep the file open until it is garbage collected, so it could not be deleted or replaced on Windows.
+    */
+   private static ByteBuffer read(final File file) throws IOException {
+      return ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+   }
+
+   private static void write(final File file, final TreeWriter writer) throws IOException {
+      final File folder = file.getAbsoluteFile().getParentFile();
+      final File tempFile = File.createTempFile(file.getName(), ".tmp", folder);
+      try {
+         try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            writer.write(out);
+         }
+         try {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+         } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+         }
+      } finally {
+         Files.deleteIfExists(tempFile.toPath());
+      }
+   }
+
+   private interface TreeWriter {
+      void write(DataOutputStream out) throws IOException;
+   }
+}
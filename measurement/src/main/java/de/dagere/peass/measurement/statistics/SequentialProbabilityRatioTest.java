@@ -0,0 +1,102 @@
+package de.dagere.peass.measurement.statistics;
+
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import de.dagere.peass.config.StatisticsConfig;
+
+/**
+ * Mixture sequential probability ratio test for the difference of the means of the VM results of two commits, which can be evaluated after every VM. Since the variance is
+ * unknown, the likelihood ratio is computed for the scale-invariant part of the data (i.e. it does not depend on the unit of the measured values) and averaged over a normal
+ * prior of the standardized difference (Lai's mixture t-statistic). This likelihood ratio is a martingale if the tested difference is the true difference, so by Ville's
+ * inequality, it exceeds 1 / error with a probability of at most error, regardless of how often it is evaluated:
+ * <ul>
+ * <li>A change is reported if the likelihood ratio against a difference of 0 exceeds 1 / type 1 error, so the probability of a false positive is at most the type 1 error.</li>
+ * <li>Equality is reported if the likelihood ratios against the relevant difference in both directions exceed 1 / type 2 error and the measured difference is between them, so
+ * the probability of reporting equality although the means differ by at least the relevant difference is at most the type 2 error.</li>
+ * </ul>
+ * The guarantees assume normally distributed VM results with equal variance; the relevant difference is derived from the measured mean of the predecessor.
+ *
+ * @author reichelt
+ *
+ */
+public class SequentialProbabilityRatioTest {
+
+   private static final Logger LOG = LogManager.getLogger(SequentialProbabilityRatioTest.class);
+
+   public static final int MINIMUM_VMS = 3;
+
+   /**
+    * Variance of the normal prior of the standardized difference; the test is most efficient for differences of about half a standard deviation of the VM results
+    */
+   private static final double PRIOR_VARIANCE = 0.25;
+
+   private SequentialProbabilityRatioTest() {
+
+   }
+
+   public static Relation test(final StatisticalSummary statisticsPredecessor, final StatisticalSummary statisticsCurrent, final StatisticsConfig statisticsConfig) {
+      return test(statisticsPredecessor, statisticsCurrent, statisticsConfig.getType1error(), statisticsConfig.getType2error(),
+            statisticsConfig.getRelevantRelativeDifference());
+   }
+
+   /**
+    * Evaluates the test; like for the other tests, GREATER_THAN means that the predecessor is greater (i.e. slower) than the current commit.
+    *
+    * @return The relation, or UNKOWN if further VMs are required
+    */
+   public static Relation test(final StatisticalSummary statisticsPredecessor, final StatisticalSummary statisticsCurrent, final double type1error, final double type2error,
+         final double relevantRelativeDifference) {
+      if (statisticsPredecessor.getN() < MINIMUM_VMS || statisticsCurrent.getN() < MINIMUM_VMS) {
+         return Relation.UNKOWN;
+      }
+      final double difference = statisticsCurrent.getMean() - statisticsPredecessor.getMean();
+      final double relevantDifference = Math.abs(statisticsPredecessor.getMean()) * relevantRelativeDifference;
+      final double withinSquares = (statisticsPredecessor.getN() - 1) * statisticsPredecessor.getVariance()
+            + (statisticsCurrent.getN() - 1) * statisticsCurrent.getVariance();
+      if (relevantDifference == 0.0 || Double.isNaN(withinSquares)) {
+         return Relation.UNKOWN;
+      }
+      if (withinSquares == 0.0) {
+         return decideWithoutVariance(difference, relevantDifference);
+      }
+
+      final double logLikelihoodRatioZero = getLogLikelihoodRatio(difference, statisticsPredecessor.getN(), statisticsCurrent.getN(), withinSquares);
+      final double logLikelihoodRatioIncrease = getLogLikelihoodRatio(difference - relevantDifference, statisticsPredecessor.getN(), statisticsCurrent.getN(), withinSquares);
+      final double logLikelihoodRatioDecrease = getLogLikelihoodRatio(difference + relevantDifference, statisticsPredecessor.getN(), statisticsCurrent.getN(), withinSquares);
+      LOG.debug("Log likelihood ratios: {} (0) {} (+) {} (-)", logLikelihoodRatioZero, logLikelihoodRatioIncrease, logLikelihoodRatioDecrease);
+
+      final double equalBoundary = Math.log(1 / type2error);
+      if (Math.abs(difference) < relevantDifference && logLikelihoodRatioIncrease >= equalBoundary && logLikelihoodRatioDecrease >= equalBoundary) {
+         return Relation.EQUAL;
+      } else if (logLikelihoodRatioZero >= Math.log(1 / type1error)) {
+         return difference > 0 ? Relation.LESS_THAN : Relation.GREATER_THAN;
+      } else {
+         return Relation.UNKOWN;
+      }
+   }
+
+   /**
+    * Logarithm of the mixture likelihood ratio against the hypothesis that the difference of the means is the tested difference, i.e. that the given deviation of the
+    * measured difference from the tested difference is only caused by noise.
+    *
+    * @param deviation Measured difference minus tested difference
+    * @param withinSquares Sum of the squared deviations of both samples from their means
+    */
+   static double getLogLikelihoodRatio(final double deviation, final long predecessorVMs, final long currentVMs, final double withinSquares) {
+      final double varianceFactor = 1.0 / predecessorVMs + 1.0 / currentVMs;
+      final long dimensions = predecessorVMs + currentVMs - 1;
+      final double squaredDeviation = deviation * deviation;
+      return 0.5 * Math.log(varianceFactor / (varianceFactor + PRIOR_VARIANCE))
+            + dimensions / 2.0 * (Math.log(withinSquares + squaredDeviation / varianceFactor) - Math.log(withinSquares + squaredDeviation / (varianceFactor + PRIOR_VARIANCE)));
+   }
+
+   private static Relation decideWithoutVariance(final double difference, final double relevantDifference) {
+      if (Math.abs(difference) < relevantDifference / 2) {
+         return Relation.EQUAL;
+      } else {
+         return difference > 0 ? Relation.LESS_THAN : Relation.GREATER_THAN;
+      }
+   }
+}
@@ -278,6 +278,10 @@ public class StatisticUtil {
          } else {
             return Relation.EQUAL;
          }
+      case SEQUENTIAL_PROBABILITY_RATIO_TEST:
+         final Relation sequentialRelation = SequentialProbabilityRatioTest.test(cd.getPredecessorStat(), cd.getCurrentStat(), statisticsConfig);
+         // If the measurement was stopped before the SPRT could decide, the data is compared like with a regular t-test
+         return sequentialRelation != Relation.UNKOWN ? sequentialRelation : getTTestRelation(cd, statisticsConfig.getType1error());
       default:
          throw new RuntimeException("Test " + statisticsConfig.getStatisticTest() + " currently not implemented");
       }
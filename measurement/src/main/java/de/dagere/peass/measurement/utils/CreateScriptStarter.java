@@ -29,6 +29,7 @@ import de.dagere.peass.config.parameters.StatisticsConfigMixin;
 import de.dagere.peass.dependency.analysis.data.TestSet;
 import de.dagere.peass.dependency.persistence.ExecutionData;
 import de.dagere.peass.dependency.persistence.StaticTestSelection;
+import de.dagere.peass.measurement.rca.CausePersistenceManager;
 import de.dagere.peass.measurement.rca.data.CauseSearchData;
 import de.dagere.peass.measurement.statistics.data.TestcaseStatistic;
 import de.dagere.peass.utils.Constants;
@@ -120,7 +121,7 @@ public class CreateScriptStarter implements Callable<Void> {
             for (File testclazzFolder : commitFolder.listFiles()) {
                for (File resultFile : testclazzFolder.listFiles()) {
                   if (!resultFile.isDirectory()) {
-                     CauseSearchData csd = Constants.OBJECTMAPPER.readValue(resultFile, CauseSearchData.class);
+                     CauseSearchData csd = CausePersistenceManager.readDetails(resultFile);
                      String commit = csd.getMeasurementConfig().getFixedCommitConfig().getCommit();
                      // System.out.println(csd.getTestcase() + " " + commit);
 
@@ -19,6 +19,7 @@ import de.dagere.kopeme.kopemedata.Kopemedata;
 import de.dagere.nodeDiffDetector.data.TestMethodCall;
 import de.dagere.peass.TestUtil;
 import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.measurement.dataloading.SummaryRecordStore;
 import de.dagere.peass.measurement.organize.ResultOrganizer;
 import de.dagere.peass.measurement.rca.helper.TestConstants;
 
@@ -146,6 +147,8 @@ public class TestResultOrganizer {
 
    private void testXMLFileExists() {
       final File expectedFile = folders.getSummaryFile(searchedTest);
+      Assert.assertTrue(SummaryRecordStore.getRecordFile(expectedFile).exists());
+      SummaryRecordStore.compact(expectedFile);
       Assert.assertTrue(expectedFile.exists());
    }
 
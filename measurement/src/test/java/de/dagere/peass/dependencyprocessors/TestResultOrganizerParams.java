@@ -25,6 +25,7 @@ import de.dagere.kopeme.kopemedata.VMResult;
 import de.dagere.nodeDiffDetector.data.TestCase;
 import de.dagere.nodeDiffDetector.data.TestMethodCall;
 import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.measurement.dataloading.SummaryRecordStore;
 import de.dagere.peass.measurement.organize.ResultOrganizer;
 
 public class TestResultOrganizerParams {
@@ -61,6 +62,7 @@ public class TestResultOrganizerParams {
          organizer.saveResultFiles(VERSION, i);
          organizer.saveResultFiles(VERSION_OLD, i);
       }
+      SummaryRecordStore.compactAll(TEMP_FULL_DIR);
       
       File expectedResultFile1 = new File(TEMP_FULL_DIR, "calleeMethod(parameter-1).json");
       File expectedResultFile2 = new File(TEMP_FULL_DIR, "calleeMethod(parameter-2).json");
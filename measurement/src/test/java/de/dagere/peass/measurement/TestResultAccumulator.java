@@ -0,0 +1,144 @@
+package de.dagere.peass.measurement;
+
+import java.io.File;
+
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
+import org.aspectj.util.FileUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import de.dagere.kopeme.datacollection.TimeDataCollector;
+import de.dagere.kopeme.kopemedata.VMResult;
+import de.dagere.nodeDiffDetector.data.TestMethodCall;
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.measurement.dataloading.ResultAccumulator;
+import de.dagere.peass.measurement.dataloading.SummaryRecord;
+import de.dagere.peass.measurement.dataloading.SummaryRecordStore;
+
+public class TestResultAccumulator {
+
+   private static final File testFolder = new File("target/current_peass");
+   private static final TestMethodCall testcase = new TestMethodCall("myPackage.Test", "test");
+
+   private final MeasurementConfig config = new MeasurementConfig(10, "B", "A");
+
+   @BeforeEach
+   public void cleanup() {
+      FileUtil.deleteContents(testFolder);
+      if (!testFolder.exists()) {
+         testFolder.mkdirs();
+      }
+      config.setIterations(10);
+      config.setWarmup(0);
+      config.setRepetitions(1);
+   }
+
+   @Test
+   public void testStatistics() {
+      ResultAccumulator accumulator = new ResultAccumulator(testcase);
+      accumulator.addResult(testcase, "A", createResult("A", 10, 10));
+      accumulator.addResult(testcase, "A", createResult("A", 12, 10));
+      accumulator.addResult(testcase, "B", createResult("B", 20, 10));
+      accumulator.addResult(new TestMethodCall("myPackage.Test", "otherTest"), "B", createResult("B", 50, 10));
+
+      StatisticalSummary statisticsOld = accumulator.getStatistics("A", config);
+      Assertions.assertEquals(2, statisticsOld.getN());
+      Assertions.assertEquals(11, statisticsOld.getMean(), 0.01);
+      Assertions.assertEquals(2, statisticsOld.getVariance(), 0.01);
+
+      StatisticalSummary statisticsCurrent = accumulator.getStatistics("B", config);
+      Assertions.assertEquals(1, statisticsCurrent.getN());
+      Assertions.assertEquals(20, statisticsCurrent.getMean(), 0.01);
+   }
+
+   @Test
+   public void testReducedIterations() {
+      ResultAccumulator accumulator = new ResultAccumulator(testcase);
+      accumulator.addResult(testcase, "A", createResult("A", 10, 10));
+      accumulator.addResult(testcase, "A", createResult("A", 15, 5));
+
+      Assertions.assertEquals(10, accumulator.getStatistics("A", config).getMean(), 0.01);
+
+      config.setIterations(5);
+      StatisticalSummary reduced = accumulator.getStatistics("A", config);
+      Assertions.assertEquals(1, reduced.getN());
+      Assertions.assertEquals(15, reduced.getMean(), 0.01);
+   }
+
+   @Test
+   public void testLastResult() {
+      ResultAccumulator accumulator = new ResultAccumulator(testcase);
+      VMResult result = createResult("A", 10, 10);
+      accumulator.setLastResult(testcase, "A", 3, result);
+
+      Assertions.assertSame(result, accumulator.getLastResult(testcase, "A", 3));
+      Assertions.assertNull(accumulator.getLastResult(testcase, "A", 4));
+      Assertions.assertNull(accumulator.getLastResult(testcase, "B", 3));
+   }
+
+   @Test
+   public void testLastResultsOfConcurrentVMs() {
+      ResultAccumulator accumulator = new ResultAccumulator(testcase);
+      accumulator.setConcurrentVMs(2);
+      VMResult result3 = createResult("A", 10, 10);
+      VMResult result2 = createResult("A", 12, 10);
+      accumulator.setLastResult(testcase, "A", 3, result3);
+      accumulator.setLastResult(testcase, "A", 2, result2);
+
+      Assertions.assertSame(result3, accumulator.getLastResult(testcase, "A", 3));
+      Assertions.assertSame(result2, accumulator.getLastResult(testcase, "A", 2));
+
+      accumulator.setLastResult(testcase, "A", 4, createResult("A", 14, 10));
+      Assertions.assertNull(accumulator.getLastResult(testcase, "A", 2));
+      Assertions.assertSame(result3, accumulator.getLastResult(testcase, "A", 3));
+   }
+
+   @Test
+   public void testLastResultsOfParameterizedTest() {
+      ResultAccumulator accumulator = new ResultAccumulator(testcase);
+      TestMethodCall firstParams = new TestMethodCall("myPackage.Test", "test", "", "JUNIT_PARAMETERIZED-0");
+      TestMethodCall secondParams = new TestMethodCall("myPackage.Test", "test", "", "JUNIT_PARAMETERIZED-1");
+      VMResult firstResult = createResult("A", 10, 10);
+      VMResult secondResult = createResult("A", 20, 10);
+      accumulator.setLastResult(firstParams, "A", 3, firstResult);
+      accumulator.setLastResult(secondParams, "A", 3, secondResult);
+      accumulator.setLastResult(new TestMethodCall("myPackage.Test", "otherTest"), "A", 3, createResult("A", 30, 10));
+
+      Assertions.assertSame(firstResult, accumulator.getLastResult(firstParams, "A", 3));
+      Assertions.assertSame(secondResult, accumulator.getLastResult(secondParams, "A", 3));
+      Assertions.assertNull(accumulator.getLastResult(testcase, "A", 3));
+   }
+
+   @Test
+   public void testReplay() {
+      File summaryFile = new File(testFolder, "test.json");
+      SummaryRecordStore.append(summaryFile, new SummaryRecord(testcase.getClazz(), testcase.getMethod(), TimeDataCollector.class.getName(), 5, createResult("A", 10, 10)));
+      SummaryRecordStore.append(summaryFile, new SummaryRecord(testcase.getClazz(), testcase.getMethod(), TimeDataCollector.class.getName(), 5, createResult("B", 20, 10)));
+      SummaryRecordStore.append(summaryFile, new SummaryRecord(testcase.getClazz(), testcase.getMethod(), TimeDataCollector.class.getName(), 3, createResult("A", 30, 10)));
+      SummaryRecordStore.compact(summaryFile);
+      SummaryRecordStore.append(summaryFile, new SummaryRecord(testcase.getClazz(), testcase.getMethod(), TimeDataCollector.class.getName(), 5, createResult("A", 12, 10)));
+
+      PeassFolders folders = Mockito.mock(PeassFolders.class);
+      Mockito.when(folders.getSummaryFile(testcase)).thenReturn(summaryFile);
+
+      ResultAccumulator accumulator = new ResultAccumulator(testcase);
+      accumulator.replay(folders, 5);
+
+      StatisticalSummary statisticsOld = accumulator.getStatistics("A", config);
+      Assertions.assertEquals(2, statisticsOld.getN());
+      Assertions.assertEquals(11, statisticsOld.getMean(), 0.01);
+      Assertions.assertEquals(1, accumulator.getStatistics("B", config).getN());
+   }
+
+   private VMResult createResult(final String commit, final double value, final int iterations) {
+      VMResult result = new VMResult();
+      result.setCommit(commit);
+      result.setValue(value);
+      result.setIterations(iterations);
+      result.setRepetitions(1);
+      return result;
+   }
+}
@@ -0,0 +1,141 @@
+package de.dagere.peass.measurement;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.aspectj.util.FileUtil;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import de.dagere.kopeme.datacollection.TimeDataCollector;
+import de.dagere.kopeme.datastorage.JSONDataLoader;
+import de.dagere.kopeme.kopemedata.DatacollectorResult;
+import de.dagere.kopeme.kopemedata.Kopemedata;
+import de.dagere.kopeme.kopemedata.VMResult;
+import de.dagere.kopeme.kopemedata.VMResultChunk;
+import de.dagere.nodeDiffDetector.data.TestMethodCall;
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.dependencyprocessors.DummyKoPeMeDataCreator;
+import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.measurement.dataloading.MultipleVMTestUtil;
+import de.dagere.peass.measurement.dataloading.ResultLoader;
+import de.dagere.peass.measurement.dataloading.SummaryRecord;
+import de.dagere.peass.measurement.dataloading.SummaryRecordStore;
+
+public class TestSummaryRecordStore {
+
+   private static final File testFolder = new File("target/current_peass");
+   private static final TestMethodCall testcase = new TestMethodCall("myPackage.Test", "test", "myModule");
+   private static final File oneResultFile = new File(testFolder, "test.json");
+   private static final File summaryFile = new File(testFolder, "result.json");
+
+   @BeforeEach
+   public void cleanup() {
+      FileUtil.deleteContents(testFolder);
+      if (!testFolder.exists()) {
+         testFolder.mkdirs();
+      }
+   }
+
+   @Test
+   public void testAppendAndCompact() {
+      appendVMResult("1", 0);
+      appendVMResult("2", 0);
+      appendVMResult("1", 5);
+
+      Assert.assertFalse(summaryFile.exists());
+      List<SummaryRecord> records = SummaryRecordStore.readRecords(summaryFile);
+      Assert.assertEquals(3, records.size());
+      Assert.assertEquals("2", records.get(1).getResult().getCommit());
+
+      SummaryRecordStore.compactAll(testFolder);
+
+      Assert.assertFalse(SummaryRecordStore.getRecordFile(summaryFile).exists());
+      Kopemedata summary = JSONDataLoader.loadData(summaryFile);
+      Assert.assertEquals("myModule§myPackage.Test", summary.getClazz());
+      DatacollectorResult datacollector = summary.getFirstMethodResult().getDatacollectorResults().get(0);
+      Assert.assertEquals(2, datacollector.getChunks().size());
+      Assert.assertEquals(2, MultipleVMTestUtil.findChunk(0, datacollector).getResults().size());
+      Assert.assertEquals(1, MultipleVMTestUtil.findChunk(5, datacollector).getResults().size());
+   }
+
+   @Test
+   public void testCompactionAddsToExistingSummary() {
+      appendVMResult("1", 0);
+      SummaryRecordStore.compact(summaryFile);
+
+      appendVMResult("2", 0);
+      SummaryRecordStore.compact(summaryFile);
+
+      Kopemedata summary = JSONDataLoader.loadData(summaryFile);
+      VMResultChunk chunk = MultipleVMTestUtil.findChunk(0, summary.getFirstMethodResult().getDatacollectorResults().get(0));
+      Assert.assertEquals(2, chunk.getResults().size());
+   }
+
+   @Test
+   public void testIncompleteLastRecordIsIgnored() throws Exception {
+      appendVMResult("1", 0);
+      Files.write(SummaryRecordStore.getRecordFile(summaryFile).toPath(), "{\"clazz\":\"myMod".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+      List<SummaryRecord> records = SummaryRecordStore.readRecords(summaryFile);
+      Assert.assertEquals(1, records.size());
+   }
+
+   @Test
+   public void testCompactTestcase() {
+      File parameterizedSummaryFile = new File(testFolder, "result(a=1).json");
+      File otherSummaryFile = new File(testFolder, "resultOther.json");
+      appendVMResult("1", 0);
+      appendVMResult(parameterizedSummaryFile, "1", 0);
+      appendVMResult(otherSummaryFile, "1", 0);
+
+      SummaryRecordStore.compactTestcase(summaryFile);
+
+      Assert.assertFalse(SummaryRecordStore.getRecordFile(summaryFile).exists());
+      Assert.assertFalse(SummaryRecordStore.getRecordFile(parameterizedSummaryFile).exists());
+      Assert.assertTrue(parameterizedSummaryFile.exists());
+      Assert.assertTrue(SummaryRecordStore.getRecordFile(otherSummaryFile).exists());
+      Assert.assertFalse(otherSummaryFile.exists());
+   }
+
+   @Test
+   public void testLoadingCompactedAndAppendedResults() {
+      appendVMResult("1", 0);
+      appendVMResult("2", 0);
+      SummaryRecordStore.compact(summaryFile);
+      appendVMResult("1", 0);
+      appendVMResult("1", 5);
+
+      VMResult result = SummaryRecordStore.readRecords(summaryFile).get(0).getResult();
+      MeasurementConfig config = new MeasurementConfig(2, "1", "2");
+      config.setIterations((int) result.getIterations());
+      config.setWarmup((int) result.getWarmup());
+      config.setRepetitions((int) result.getRepetitions());
+      PeassFolders folders = Mockito.mock(PeassFolders.class);
+      Mockito.when(folders.getSummaryFile(testcase)).thenReturn(summaryFile);
+
+      ResultLoader loader = new ResultLoader(config);
+      loader.loadData(folders, testcase, 0);
+
+      Assert.assertEquals(2, loader.getValsCurrent().length);
+      Assert.assertEquals(1, loader.getValsPredecessor().length);
+   }
+
+   private void appendVMResult(final String commit, final long chunkStart) {
+      appendVMResult(summaryFile, commit, chunkStart);
+   }
+
+   private void appendVMResult(final File summaryFile, final String commit, final long chunkStart) {
+      DummyKoPeMeDataCreator.initDummyTestfile(testFolder, 3, testcase);
+      Kopemedata oneRunData = JSONDataLoader.loadData(oneResultFile);
+      VMResult oneResult = oneRunData.getFirstMethodResult().getDatacollectorResults().get(0).getResults().get(0);
+
+      MultipleVMTestUtil.appendSummaryData(summaryFile, oneResultFile, oneResult, testcase, commit, chunkStart, TimeDataCollector.class.getName());
+      oneResultFile.delete();
+   }
+}
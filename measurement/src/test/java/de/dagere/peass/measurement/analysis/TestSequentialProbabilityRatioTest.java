@@ -0,0 +1,127 @@
+package de.dagere.peass.measurement.analysis;
+
+import java.util.Random;
+
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.config.StatisticalTests;
+import de.dagere.peass.config.StatisticsConfig;
+import de.dagere.peass.measurement.dependencyprocessors.helper.EarlyBreakDecider;
+import de.dagere.peass.measurement.statistics.Relation;
+import de.dagere.peass.measurement.statistics.SequentialProbabilityRatioTest;
+
+public class TestSequentialProbabilityRatioTest {
+
+   private static final int MAX_VMS = 1000;
+   private static final int RUNS = 400;
+
+   @Test
+   public void testClearRegression() {
+      SummaryStatistics predecessor = createStatistics(100, 101, 99, 100, 101, 99, 100, 101);
+      SummaryStatistics current = createStatistics(120, 121, 119, 120, 121, 119, 120, 121);
+
+      Assertions.assertEquals(Relation.LESS_THAN, SequentialProbabilityRatioTest.test(predecessor, current, new StatisticsConfig()));
+      Assertions.assertEquals(Relation.GREATER_THAN, SequentialProbabilityRatioTest.test(current, predecessor, new StatisticsConfig()));
+   }
+
+   @Test
+   public void testClearlyNoChange() {
+      SummaryStatistics predecessor = createStatistics(100, 100.05, 99.95, 100.02, 100, 100.05, 99.95, 100.02);
+      SummaryStatistics current = createStatistics(100.01, 99.97, 100.03, 100.0, 100.01, 99.97, 100.03, 100.0);
+
+      Assertions.assertEquals(Relation.EQUAL, SequentialProbabilityRatioTest.test(predecessor, current, new StatisticsConfig()));
+   }
+
+   @Test
+   public void testUndecided() {
+      SummaryStatistics predecessor = createStatistics(100, 110, 90);
+      SummaryStatistics current = createStatistics(101, 111, 91);
+
+      Assertions.assertEquals(Relation.UNKOWN, SequentialProbabilityRatioTest.test(predecessor, current, new StatisticsConfig()));
+
+      // Without knowing the variance, few VMs are never sufficient, even if they are very similar
+      SummaryStatistics fewPredecessorVMs = createStatistics(100, 100.01, 99.99);
+      SummaryStatistics fewCurrentVMs = createStatistics(120, 120.01, 119.99);
+      Assertions.assertEquals(Relation.UNKOWN, SequentialProbabilityRatioTest.test(fewPredecessorVMs, fewCurrentVMs, new StatisticsConfig()));
+
+      SummaryStatistics tooFewVMs = createStatistics(100, 100);
+      Assertions.assertEquals(Relation.UNKOWN, SequentialProbabilityRatioTest.test(tooFewVMs, tooFewVMs, new StatisticsConfig()));
+   }
+
+   @Test
+   public void testFalsePositiveRate() {
+      StatisticsConfig config = createConfig();
+      Random random = new Random(42);
+
+      int falsePositives = 0;
+      for (int i = 0; i < RUNS; i++) {
+         if (Relation.isUnequal(runUntilDecision(random, 1.0, config))) {
+            falsePositives++;
+         }
+      }
+
+      Assertions.assertTrue(falsePositives <= RUNS * config.getType1error(), "False positives: " + falsePositives);
+   }
+
+   @Test
+   public void testPower() {
+      StatisticsConfig config = createConfig();
+      Random random = new Random(42);
+
+      // The hardest alternative: the means differ exactly by the relevant difference
+      int detected = 0;
+      for (int i = 0; i < RUNS; i++) {
+         if (runUntilDecision(random, 1 + config.getRelevantRelativeDifference(), config) == Relation.LESS_THAN) {
+            detected++;
+         }
+      }
+
+      Assertions.assertTrue(detected >= RUNS * (1 - config.getType2error()), "Detected changes: " + detected);
+   }
+
+   @Test
+   public void testEarlyBreakDecider() {
+      MeasurementConfig config = new MeasurementConfig(100);
+      config.getStatisticsConfig().setStatisticTest(StatisticalTests.SEQUENTIAL_PROBABILITY_RATIO_TEST);
+
+      SummaryStatistics predecessor = createStatistics(100, 101, 99, 100, 101, 99, 100, 101);
+      SummaryStatistics current = createStatistics(120, 121, 119, 120, 121, 119, 120, 121);
+
+      Assertions.assertTrue(new EarlyBreakDecider(config, predecessor, current).isBreakPossible(7));
+
+      config.getStatisticsConfig().setStatisticTest(StatisticalTests.AGNOSTIC_T_TEST);
+      Assertions.assertFalse(new EarlyBreakDecider(config, predecessor, current).isBreakPossible(7));
+   }
+
+   private StatisticsConfig createConfig() {
+      StatisticsConfig config = new StatisticsConfig();
+      config.setType1error(0.05);
+      config.setType2error(0.05);
+      return config;
+   }
+
+   private Relation runUntilDecision(final Random random, final double factor, final StatisticsConfig config) {
+      SummaryStatistics predecessor = new SummaryStatistics();
+      SummaryStatistics current = new SummaryStatistics();
+      for (int vm = 0; vm < MAX_VMS; vm++) {
+         predecessor.addValue(100 + random.nextGaussian() * 2);
+         current.addValue(100 * factor + random.nextGaussian() * 2);
+         Relation relation = SequentialProbabilityRatioTest.test(predecessor, current, config);
+         if (relation != Relation.UNKOWN) {
+            return relation;
+         }
+      }
+      return Relation.UNKOWN;
+   }
+
+   private SummaryStatistics createStatistics(final double... values) {
+      SummaryStatistics statistics = new SummaryStatistics();
+      for (double value : values) {
+         statistics.addValue(value);
+      }
+      return statistics;
+   }
+}
@@ -0,0 +1,59 @@
+package de.dagere.peass.measurement.dataloading;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.peass.dependencyprocessors.CommitComparatorInstance;
+import de.dagere.peass.measurement.statistics.data.TestData;
+
+public class TestDataReader {
+
+   private static final File EXAMPLE_CLAZZ_FOLDER = new File("src/test/resources/cleaning/measurementsFull/measurements/de.dagere.peass.ExampleTest");
+   private static final File MEASUREMENTS_FOLDER = new File("target/test/dataReader/measurements");
+
+   /**
+    * More class folders than fit into the queue, so the readers need to wait for the consumer
+    */
+   private static final int CLAZZ_FOLDERS = 40;
+
+   private final CommitComparatorInstance comparator = new CommitComparatorInstance(
+         Arrays.asList(new String[] { "49f75e8877c2e9b7cf6b56087121a35fdd73ff8b", "a12a0b7f4c162794fca0e7e3fcc6ea3b3a2cbc2b" }));
+
+   @BeforeEach
+   public void createClazzFolders() throws IOException {
+      if (MEASUREMENTS_FOLDER.exists()) {
+         FileUtils.deleteDirectory(MEASUREMENTS_FOLDER);
+      }
+      for (int i = 0; i < CLAZZ_FOLDERS; i++) {
+         FileUtils.copyDirectory(EXAMPLE_CLAZZ_FOLDER, new File(MEASUREMENTS_FOLDER, "de.dagere.peass.ExampleTest" + i));
+      }
+   }
+
+   @Test
+   public void testAllDataAreRead() {
+      try (DataReader reader = new DataReader(MEASUREMENTS_FOLDER, comparator, 4)) {
+         long parameterizedTests = reader.stream()
+               .peek(data -> Assert.assertEquals("de.dagere.peass.ExampleTest", data.getTestClass()))
+               .filter(data -> data.getMeasurements().containsKey("a12a0b7f4c162794fca0e7e3fcc6ea3b3a2cbc2b"))
+               .count();
+         Assert.assertEquals(CLAZZ_FOLDERS * 2, parameterizedTests);
+         Assert.assertFalse(reader.hasNext());
+      }
+   }
+
+   @Test
+   public void testEarlyClose() {
+      DataReader reader = new DataReader(MEASUREMENTS_FOLDER, comparator, 4);
+      TestData first = reader.next();
+      Assert.assertNotNull(first);
+      reader.close();
+
+      Assert.assertFalse(reader.hasNext());
+   }
+}
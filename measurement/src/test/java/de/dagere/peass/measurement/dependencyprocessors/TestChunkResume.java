@@ -0,0 +1,92 @@
+package de.dagere.peass.measurement.dependencyprocessors;
+
+import java.io.File;
+
+import org.aspectj.util.FileUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import de.dagere.kopeme.datacollection.TimeDataCollector;
+import de.dagere.kopeme.kopemedata.VMResult;
+import de.dagere.nodeDiffDetector.data.TestMethodCall;
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.dependencyprocessors.CommitByNameComparator;
+import de.dagere.peass.execution.utils.EnvironmentVariables;
+import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.measurement.dataloading.SummaryRecord;
+import de.dagere.peass.measurement.dataloading.SummaryRecordStore;
+
+public class TestChunkResume {
+
+   private static final File TEST_FOLDER = new File("target/test/chunkResume");
+
+   private final TestMethodCall testcase = new TestMethodCall("Test", "test");
+   private final MeasurementConfig config = new MeasurementConfig(10, "B", "A");
+   private final File summaryFile = new File(TEST_FOLDER, "Test_test.json");
+   private PeassFolders folders;
+
+   @BeforeEach
+   public void init() {
+      FileUtil.deleteContents(TEST_FOLDER);
+      TEST_FOLDER.mkdirs();
+
+      folders = Mockito.mock(PeassFolders.class);
+      Mockito.when(folders.getSummaryFile(testcase)).thenReturn(summaryFile);
+   }
+
+   @Test
+   public void testUnfinishedChunkIsContinued() {
+      DependencyTester tester = new DependencyTester(folders, config, new EnvironmentVariables(), CommitByNameComparator.INSTANCE);
+      tester.initChunk(testcase);
+      long chunkStart = tester.currentChunkStart;
+      appendRecord(chunkStart, "A");
+      appendRecord(chunkStart, "B");
+      appendRecord(chunkStart, "A");
+      appendRecord(chunkStart - 1, "A");
+
+      DependencyTester restartedTester = new DependencyTester(folders, config, new EnvironmentVariables(), CommitByNameComparator.INSTANCE);
+      restartedTester.initChunk(testcase);
+
+      Assertions.assertEquals(chunkStart, restartedTester.currentChunkStart);
+      Assertions.assertEquals(2, restartedTester.resumedVMs);
+      Assertions.assertEquals(2, restartedTester.getResultAccumulator().getResultCount("A"));
+      Assertions.assertEquals(1, restartedTester.getResultAccumulator().getResultCount("B"));
+   }
+
+   @Test
+   public void testFinishedChunkIsNotContinued() throws InterruptedException {
+      DependencyTester tester = new DependencyTester(folders, config, new EnvironmentVariables(), CommitByNameComparator.INSTANCE);
+      tester.initChunk(testcase);
+      long chunkStart = tester.currentChunkStart;
+      appendRecord(chunkStart, "A");
+      tester.finishChunk(testcase);
+
+      Thread.sleep(2);
+      tester.initChunk(testcase);
+      Assertions.assertNotEquals(chunkStart, tester.currentChunkStart);
+      Assertions.assertEquals(0, tester.resumedVMs);
+   }
+
+   @Test
+   public void testChunkOfOtherCommitsIsNotContinued() throws InterruptedException {
+      DependencyTester tester = new DependencyTester(folders, config, new EnvironmentVariables(), CommitByNameComparator.INSTANCE);
+      tester.initChunk(testcase);
+      long chunkStart = tester.currentChunkStart;
+
+      Thread.sleep(2);
+      tester.setCommits("C", "B");
+      tester.initChunk(testcase);
+      Assertions.assertNotEquals(chunkStart, tester.currentChunkStart);
+   }
+
+   private void appendRecord(final long chunkStart, final String commit) {
+      VMResult result = new VMResult();
+      result.setValue(10);
+      result.setIterations(config.getAllIterations());
+      result.setRepetitions(config.getRepetitions());
+      result.setCommit(commit);
+      SummaryRecordStore.append(summaryFile, new SummaryRecord(testcase.getClazz(), testcase.getMethod(), TimeDataCollector.class.getName(), chunkStart, result));
+   }
+}
@@ -0,0 +1,105 @@
+package de.dagere.peass.measurement.dependencyprocessors;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import de.dagere.kopeme.kopemedata.VMResult;
+import de.dagere.nodeDiffDetector.data.TestMethodCall;
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.dependencyprocessors.CommitByNameComparator;
+import de.dagere.peass.execution.utils.EnvironmentVariables;
+import de.dagere.peass.folders.PeassFolders;
+import de.dagere.peass.measurement.dataloading.ResultAccumulator;
+import de.dagere.peass.measurement.dependencyprocessors.helper.ProgressWriter;
+import de.dagere.peass.measurement.organize.ResultOrganizer;
+
+public class TestConcurrentVMs {
+
+   private static final File TEST_FOLDER = new File("target/test/concurrentVMs");
+
+   private final TestMethodCall testcase = new TestMethodCall("Test", "test");
+   private final MeasurementConfig config = new MeasurementConfig(10, "B", "A");
+   private final List<Integer> batchStarts = new ArrayList<>();
+   private PeassFolders folders;
+
+   @BeforeEach
+   public void init() {
+      TEST_FOLDER.mkdirs();
+      config.setIterations(1000);
+      config.setEarlyStop(false);
+      config.setWaitTimeBetweenVMs(0);
+      config.setMeasurementSlots(4);
+
+      folders = Mockito.mock(PeassFolders.class);
+      Mockito.when(folders.getReductionFile(Mockito.any(TestMethodCall.class))).thenReturn(new File(TEST_FOLDER, "reduction.json"));
+   }
+
+   @Test
+   public void testBatches() throws IOException {
+      AdaptiveTester tester = createTester(-1);
+
+      evaluate(tester);
+
+      Assertions.assertEquals(List.of(0, 4, 8), batchStarts);
+      Assertions.assertEquals(10, tester.getFinishedVMs());
+      Assertions.assertEquals(1000, config.getIterations());
+   }
+
+   @Test
+   public void testReductionOncePerBatch() throws IOException {
+      AdaptiveTester tester = createTester(0);
+
+      evaluate(tester);
+
+      Assertions.assertEquals(List.of(0, 4, 8), batchStarts);
+      Assertions.assertEquals(500, config.getIterations());
+   }
+
+   private void evaluate(final AdaptiveTester tester) throws IOException {
+      List<MeasurementSlot> slots = MeasurementSlotScheduler.createSlots(folders, config, new EnvironmentVariables(), List.of(0, 1, 2, 3));
+      try (ProgressWriter writer = new ProgressWriter(new File(TEST_FOLDER, "progress.txt"), config.getVms())) {
+         tester.evaluateInBatches(testcase, new File(TEST_FOLDER, "log"), writer, slots);
+      }
+   }
+
+   /**
+    * Creates a tester whose VMs produce results with the current iteration count, except for the VMs of the given batch, which produce no result
+    */
+   private AdaptiveTester createTester(final int failingBatchStart) throws IOException {
+      AdaptiveTester tester = Mockito.spy(new AdaptiveTester(folders, config, new EnvironmentVariables(), CommitByNameComparator.INSTANCE));
+      Mockito.doAnswer(invocation -> {
+         int firstVmid = invocation.getArgument(2);
+         List<MeasurementSlot> vmSlots = invocation.getArgument(3);
+         batchStarts.add(firstVmid);
+         ResultAccumulator accumulator = tester.getResultAccumulator();
+         List<ResultOrganizer> organizers = new ArrayList<>();
+         for (int vmid = firstVmid; vmid < firstVmid + vmSlots.size(); vmid++) {
+            if (firstVmid != failingBatchStart) {
+               accumulator.setLastResult(testcase, "A", vmid, createResult());
+               accumulator.setLastResult(testcase, "B", vmid, createResult());
+            }
+            ResultOrganizer organizer = Mockito.mock(ResultOrganizer.class);
+            Mockito.when(organizer.isSuccess()).thenReturn(true);
+            Mockito.when(organizer.getAccumulator()).thenReturn(accumulator);
+            Mockito.when(organizer.getFolders()).thenReturn(folders);
+            organizers.add(organizer);
+         }
+         return organizers;
+      }).when(tester).runConcurrentComparisons(Mockito.any(File.class), Mockito.eq(testcase), Mockito.anyInt(), Mockito.anyList());
+      return tester;
+   }
+
+   private VMResult createResult() {
+      VMResult result = new VMResult();
+      result.setValue(15);
+      result.setIterations(config.getIterations());
+      return result;
+   }
+}
@@ -0,0 +1,125 @@
+package de.dagere.peass.measurement.dependencyprocessors;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import de.dagere.nodeDiffDetector.data.TestMethodCall;
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.execution.utils.EnvironmentVariables;
+import de.dagere.peass.folders.PeassFolders;
+
+public class TestMeasurementSlotScheduler {
+
+   @Test
+   public void testEvenPartitioning() {
+      MeasurementConfig config = new MeasurementConfig(2);
+      config.setMeasurementSlots(4);
+
+      String[] cpuSets = MeasurementSlotScheduler.getCpuSets(config, cores(0, 17));
+      Assertions.assertArrayEquals(new String[] { "0-3", "4-7", "8-11", "12-15" }, cpuSets);
+
+      config.setMeasurementSlots(2);
+      Assertions.assertArrayEquals(new String[] { "0", "1" }, MeasurementSlotScheduler.getCpuSets(config, cores(0, 1)));
+   }
+
+   @Test
+   public void testAllowedCoresPartitioning() {
+      MeasurementConfig config = new MeasurementConfig(2);
+      config.setMeasurementSlots(2);
+
+      List<Integer> allowedCores = MeasurementSlotScheduler.parseCpuList("2-4,8,10-11");
+      Assertions.assertEquals(List.of(2, 3, 4, 8, 10, 11), allowedCores);
+      Assertions.assertArrayEquals(new String[] { "2-4", "8,10-11" }, MeasurementSlotScheduler.getCpuSets(config, allowedCores));
+   }
+
+   @Test
+   public void testAllowedCpusReading() {
+      List<Integer> allowedCores = MeasurementSlotScheduler.getAllowedCpus();
+      Assertions.assertFalse(allowedCores.isEmpty());
+      Assertions.assertTrue(allowedCores.size() >= Runtime.getRuntime().availableProcessors());
+   }
+
+   private List<Integer> cores(final int first, final int last) {
+      return MeasurementSlotScheduler.parseCpuList(first + "-" + last);
+   }
+
+   @Test
+   public void testTooFewCores() {
+      MeasurementConfig config = new MeasurementConfig(2);
+      config.setMeasurementSlots(4);
+
+      String[] cpuSets = MeasurementSlotScheduler.getCpuSets(config, cores(0, 1));
+      Assertions.assertArrayEquals(new String[] { null, null, null, null }, cpuSets);
+   }
+
+   @Test
+   public void testConfiguredLayout() {
+      MeasurementConfig config = new MeasurementConfig(2);
+      config.setMeasurementSlots(2);
+      config.setSlotCores("0-3,8; 4-7");
+
+      List<MeasurementSlot> slots = MeasurementSlotScheduler.createSlots(Mockito.mock(PeassFolders.class), config, new EnvironmentVariables("-Dfoo=bar"), cores(0, 15));
+      Assertions.assertEquals("0-3,8", slots.get(0).getEnv().getCpuSet());
+      Assertions.assertEquals("4-7", slots.get(1).getEnv().getCpuSet());
+      Assertions.assertEquals("-Dfoo=bar", slots.get(1).getEnv().getProperties());
+      Assertions.assertNotSame(slots.get(0).getTemporaryFolderPool(), slots.get(1).getTemporaryFolderPool());
+
+      config.setMeasurementSlots(3);
+      Assertions.assertThrows(RuntimeException.class, () -> MeasurementSlotScheduler.getCpuSets(config, cores(0, 15)));
+   }
+
+   @Test
+   public void testEveryTestIsMeasuredOnce() throws Exception {
+      MeasurementConfig config = new MeasurementConfig(2);
+      config.setMeasurementSlots(2);
+      config.setSlotCores("0;1");
+
+      List<TestMethodCall> tests = Arrays.asList(new TestMethodCall("Test", "test1"), new TestMethodCall("Test", "test2"),
+            new TestMethodCall("Test", "test3"), new TestMethodCall("Test", "test4"), new TestMethodCall("Test", "test5"));
+
+      Set<TestMethodCall> measured = ConcurrentHashMap.newKeySet();
+      Set<String> usedCpuSets = ConcurrentHashMap.newKeySet();
+
+      MeasurementSlotScheduler scheduler = new MeasurementSlotScheduler(Mockito.mock(PeassFolders.class), config, new EnvironmentVariables());
+      scheduler.measure(tests, slotEnv -> {
+         usedCpuSets.add(slotEnv.getCpuSet());
+         DependencyTester tester = Mockito.mock(DependencyTester.class);
+         try {
+            Mockito.doAnswer(invocation -> {
+               Assertions.assertTrue(measured.add(invocation.getArgument(0)));
+               return null;
+            }).when(tester).evaluate(Mockito.any(TestMethodCall.class));
+         } catch (Exception e) {
+            throw new RuntimeException(e);
+         }
+         return tester;
+      });
+
+      Assertions.assertEquals(5, measured.size());
+      Assertions.assertTrue(Set.of("0", "1").containsAll(usedCpuSets));
+   }
+
+   @Test
+   public void testExceptionIsPropagated() {
+      MeasurementConfig config = new MeasurementConfig(2);
+      config.setMeasurementSlots(2);
+
+      MeasurementSlotScheduler scheduler = new MeasurementSlotScheduler(Mockito.mock(PeassFolders.class), config, new EnvironmentVariables());
+      Assertions.assertThrows(IOException.class, () -> scheduler.measure(Arrays.asList(new TestMethodCall("Test", "test1")), slotEnv -> {
+         DependencyTester tester = Mockito.mock(DependencyTester.class);
+         try {
+            Mockito.doThrow(new IOException("Measurement failed")).when(tester).evaluate(Mockito.any(TestMethodCall.class));
+         } catch (Exception e) {
+            throw new RuntimeException(e);
+         }
+         return tester;
+      }));
+   }
+}
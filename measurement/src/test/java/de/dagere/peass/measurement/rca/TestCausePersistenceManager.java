@@ -46,7 +46,8 @@ public class TestCausePersistenceManager {
       final MeasurementConfig config = new MeasurementConfig(3, "000001", "000001~1");
       final CauseSearchFolders folders = new CauseSearchFolders(TestConstants.CURRENT_FOLDER);
       
-      writeData(folders, config, false);
+      final CausePersistenceManager manager = writeData(folders, config, false);
+      manager.exportDetails();
       final File expectedResultFile = new File(folders.getRcaTreeFolder(), "000001" + File.separator + 
             "Test" + File.separator + 
             "details" + File.separator + "test.json");
@@ -57,6 +58,23 @@ public class TestCausePersistenceManager {
       Assert.assertEquals(3, data.getNodes().getValues().getValues().size());
    }
 
+   @Test
+   public void testBinaryDetailReading() throws IOException {
+      final MeasurementConfig config = new MeasurementConfig(3, "000001", "000001~1");
+      final CauseSearchFolders folders = new CauseSearchFolders(TestConstants.CURRENT_FOLDER);
+
+      writeData(folders, config, false);
+      final File testcaseFolder = new File(folders.getRcaTreeFolder(), "000001" + File.separator + "Test");
+      Assert.assertFalse(new File(testcaseFolder, "details" + File.separator + "test.json").exists());
+      Assert.assertTrue(new File(testcaseFolder, "details" + File.separator + "test.bin").exists());
+
+      final CauseSearchData data = CausePersistenceManager.readDetails(new File(testcaseFolder, "test.json"));
+
+      Assert.assertEquals(3, data.getNodes().getValues().getValues().size());
+      Assert.assertEquals(config.getVms(), data.getNodes().getStatistic().getVMs());
+      Assert.assertEquals("000001", data.getMeasurementConfig().getFixedCommitConfig().getCommit());
+   }
+
    private void testConfig(final CauseSearchFolders folders, final MeasurementConfig config)
          throws IOException, JsonGenerationException, JsonMappingException, JsonParseException {
       writeData(folders, config, true);
@@ -71,7 +89,7 @@ public class TestCausePersistenceManager {
       Assert.assertEquals(config.getVms() * config.getIterations(), data.getNodes().getStatistic().getCallsOld());
    }
 
-   private void writeData(final CauseSearchFolders folders, final MeasurementConfig config, final boolean useFullLogAPI) throws IOException, JsonGenerationException, JsonMappingException {
+   private CausePersistenceManager writeData(final CauseSearchFolders folders, final MeasurementConfig config, final boolean useFullLogAPI) throws IOException, JsonGenerationException, JsonMappingException {
       final CausePersistenceManager manager = new CausePersistenceManager(TestConstants.SIMPLE_CAUSE_CONFIG, config, folders);
 
       final TreeBuilder builder = new TreeBuilder(config, useFullLogAPI);
@@ -79,5 +97,6 @@ public class TestCausePersistenceManager {
       manager.addMeasurement(builder.getRoot());
 
       manager.writeTreeState();
+      return manager;
    }
 }
@@ -5,12 +5,14 @@ import java.util.Set;
 
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsIterableContaining;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import de.dagere.nodeDiffDetector.data.TestMethodCall;
 import de.dagere.peass.config.FixedCommitConfig;
 import de.dagere.peass.config.MeasurementConfig;
 import de.dagere.peass.measurement.rca.data.CallTreeNode;
+import de.dagere.peass.measurement.rca.data.CauseSearchData;
 
 public class TestPatternSetGenerator {
    @Test
@@ -31,4 +33,26 @@ public class TestPatternSetGenerator {
       MatcherAssert.assertThat(patternSet, IsIterableContaining.hasItem("void de.pack.Clazz.myTest()"));
       MatcherAssert.assertThat(patternSet, IsIterableContaining.hasItem("public void de.pack.Clazz.myTest()"));
    }
+
+   @Test
+   public void generateTreePattern() {
+      FixedCommitConfig config = new FixedCommitConfig();
+      config.setCommit("000001");
+      config.setCommitOld("000000");
+      PatternSetGenerator generator = new PatternSetGenerator(config, new TestMethodCall("de.pack.Clazz", "myTest"));
+
+      MeasurementConfig measurementConfig = new MeasurementConfig(5);
+      CallTreeNode root = new CallTreeNode("de.pack.Clazz#myTest", "public void de.pack.Clazz.myTest()", "public void de.pack.Clazz.myTest()", measurementConfig);
+      CallTreeNode child = root.appendChild("de.core.Clazz#myMethod", "public void de.core.Clazz.myMethod(int a)", "public void de.core.Clazz.myMethod(int a, int b)");
+      child.appendChild("de.core.Clazz#deepMethod", "private int de.core.Clazz.deepMethod()", CauseSearchData.ADDED);
+      root.appendChild(CauseSearchData.ADDED, CauseSearchData.ADDED, "public void de.core.Clazz.addedMethod()");
+
+      Set<String> patternSet = generator.generateTreePatternSet(root);
+
+      MatcherAssert.assertThat(patternSet, IsIterableContaining.hasItem("public void de.pack.Clazz.myTest()"));
+      MatcherAssert.assertThat(patternSet, IsIterableContaining.hasItem("void de.pack.Clazz.myTest()"));
+      MatcherAssert.assertThat(patternSet, IsIterableContaining.hasItem("public void de.core.Clazz.myMethod(int a)"));
+      MatcherAssert.assertThat(patternSet, IsIterableContaining.hasItem("private int de.core.Clazz.deepMethod()"));
+      Assertions.assertEquals(4, patternSet.size());
+   }
 }
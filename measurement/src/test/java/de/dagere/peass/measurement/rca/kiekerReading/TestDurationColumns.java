@@ -0,0 +1,45 @@
+package de.dagere.peass.measurement.rca.kiekerReading;
+
+import java.io.File;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.kopeme.kopemedata.MeasuredValue;
+
+public class TestDurationColumns {
+
+   private static final File RESOURCE_FOLDER = new File("src/test/resources/kiekerReading");
+
+   @Test
+   public void testGrowing() {
+      DurationColumns columns = new DurationColumns(2);
+      for (int i = 0; i < 1000; i++) {
+         columns.add(i * 10, i);
+      }
+
+      Assertions.assertEquals(1000, columns.size());
+      Assertions.assertEquals(9990, columns.getStart(999));
+      Assertions.assertEquals(999, columns.getDuration(999));
+      Assertions.assertEquals(499.5, columns.getStatistics().getMean(), 0.001);
+      Assertions.assertThrows(IndexOutOfBoundsException.class, () -> columns.getDuration(1000));
+
+      List<MeasuredValue> values = columns.toMeasuredValues();
+      Assertions.assertEquals(1000, values.size());
+      Assertions.assertEquals(50, values.get(5).getStartTime());
+      Assertions.assertEquals(5, values.get(5).getValue());
+   }
+
+   @Test
+   public void testDurationRecordReading() {
+      File durationRecordFolder = new File(RESOURCE_FOLDER, "durationRecord");
+
+      DurationColumns durations = KiekerDurationReader.executeReducedDurationStage(durationRecordFolder);
+
+      Assertions.assertTrue(durations.size() > 0);
+      for (int i = 0; i < durations.size(); i++) {
+         Assertions.assertTrue(durations.getDuration(i) >= 0);
+      }
+   }
+}
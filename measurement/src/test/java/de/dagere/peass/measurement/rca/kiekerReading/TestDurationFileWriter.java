@@ -0,0 +1,58 @@
+package de.dagere.peass.measurement.rca.kiekerReading;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.kopeme.datacollection.TimeDataCollectorNoGC;
+import de.dagere.kopeme.datacollection.tempfile.WrittenResultReaderBin;
+
+public class TestDurationFileWriter {
+
+   private static final String COLLECTOR = TimeDataCollectorNoGC.class.getName();
+
+   private static final File TEMP_DIR = new File("target/durationWriting");
+
+   @BeforeEach
+   public void createFolder() {
+      TEMP_DIR.mkdirs();
+   }
+
+   @Test
+   public void testReadableByKoPeMe() throws IOException {
+      File file = new File(TEMP_DIR, "durations.bin");
+      try (DurationFileWriter writer = new DurationFileWriter(file, COLLECTOR, 10)) {
+         for (int i = 0; i < 100; i++) {
+            writer.add(1000 + i, i);
+         }
+         Assertions.assertEquals(100, writer.size());
+         Assertions.assertEquals(1000, writer.getFirstStart());
+         Assertions.assertEquals(49.5, writer.getStatistics().getMean(), 0.001);
+         Assertions.assertNull(writer.getFirstValues());
+      }
+
+      WrittenResultReaderBin reader = new WrittenResultReaderBin(file);
+      Set<String> keys = Collections.singleton(COLLECTOR);
+      reader.read(null, keys);
+      Assertions.assertEquals(100, reader.getCollectorSummary(COLLECTOR).getN());
+      Assertions.assertEquals(49.5, reader.getCollectorSummary(COLLECTOR).getMean(), 0.001);
+      Assertions.assertEquals(1005, reader.getExecutionStartTimes().get(5));
+   }
+
+   @Test
+   public void testKeepsSmallResults() throws IOException {
+      File file = new File(TEMP_DIR, "durations.bin");
+      try (DurationFileWriter writer = new DurationFileWriter(file, COLLECTOR, 10)) {
+         for (int i = 0; i < 10; i++) {
+            writer.add(1000 + i, i);
+         }
+         Assertions.assertEquals(10, writer.getFirstValues().size());
+         Assertions.assertEquals(1009, writer.getFirstValues().getStart(9));
+      }
+   }
+}
@@ -50,6 +50,30 @@ public class TestRealWorld {
       Assert.assertEquals(10, rootNode.getStatistics("bcf50e2832b63a1ad44c5627862ef62e92ea605a~1").getN());
    }
 
+   @Test
+   public void testReadResultsInParallel() {
+      final MeasurementConfig config = new MeasurementConfig(5, commit, predecessor);
+      CallTreeNode rootNode = new CallTreeNode("de.peass.MainTest#testMe", "public void de.peass.MainTest.testMe()", "public void de.peass.MainTest.testMe()", config);
+      rootNode.initCommitData();
+
+      Set<CallTreeNode> includedNodes = new HashSet<>();
+      includedNodes.add(rootNode);
+
+      File parentFolder = new File("src/test/resources/rcaDataExample/testMe/");
+      for (String version : new String[] { commit, predecessor }) {
+         KiekerResultReader reader = new KiekerResultReader(true, AllowedKiekerRecord.OPERATIONEXECUTION, includedNodes,
+               version, new TestMethodCall("de.peass.MainTest", "testMe"), false);
+         reader.readResults(new File(parentFolder, version + "/0"));
+      }
+
+      rootNode.createStatistics(commit);
+      rootNode.createStatistics(predecessor);
+      Assert.assertEquals(10, rootNode.getStatistics(commit).getN());
+      Assert.assertEquals(10, rootNode.getStatistics(predecessor).getN());
+      Assert.assertEquals(2.04496, rootNode.getStatistics(commit).getMean(), 0.01);
+      Assert.assertEquals(2.03272, rootNode.getStatistics(predecessor).getMean(), 0.01);
+   }
+
    private void read(final File parentFolder, final String version, final Set<CallTreeNode> includedNodes) throws JsonParseException, JsonMappingException, IOException {
       final boolean isOtherVersionNode = !version.equals(version);
       KiekerResultReader reader = new KiekerResultReader(true, AllowedKiekerRecord.OPERATIONEXECUTION, includedNodes,
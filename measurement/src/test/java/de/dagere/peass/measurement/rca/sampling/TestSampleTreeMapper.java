@@ -0,0 +1,89 @@
+package de.dagere.peass.measurement.rca.sampling;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.measurement.rca.data.CallTreeNode;
+import de.dagere.peass.measurement.rca.sampling.SampleTreeMapper.SampledFrame;
+import jdk.jfr.Recording;
+
+public class TestSampleTreeMapper {
+
+   private static final String CLAZZ = TestSampleTreeMapper.class.getName();
+
+   @TempDir
+   File tempDir;
+
+   @Test
+   public void testMapping() {
+      CallTreeNode root = new CallTreeNode("Test#test", "public void Test.test()", "public void Test.test()", new MeasurementConfig(2));
+      CallTreeNode a = root.appendChild("ClassA#methodA", "public void ClassA.methodA(int)", "public void ClassA.methodA(int)");
+      CallTreeNode aOverloaded = root.appendChild("ClassA#methodA", "public void ClassA.methodA(java.lang.String)", "public void ClassA.methodA(java.lang.String)");
+      CallTreeNode b = a.appendChild("ClassB#methodB", "public void ClassB.methodB()", "public void ClassB.methodB()");
+
+      SampleTreeMapper mapper = new SampleTreeMapper(root);
+      mapper.addSample(Arrays.asList(new SampledFrame("java.lang.Thread#run", "()"), new SampledFrame("Test#test", "()"),
+            new SampledFrame("java.lang.reflect.Method#invoke", "(java.lang.Object,java.lang.Object[])"), new SampledFrame("ClassA#methodA", "(int)"),
+            new SampledFrame("ClassB#methodB", "()")));
+      mapper.addSample(Arrays.asList(new SampledFrame("Test#test", "()"), new SampledFrame("ClassA#methodA", "(java.lang.String)")));
+      mapper.addSample(Arrays.asList(new SampledFrame("Test#test", "()")));
+      mapper.addSample(Arrays.asList(new SampledFrame("Other#test", "()"), new SampledFrame("ClassA#methodA", "(int)")));
+
+      Assertions.assertEquals(3, mapper.getSamples(root));
+      Assertions.assertEquals(1, mapper.getSamples(a));
+      Assertions.assertEquals(1, mapper.getSamples(b));
+      Assertions.assertEquals(1, mapper.getSamples(aOverloaded));
+      Assertions.assertEquals(1, mapper.getUnmappedSamples());
+      Assertions.assertEquals(1.0 / 3, mapper.getShare(b), 0.0001);
+
+      SampleShares shares = new SampleShares();
+      shares.addVM(root, mapper);
+      shares.addVM(root, new SampleTreeMapper(root));
+      Assertions.assertArrayEquals(new double[] { 1.0 / 3, 0.0 }, shares.getShares(b), 0.0001);
+   }
+
+   @Test
+   public void testDescriptorConversion() {
+      Assertions.assertEquals("()", SampleTreeMapper.getParameters("()V"));
+      Assertions.assertEquals("(int,java.lang.String[],long[][])", SampleTreeMapper.getParameters("(I[Ljava/lang/String;[[J)Ljava/lang/Object;"));
+   }
+
+   @Test
+   public void testFlightRecording() throws Exception {
+      File recordingFile = new File(tempDir, "test.jfr");
+      try (Recording recording = new Recording()) {
+         recording.enable(SampleTreeMapper.EXECUTION_SAMPLE).withPeriod(Duration.ofMillis(1));
+         recording.start();
+         busyWork(500);
+         recording.stop();
+         recording.dump(recordingFile.toPath());
+      }
+
+      CallTreeNode root = new CallTreeNode(CLAZZ + "#testFlightRecording", "public void " + CLAZZ + ".testFlightRecording()",
+            "public void " + CLAZZ + ".testFlightRecording()", new MeasurementConfig(2));
+      CallTreeNode busyWork = root.appendChild(CLAZZ + "#busyWork", "private double " + CLAZZ + ".busyWork(long)", "private double " + CLAZZ + ".busyWork(long)");
+
+      SampleTreeMapper mapper = new SampleTreeMapper(root);
+      mapper.readRecording(recordingFile);
+
+      Assertions.assertTrue(mapper.getSamples(root) > 0);
+      Assertions.assertTrue(mapper.getShare(busyWork) > 0.5, "Share of busy work: " + mapper.getShare(busyWork));
+   }
+
+   private double busyWork(final long durationInMillis) {
+      final long end = System.currentTimeMillis() + durationInMillis;
+      double result = 0;
+      while (System.currentTimeMillis() < end) {
+         for (int i = 0; i < 1000; i++) {
+            result += Math.sin(i);
+         }
+      }
+      return result;
+   }
+}
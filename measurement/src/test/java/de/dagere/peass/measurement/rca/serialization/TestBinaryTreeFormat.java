@@ -0,0 +1,100 @@
+package de.dagere.peass.measurement.rca.serialization;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import de.dagere.nodeDiffDetector.data.MethodCall;
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.measurement.rca.data.BasicNode;
+import de.dagere.peass.measurement.rca.data.CallTreeNode;
+import de.dagere.peass.measurement.rca.data.CauseSearchData;
+import de.dagere.peass.measurement.rca.helper.TestConstants;
+import de.dagere.peass.measurement.rca.helper.TreeBuilder;
+
+public class TestBinaryTreeFormat {
+
+   private static final File TREE_FILE = new File("target/test/binaryTree" + BinaryTreeFormat.FILE_ENDING);
+
+   @Test
+   public void testCallTree() throws IOException {
+      final MeasurementConfig config = new MeasurementConfig(3);
+      final TreeBuilder builder = new TreeBuilder(config);
+      final CallTreeNode root = builder.getRoot();
+      CallTreeNode moduleNode = root.getChildren().get(0).appendChild("moduleA" + MethodCall.MODULE_SEPARATOR + "ClassD#methodD",
+            "public void moduleA" + MethodCall.MODULE_SEPARATOR + "ClassD.methodD(int)", null);
+
+      TREE_FILE.getParentFile().mkdirs();
+      BinaryTreeFormat.writeCallTree(root, TREE_FILE);
+      final CallTreeNode read = BinaryTreeFormat.readCallTree(TREE_FILE, config);
+
+      Assert.assertEquals(getPreorderPatterns(root), getPreorderPatterns(read));
+      Assert.assertEquals(root.getTreeSize(), read.getTreeSize());
+
+      CallTreeNode readModuleNode = read.getChildren().get(0).getChildren().get(1);
+      Assert.assertEquals(moduleNode.getModule(), readModuleNode.getModule());
+      Assert.assertEquals(moduleNode.getCall(), readModuleNode.getCall());
+      Assert.assertSame(config, readModuleNode.getConfig());
+      Assert.assertSame(read, readModuleNode.getParent().getParent());
+   }
+
+   @Test
+   public void testMeasuredTree() throws IOException {
+      final MeasurementConfig config = new MeasurementConfig(3, "000001", "000001~1");
+      final TreeBuilder builder = new TreeBuilder(config, false);
+      builder.buildMeasurements(builder.getRoot(), builder.getA(), builder.getC());
+
+      final CauseSearchData data = new CauseSearchData(config, TestConstants.SIMPLE_CAUSE_CONFIG);
+      data.addDetailDiff(builder.getRoot());
+      data.addDetailDiff(builder.getA());
+      data.addDetailDiff(builder.getC());
+      final MeasuredNode root = data.getNodes();
+
+      TREE_FILE.getParentFile().mkdirs();
+      BinaryTreeFormat.writeMeasuredTree(root, TREE_FILE);
+      final MeasuredNode read = BinaryTreeFormat.readMeasuredTree(TREE_FILE);
+
+      Assert.assertEquals(getPreorderPatterns(root), getPreorderPatterns(read));
+      Assert.assertEquals(root.getOtherKiekerPattern(), read.getOtherKiekerPattern());
+      Assert.assertEquals(root.getStatistic().getMeanOld(), read.getStatistic().getMeanOld(), 0.0);
+      Assert.assertEquals(root.getStatistic().getDeviationCurrent(), read.getStatistic().getDeviationCurrent(), 0.0);
+      Assert.assertEquals(root.getStatistic().getCalls(), read.getStatistic().getCalls());
+      Assert.assertEquals(root.getStatistic().getVMs(), read.getStatistic().getVMs());
+      Assert.assertEquals(root.getStatistic().isChange(), read.getStatistic().isChange());
+
+      MeasuredNode readA = read.getChildByPattern(builder.getA().getKiekerPattern());
+      MeasuredNode originalA = root.getChildByPattern(builder.getA().getKiekerPattern());
+      Assert.assertEquals(originalA.getValues().getValues().size(), readA.getValues().getValues().size());
+      Assert.assertArrayEquals(originalA.getValues().getValuesArray(), readA.getValues().getValuesArray(), 0.0);
+      Assert.assertArrayEquals(originalA.getValuesPredecessor().getValuesArray(), readA.getValuesPredecessor().getValuesArray(), 0.0);
+   }
+
+   @Test
+   public void testReplaceAndDelete() throws IOException {
+      final MeasurementConfig config = new MeasurementConfig(3);
+      final TreeBuilder builder = new TreeBuilder(config);
+
+      TREE_FILE.getParentFile().mkdirs();
+      BinaryTreeFormat.writeCallTree(builder.getA(), TREE_FILE);
+      BinaryTreeFormat.readCallTree(TREE_FILE, config);
+      BinaryTreeFormat.writeCallTree(builder.getRoot(), TREE_FILE);
+      final CallTreeNode read = BinaryTreeFormat.readCallTree(TREE_FILE, config);
+
+      Assert.assertEquals(builder.getRoot().getTreeSize(), read.getTreeSize());
+      Assert.assertEquals(0, TREE_FILE.getParentFile().listFiles((dir, name) -> name.endsWith(".tmp")).length);
+      Assert.assertTrue(TREE_FILE.delete());
+   }
+
+   private List<String> getPreorderPatterns(final BasicNode node) {
+      final List<String> patterns = new ArrayList<>();
+      patterns.add(node.getKiekerPattern());
+      for (BasicNode child : node.getChildren()) {
+         patterns.addAll(getPreorderPatterns(child));
+      }
+      return patterns;
+   }
+}
@@ -0,0 +1,117 @@
+package de.dagere.peass.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.measurement.rca.data.CallTreeNode;
+import de.dagere.peass.measurement.rca.treeanalysis.TreeUtil;
+
+/**
+ * Benchmarks the creation of the statistics of call tree nodes from the measured values and the mapping of the children of two call tree nodes.
+ *
+ * @author reichelt
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class CallTreeBenchmark {
+
+   private static final String COMMIT = "000002";
+   private static final String COMMIT_OLD = "000001";
+
+   private static final MeasurementConfig CONFIG = new MeasurementConfig(10, COMMIT, COMMIT_OLD);
+
+   private static final int MAPPINGS_PER_ITERATION = 20;
+
+   @State(Scope.Benchmark)
+   public static class MeasuredNodes {
+      @Param({ "10", "100", "1000" })
+      public int vms;
+
+      private final List<CallTreeNode> nodes = new ArrayList<>();
+
+      @Setup(Level.Trial)
+      public void setup() {
+         Random random = new Random(SyntheticData.SEED);
+         for (int nodeIndex = 0; nodeIndex < 10; nodeIndex++) {
+            String kiekerPattern = "public void " + SyntheticData.getClazz(nodeIndex) + ".method0()";
+            CallTreeNode node = new CallTreeNode(SyntheticData.getSignature(nodeIndex, 0), kiekerPattern, kiekerPattern, CONFIG);
+            node.initCommitData();
+            for (String commit : new String[] { COMMIT_OLD, COMMIT }) {
+               for (int vm = 0; vm < vms; vm++) {
+                  node.initVMData(commit);
+                  for (int iteration = 0; iteration < 100; iteration++) {
+                     node.addMeasurement(commit, (long) (1000 + random.nextGaussian() * 50));
+                  }
+               }
+            }
+            nodes.add(node);
+         }
+      }
+   }
+
+   @State(Scope.Thread)
+   public static class Trees {
+      @Param({ "10", "50", "200" })
+      public int children;
+
+      private final List<CallTreeNode> firstNodes = new ArrayList<>();
+      private final List<CallTreeNode> secondNodes = new ArrayList<>();
+
+      /**
+       * The mapping adds nodes for unmatched children, so every mapping needs its own pair of nodes; they are created before every iteration, which consists of one
+       * invocation that maps all pairs
+       */
+      @Setup(Level.Iteration)
+      public void setup() {
+         firstNodes.clear();
+         secondNodes.clear();
+         for (int i = 0; i < MAPPINGS_PER_ITERATION; i++) {
+            firstNodes.add(SyntheticData.createNodeWithChildren(children, CONFIG, SyntheticData.SEED));
+            secondNodes.add(SyntheticData.createNodeWithChildren(children, CONFIG, SyntheticData.SEED + 1));
+         }
+      }
+   }
+
+   @Benchmark
+   public List<CallTreeNode> createStatistics(final MeasuredNodes measuredNodes) {
+      for (CallTreeNode node : measuredNodes.nodes) {
+         node.createStatistics(COMMIT_OLD);
+         node.createStatistics(COMMIT);
+      }
+      return measuredNodes.nodes;
+   }
+
+   @Benchmark
+   @BenchmarkMode(Mode.SingleShotTime)
+   @OperationsPerInvocation(MAPPINGS_PER_ITERATION)
+   @Warmup(iterations = 20)
+   @Measurement(iterations = 20)
+   public int findChildMapping(final Trees trees) {
+      int matched = 0;
+      for (int i = 0; i < MAPPINGS_PER_ITERATION; i++) {
+         matched += TreeUtil.findChildMapping(trees.firstNodes.get(i), trees.secondNodes.get(i));
+      }
+      return matched;
+   }
+}
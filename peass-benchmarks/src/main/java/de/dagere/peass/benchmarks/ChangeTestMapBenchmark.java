@@ -0,0 +1,75 @@
+package de.dagere.peass.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.dagere.nodeDiffDetector.data.TestMethodCall;
+import de.dagere.nodeDiffDetector.data.Type;
+import de.dagere.nodeDiffDetector.diffDetection.ClazzChangeData;
+import de.dagere.peass.dependency.analysis.data.ChangeTestMapping;
+import de.dagere.peass.dependency.analysis.data.TestDependencies;
+
+/**
+ * Benchmarks the static selection of the tests which call changed classes; every second change is a change of a single method.
+ *
+ * @author reichelt
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class ChangeTestMapBenchmark {
+
+   private static final int CLAZZES = 1000;
+
+   @Param({ "100", "1000", "10000" })
+   public int tests;
+
+   @Param({ "10", "100" })
+   public int changeCount;
+
+   private TestDependencies dependencies;
+   private Map<Type, ClazzChangeData> changes;
+
+   @Setup
+   public void setup() {
+      dependencies = new TestDependencies();
+      for (Map.Entry<TestMethodCall, Map<Type, Set<String>>> testDependencies : SyntheticData.createDependencies(tests, CLAZZES, 20).entrySet()) {
+         dependencies.setDependencies(testDependencies.getKey(), testDependencies.getValue());
+      }
+
+      Random random = new Random(SyntheticData.SEED);
+      changes = new HashMap<>();
+      for (int change = 0; change < changeCount; change++) {
+         Type changedClazz = new Type(SyntheticData.getClazz(random.nextInt(CLAZZES)), "");
+         ClazzChangeData changeData = new ClazzChangeData(changedClazz, change % 2 == 0);
+         if (change % 2 == 0) {
+            changeData.addChange(changedClazz.getSimpleClazzName(), "method" + random.nextInt(20));
+         }
+         changes.put(changedClazz, changeData);
+      }
+   }
+
+   @Benchmark
+   public ChangeTestMapping getChangeTestMap() {
+      return dependencies.getChangeTestMap(changes);
+   }
+}
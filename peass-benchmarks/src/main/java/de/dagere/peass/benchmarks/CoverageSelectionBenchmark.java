@@ -0,0 +1,82 @@
+package de.dagere.peass.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.dagere.nodeDiffDetector.data.MethodCall;
+import de.dagere.nodeDiffDetector.data.TestMethodCall;
+import de.dagere.nodeDiffDetector.data.Type;
+import de.dagere.peass.dependency.traces.coverage.CoverageBasedSelector;
+import de.dagere.peass.dependency.traces.coverage.CoverageSelectionCommit;
+import de.dagere.peass.dependency.traces.coverage.TraceCallSummary;
+
+/**
+ * Benchmarks the coverage-based selection of tests, where half of the changes are method changes and half of the changes are class changes.
+ *
+ * @author reichelt
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+public class CoverageSelectionBenchmark {
+
+   private static final int CLAZZES = 500;
+   private static final int CALLED_METHODS_PER_TEST = 100;
+
+   @Param({ "100", "1000", "10000" })
+   public int tests;
+
+   @Param({ "10", "100" })
+   public int changeCount;
+
+   private List<TraceCallSummary> summaries;
+   private Set<Type> changes;
+
+   @Setup
+   public void setup() {
+      Random random = new Random(SyntheticData.SEED);
+      summaries = new ArrayList<>(tests);
+      for (int test = 0; test < tests; test++) {
+         TraceCallSummary summary = new TraceCallSummary();
+         summary.setTestcase(new TestMethodCall(SyntheticData.PACKAGE + "Test" + (test / 10), "test" + test));
+         for (int call = 0; call < CALLED_METHODS_PER_TEST; call++) {
+            summary.getCallCounts().merge(SyntheticData.getSignature(random.nextInt(CLAZZES), random.nextInt(20)), 1 + random.nextInt(100), Integer::sum);
+         }
+         summaries.add(summary);
+      }
+
+      changes = new HashSet<>();
+      for (int change = 0; change < changeCount; change++) {
+         if (change % 2 == 0) {
+            changes.add(new MethodCall(SyntheticData.getClazz(random.nextInt(CLAZZES)), "", "method" + random.nextInt(20)));
+         } else {
+            changes.add(new Type(SyntheticData.getClazz(random.nextInt(CLAZZES)), ""));
+         }
+      }
+   }
+
+   @Benchmark
+   public CoverageSelectionCommit selectBasedOnCoverage() {
+      return CoverageBasedSelector.selectBasedOnCoverage(summaries, changes);
+   }
+}
@@ -0,0 +1,62 @@
+package de.dagere.peass.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.dagere.peass.dependency.analysis.data.TraceElement;
+import de.dagere.peass.dependency.traces.PeassSequitur;
+import de.dagere.requitur.ReducedTraceElement;
+import de.dagere.requitur.RunLengthEncodingSequitur;
+
+/**
+ * Benchmarks the compression of traces by the grammar and the run length encoding, which is done for every trace during regression test selection.
+ *
+ * @author reichelt
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+public class SequiturBenchmark {
+
+   @Param({ "1000", "10000", "100000" })
+   public int traceLength;
+
+   private List<TraceElement> trace;
+
+   @Setup
+   public void setup() {
+      trace = SyntheticData.createTrace(traceLength);
+   }
+
+   @Benchmark
+   public PeassSequitur buildGrammar() {
+      PeassSequitur sequitur = new PeassSequitur();
+      sequitur.addTraceElements(trace);
+      return sequitur;
+   }
+
+   @Benchmark
+   public List<ReducedTraceElement> buildGrammarAndRunLengthEncoding() {
+      PeassSequitur sequitur = new PeassSequitur();
+      sequitur.addTraceElements(trace);
+      RunLengthEncodingSequitur runLengthEncodingSequitur = new RunLengthEncodingSequitur(sequitur);
+      runLengthEncodingSequitur.reduce();
+      return runLengthEncodingSequitur.getReadableRLETrace();
+   }
+}
@@ -0,0 +1,84 @@
+package de.dagere.peass.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.dagere.peass.config.StatisticsConfig;
+import de.dagere.peass.measurement.rca.data.CallTreeResult;
+import de.dagere.peass.measurement.rca.data.OneVMResult;
+import de.dagere.peass.measurement.statistics.Relation;
+import de.dagere.peass.measurement.statistics.StatisticUtil;
+import de.dagere.peass.measurement.statistics.data.OutlierRemoverVMResults;
+
+/**
+ * Benchmarks the statistical tests and the outlier removal which are executed for every node of every measured tree.
+ *
+ * @author reichelt
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class StatisticsBenchmark {
+
+   @Param({ "10", "100", "1000" })
+   public int vms;
+
+   private final StatisticsConfig config = new StatisticsConfig();
+   private SummaryStatistics predecessor;
+   private SummaryStatistics current;
+   private List<OneVMResult> vmResults;
+
+   @Setup
+   public void setup() {
+      Random random = new Random(SyntheticData.SEED);
+      predecessor = new SummaryStatistics();
+      current = new SummaryStatistics();
+      vmResults = new ArrayList<>(vms);
+      for (int i = 0; i < vms; i++) {
+         predecessor.addValue(100 + random.nextGaussian() * 5);
+         current.addValue(102 + random.nextGaussian() * 5);
+
+         CallTreeResult result = new CallTreeResult(0);
+         for (int iteration = 0; iteration < 10; iteration++) {
+            result.addValue((long) (1000 + random.nextGaussian() * 50 + (i % 50 == 0 ? 5000 : 0)));
+         }
+         vmResults.add(result);
+      }
+   }
+
+   @Benchmark
+   public Relation agnosticTTest() {
+      return StatisticUtil.agnosticTTest(predecessor, current, config);
+   }
+
+   @Benchmark
+   public Relation isChange() {
+      return StatisticUtil.isChange(predecessor, current, config);
+   }
+
+   @Benchmark
+   public SummaryStatistics removeOutliers() {
+      SummaryStatistics statistics = new SummaryStatistics();
+      OutlierRemoverVMResults.getValuesWithoutOutliers(vmResults, statistics, config);
+      return statistics;
+   }
+}
@@ -0,0 +1,97 @@
+package de.dagere.peass.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import de.dagere.nodeDiffDetector.data.TestMethodCall;
+import de.dagere.nodeDiffDetector.data.Type;
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.dependency.analysis.data.TraceElement;
+import de.dagere.peass.measurement.rca.data.CallTreeNode;
+
+/**
+ * Creates reproducible synthetic inputs for the benchmarks; all data is derived from a fixed seed, so every run of a benchmark processes the same data.
+ *
+ * @author reichelt
+ *
+ */
+public class SyntheticData {
+
+   public static final long SEED = 1337;
+
+   public static final String PACKAGE = "de.dagere.synthetic.";
+
+   public static String getClazz(final int index) {
+      return PACKAGE + "Clazz" + index;
+   }
+
+   public static String getSignature(final int clazz, final int method) {
+      return getClazz(clazz) + "#method" + method;
+   }
+
+   /**
+    * Creates a call tree node with exactly the given count of children; the children call methods of count / 5 classes, so two nodes created with different seeds share
+    * a part of their children
+    */
+   public static CallTreeNode createNodeWithChildren(final int children, final MeasurementConfig config, final long seed) {
+      Random random = new Random(seed);
+      CallTreeNode root = new CallTreeNode(getSignature(0, 0), "public void " + getSignature(0, 0).replace('#', '.') + "()", null, config);
+      for (int i = 0; i < children; i++) {
+         int clazz = random.nextInt(Math.max(children / 5, 1));
+         int method = random.nextInt(20);
+         root.appendChild(getSignature(clazz, method), "public void " + getSignature(clazz, method).replace('#', '.') + "()", null);
+      }
+      return root;
+   }
+
+   /**
+    * Creates a trace with loops (repeated call sequences) and recursion-free nesting, like traces of typical unit tests
+    */
+   public static List<TraceElement> createTrace(final int length) {
+      Random random = new Random(SEED);
+      List<TraceElement> trace = new ArrayList<>(length);
+      while (trace.size() < length) {
+         int loopLength = 1 + random.nextInt(5);
+         int repetitions = 1 + random.nextInt(20);
+         int depth = 1 + random.nextInt(4);
+         List<TraceElement> loop = new ArrayList<>(loopLength);
+         for (int i = 0; i < loopLength; i++) {
+            int clazz = random.nextInt(50);
+            loop.add(new TraceElement(getClazz(clazz), "method" + random.nextInt(10), depth + i % 2));
+         }
+         for (int repetition = 0; repetition < repetitions && trace.size() < length; repetition++) {
+            for (TraceElement element : loop) {
+               if (trace.size() < length) {
+                  trace.add(new TraceElement(element.getClazz(), element.getMethod(), element.getDepth()));
+               }
+            }
+         }
+      }
+      return trace;
+   }
+
+   /**
+    * Creates the called classes and methods of each test, where each test calls the given count of the classes
+    */
+   public static Map<TestMethodCall, Map<Type, Set<String>>> createDependencies(final int tests, final int clazzes, final int calledClazzesPerTest) {
+      Random random = new Random(SEED);
+      Map<TestMethodCall, Map<Type, Set<String>>> dependencies = new HashMap<>();
+      for (int test = 0; test < tests; test++) {
+         Map<Type, Set<String>> calledClazzes = new HashMap<>();
+         for (int i = 0; i < calledClazzesPerTest; i++) {
+            Set<String> methods = new HashSet<>();
+            for (int method = 0; method < 5; method++) {
+               methods.add("method" + random.nextInt(20));
+            }
+            calledClazzes.put(new Type(getClazz(random.nextInt(clazzes)), ""), methods);
+         }
+         dependencies.put(new TestMethodCall(PACKAGE + "Test" + (test / 10), "test" + test), calledClazzes);
+      }
+      return dependencies;
+   }
+}
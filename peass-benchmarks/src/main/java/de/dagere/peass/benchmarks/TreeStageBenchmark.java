@@ -0,0 +1,106 @@
+package de.dagere.peass.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.dagere.nodeDiffDetector.data.TestMethodCall;
+import de.dagere.peass.config.MeasurementConfig;
+import de.dagere.peass.dependency.analysis.ModuleClassMapping;
+import de.dagere.peass.measurement.rca.data.CallTreeNode;
+import de.dagere.peass.measurement.rca.kieker.TreeStage;
+import kieker.common.util.signature.Signature;
+import kieker.model.repository.SystemModelRepository;
+import kieker.model.system.model.AllocationComponent;
+import kieker.model.system.model.AssemblyComponent;
+import kieker.model.system.model.ComponentType;
+import kieker.model.system.model.Execution;
+import kieker.model.system.model.ExecutionContainer;
+import kieker.model.system.model.ExecutionTrace;
+import kieker.model.system.model.Operation;
+import kieker.model.system.model.exceptions.InvalidTraceException;
+
+/**
+ * Benchmarks building the call tree from a synthetic Kieker trace. Since {@link TreeStage} is otherwise only executed inside of a Kieker pipeline reading trace files, its
+ * protected execute method is called directly through {@link BenchmarkTreeStage}.
+ *
+ * @author reichelt
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+public class TreeStageBenchmark {
+
+   private static final long TRACE_ID = 1;
+   private static final TestMethodCall TEST = new TestMethodCall(SyntheticData.PACKAGE + "ExampleTest", "test");
+
+   @Param({ "1000", "10000", "100000" })
+   public int executions;
+
+   private final MeasurementConfig config = new MeasurementConfig(10, "000002", "000001");
+   private final SystemModelRepository repository = new SystemModelRepository();
+   private ExecutionTrace trace;
+
+   @Setup
+   public void setup() throws InvalidTraceException {
+      ExecutionContainer container = new ExecutionContainer(1, null, "localhost");
+      List<AllocationComponent> allocations = new ArrayList<>();
+      List<Operation> operations = new ArrayList<>();
+      for (int clazz = 0; clazz < 50; clazz++) {
+         String clazzName = clazz == 0 ? "ExampleTest" : "Clazz" + clazz;
+         ComponentType type = new ComponentType(clazz, SyntheticData.PACKAGE.substring(0, SyntheticData.PACKAGE.length() - 1), clazzName);
+         AllocationComponent allocation = new AllocationComponent(clazz, new AssemblyComponent(clazz, clazzName, type), container);
+         for (int method = 0; method < 10; method++) {
+            String methodName = clazz == 0 && method == 0 ? "test" : "method" + method;
+            operations.add(new Operation(operations.size(), type, new Signature(methodName, new String[] { "public" }, "void", new String[0])));
+            allocations.add(allocation);
+         }
+      }
+
+      Random random = new Random(SyntheticData.SEED);
+      trace = new ExecutionTrace(TRACE_ID);
+      trace.add(new Execution(operations.get(0), allocations.get(0), TRACE_ID, 0, 0, 0, executions * 2L, false));
+      int stackSize = 0;
+      for (int eoi = 1; eoi < executions; eoi++) {
+         stackSize = Math.max(1, Math.min(stackSize + random.nextInt(3) - 1, 10));
+         int operation = 1 + random.nextInt(operations.size() - 1);
+         trace.add(new Execution(operations.get(operation), allocations.get(operation), TRACE_ID, eoi, stackSize, eoi, eoi + 1, false));
+      }
+   }
+
+   @Benchmark
+   public CallTreeNode buildTree() throws Exception {
+      BenchmarkTreeStage stage = new BenchmarkTreeStage(repository, TEST, config);
+      stage.execute(trace);
+      return stage.getRoot();
+   }
+
+   private static class BenchmarkTreeStage extends TreeStage {
+
+      BenchmarkTreeStage(final SystemModelRepository repository, final TestMethodCall test, final MeasurementConfig config) {
+         super(repository, test, false, config, ModuleClassMapping.SINGLE_MODULE_MAPPING);
+      }
+
+      @Override
+      public void execute(final ExecutionTrace trace) throws Exception {
+         super.execute(trace);
+      }
+   }
+}
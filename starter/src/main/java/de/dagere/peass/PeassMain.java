@@ -16,7 +16,8 @@ import picocli.CommandLine.Command;
       SearchCauseStarter.class, 
       CreateScriptStarter.class, 
       VisualizeRCAStarter.class, 
-      ContinuousExecutionStarter.class}, synopsisSubcommandLabel = "COMMAND")
+      ContinuousExecutionStarter.class,
+      TraceGarbageCollectionStarter.class}, synopsisSubcommandLabel = "COMMAND")
 public class PeassMain implements Callable<Void> {
    public static void main(final String[] args) {
       final CommandLine line = new CommandLine(new PeassMain());